@@ -0,0 +1,77 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.route;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * routeInfoJson 파싱 마이크로벤치마크
+ *
+ * 기존 방식(TypeReference → List&lt;Map&gt; → Long 박싱)과 스트리밍 파서를 비교합니다.
+ * gc 프로파일러와 함께 실행하면 호출당 할당량(gc.alloc.rate.norm)을 확인할 수 있습니다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouteInfoParserBenchmark {
+
+    private static final TypeReference<List<Map<String, Object>>> ROUTE_INFO_TYPE = new TypeReference<>() {};
+
+    @Param({"2", "8"})
+    public int legCount;
+
+    private ObjectMapper objectMapper;
+    private RouteInfoParser routeInfoParser;
+    private String routeInfoJson;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        routeInfoParser = new RouteInfoParser(objectMapper);
+
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < legCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"fromHubId\":\"hub-").append(i)
+                    .append("\",\"toHubId\":\"hub-").append(i + 1)
+                    .append("\",\"distanceM\":").append(100_000 + i * 1_000)
+                    .append(",\"durationMin\":").append(90 + i)
+                    .append('}');
+        }
+        routeInfoJson = json.append(']').toString();
+    }
+
+    @Benchmark
+    public void mapBased(Blackhole blackhole) throws Exception {
+        List<Map<String, Object>> routeInfoList = objectMapper.readValue(routeInfoJson, ROUTE_INFO_TYPE);
+        for (Map<String, Object> info : routeInfoList) {
+            blackhole.consume(getLongValue(info, "distanceM"));
+            blackhole.consume(getLongValue(info, "durationMin"));
+        }
+    }
+
+    @Benchmark
+    public void streaming(Blackhole blackhole) {
+        for (RouteLeg leg : routeInfoParser.parse(routeInfoJson, legCount)) {
+            blackhole.consume(leg.distanceM());
+            blackhole.consume(leg.durationMin());
+        }
+    }
+
+    private static Long getLongValue(Map<String, Object> map, String key) {
+        Object value = map.get(key);
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return null;
+    }
+}
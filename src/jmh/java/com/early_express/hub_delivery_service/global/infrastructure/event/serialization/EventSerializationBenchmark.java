@@ -0,0 +1,135 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.serialization;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.codec.HubDeliveryCompletedEventCodec;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.codec.HubSegmentArrivedEventCodec;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.codec.HubSegmentDepartedEventCodec;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.order.event.HubDeliveryCompletedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.track.event.HubSegmentArrivedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.track.event.HubSegmentDepartedEvent;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 직렬화 마이크로벤치마크 (JSON vs 바이너리)
+ *
+ * 이벤트 타입별 직렬화/역직렬화 시간을 비교합니다.
+ * 레코드 크기(bytes/event)는 Setup 단계에서 출력하며,
+ * gc 프로파일러와 함께 실행하면 호출당 할당량(gc.alloc.rate.norm)을 확인할 수 있습니다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventSerializationBenchmark {
+
+    private static final String TOPIC = "hub-segment-arrived";
+
+    @Param({"DEPARTED", "ARRIVED", "COMPLETED"})
+    public String eventType;
+
+    private JsonSerializer<Object> jsonSerializer;
+    private JsonDeserializer<Object> jsonDeserializer;
+    private CompactEventSerializer binarySerializer;
+    private CompactEventDeserializer binaryDeserializer;
+
+    private Object event;
+    private byte[] jsonRecord;
+    private byte[] binaryRecord;
+
+    @Setup
+    public void setUp() {
+        EventSchemaRegistry registry = new EventSchemaRegistry(List.of(
+                new HubSegmentDepartedEventCodec(),
+                new HubSegmentArrivedEventCodec(),
+                new HubDeliveryCompletedEventCodec()));
+
+        jsonSerializer = new JsonSerializer<>();
+        // 이벤트 클래스는 기본 생성자가 없으므로 JSON은 구독 측 설정(VALUE_DEFAULT_TYPE=Object)과 같이 Map으로 읽음
+        jsonDeserializer = new JsonDeserializer<>(Object.class, false);
+        binarySerializer = new CompactEventSerializer(registry, new JsonSerializer<>(), Set.of(TOPIC));
+        binaryDeserializer = new CompactEventDeserializer(registry, new JsonDeserializer<>(Object.class, false));
+
+        event = createEvent();
+        jsonRecord = jsonSerializer.serialize(TOPIC, event);
+        binaryRecord = binarySerializer.serialize(TOPIC, event);
+
+        System.out.printf("%n[%s] bytes/event - json: %d, binary: %d (%.0f%%)%n",
+                eventType, jsonRecord.length, binaryRecord.length, 100.0 * binaryRecord.length / jsonRecord.length);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return jsonSerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public byte[] serializeBinary() {
+        return binarySerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public Object deserializeJson() {
+        return jsonDeserializer.deserialize(TOPIC, jsonRecord);
+    }
+
+    @Benchmark
+    public Object deserializeBinary() {
+        return binaryDeserializer.deserialize(TOPIC, binaryRecord);
+    }
+
+    private Object createEvent() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 15, 9, 0, 0);
+        String orderId = UUID.randomUUID().toString();
+        String hubDeliveryId = UUID.randomUUID().toString();
+        String fromHubId = UUID.randomUUID().toString();
+        String toHubId = UUID.randomUUID().toString();
+
+        return switch (eventType) {
+            case "DEPARTED" -> HubSegmentDepartedEvent.builder()
+                    .eventId(UUID.randomUUID().toString())
+                    .eventType("HUB_SEGMENT_DEPARTED")
+                    .source("hub-delivery-service")
+                    .timestamp(now)
+                    .orderId(orderId)
+                    .hubDeliveryId(hubDeliveryId)
+                    .segmentIndex(0)
+                    .fromHubId(fromHubId)
+                    .toHubId(toHubId)
+                    .departedAt(now)
+                    .build();
+            case "ARRIVED" -> HubSegmentArrivedEvent.builder()
+                    .eventId(UUID.randomUUID().toString())
+                    .eventType("HUB_SEGMENT_ARRIVED")
+                    .source("hub-delivery-service")
+                    .timestamp(now.plusMinutes(95))
+                    .orderId(orderId)
+                    .hubDeliveryId(hubDeliveryId)
+                    .segmentIndex(0)
+                    .hubId(toHubId)
+                    .arrivedAt(now.plusMinutes(95))
+                    .fromHubId(fromHubId)
+                    .departedAt(now)
+                    .estimatedDurationMin(90L)
+                    .actualDurationMin(95L)
+                    .build();
+            default -> HubDeliveryCompletedEvent.builder()
+                    .eventId(UUID.randomUUID().toString())
+                    .eventType("HUB_DELIVERY_COMPLETED")
+                    .source("hub-delivery-service")
+                    .timestamp(now.plusMinutes(300))
+                    .orderId(orderId)
+                    .hubDeliveryId(hubDeliveryId)
+                    .completedAt(now.plusMinutes(300))
+                    .totalActualDurationMin(300L)
+                    .build();
+        };
+    }
+}
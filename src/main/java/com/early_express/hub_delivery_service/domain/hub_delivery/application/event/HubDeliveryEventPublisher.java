@@ -3,8 +3,12 @@ package com.early_express.hub_delivery_service.domain.hub_delivery.application.e
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
 
+import java.time.LocalDateTime;
+
 /**
  * HubDelivery 이벤트 발행 인터페이스
+ *
+ * 트랜잭션 안에서 호출하면 모든 이벤트는 커밋 이후 전송됩니다. (롤백된 변경의 이벤트는 전송하지 않음)
  */
 public interface HubDeliveryEventPublisher {
 
@@ -18,8 +22,18 @@ public interface HubDeliveryEventPublisher {
      */
     void publishSegmentArrived(HubDelivery hubDelivery, HubSegment segment);
 
+    /**
+     * 구간 지연 이벤트 발행 (Track Service)
+     */
+    void publishSegmentDelayed(HubDelivery hubDelivery, HubSegment segment, LocalDateTime expectedArrivalAt);
+
     /**
      * 허브 배송 완료 이벤트 발행 (Order Service)
      */
     void publishHubDeliveryCompleted(HubDelivery hubDelivery);
+
+    /**
+     * 허브 배송 상태 스냅샷 발행 (compacted 토픽, 트랜잭션 커밋 이후 전송)
+     */
+    void publishStateSnapshot(HubDelivery hubDelivery);
 }
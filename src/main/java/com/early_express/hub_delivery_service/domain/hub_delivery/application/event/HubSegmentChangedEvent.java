@@ -0,0 +1,77 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.event;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 허브 구간 상태 변경 내부 이벤트
+ *
+ * Command Service가 구간 상태를 변경하고 저장한 뒤 Spring ApplicationEvent로 발행합니다.
+ * 통계/예측 등 인메모리 집계는 트랜잭션 커밋 이후(@TransactionalEventListener) 이 이벤트로 갱신합니다.
+ * 외부(Kafka) 이벤트와는 별개이며 서비스 밖으로 나가지 않습니다.
+ */
+@Getter
+@Builder
+public class HubSegmentChangedEvent {
+
+    private final String hubDeliveryId;
+    private final String orderId;
+
+    /** 변경 후 배송 상태 */
+    private final HubDeliveryStatus deliveryStatus;
+
+    /** 변경 후 구간 */
+    private final HubSegment segment;
+
+    /** 변경 전 구간 상태 (신규 생성 시 null) */
+    private final HubSegmentStatus previousStatus;
+
+    /** 구간 출발 마감 시각 (없으면 null) */
+    private final LocalDateTime segmentDeadline;
+
+    /** 출발 전 허브 체류 시간 (앞 구간 도착 ~ 이 구간 출발, 첫 구간이거나 미출발이면 null) */
+    private final Duration hubDwell;
+
+    /** 선배정 상태에서 출발했는지 여부 (출발 이외의 변경은 false) */
+    private final boolean preAssigned;
+
+    private final LocalDateTime occurredAt;
+
+    public static HubSegmentChangedEvent of(HubDelivery hubDelivery, int segmentIndex,
+                                            HubSegmentStatus previousStatus) {
+        return of(hubDelivery, segmentIndex, previousStatus, false);
+    }
+
+    public static HubSegmentChangedEvent of(HubDelivery hubDelivery, int segmentIndex,
+                                            HubSegmentStatus previousStatus, boolean preAssigned) {
+        return HubSegmentChangedEvent.builder()
+                .hubDeliveryId(hubDelivery.getIdValue())
+                .orderId(hubDelivery.getOrderId())
+                .deliveryStatus(hubDelivery.getStatus())
+                .segment(hubDelivery.getSegment(segmentIndex))
+                .previousStatus(previousStatus)
+                .segmentDeadline(hubDelivery.getSegmentDeadline(segmentIndex))
+                .hubDwell(hubDelivery.getHubDwell(segmentIndex))
+                .preAssigned(preAssigned)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    public HubSegmentStatus getCurrentStatus() {
+        return segment.getStatus();
+    }
+
+    /**
+     * 이번 변경으로 해당 상태에 진입했는지 여부
+     */
+    public boolean isTransitionTo(HubSegmentStatus status) {
+        return segment.getStatus() == status && previousStatus != status;
+    }
+}
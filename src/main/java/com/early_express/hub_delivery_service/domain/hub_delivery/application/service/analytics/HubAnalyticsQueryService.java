@@ -0,0 +1,283 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.analytics;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.analytics.dto.HubAnalyticsDto.HubThroughputResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.analytics.dto.HubAnalyticsDto.LaneFlowResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryErrorCode;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.analytics.HubAnalyticsTopology;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.analytics.HubThroughput;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.analytics.LaneFlow;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.analytics.SegmentFlow;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyQueryMetadata;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.StreamsMetadata;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.kstream.Windowed;
+import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyWindowStore;
+import org.apache.kafka.streams.state.WindowStoreIterator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 허브 실시간 분석 Query Service
+ *
+ * Kafka Streams 윈도우 스토어를 interactive query로 조회하며 DB에 접근하지 않습니다.
+ * 스토어는 키(허브 ID, 레인) 기준으로 인스턴스에 분산되어 있으므로
+ * - 단건 조회: 키 소유 인스턴스로 요청을 전달
+ * - 목록 조회: 스토어를 가진 모든 인스턴스의 로컬 결과를 합침 (응답하지 않는 인스턴스분은 제외)
+ *
+ * local=true 요청은 전달 없이 로컬 스토어만 조회합니다. (인스턴스 간 전달용)
+ */
+@Slf4j
+@Service
+public class HubAnalyticsQueryService {
+
+    static final String ANALYTICS_BASE_PATH = "/v1/hub-delivery/internal/analytics";
+
+    private static final int MAX_MINUTES = 7 * 24 * 60;
+    private static final Duration REMOTE_TIMEOUT = Duration.ofSeconds(3);
+
+    private final ObjectProvider<StreamsBuilderFactoryBean> streamsBuilderProvider;
+    private final ObjectProvider<HubAnalyticsTopology> topologyProvider;
+    private final WebClient webClient;
+    private final String applicationServer;
+
+    public HubAnalyticsQueryService(
+            ObjectProvider<StreamsBuilderFactoryBean> streamsBuilderProvider,
+            ObjectProvider<HubAnalyticsTopology> topologyProvider,
+            WebClient webClient,
+            @Value("${hub-delivery.analytics.streams.application-server:}") String applicationServer) {
+        this.streamsBuilderProvider = streamsBuilderProvider;
+        this.topologyProvider = topologyProvider;
+        this.webClient = webClient;
+        this.applicationServer = applicationServer;
+    }
+
+    // ==================== 허브 ====================
+
+    /**
+     * 허브 윈도우 처리량 조회
+     *
+     * @param minutes 조회 구간 (최근 N분에 시작한 윈도우)
+     * @param local 로컬 스토어만 조회 여부
+     */
+    public List<HubThroughputResponse> findHubThroughput(String hubId, int minutes, boolean local) {
+        Duration window = window();
+        return queryKey(HubAnalyticsTopology.HUB_THROUGHPUT_STORE, hubId, minutes, local,
+                HubThroughputResponse.class,
+                (String key, long windowStartMs, HubThroughput value) ->
+                        HubThroughputResponse.of(key, windowStartMs, window, value),
+                "hubs", hubId);
+    }
+
+    /**
+     * 전체 허브 윈도우 처리량 조회
+     */
+    public List<HubThroughputResponse> findAllHubThroughput(int minutes, boolean local) {
+        Duration window = window();
+        List<HubThroughputResponse> responses = queryAll(HubAnalyticsTopology.HUB_THROUGHPUT_STORE, minutes, local,
+                HubThroughputResponse.class,
+                (String key, long windowStartMs, HubThroughput value) ->
+                        HubThroughputResponse.of(key, windowStartMs, window, value),
+                "hubs");
+
+        return responses.stream()
+                .sorted(Comparator.comparing(HubThroughputResponse::getWindowStart).reversed()
+                        .thenComparing(HubThroughputResponse::getHubId))
+                .toList();
+    }
+
+    // ==================== 레인 ====================
+
+    /**
+     * 레인 윈도우 처리량/지연 조회
+     */
+    public List<LaneFlowResponse> findLaneFlow(String fromHubId, String toHubId, int minutes, boolean local) {
+        Duration window = window();
+        return queryKey(HubAnalyticsTopology.LANE_FLOW_STORE, fromHubId + SegmentFlow.LANE_KEY_SEPARATOR + toHubId,
+                minutes, local, LaneFlowResponse.class,
+                (String key, long windowStartMs, LaneFlow value) ->
+                        LaneFlowResponse.of(key, windowStartMs, window, value),
+                "lanes", fromHubId, toHubId);
+    }
+
+    /**
+     * 전체 레인 윈도우 처리량/지연 조회
+     */
+    public List<LaneFlowResponse> findAllLaneFlow(int minutes, boolean local) {
+        Duration window = window();
+        List<LaneFlowResponse> responses = queryAll(HubAnalyticsTopology.LANE_FLOW_STORE, minutes, local,
+                LaneFlowResponse.class,
+                (String key, long windowStartMs, LaneFlow value) ->
+                        LaneFlowResponse.of(key, windowStartMs, window, value),
+                "lanes");
+
+        return responses.stream()
+                .sorted(Comparator.comparing(LaneFlowResponse::getWindowStart).reversed()
+                        .thenComparing(LaneFlowResponse::getFromHubId)
+                        .thenComparing(LaneFlowResponse::getToHubId))
+                .toList();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 단일 키 조회 (소유 인스턴스가 다르면 전달)
+     */
+    private <V, R> List<R> queryKey(String storeName, String key, int minutes, boolean local,
+                                    Class<R> responseType, WindowMapper<V, R> mapper, String... remotePath) {
+        KafkaStreams streams = runningStreams();
+
+        if (!local) {
+            KeyQueryMetadata metadata = streams.queryMetadataForKey(storeName, key, Serdes.String().serializer());
+            if (metadata == null || KeyQueryMetadata.NOT_AVAILABLE.equals(metadata)) {
+                throw notAvailable("키 소유 인스턴스를 찾을 수 없습니다: " + storeName + "/" + key);
+            }
+            if (!isLocal(metadata.activeHost())) {
+                return fetchRemote(metadata.activeHost(), minutes, responseType, remotePath);
+            }
+        }
+
+        ReadOnlyWindowStore<String, V> store = store(streams, storeName);
+        Instant to = Instant.now();
+        Instant from = to.minus(lookback(minutes));
+
+        List<R> responses = new ArrayList<>();
+        try (WindowStoreIterator<V> iterator = store.fetch(key, from, to)) {
+            while (iterator.hasNext()) {
+                KeyValue<Long, V> entry = iterator.next();
+                responses.add(mapper.map(key, entry.key, entry.value));
+            }
+        } catch (InvalidStateStoreException e) {
+            throw notAvailable("분석 스토어 조회 중 상태가 변경되었습니다: " + storeName);
+        }
+        return responses;
+    }
+
+    /**
+     * 전체 키 조회 (로컬 + 다른 인스턴스)
+     */
+    private <V, R> List<R> queryAll(String storeName, int minutes, boolean local,
+                                    Class<R> responseType, WindowMapper<V, R> mapper, String... remotePath) {
+        KafkaStreams streams = runningStreams();
+        ReadOnlyWindowStore<String, V> store = store(streams, storeName);
+        Instant to = Instant.now();
+        Instant from = to.minus(lookback(minutes));
+
+        List<R> responses = new ArrayList<>();
+        try (KeyValueIterator<Windowed<String>, V> iterator = store.fetchAll(from, to)) {
+            while (iterator.hasNext()) {
+                KeyValue<Windowed<String>, V> entry = iterator.next();
+                responses.add(mapper.map(entry.key.key(), entry.key.window().start(), entry.value));
+            }
+        } catch (InvalidStateStoreException e) {
+            throw notAvailable("분석 스토어 조회 중 상태가 변경되었습니다: " + storeName);
+        }
+
+        if (!local) {
+            for (StreamsMetadata metadata : streams.streamsMetadataForStore(storeName)) {
+                if (isLocal(metadata.hostInfo())) {
+                    continue;
+                }
+                try {
+                    responses.addAll(fetchRemote(metadata.hostInfo(), minutes, responseType, remotePath));
+                } catch (Exception e) {
+                    log.warn("다른 인스턴스 분석 스토어 조회 실패 (결과에서 제외) - host: {}, store: {}, error: {}",
+                            metadata.hostInfo(), storeName, e.getMessage());
+                }
+            }
+        }
+        return responses;
+    }
+
+    private <R> List<R> fetchRemote(HostInfo host, int minutes, Class<R> responseType, String... pathSegments) {
+        URI uri = UriComponentsBuilder.newInstance()
+                .scheme("http")
+                .host(host.host())
+                .port(host.port())
+                .path(ANALYTICS_BASE_PATH)
+                .pathSegment(pathSegments)
+                .queryParam("minutes", minutes)
+                .queryParam("local", true)
+                .encode()
+                .build()
+                .toUri();
+
+        log.debug("분석 조회 전달 - uri: {}", uri);
+
+        List<R> responses = webClient.get()
+                .uri(uri)
+                .retrieve()
+                .bodyToFlux(responseType)
+                .collectList()
+                .block(REMOTE_TIMEOUT);
+        return responses != null ? responses : List.of();
+    }
+
+    private KafkaStreams runningStreams() {
+        StreamsBuilderFactoryBean factoryBean = streamsBuilderProvider.getIfAvailable();
+        KafkaStreams streams = factoryBean != null ? factoryBean.getKafkaStreams() : null;
+
+        if (streams == null) {
+            throw notAvailable("실시간 분석이 비활성화되어 있습니다. (hub-delivery.analytics.streams.enabled)");
+        }
+        if (!streams.state().isRunningOrRebalancing()) {
+            throw notAvailable("실시간 분석 스트림이 실행 중이 아닙니다. 상태: " + streams.state());
+        }
+        return streams;
+    }
+
+    private <V> ReadOnlyWindowStore<String, V> store(KafkaStreams streams, String storeName) {
+        try {
+            return streams.store(StoreQueryParameters.fromNameAndType(storeName, QueryableStoreTypes.<String, V>windowStore()));
+        } catch (InvalidStateStoreException e) {
+            throw notAvailable("분석 스토어를 아직 조회할 수 없습니다: " + storeName);
+        }
+    }
+
+    private boolean isLocal(HostInfo host) {
+        return applicationServer.isBlank() || HostInfo.buildFromEndpoint(applicationServer).equals(host);
+    }
+
+    private Duration window() {
+        HubAnalyticsTopology topology = topologyProvider.getIfAvailable();
+        if (topology == null) {
+            throw notAvailable("실시간 분석이 비활성화되어 있습니다. (hub-delivery.analytics.streams.enabled)");
+        }
+        return topology.getWindow();
+    }
+
+    private static Duration lookback(int minutes) {
+        return Duration.ofMinutes(Math.clamp(minutes, 1, MAX_MINUTES));
+    }
+
+    private static HubDeliveryException notAvailable(String message) {
+        return new HubDeliveryException(HubDeliveryErrorCode.ANALYTICS_NOT_AVAILABLE, message);
+    }
+
+    /**
+     * 윈도우 집계값 → 응답 변환
+     */
+    @FunctionalInterface
+    private interface WindowMapper<V, R> {
+        R map(String key, long windowStartMs, V value);
+    }
+}
@@ -0,0 +1,93 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.analytics.dto;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.analytics.HubThroughput;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.analytics.LaneFlow;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.analytics.SegmentFlow;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 허브 실시간 분석 Query DTO
+ *
+ * 키 소유 인스턴스 간 전달 시 역직렬화되므로 기본 생성자를 가집니다.
+ */
+public class HubAnalyticsDto {
+
+    /**
+     * 허브 윈도우 처리량 응답
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HubThroughputResponse {
+        private String hubId;
+        private LocalDateTime windowStart;
+        private LocalDateTime windowEnd;
+        private Long departures;
+        private Long arrivals;
+
+        public static HubThroughputResponse of(String hubId, long windowStartMs, Duration window,
+                                               HubThroughput throughput) {
+            return HubThroughputResponse.builder()
+                    .hubId(hubId)
+                    .windowStart(toLocalDateTime(windowStartMs))
+                    .windowEnd(toLocalDateTime(windowStartMs + window.toMillis()))
+                    .departures(throughput.departures())
+                    .arrivals(throughput.arrivals())
+                    .build();
+        }
+    }
+
+    /**
+     * 레인 윈도우 처리량/지연 응답
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LaneFlowResponse {
+        private String fromHubId;
+        private String toHubId;
+        private LocalDateTime windowStart;
+        private LocalDateTime windowEnd;
+        private Long departures;
+        private Long arrivals;
+        private Double meanDurationMin;
+        private Double meanDelayMin;
+        private Long maxDelayMin;
+        private Double lateRatio;
+
+        public static LaneFlowResponse of(String laneKey, long windowStartMs, Duration window, LaneFlow flow) {
+            int separator = laneKey.indexOf(SegmentFlow.LANE_KEY_SEPARATOR);
+
+            return LaneFlowResponse.builder()
+                    .fromHubId(laneKey.substring(0, separator))
+                    .toHubId(laneKey.substring(separator + SegmentFlow.LANE_KEY_SEPARATOR.length()))
+                    .windowStart(toLocalDateTime(windowStartMs))
+                    .windowEnd(toLocalDateTime(windowStartMs + window.toMillis()))
+                    .departures(flow.departures())
+                    .arrivals(flow.arrivals())
+                    .meanDurationMin(ratio(flow.durationSumMin(), flow.durationSamples()))
+                    .meanDelayMin(ratio(flow.delaySumMin(), flow.delaySamples()))
+                    .maxDelayMin(flow.maxDelayMin())
+                    .lateRatio(ratio(flow.lateArrivals(), flow.delaySamples()))
+                    .build();
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMs) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZoneId.systemDefault());
+    }
+
+    private static Double ratio(long numerator, long denominator) {
+        return denominator == 0 ? null : (double) numerator / denominator;
+    }
+}
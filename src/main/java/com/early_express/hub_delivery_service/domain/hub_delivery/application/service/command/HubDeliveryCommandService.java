@@ -2,27 +2,40 @@ package com.early_express.hub_delivery_service.domain.hub_delivery.application.s
 
 import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.*;
 import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubDeliveryEventPublisher;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubSegmentChangedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.route.RouteInfoParser;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.route.RouteLeg;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryErrorCode;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryId;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
 import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver.HubDriverClient;
 import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver.dto.DriverAssignRequest;
 import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver.dto.DriverAssignResponse;
 import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver.dto.DriverCompleteRequest;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * HubDelivery Command Service
@@ -38,7 +51,9 @@ public class HubDeliveryCommandService {
     private final HubDeliveryRepository hubDeliveryRepository;
     private final HubDeliveryEventPublisher eventPublisher;
     private final HubDriverClient hubDriverClient;
-    private final ObjectMapper objectMapper;
+    private final RouteInfoParser routeInfoParser;
+    private final HubDeliveryMetrics metrics;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     // ==================== 생성 ====================
 
@@ -51,9 +66,13 @@ public class HubDeliveryCommandService {
      *
      * @param command 생성 정보 (orderId, 경로 정보 등)
      * @return 생성 결과
-     * @throws HubDeliveryException 중복 주문인 경우
+     * @throws HubDeliveryException 중복 주문이거나 경로 정보가 올바르지 않은 경우
      */
     public CreateResult create(CreateCommand command) {
+        return metrics.timeCommand(HubDeliveryMetrics.COMMAND_CREATE, () -> doCreate(command));
+    }
+
+    private CreateResult doCreate(CreateCommand command) {
         log.info("허브 배송 생성 시작 - orderId: {}", command.getOrderId());
 
         // 1. 중복 체크
@@ -64,23 +83,8 @@ public class HubDeliveryCommandService {
             );
         }
 
-        // 2. 경로 정보로 HubSegment 생성 (모두 PENDING 상태)
-        List<HubSegment> segments = createSegments(
-                command.getRouteHubs(),
-                command.getRouteInfoJson()
-        );
-
-        // 3. HubDelivery 생성 (드라이버 미배정 상태)
-        HubDelivery hubDelivery = HubDelivery.create(
-                command.getOrderId(),
-                command.getOriginHubId(),
-                command.getDestinationHubId(),
-                segments,
-                command.getCreatedBy()
-        );
-
-        // 4. 저장
-        HubDelivery savedHubDelivery = hubDeliveryRepository.save(hubDelivery);
+        // 2. 구간 생성 및 저장 (드라이버 미배정 상태)
+        HubDelivery savedHubDelivery = createAndSave(command);
 
         log.info("허브 배송 생성 완료 (드라이버 미배정) - hubDeliveryId: {}, orderId: {}, segments: {}",
                 savedHubDelivery.getIdValue(),
@@ -94,6 +98,65 @@ public class HubDeliveryCommandService {
         );
     }
 
+    /**
+     * 허브 배송 일괄 생성
+     *
+     * Order Service의 생성 커맨드(Kafka)를 배치 단위로 처리합니다.
+     * 배치 전체를 하나의 트랜잭션으로 저장하며, 주문 ID 기준으로 중복을 제거합니다.
+     * - 이미 생성된 주문: 기존 배송 ID로 DUPLICATE (재전송된 커맨드에도 같은 응답)
+     * - 배치 내 같은 주문: 첫 번째 커맨드만 생성, 나머지는 DUPLICATE
+     * - 경로 정보 오류 등 검증 실패: 해당 항목만 FAILED, 나머지는 그대로 생성
+     *
+     * @param commands 생성 커맨드 목록
+     * @return 커맨드 순서대로의 항목별 결과
+     */
+    public List<CreateResult> createBatch(List<CreateCommand> commands) {
+        return metrics.timeCommand(HubDeliveryMetrics.COMMAND_CREATE_BATCH, () -> doCreateBatch(commands));
+    }
+
+    private List<CreateResult> doCreateBatch(List<CreateCommand> commands) {
+        // 1. 중복 체크 (배치 전체를 한 번에 조회)
+        Set<String> orderIds = new HashSet<>();
+        for (CreateCommand command : commands) {
+            if (command.getOrderId() != null) {
+                orderIds.add(command.getOrderId());
+            }
+        }
+        Map<String, String> existingIds = new HashMap<>(hubDeliveryRepository.findIdsByOrderIds(orderIds));
+
+        // 2. 항목별 생성 (실패 항목은 건너뜀)
+        List<CreateResult> results = new ArrayList<>(commands.size());
+        for (CreateCommand command : commands) {
+            String existingId = command.getOrderId() != null ? existingIds.get(command.getOrderId()) : null;
+            if (existingId != null) {
+                results.add(CreateResult.duplicate(existingId, command.getOrderId()));
+                continue;
+            }
+
+            try {
+                HubDelivery savedHubDelivery = createAndSave(command);
+                existingIds.put(savedHubDelivery.getOrderId(), savedHubDelivery.getIdValue());
+                results.add(CreateResult.success(
+                        savedHubDelivery.getIdValue(),
+                        savedHubDelivery.getOrderId(),
+                        savedHubDelivery.getStatus().name()
+                ));
+            } catch (HubDeliveryException e) {
+                log.warn("허브 배송 일괄 생성 항목 실패 - orderId: {}, reason: {}", command.getOrderId(), e.getMessage());
+                results.add(CreateResult.failed(command.getOrderId(), e.getMessage()));
+            }
+        }
+
+        Map<String, Integer> outcomeCounts = new HashMap<>();
+        for (CreateResult result : results) {
+            outcomeCounts.merge(result.getOutcome().name().toLowerCase(), 1, Integer::sum);
+        }
+        metrics.recordCreateBatch(commands.size(), outcomeCounts);
+
+        log.info("허브 배송 일괄 생성 완료 - batch: {}, outcomes: {}", commands.size(), outcomeCounts);
+        return results;
+    }
+
     // ==================== 구간 드라이버 배정 ====================
 
     /**
@@ -102,6 +165,7 @@ public class HubDeliveryCommandService {
      * Track Service에서 호출됩니다.
      * 해당 구간의 출발 허브 기준으로 가용 드라이버를 배정합니다.
      * 배정 성공 시 자동으로 구간 출발 처리됩니다.
+     * 선배정된 구간은 드라이버 검색 없이 선배정 드라이버로 바로 출발합니다.
      *
      * 흐름:
      * 1. HubDriver Service에 드라이버 배정 요청
@@ -114,6 +178,12 @@ public class HubDeliveryCommandService {
      * @throws HubDeliveryException 배송 정보가 없거나 상태 전환 불가 시
      */
     public AssignDriverResult assignDriverForSegment(AssignDriverForSegmentCommand command) {
+        return metrics.timeCommand(HubDeliveryMetrics.COMMAND_ASSIGN,
+                () -> doAssignDriverForSegment(command),
+                AssignDriverResult::isSuccess);
+    }
+
+    private AssignDriverResult doAssignDriverForSegment(AssignDriverForSegmentCommand command) {
         log.info("구간 드라이버 배정 요청 - hubDeliveryId: {}, segment: {}",
                 command.getHubDeliveryId(), command.getSegmentIndex());
 
@@ -123,7 +193,12 @@ public class HubDeliveryCommandService {
         // 2. 구간 정보 조회
         HubSegment segment = hubDelivery.getSegment(command.getSegmentIndex());
 
-        // 3. 이미 배정된 경우 체크
+        // 3. 선배정된 구간은 바로 출발
+        if (segment.isReserved()) {
+            return departReservedSegment(hubDelivery, command.getSegmentIndex());
+        }
+
+        // 4. 이미 배정된 경우 체크
         if (segment.hasDriver()) {
             log.warn("이미 드라이버가 배정된 구간 - hubDeliveryId: {}, segment: {}, driverId: {}",
                     command.getHubDeliveryId(), command.getSegmentIndex(), segment.getDriverId());
@@ -134,7 +209,7 @@ public class HubDeliveryCommandService {
             );
         }
 
-        // 4. HubDriver Service에 드라이버 배정 요청 (출발 허브 기준)
+        // 5. HubDriver Service에 드라이버 배정 요청 (출발 허브 기준)
         try {
             DriverAssignResponse response = hubDriverClient.assignDriver(
                     DriverAssignRequest.of(hubDelivery.getIdValue())
@@ -150,16 +225,21 @@ public class HubDeliveryCommandService {
                 );
             }
 
-            // 5. 구간에 드라이버 배정 (PENDING → ASSIGNED)
+            // 롤백 시(선배정 등 동시 변경으로 커밋 시 낙관적 잠금 실패 포함) 확보한 드라이버 반환
+            releaseDriverOnRollback(hubDelivery.getIdValue(), command.getSegmentIndex(), response.getDriverId());
+
+            // 6. 구간에 드라이버 배정 (PENDING → ASSIGNED)
+            HubSegmentStatus previousStatus = segment.getStatus();
             hubDelivery.assignDriverToSegment(command.getSegmentIndex(), response.getDriverId());
 
-            // 6. 구간 출발 처리 (ASSIGNED → IN_TRANSIT)
+            // 7. 구간 출발 처리 (ASSIGNED → IN_TRANSIT)
             hubDelivery.departSegment(command.getSegmentIndex());
 
-            // 7. 저장
-            hubDeliveryRepository.save(hubDelivery);
+            // 8. 저장
+            saveAndPublishState(hubDelivery);
+            publishSegmentChanged(hubDelivery, command.getSegmentIndex(), previousStatus);
 
-            // 8. 출발 이벤트 발행 → Track이 수신
+            // 9. 출발 이벤트 발행 → Track이 수신
             HubSegment departedSegment = hubDelivery.getSegment(command.getSegmentIndex());
             eventPublisher.publishSegmentDeparted(hubDelivery, departedSegment);
 
@@ -173,6 +253,9 @@ public class HubDeliveryCommandService {
                     response.getDriverName()
             );
 
+        } catch (OptimisticLockingFailureException e) {
+            // 동시 변경 충돌은 실패 응답으로 감추지 않고 롤백 (확보한 드라이버는 롤백 시 해제)
+            throw e;
         } catch (Exception e) {
             log.error("드라이버 배정 중 오류 - hubDeliveryId: {}, segment: {}, error: {}",
                     command.getHubDeliveryId(), command.getSegmentIndex(), e.getMessage(), e);
@@ -184,6 +267,132 @@ public class HubDeliveryCommandService {
         }
     }
 
+    /**
+     * 구간 드라이버 배정 (출발하지 않음)
+     *
+     * DispatchService가 허브 대기열(마감 시각 순)에서 호출합니다.
+     * 배정 가능한 구간(대기 중이며 앞 구간 도착)만 PENDING → ASSIGNED로 배정하며,
+     * 출발은 드라이버 앱의 구간 출발 또는 적재 목록 출발로 처리합니다.
+     *
+     * @param command 배정 정보 (hubDeliveryId, segmentIndex)
+     * @return 배정 결과
+     */
+    public AssignDriverResult assignDriverOnlyForSegment(AssignDriverForSegmentCommand command) {
+        return metrics.timeCommand(HubDeliveryMetrics.COMMAND_DISPATCH,
+                () -> doAssignDriverOnlyForSegment(command),
+                AssignDriverResult::isSuccess);
+    }
+
+    private AssignDriverResult doAssignDriverOnlyForSegment(AssignDriverForSegmentCommand command) {
+        HubDelivery hubDelivery = findHubDelivery(command.getHubDeliveryId());
+        int segmentIndex = command.getSegmentIndex();
+
+        if (!hubDelivery.isSegmentDispatchable(segmentIndex)) {
+            return AssignDriverResult.failed(
+                    command.getHubDeliveryId(),
+                    segmentIndex,
+                    "드라이버를 배정할 수 없는 구간입니다."
+            );
+        }
+
+        try {
+            DriverAssignResponse response = hubDriverClient.assignDriver(
+                    DriverAssignRequest.of(hubDelivery.getIdValue())
+            );
+
+            if (!response.isSuccess()) {
+                return AssignDriverResult.failed(
+                        command.getHubDeliveryId(),
+                        segmentIndex,
+                        "가용 드라이버가 없습니다."
+                );
+            }
+
+            // 롤백 시(동시 변경으로 커밋 시 낙관적 잠금 실패 포함) 확보한 드라이버 반환
+            releaseDriverOnRollback(hubDelivery.getIdValue(), segmentIndex, response.getDriverId());
+
+            hubDelivery.assignDriverToSegment(segmentIndex, response.getDriverId());
+
+            saveAndPublishState(hubDelivery);
+            publishSegmentChanged(hubDelivery, segmentIndex, HubSegmentStatus.PENDING);
+
+            log.info("구간 드라이버 배정 완료 (출발 대기) - hubDeliveryId: {}, segment: {}, driverId: {}",
+                    hubDelivery.getIdValue(), segmentIndex, response.getDriverId());
+
+            return AssignDriverResult.success(
+                    hubDelivery.getIdValue(),
+                    segmentIndex,
+                    response.getDriverId(),
+                    response.getDriverName()
+            );
+
+        } catch (OptimisticLockingFailureException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("드라이버 배정 중 오류 - hubDeliveryId: {}, segment: {}, error: {}",
+                    command.getHubDeliveryId(), segmentIndex, e.getMessage(), e);
+            return AssignDriverResult.failed(
+                    command.getHubDeliveryId(),
+                    segmentIndex,
+                    "드라이버 배정 중 오류가 발생했습니다: " + e.getMessage()
+            );
+        }
+    }
+
+    // ==================== 구간 선배정 ====================
+
+    /**
+     * 구간 드라이버 선배정
+     *
+     * HandoffPreAssigner가 드라이버 확보 후 호출합니다.
+     * 조회 이후 배정/출발되었거나 배송이 종료된 경우 선배정하지 않으며,
+     * 이때 호출 측에서 확보한 드라이버를 해제해야 합니다.
+     *
+     * @return 선배정 여부
+     */
+    public boolean reserveDriverForSegment(String hubDeliveryId, int segmentIndex,
+                                           String driverId, LocalDateTime reservedUntil) {
+        HubDelivery hubDelivery = findHubDelivery(hubDeliveryId);
+        HubSegment segment = hubDelivery.getSegment(segmentIndex);
+
+        if (hubDelivery.getStatus().isTerminal() || !segment.isPending()) {
+            log.info("선배정 대상 아님 - hubDeliveryId: {}, segment: {}, status: {}",
+                    hubDeliveryId, segmentIndex, segment.getStatus());
+            return false;
+        }
+
+        hubDelivery.reserveDriverForSegment(segmentIndex, driverId, reservedUntil);
+
+        saveAndPublishState(hubDelivery);
+        publishSegmentChanged(hubDelivery, segmentIndex, HubSegmentStatus.PENDING);
+        return true;
+    }
+
+    /**
+     * 만료된 구간 선배정 해제 (ASSIGNED → PENDING)
+     *
+     * 이미 출발했거나, 다른 드라이버로 바뀌었거나, 배송이 종료된 경우 변경하지 않습니다.
+     *
+     * @return 해제 여부 (true면 호출 측에서 드라이버 해제 통지)
+     */
+    public boolean releaseSegmentReservation(String hubDeliveryId, int segmentIndex, String driverId) {
+        HubDelivery hubDelivery = hubDeliveryRepository.findById(HubDeliveryId.of(hubDeliveryId)).orElse(null);
+        if (hubDelivery == null || hubDelivery.getStatus().isTerminal()) {
+            return false;
+        }
+
+        HubSegment segment = hubDelivery.getSegment(segmentIndex);
+        if (!segment.isReserved() || !driverId.equals(segment.getDriverId())) {
+            return false;
+        }
+
+        hubDelivery.releaseSegmentReservation(segmentIndex);
+
+        saveAndPublishState(hubDelivery);
+        publishSegmentChanged(hubDelivery, segmentIndex, HubSegmentStatus.ASSIGNED);
+        return true;
+    }
+
     // ==================== 구간 상태 변경 ====================
 
     /**
@@ -195,6 +404,10 @@ public class HubDeliveryCommandService {
      * @param command 출발 정보 (hubDeliveryId, segmentIndex, driverId)
      */
     public void departSegment(DepartSegmentCommand command) {
+        metrics.timeCommand(HubDeliveryMetrics.COMMAND_DEPART, () -> doDepartSegment(command));
+    }
+
+    private void doDepartSegment(DepartSegmentCommand command) {
         log.info("구간 출발 처리 - hubDeliveryId: {}, segment: {}, driverId: {}",
                 command.getHubDeliveryId(), command.getSegmentIndex(), command.getDriverId());
 
@@ -202,6 +415,8 @@ public class HubDeliveryCommandService {
 
         // 드라이버 미배정 상태면 배정 처리
         HubSegment segment = hubDelivery.getSegment(command.getSegmentIndex());
+        HubSegmentStatus previousStatus = segment.getStatus();
+        boolean preAssigned = segment.isReserved();
         if (!segment.hasDriver() && command.getDriverId() != null) {
             hubDelivery.assignDriverToSegment(command.getSegmentIndex(), command.getDriverId());
         }
@@ -210,7 +425,8 @@ public class HubDeliveryCommandService {
         hubDelivery.departSegment(command.getSegmentIndex());
 
         // 저장
-        hubDeliveryRepository.save(hubDelivery);
+        saveAndPublishState(hubDelivery);
+        publishSegmentChanged(hubDelivery, command.getSegmentIndex(), previousStatus, preAssigned);
 
         // 이벤트 발행
         HubSegment departedSegment = hubDelivery.getSegment(command.getSegmentIndex());
@@ -232,16 +448,22 @@ public class HubDeliveryCommandService {
      * @param command 도착 정보 (hubDeliveryId, segmentIndex, driverId)
      */
     public void arriveSegment(ArriveSegmentCommand command) {
+        metrics.timeCommand(HubDeliveryMetrics.COMMAND_ARRIVE, () -> doArriveSegment(command));
+    }
+
+    private void doArriveSegment(ArriveSegmentCommand command) {
         log.info("구간 도착 처리 - hubDeliveryId: {}, segment: {}, driverId: {}",
                 command.getHubDeliveryId(), command.getSegmentIndex(), command.getDriverId());
 
         HubDelivery hubDelivery = findHubDelivery(command.getHubDeliveryId());
 
         // 구간 도착 처리 (IN_TRANSIT → ARRIVED)
+        HubSegmentStatus previousStatus = hubDelivery.getSegment(command.getSegmentIndex()).getStatus();
         hubDelivery.arriveSegment(command.getSegmentIndex());
 
         // 저장
-        hubDeliveryRepository.save(hubDelivery);
+        saveAndPublishState(hubDelivery);
+        publishSegmentChanged(hubDelivery, command.getSegmentIndex(), previousStatus);
 
         // 구간 도착 이벤트 발행 → Track이 수신하여 다음 구간 결정
         HubSegment arrivedSegment = hubDelivery.getSegment(command.getSegmentIndex());
@@ -263,6 +485,248 @@ public class HubDeliveryCommandService {
                 hubDelivery.isCompleted());
     }
 
+    // ==================== 적재 목록 일괄 처리 ====================
+
+    /**
+     * 적재 목록 구간 일괄 드라이버 배정
+     *
+     * 적재 목록(Manifest) 단위로 확보한 드라이버 한 명을 구간에 한 번에 배정합니다. (출발은 하지 않음)
+     * - 배정 가능한 구간(대기 중이며 앞 구간 도착)만 배정, 나머지는 FAILED
+     * - 배정된 구간은 배정 대기열에서 빠지며, 이후 구간 단위 배정 요청에는 이미 배정된 구간으로 응답
+     *
+     * @param command 적재 목록 (hubDeliveryId, segmentIndex 목록, driverId, manifestId)
+     * @return 항목 순서대로의 처리 결과
+     */
+    public List<ManifestItemResult> assignManifest(ManifestCommand command) {
+        return metrics.timeCommand(HubDeliveryMetrics.COMMAND_ASSIGN_MANIFEST, () -> doAssignManifest(command));
+    }
+
+    private List<ManifestItemResult> doAssignManifest(ManifestCommand command) {
+        Map<String, HubDelivery> hubDeliveries = findHubDeliveries(command.getSegments());
+        Map<String, HubDelivery> changed = new LinkedHashMap<>();
+        List<AppliedTransition> applied = new ArrayList<>();
+
+        List<ManifestItemResult> results = new ArrayList<>(command.getSegments().size());
+        for (ManifestSegment item : command.getSegments()) {
+            HubDelivery hubDelivery = hubDeliveries.get(item.getHubDeliveryId());
+            if (hubDelivery == null) {
+                results.add(notFound(item));
+                continue;
+            }
+
+            int segmentIndex = item.getSegmentIndex();
+            if (!hubDelivery.isSegmentDispatchable(segmentIndex)) {
+                results.add(ManifestItemResult.failed(item.getHubDeliveryId(), segmentIndex,
+                        "드라이버를 배정할 수 없는 구간입니다."));
+                continue;
+            }
+
+            try {
+                hubDelivery.assignDriverToSegment(segmentIndex, command.getDriverId());
+
+                changed.put(hubDelivery.getIdValue(), hubDelivery);
+                applied.add(new AppliedTransition(hubDelivery, segmentIndex, HubSegmentStatus.PENDING, false));
+                results.add(ManifestItemResult.success(item.getHubDeliveryId(), segmentIndex,
+                        HubSegmentStatus.ASSIGNED.name()));
+            } catch (HubDeliveryException e) {
+                results.add(ManifestItemResult.failed(item.getHubDeliveryId(), segmentIndex, e.getMessage()));
+            }
+        }
+
+        saveAllAndPublishState(changed.values());
+        for (AppliedTransition transition : applied) {
+            publishSegmentChanged(transition.hubDelivery(), transition.segmentIndex(), transition.previousStatus());
+        }
+
+        metrics.recordManifest(HubDeliveryMetrics.COMMAND_ASSIGN_MANIFEST, results.size(), applied.size());
+        log.info("적재 목록 일괄 배정 완료 - manifestId: {}, driverId: {}, items: {}, assigned: {}",
+                command.getManifestId(), command.getDriverId(), results.size(), applied.size());
+        return results;
+    }
+
+    /**
+     * 적재 목록 구간 일괄 출발
+     *
+     * 간선 트럭 한 대분의 구간을 하나의 트랜잭션으로 출발 처리합니다.
+     * 배송은 한 번에 조회하고, 변경된 배송은 일괄 저장(JDBC 배치 UPDATE)합니다.
+     * - 드라이버 미배정 구간은 요청 드라이버로 배정 후 출발
+     * - 배송이 없거나 출발할 수 없는 항목은 FAILED, 나머지는 그대로 처리
+     * - 이벤트(구간 출발, 상태 스냅샷)는 커밋 이후 비동기 발행 큐에 한 번에 적재
+     *
+     * @param command 적재 목록 (hubDeliveryId, segmentIndex 목록, driverId)
+     * @return 항목 순서대로의 처리 결과
+     */
+    public List<ManifestItemResult> departManifest(ManifestCommand command) {
+        return metrics.timeCommand(HubDeliveryMetrics.COMMAND_DEPART_MANIFEST, () -> doDepartManifest(command));
+    }
+
+    private List<ManifestItemResult> doDepartManifest(ManifestCommand command) {
+        Map<String, HubDelivery> hubDeliveries = findHubDeliveries(command.getSegments());
+        Map<String, HubDelivery> changed = new LinkedHashMap<>();
+        List<AppliedTransition> applied = new ArrayList<>();
+
+        List<ManifestItemResult> results = new ArrayList<>(command.getSegments().size());
+        for (ManifestSegment item : command.getSegments()) {
+            HubDelivery hubDelivery = hubDeliveries.get(item.getHubDeliveryId());
+            if (hubDelivery == null) {
+                results.add(notFound(item));
+                continue;
+            }
+
+            int segmentIndex = item.getSegmentIndex();
+            try {
+                HubSegment segment = hubDelivery.getSegment(segmentIndex);
+                HubSegmentStatus previousStatus = segment.getStatus();
+                boolean preAssigned = segment.isReserved();
+
+                // 출발 가능한 미배정 구간만 배정 (출발 실패 시 배정만 남지 않도록)
+                if (!segment.hasDriver() && command.getDriverId() != null
+                        && hubDelivery.isSegmentDispatchable(segmentIndex)) {
+                    hubDelivery.assignDriverToSegment(segmentIndex, command.getDriverId());
+                }
+                hubDelivery.departSegment(segmentIndex);
+
+                changed.put(hubDelivery.getIdValue(), hubDelivery);
+                applied.add(new AppliedTransition(hubDelivery, segmentIndex, previousStatus, preAssigned));
+                results.add(ManifestItemResult.success(item.getHubDeliveryId(), segmentIndex,
+                        HubSegmentStatus.IN_TRANSIT.name()));
+            } catch (HubDeliveryException e) {
+                results.add(ManifestItemResult.failed(item.getHubDeliveryId(), segmentIndex, e.getMessage()));
+            }
+        }
+
+        saveAllAndPublishState(changed.values());
+        for (AppliedTransition transition : applied) {
+            HubDelivery hubDelivery = transition.hubDelivery();
+            publishSegmentChanged(hubDelivery, transition.segmentIndex(), transition.previousStatus(),
+                    transition.preAssigned());
+            eventPublisher.publishSegmentDeparted(hubDelivery, hubDelivery.getSegment(transition.segmentIndex()));
+        }
+
+        metrics.recordManifest(HubDeliveryMetrics.COMMAND_DEPART_MANIFEST, results.size(), applied.size());
+        log.info("적재 목록 일괄 출발 완료 - driverId: {}, items: {}, departed: {}",
+                command.getDriverId(), results.size(), applied.size());
+        return results;
+    }
+
+    /**
+     * 적재 목록 구간 일괄 도착
+     *
+     * 간선 트럭 한 대분의 구간을 하나의 트랜잭션으로 도착 처리합니다.
+     * - 도착할 수 없는 항목은 FAILED, 나머지는 그대로 처리
+     * - 구간 도착 이벤트와 (마지막 구간이면) 배송 완료 이벤트를 커밋 이후 발행
+     * - 드라이버 완료 통지는 커밋 이후 드라이버당 한 번 전송 (가장 긴 구간 소요 시간, 실패해도 처리 계속)
+     *   적재 목록(manifestId) 단위 처리면 통지를 생략 (호출 측에서 적재 목록당 한 번 전송)
+     *
+     * @param command 적재 목록 (hubDeliveryId, segmentIndex 목록, driverId)
+     * @return 항목 순서대로의 처리 결과
+     */
+    public List<ManifestItemResult> arriveManifest(ManifestCommand command) {
+        return metrics.timeCommand(HubDeliveryMetrics.COMMAND_ARRIVE_MANIFEST, () -> doArriveManifest(command));
+    }
+
+    private List<ManifestItemResult> doArriveManifest(ManifestCommand command) {
+        Map<String, HubDelivery> hubDeliveries = findHubDeliveries(command.getSegments());
+        Map<String, HubDelivery> changed = new LinkedHashMap<>();
+        List<AppliedTransition> applied = new ArrayList<>();
+
+        List<ManifestItemResult> results = new ArrayList<>(command.getSegments().size());
+        for (ManifestSegment item : command.getSegments()) {
+            HubDelivery hubDelivery = hubDeliveries.get(item.getHubDeliveryId());
+            if (hubDelivery == null) {
+                results.add(notFound(item));
+                continue;
+            }
+
+            int segmentIndex = item.getSegmentIndex();
+            try {
+                HubSegmentStatus previousStatus = hubDelivery.getSegment(segmentIndex).getStatus();
+                hubDelivery.arriveSegment(segmentIndex);
+
+                changed.put(hubDelivery.getIdValue(), hubDelivery);
+                applied.add(new AppliedTransition(hubDelivery, segmentIndex, previousStatus, false));
+                results.add(ManifestItemResult.success(item.getHubDeliveryId(), segmentIndex,
+                        HubSegmentStatus.ARRIVED.name()));
+            } catch (HubDeliveryException e) {
+                results.add(ManifestItemResult.failed(item.getHubDeliveryId(), segmentIndex, e.getMessage()));
+            }
+        }
+
+        saveAllAndPublishState(changed.values());
+        Map<String, Long> driverDurations = new LinkedHashMap<>();
+        for (AppliedTransition transition : applied) {
+            HubDelivery hubDelivery = transition.hubDelivery();
+            HubSegment arrivedSegment = hubDelivery.getSegment(transition.segmentIndex());
+            publishSegmentChanged(hubDelivery, transition.segmentIndex(), transition.previousStatus());
+            eventPublisher.publishSegmentArrived(hubDelivery, arrivedSegment);
+            if (arrivedSegment.getDriverId() != null) {
+                driverDurations.merge(arrivedSegment.getDriverId(),
+                        nullToZero(arrivedSegment.getActualDurationMin()), Math::max);
+            }
+        }
+        if (command.getManifestId() == null) {
+            notifyDriversCompleteAfterCommit(driverDurations);
+        }
+        for (HubDelivery hubDelivery : changed.values()) {
+            if (hubDelivery.isCompleted()) {
+                eventPublisher.publishHubDeliveryCompleted(hubDelivery);
+            }
+        }
+
+        metrics.recordManifest(HubDeliveryMetrics.COMMAND_ARRIVE_MANIFEST, results.size(), applied.size());
+        log.info("적재 목록 일괄 도착 완료 - driverId: {}, items: {}, arrived: {}",
+                command.getDriverId(), results.size(), applied.size());
+        return results;
+    }
+
+    /**
+     * 적재 목록 구간 일괄 배정 해제 (ASSIGNED → PENDING)
+     *
+     * 출발에서 제외된 적재 목록 구간을 다시 개별 배정 대상으로 되돌립니다.
+     * 요청 드라이버로 배정된 상태인 구간만 해제하며, 그 사이 출발/재배정/종료된 구간은 그대로 둡니다.
+     *
+     * @param command 적재 목록 (hubDeliveryId, segmentIndex 목록, driverId)
+     * @return 해제된 구간 수
+     */
+    public int releaseManifestSegments(ManifestCommand command) {
+        Map<String, HubDelivery> hubDeliveries = findHubDeliveries(command.getSegments());
+        Map<String, HubDelivery> changed = new LinkedHashMap<>();
+        List<AppliedTransition> applied = new ArrayList<>();
+
+        for (ManifestSegment item : command.getSegments()) {
+            HubDelivery hubDelivery = hubDeliveries.get(item.getHubDeliveryId());
+            if (hubDelivery == null || hubDelivery.getStatus().isTerminal()) {
+                continue;
+            }
+
+            int segmentIndex = item.getSegmentIndex();
+            try {
+                HubSegment segment = hubDelivery.getSegment(segmentIndex);
+                if (!segment.isAssigned() || !Objects.equals(command.getDriverId(), segment.getDriverId())) {
+                    continue;
+                }
+                hubDelivery.releaseSegmentDriver(segmentIndex);
+
+                changed.put(hubDelivery.getIdValue(), hubDelivery);
+                applied.add(new AppliedTransition(hubDelivery, segmentIndex, HubSegmentStatus.ASSIGNED, false));
+            } catch (HubDeliveryException e) {
+                log.warn("적재 목록 구간 배정 해제 실패 - hubDeliveryId: {}, segment: {}, error: {}",
+                        item.getHubDeliveryId(), segmentIndex, e.getMessage());
+            }
+        }
+
+        saveAllAndPublishState(changed.values());
+        for (AppliedTransition transition : applied) {
+            publishSegmentChanged(transition.hubDelivery(), transition.segmentIndex(), transition.previousStatus());
+        }
+
+        if (!applied.isEmpty()) {
+            log.info("적재 목록 구간 배정 해제 - manifestId: {}, driverId: {}, released: {}",
+                    command.getManifestId(), command.getDriverId(), applied.size());
+        }
+        return applied.size();
+    }
+
     // ==================== 취소 ====================
 
     /**
@@ -275,6 +739,10 @@ public class HubDeliveryCommandService {
      * @return 취소 결과
      */
     public CreateResult cancel(CancelCommand command) {
+        return metrics.timeCommand(HubDeliveryMetrics.COMMAND_CANCEL, () -> doCancel(command));
+    }
+
+    private CreateResult doCancel(CancelCommand command) {
         log.info("허브 배송 취소 - hubDeliveryId: {}", command.getHubDeliveryId());
 
         HubDelivery hubDelivery = findHubDelivery(command.getHubDeliveryId());
@@ -282,11 +750,8 @@ public class HubDeliveryCommandService {
         // 진행 중인 구간의 드라이버들에게 취소 통지
         notifyDriversCancel(hubDelivery);
 
-        // 실패 처리
-        hubDelivery.fail();
-
-        // 저장
-        hubDeliveryRepository.save(hubDelivery);
+        // 실패 처리 및 저장
+        failAndSave(hubDelivery);
 
         log.info("허브 배송 취소 완료 - hubDeliveryId: {}, orderId: {}",
                 hubDelivery.getIdValue(), hubDelivery.getOrderId());
@@ -294,8 +759,72 @@ public class HubDeliveryCommandService {
         return CreateResult.cancelled(hubDelivery.getIdValue(), hubDelivery.getOrderId());
     }
 
+    /**
+     * 방치된 허브 배송 일괄 실패 처리
+     *
+     * 스위퍼에서 배치 단위로 호출하며, 배치 전체가 하나의 트랜잭션으로 처리됩니다.
+     *
+     * @param hubDeliveryIds 대상 배송 ID 목록
+     * @return 실패 처리된 건수
+     */
+    public int failStale(List<String> hubDeliveryIds) {
+        int failed = 0;
+
+        for (HubDelivery hubDelivery : hubDeliveryRepository.findAllByIds(hubDeliveryIds)) {
+            // 조회 이후 출발했거나 종료된 배송 제외 (CREATED, WAITING_DRIVER만 대상)
+            if (!hubDelivery.getStatus().canAssignDriver()) {
+                continue;
+            }
+
+            failAndSave(hubDelivery);
+            failed++;
+
+            log.warn("방치된 허브 배송 실패 처리 - hubDeliveryId: {}, orderId: {}",
+                    hubDelivery.getIdValue(), hubDelivery.getOrderId());
+        }
+
+        return failed;
+    }
+
     // ==================== Private Helper Methods ====================
 
+    /**
+     * 배송 실패 처리 후 저장 (변경된 구간마다 내부 이벤트 발행)
+     */
+    private void failAndSave(HubDelivery hubDelivery) {
+        List<HubSegmentStatus> previousStatuses = hubDelivery.getSegments().stream()
+                .map(HubSegment::getStatus)
+                .toList();
+
+        hubDelivery.fail();
+        saveAndPublishState(hubDelivery);
+
+        for (int i = 0; i < previousStatuses.size(); i++) {
+            if (previousStatuses.get(i) != hubDelivery.getSegment(i).getStatus()) {
+                publishSegmentChanged(hubDelivery, i, previousStatuses.get(i));
+            }
+        }
+    }
+
+    /**
+     * 선배정 구간 출발 (드라이버 검색 생략)
+     */
+    private AssignDriverResult departReservedSegment(HubDelivery hubDelivery, int segmentIndex) {
+        String driverId = hubDelivery.getSegment(segmentIndex).getDriverId();
+
+        hubDelivery.departSegment(segmentIndex);
+
+        saveAndPublishState(hubDelivery);
+        publishSegmentChanged(hubDelivery, segmentIndex, HubSegmentStatus.ASSIGNED, true);
+
+        eventPublisher.publishSegmentDeparted(hubDelivery, hubDelivery.getSegment(segmentIndex));
+
+        log.info("선배정 드라이버로 구간 출발 완료 - hubDeliveryId: {}, segment: {}, driverId: {}",
+                hubDelivery.getIdValue(), segmentIndex, driverId);
+
+        return AssignDriverResult.success(hubDelivery.getIdValue(), segmentIndex, driverId, null);
+    }
+
     /**
      * HubDelivery 조회
      */
@@ -307,6 +836,65 @@ public class HubDeliveryCommandService {
                 ));
     }
 
+    /**
+     * 적재 목록의 배송 일괄 조회
+     *
+     * @return 허브 배송 ID → HubDelivery (없는 배송 제외)
+     */
+    private Map<String, HubDelivery> findHubDeliveries(List<ManifestSegment> segments) {
+        Set<String> ids = new HashSet<>();
+        for (ManifestSegment segment : segments) {
+            ids.add(segment.getHubDeliveryId());
+        }
+
+        Map<String, HubDelivery> hubDeliveries = new HashMap<>();
+        for (HubDelivery hubDelivery : hubDeliveryRepository.findAllByIds(ids)) {
+            hubDeliveries.put(hubDelivery.getIdValue(), hubDelivery);
+        }
+        return hubDeliveries;
+    }
+
+    private ManifestItemResult notFound(ManifestSegment item) {
+        return ManifestItemResult.failed(item.getHubDeliveryId(), item.getSegmentIndex(),
+                "허브 배송 정보를 찾을 수 없습니다: " + item.getHubDeliveryId());
+    }
+
+    /**
+     * 일괄 저장 후 배송별 상태 스냅샷 발행 (커밋 이후 전송)
+     */
+    private void saveAllAndPublishState(Collection<HubDelivery> hubDeliveries) {
+        for (HubDelivery savedHubDelivery : hubDeliveryRepository.saveAll(hubDeliveries)) {
+            eventPublisher.publishStateSnapshot(savedHubDelivery);
+        }
+    }
+
+    /**
+     * 저장 후 상태 스냅샷 발행 (커밋 이후 전송)
+     */
+    private HubDelivery saveAndPublishState(HubDelivery hubDelivery) {
+        HubDelivery savedHubDelivery = hubDeliveryRepository.save(hubDelivery);
+        eventPublisher.publishStateSnapshot(savedHubDelivery);
+        return savedHubDelivery;
+    }
+
+    /**
+     * 구간 상태 변경 내부 이벤트 발행
+     *
+     * 수신 측은 커밋 이후에 처리합니다. (HubSegmentChangedEvent 참고)
+     */
+    private void publishSegmentChanged(HubDelivery hubDelivery, int segmentIndex, HubSegmentStatus previousStatus) {
+        publishSegmentChanged(hubDelivery, segmentIndex, previousStatus, false);
+    }
+
+    /**
+     * 구간 출발 내부 이벤트 발행 (체류 시간은 수신 측 HubDwellStatistics가 선배정 여부와 함께 기록)
+     */
+    private void publishSegmentChanged(HubDelivery hubDelivery, int segmentIndex, HubSegmentStatus previousStatus,
+                                       boolean preAssigned) {
+        applicationEventPublisher.publishEvent(
+                HubSegmentChangedEvent.of(hubDelivery, segmentIndex, previousStatus, preAssigned));
+    }
+
     /**
      * 드라이버 완료 통지
      */
@@ -314,21 +902,73 @@ public class HubDeliveryCommandService {
         if (segment.getDriverId() == null) {
             return;
         }
+        notifyDriverComplete(segment.getDriverId(), segment.getActualDurationMin());
+    }
 
+    private void notifyDriverComplete(String driverId, Long durationMin) {
         try {
-            hubDriverClient.completeDelivery(
-                    segment.getDriverId(),
-                    DriverCompleteRequest.of(segment.getActualDurationMin())
-            );
-            log.info("드라이버 완료 통지 성공 - driverId: {}, duration: {}분",
-                    segment.getDriverId(), segment.getActualDurationMin());
+            hubDriverClient.completeDelivery(driverId, DriverCompleteRequest.of(durationMin));
+            log.info("드라이버 완료 통지 성공 - driverId: {}, duration: {}분", driverId, durationMin);
         } catch (Exception e) {
-            log.error("드라이버 완료 통지 실패 - driverId: {}, error: {}",
-                    segment.getDriverId(), e.getMessage(), e);
+            log.error("드라이버 완료 통지 실패 - driverId: {}, error: {}", driverId, e.getMessage(), e);
             // 통지 실패해도 배송 처리는 계속
         }
     }
 
+    /**
+     * 드라이버별 완료 통지 (커밋 이후, 트랜잭션이 없으면 바로)
+     *
+     * 원격 호출이 트랜잭션(DB 커넥션)을 붙잡지 않고, 롤백되면 통지하지 않습니다.
+     *
+     * @param driverDurations 드라이버 ID → 소요 시간 (분)
+     */
+    private void notifyDriversCompleteAfterCommit(Map<String, Long> driverDurations) {
+        if (driverDurations.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            driverDurations.forEach(this::notifyDriverComplete);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                driverDurations.forEach((driverId, durationMin) -> notifyDriverComplete(driverId, durationMin));
+            }
+        });
+    }
+
+    /**
+     * 롤백 시 확보한 드라이버 해제 통지 (트랜잭션이 없으면 무시)
+     *
+     * 같은 배송을 먼저 커밋한 트랜잭션이 있으면 커밋 시 낙관적 잠금 예외로 롤백되며,
+     * 이때 HubDriver Service에서 확보한 드라이버가 배정된 채로 남지 않도록 합니다.
+     */
+    private void releaseDriverOnRollback(String hubDeliveryId, int segmentIndex, String driverId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                log.warn("구간 드라이버 배정 롤백, 드라이버 해제 - hubDeliveryId: {}, segment: {}, driverId: {}",
+                        hubDeliveryId, segmentIndex, driverId);
+                try {
+                    hubDriverClient.cancelDelivery(driverId);
+                } catch (Exception e) {
+                    log.error("드라이버 해제 통지 실패 - driverId: {}, error: {}", driverId, e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    private static long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
     /**
      * 모든 진행 중인 드라이버에게 취소 통지
      */
@@ -347,36 +987,59 @@ public class HubDeliveryCommandService {
         }
     }
 
+    /**
+     * 구간 생성 후 HubDelivery 저장 (드라이버 미배정, 모든 구간 PENDING)
+     *
+     * @throws HubDeliveryException 필수 값 누락 또는 경로 정보가 올바르지 않은 경우
+     */
+    private HubDelivery createAndSave(CreateCommand command) {
+        List<HubSegment> segments = createSegments(
+                command.getRouteHubs(),
+                command.getRouteInfoJson()
+        );
+
+        HubDelivery hubDelivery = HubDelivery.create(
+                command.getOrderId(),
+                command.getOriginHubId(),
+                command.getDestinationHubId(),
+                segments,
+                command.getDepartureDeadline(),
+                command.getEstimatedArrivalTime(),
+                command.getCreatedBy()
+        );
+
+        HubDelivery savedHubDelivery = saveAndPublishState(hubDelivery);
+        for (int i = 0; i < savedHubDelivery.getTotalSegments(); i++) {
+            publishSegmentChanged(savedHubDelivery, i, null);
+        }
+        return savedHubDelivery;
+    }
+
     /**
      * 경로 정보로 HubSegment 리스트 생성
      *
      * @param routeHubs 경유 허브 ID 목록
-     * @param routeInfoJson 경로 상세 정보 JSON
+     * @param routeInfoJson 경로 상세 정보 JSON (구간 수가 routeHubs와 일치해야 함)
      * @return 생성된 HubSegment 목록 (모두 PENDING 상태)
+     * @throws HubDeliveryException 경로 정보 형식 오류 또는 구간 수 불일치 시
      */
     private List<HubSegment> createSegments(List<String> routeHubs, String routeInfoJson) {
-        List<HubSegment> segments = new ArrayList<>();
-        List<Map<String, Object>> routeInfoList = parseRouteInfo(routeInfoJson);
-
-        for (int i = 0; i < routeHubs.size() - 1; i++) {
-            String fromHubId = routeHubs.get(i);
-            String toHubId = routeHubs.get(i + 1);
-
-            Long estimatedDistanceM = null;
-            Long estimatedDurationMin = null;
+        if (routeHubs == null) {
+            routeHubs = List.of();
+        }
+        int legCount = Math.max(routeHubs.size() - 1, 0);
+        List<RouteLeg> legs = routeInfoParser.parse(routeInfoJson, legCount);
+        List<HubSegment> segments = new ArrayList<>(legCount);
 
-            if (routeInfoList != null && i < routeInfoList.size()) {
-                Map<String, Object> info = routeInfoList.get(i);
-                estimatedDistanceM = getLongValue(info, "distanceM");
-                estimatedDurationMin = getLongValue(info, "durationMin");
-            }
+        for (int i = 0; i < legCount; i++) {
+            RouteLeg leg = legs.isEmpty() ? RouteLeg.EMPTY : legs.get(i);
 
             HubSegment segment = HubSegment.create(
                     i,
-                    fromHubId,
-                    toHubId,
-                    estimatedDistanceM,
-                    estimatedDurationMin
+                    routeHubs.get(i),
+                    routeHubs.get(i + 1),
+                    leg.distanceMOrNull(),
+                    leg.durationMinOrNull()
             );
 
             segments.add(segment);
@@ -385,26 +1048,10 @@ public class HubDeliveryCommandService {
         return segments;
     }
 
-    private List<Map<String, Object>> parseRouteInfo(String routeInfoJson) {
-        if (routeInfoJson == null || routeInfoJson.isBlank()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(
-                    routeInfoJson,
-                    new TypeReference<List<Map<String, Object>>>() {}
-            );
-        } catch (JsonProcessingException e) {
-            log.warn("경로 정보 파싱 실패: {}", e.getMessage());
-            return null;
-        }
-    }
-
-    private Long getLongValue(Map<String, Object> map, String key) {
-        Object value = map.get(key);
-        if (value instanceof Number) {
-            return ((Number) value).longValue();
-        }
-        return null;
+    /**
+     * 적재 목록에서 적용된 구간 상태 변경 (저장 후 이벤트 발행용)
+     */
+    private record AppliedTransition(HubDelivery hubDelivery, int segmentIndex,
+                                     HubSegmentStatus previousStatus, boolean preAssigned) {
     }
-}
\ No newline at end of file
+}
@@ -61,6 +61,30 @@ public class HubDeliveryCommandDto {
         private String driverId;
     }
 
+    /**
+     * 적재 목록(매니페스트) 구간 일괄 출발/도착 Command
+     * 간선 트럭 한 대가 같은 레인(from → to)으로 싣고 가는 구간 목록
+     */
+    @Getter
+    @Builder
+    public static class ManifestCommand {
+        private List<ManifestSegment> segments;
+        private String driverId;
+
+        /** 적재 목록(Manifest) ID, 적재 목록 단위 처리 시 드라이버 통지는 호출 측에서 한 번만 전송 */
+        private String manifestId;
+    }
+
+    /**
+     * 적재 목록 항목 (허브 배송 ID + 구간 인덱스)
+     */
+    @Getter
+    @Builder
+    public static class ManifestSegment {
+        private String hubDeliveryId;
+        private Integer segmentIndex;
+    }
+
     /**
      * 배송 취소 Command
      */
@@ -71,6 +95,15 @@ public class HubDeliveryCommandDto {
         private String cancelledBy;
     }
 
+    /**
+     * 일괄 생성 항목별 처리 결과
+     */
+    public enum CreateOutcome {
+        CREATED,    // 새로 생성
+        DUPLICATE,  // 이미 생성된 주문 (기존 배송 ID 반환)
+        FAILED      // 검증 실패 (경로 정보 오류 등)
+    }
+
     /**
      * 생성 결과 Response
      */
@@ -81,6 +114,7 @@ public class HubDeliveryCommandDto {
         private String orderId;
         private String status;
         private String message;
+        private CreateOutcome outcome;
 
         public static CreateResult success(String hubDeliveryId, String orderId, String status) {
             return CreateResult.builder()
@@ -88,6 +122,24 @@ public class HubDeliveryCommandDto {
                     .orderId(orderId)
                     .status(status)
                     .message("허브 배송이 생성되었습니다.")
+                    .outcome(CreateOutcome.CREATED)
+                    .build();
+        }
+
+        public static CreateResult duplicate(String hubDeliveryId, String orderId) {
+            return CreateResult.builder()
+                    .hubDeliveryId(hubDeliveryId)
+                    .orderId(orderId)
+                    .message("해당 주문의 허브 배송이 이미 존재합니다.")
+                    .outcome(CreateOutcome.DUPLICATE)
+                    .build();
+        }
+
+        public static CreateResult failed(String orderId, String message) {
+            return CreateResult.builder()
+                    .orderId(orderId)
+                    .message(message)
+                    .outcome(CreateOutcome.FAILED)
                     .build();
         }
 
@@ -101,6 +153,37 @@ public class HubDeliveryCommandDto {
         }
     }
 
+    /**
+     * 적재 목록 항목별 처리 결과
+     */
+    @Getter
+    @Builder
+    public static class ManifestItemResult {
+        private String hubDeliveryId;
+        private Integer segmentIndex;
+        private String segmentStatus;
+        private boolean success;
+        private String message;
+
+        public static ManifestItemResult success(String hubDeliveryId, Integer segmentIndex, String segmentStatus) {
+            return ManifestItemResult.builder()
+                    .hubDeliveryId(hubDeliveryId)
+                    .segmentIndex(segmentIndex)
+                    .segmentStatus(segmentStatus)
+                    .success(true)
+                    .build();
+        }
+
+        public static ManifestItemResult failed(String hubDeliveryId, Integer segmentIndex, String reason) {
+            return ManifestItemResult.builder()
+                    .hubDeliveryId(hubDeliveryId)
+                    .segmentIndex(segmentIndex)
+                    .success(false)
+                    .message(reason)
+                    .build();
+        }
+    }
+
     /**
      * 구간 드라이버 배정 결과
      */
@@ -0,0 +1,120 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.route;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryErrorCode;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * routeInfoJson 스트리밍 파서
+ *
+ * 트리/Map 변환 없이 JsonParser 토큰을 직접 읽어 거리/소요 시간을 long 값으로 추출합니다.
+ * 알 수 없는 필드는 건너뛰며, 형식 오류나 구간 수 불일치는 예외로 처리합니다.
+ *
+ * 입력 예시:
+ * <pre>
+ * [{"distanceM": 150000, "durationMin": 120}, {"distanceM": 90000, "durationMin": 75}]
+ * </pre>
+ */
+@Component
+public class RouteInfoParser {
+
+    private static final String DISTANCE_FIELD = "distanceM";
+    private static final String DURATION_FIELD = "durationMin";
+
+    private final JsonFactory jsonFactory;
+
+    public RouteInfoParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 경로 정보 파싱
+     *
+     * @param routeInfoJson 경로 상세 정보 JSON (없으면 빈 목록 반환)
+     * @param expectedLegCount 기대 구간 수 (경유 허브 수 - 1)
+     * @return 구간 정보 목록
+     * @throws HubDeliveryException JSON 형식 오류 또는 구간 수 불일치 시
+     */
+    public List<RouteLeg> parse(String routeInfoJson, int expectedLegCount) {
+        if (routeInfoJson == null || routeInfoJson.isBlank()) {
+            return List.of();
+        }
+
+        List<RouteLeg> legs = new ArrayList<>(Math.max(expectedLegCount, 0));
+
+        try (JsonParser parser = jsonFactory.createParser(routeInfoJson)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw invalid("경로 정보는 JSON 배열이어야 합니다.");
+            }
+
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                legs.add(readLeg(parser));
+            }
+
+            if (token != JsonToken.END_ARRAY) {
+                throw invalid("경로 정보 배열의 원소는 JSON 객체여야 합니다.");
+            }
+            if (parser.nextToken() != null) {
+                throw invalid("경로 정보 배열 뒤에 불필요한 데이터가 있습니다.");
+            }
+        } catch (IOException e) {
+            throw new HubDeliveryException(
+                    HubDeliveryErrorCode.INVALID_ROUTING_DATA,
+                    "경로 정보 파싱 실패: " + e.getMessage(),
+                    e
+            );
+        }
+
+        if (legs.size() != expectedLegCount) {
+            throw invalid(String.format("경로 정보 구간 수가 경유 허브 구간 수와 일치하지 않습니다. legs: %d, expected: %d",
+                    legs.size(), expectedLegCount));
+        }
+
+        return legs;
+    }
+
+    private RouteLeg readLeg(JsonParser parser) throws IOException {
+        long distanceM = RouteLeg.NO_VALUE;
+        long durationMin = RouteLeg.NO_VALUE;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+
+            switch (fieldName) {
+                case DISTANCE_FIELD -> distanceM = readNonNegativeLong(parser, valueToken, fieldName);
+                case DURATION_FIELD -> durationMin = readNonNegativeLong(parser, valueToken, fieldName);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new RouteLeg(distanceM, durationMin);
+    }
+
+    private long readNonNegativeLong(JsonParser parser, JsonToken valueToken, String fieldName) throws IOException {
+        long value = switch (valueToken) {
+            case VALUE_NULL -> RouteLeg.NO_VALUE;
+            case VALUE_NUMBER_INT -> parser.getLongValue();
+            case VALUE_NUMBER_FLOAT -> (long) parser.getDoubleValue();
+            default -> throw invalid(fieldName + " 값은 숫자여야 합니다.");
+        };
+
+        if (value < 0 && valueToken != JsonToken.VALUE_NULL) {
+            throw invalid(fieldName + " 값은 음수일 수 없습니다: " + value);
+        }
+        return value;
+    }
+
+    private static HubDeliveryException invalid(String message) {
+        return new HubDeliveryException(HubDeliveryErrorCode.INVALID_ROUTING_DATA, message);
+    }
+}
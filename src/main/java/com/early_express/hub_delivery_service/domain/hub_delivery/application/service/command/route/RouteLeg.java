@@ -0,0 +1,33 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.route;
+
+/**
+ * 경로 구간(Leg) 정보
+ *
+ * routeInfoJson 배열의 원소 하나에 해당합니다.
+ * 값이 없는 항목은 박싱 없이 {@link #NO_VALUE}로 표현합니다.
+ *
+ * @param distanceM 예상 거리 (미터)
+ * @param durationMin 예상 소요 시간 (분)
+ */
+public record RouteLeg(long distanceM, long durationMin) {
+
+    /** 값 없음 (음수 값은 파싱 단계에서 거부되므로 충돌하지 않음) */
+    public static final long NO_VALUE = -1L;
+
+    /** 예상 정보가 없는 구간 */
+    public static final RouteLeg EMPTY = new RouteLeg(NO_VALUE, NO_VALUE);
+
+    /**
+     * 예상 거리 (값이 없으면 null)
+     */
+    public Long distanceMOrNull() {
+        return distanceM == NO_VALUE ? null : distanceM;
+    }
+
+    /**
+     * 예상 소요 시간 (값이 없으면 null)
+     */
+    public Long durationMinOrNull() {
+        return durationMin == NO_VALUE ? null : durationMin;
+    }
+}
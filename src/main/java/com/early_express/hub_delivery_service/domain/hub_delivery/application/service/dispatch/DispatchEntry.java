@@ -0,0 +1,44 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubLane;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 배정 대기열 항목 (출발 허브에서 드라이버를 기다리는 구간)
+ *
+ * @param deadline 구간 출발 마감 시각 (없으면 null, 마감 있는 항목 뒤로 정렬)
+ * @param readyAt 배정 가능해진 시각 (생성 또는 앞 구간 도착)
+ */
+public record DispatchEntry(
+        String hubDeliveryId,
+        String orderId,
+        int segmentIndex,
+        String fromHubId,
+        String toHubId,
+        LocalDateTime deadline,
+        LocalDateTime readyAt
+) {
+
+    /**
+     * 마감 시각이 이른 순 (EDF), 같으면 먼저 대기한 순
+     */
+    public static final Comparator<DispatchEntry> EARLIEST_DEADLINE_FIRST = Comparator
+            .comparing(DispatchEntry::deadline, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(DispatchEntry::readyAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(DispatchEntry::hubDeliveryId)
+            .thenComparingInt(DispatchEntry::segmentIndex);
+
+    public HubLane lane() {
+        return HubLane.of(fromHubId, toHubId);
+    }
+
+    public String key() {
+        return key(hubDeliveryId, segmentIndex);
+    }
+
+    static String key(String hubDeliveryId, int segmentIndex) {
+        return hubDeliveryId + ":" + segmentIndex;
+    }
+}
@@ -0,0 +1,311 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubSegmentChangedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryId;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubLane;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryCursor;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 허브별 배정 대기열 (마감 시각 우선)
+ *
+ * 배정 가능한 구간(대기 중이며 앞 구간 도착 완료)을 출발 허브별로 마감 시각 순 정렬하여 보관합니다.
+ * 같은 항목을 레인(출발 → 도착 허브)별로도 정렬해 두며, 레인마다 변경 버전을 올려
+ * 적재 편성이 바뀐 레인만 다시 계산할 수 있게 합니다.
+ * - 기동 시: 진행 중 배송을 키셋 배치로 조회하여 재구성
+ * - 운영 중: 구간 상태 변경 이벤트로 추가/제거 (도착/선배정 해제 시에만 해당 배송 1건 조회)
+ * - 주기 보정: 직전 보정 이후 변경된 배송을 DB에서 다시 읽어 반영
+ *
+ * 인스턴스별 인메모리 상태이며, 조회는 락 없이 정렬된 순서로 읽습니다.
+ * 구간 상태 변경 이벤트는 변경을 처리한 인스턴스에서만 발생하므로, 다른 인스턴스의 변경은
+ * 주기 보정으로 reconcile.interval(+ overlap) 안에 반영됩니다.
+ */
+@Slf4j
+@Component
+public class DispatchQueue {
+
+    private static final List<HubDeliveryStatus> ACTIVE_STATUSES = List.of(
+            HubDeliveryStatus.CREATED, HubDeliveryStatus.WAITING_DRIVER, HubDeliveryStatus.IN_PROGRESS);
+
+    private final Map<String, NavigableSet<DispatchEntry>> queues = new ConcurrentHashMap<>();
+    private final Map<HubLane, NavigableSet<DispatchEntry>> lanes = new ConcurrentHashMap<>();
+    private final Map<HubLane, AtomicLong> laneVersions = new ConcurrentHashMap<>();
+    private final Map<String, DispatchEntry> entries = new ConcurrentHashMap<>();
+    private final HubDeliveryRepository hubDeliveryRepository;
+    private final int rebuildBatchSize;
+    private final Duration reconcileOverlap;
+
+    // 마지막 재구성/보정 시작 시각 (다음 보정은 이 시각 - overlap 이후 변경분만 조회)
+    private volatile LocalDateTime reconciledAt;
+
+    public DispatchQueue(
+            HubDeliveryRepository hubDeliveryRepository,
+            HubDeliveryMetrics metrics,
+            @Value("${hub-delivery.dispatch.rebuild-batch-size:500}") int rebuildBatchSize,
+            @Value("${hub-delivery.dispatch.reconcile.overlap:PT1M}") Duration reconcileOverlap) {
+        this.hubDeliveryRepository = hubDeliveryRepository;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.reconcileOverlap = reconcileOverlap;
+
+        metrics.bindDispatchQueueSize(entries::size);
+    }
+
+    // ==================== 재구성 ====================
+
+    /**
+     * 기동 시 진행 중 배송의 배정 가능 구간으로 대기열 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+
+        int scanned = scan(ACTIVE_STATUSES, null);
+        reconciledAt = now;
+
+        log.info("배정 대기열 재구성 완료 - deliveries: {}, queued: {}, hubs: {}, elapsed: {}ms",
+                scanned, entries.size(), queues.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 직전 보정 이후 변경된 배송으로 대기열 보정 (다른 인스턴스에서 처리한 변경 반영)
+     *
+     * 종료 상태로 바뀐 배송도 읽어 항목을 제거하며, 커밋 지연/인스턴스 간 시각 차이는 overlap만큼 겹쳐 읽어 보완합니다.
+     */
+    @Scheduled(
+            initialDelayString = "${hub-delivery.dispatch.reconcile.interval:PT30S}",
+            fixedDelayString = "${hub-delivery.dispatch.reconcile.interval:PT30S}")
+    public void reconcile() {
+        LocalDateTime since = reconciledAt;
+        if (since == null) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int scanned = scan(List.of(HubDeliveryStatus.values()), since.minus(reconcileOverlap));
+            reconciledAt = now;
+            log.debug("배정 대기열 보정 - deliveries: {}, queued: {}", scanned, entries.size());
+        } catch (Exception e) {
+            log.warn("배정 대기열 보정 실패, 다음 주기에 같은 구간부터 재시도 - since: {}", since, e);
+        }
+    }
+
+    // ==================== 갱신 ====================
+
+    /**
+     * 구간 상태 변경 수신 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSegmentChanged(HubSegmentChangedEvent event) {
+        HubSegment segment = event.getSegment();
+
+        // 신규 생성된 첫 구간
+        if (event.getPreviousStatus() == null) {
+            if (segment.getSequence() == 0) {
+                offer(new DispatchEntry(event.getHubDeliveryId(), event.getOrderId(), 0,
+                        segment.getFromHubId(), segment.getToHubId(),
+                        event.getSegmentDeadline(), event.getOccurredAt()));
+            }
+            return;
+        }
+
+        if (!segment.isPending()) {
+            remove(event.getHubDeliveryId(), segment.getSequence());
+        }
+
+        // 앞 구간 도착으로 다음 구간이 배정 가능해졌거나, 선배정이 해제된 경우
+        if (event.isTransitionTo(HubSegmentStatus.ARRIVED) || event.isTransitionTo(HubSegmentStatus.PENDING)) {
+            hubDeliveryRepository.findById(HubDeliveryId.of(event.getHubDeliveryId()))
+                    .ifPresent(this::refresh);
+        }
+    }
+
+    /**
+     * 배송의 대기열 항목을 현재 상태로 맞춤
+     */
+    public void refresh(HubDelivery hubDelivery) {
+        for (int i = 0; i < hubDelivery.getTotalSegments(); i++) {
+            if (!hubDelivery.isSegmentDispatchable(i)) {
+                remove(hubDelivery.getIdValue(), i);
+                continue;
+            }
+
+            HubSegment segment = hubDelivery.getSegment(i);
+            LocalDateTime readyAt = i == 0
+                    ? hubDelivery.getCreatedAt()
+                    : hubDelivery.getSegment(i - 1).getArrivedAt();
+
+            offer(new DispatchEntry(hubDelivery.getIdValue(), hubDelivery.getOrderId(), i,
+                    segment.getFromHubId(), segment.getToHubId(),
+                    hubDelivery.getSegmentDeadline(i), readyAt));
+        }
+    }
+
+    /**
+     * 항목 추가 (같은 구간이 있으면 대체, 내용이 같으면 레인 버전을 올리지 않음)
+     */
+    public synchronized void offer(DispatchEntry entry) {
+        DispatchEntry previous = entries.put(entry.key(), entry);
+        if (entry.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            unindex(previous);
+        }
+        queueOf(entry.fromHubId()).add(entry);
+        laneOf(entry.lane()).add(entry);
+        touch(entry.lane());
+    }
+
+    public synchronized void remove(String hubDeliveryId, int segmentIndex) {
+        DispatchEntry removed = entries.remove(DispatchEntry.key(hubDeliveryId, segmentIndex));
+        if (removed != null) {
+            unindex(removed);
+        }
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 허브 대기열 상위 항목 (마감 시각 순)
+     */
+    public List<DispatchEntry> peek(String hubId, int limit) {
+        NavigableSet<DispatchEntry> queue = queues.get(hubId);
+        if (queue == null) {
+            return List.of();
+        }
+        return queue.stream().limit(limit).toList();
+    }
+
+    public int size(String hubId) {
+        NavigableSet<DispatchEntry> queue = queues.get(hubId);
+        return queue != null ? queue.size() : 0;
+    }
+
+    /**
+     * 대기 항목이 있는 허브 ID
+     */
+    public Set<String> getHubIds() {
+        return queues.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @param key 구간 키 (hubDeliveryId:segmentIndex)
+     */
+    public Optional<DispatchEntry> get(String key) {
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    /**
+     * 출발 허브의 대기 항목이 있는 레인
+     */
+    public Set<HubLane> getLanes(String hubId) {
+        return lanes.entrySet().stream()
+                .filter(entry -> entry.getKey().getFromHubId().equals(hubId) && !entry.getValue().isEmpty())
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 레인 대기 상위 항목 (마감 시각 순)
+     */
+    public List<DispatchEntry> peekLane(HubLane lane, int limit) {
+        NavigableSet<DispatchEntry> queue = lanes.get(lane);
+        if (queue == null) {
+            return List.of();
+        }
+        return queue.stream().limit(limit).toList();
+    }
+
+    /**
+     * 레인 변경 버전 (항목 추가/제거마다 증가, 항목을 읽기 전에 조회해야 변경을 놓치지 않음)
+     */
+    public long laneVersion(HubLane lane) {
+        AtomicLong version = laneVersions.get(lane);
+        return version != null ? version.get() : 0L;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 상태별 배송을 키셋 배치로 읽어 대기열에 반영
+     *
+     * @param updatedSince 이 시각 이후 변경된 배송만, null이면 전체
+     * @return 읽은 배송 수
+     */
+    private int scan(List<HubDeliveryStatus> statuses, LocalDateTime updatedSince) {
+        int scanned = 0;
+
+        for (HubDeliveryStatus status : statuses) {
+            HubDeliveryCursor cursor = null;
+            while (true) {
+                List<HubDeliveryCursor> cursors = hubDeliveryRepository.findCursorsUpdatedSince(
+                        status, updatedSince, cursor, rebuildBatchSize);
+                if (cursors.isEmpty()) {
+                    break;
+                }
+
+                hubDeliveryRepository.findAllByIds(cursors.stream().map(HubDeliveryCursor::id).toList())
+                        .forEach(this::refresh);
+                scanned += cursors.size();
+
+                if (cursors.size() < rebuildBatchSize) {
+                    break;
+                }
+                cursor = cursors.get(cursors.size() - 1);
+            }
+        }
+        return scanned;
+    }
+
+    private void unindex(DispatchEntry entry) {
+        queueOf(entry.fromHubId()).remove(entry);
+        laneOf(entry.lane()).remove(entry);
+        touch(entry.lane());
+    }
+
+    private void touch(HubLane lane) {
+        laneVersions.computeIfAbsent(lane, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    private NavigableSet<DispatchEntry> laneOf(HubLane lane) {
+        return lanes.computeIfAbsent(lane, key -> new ConcurrentSkipListSet<>(DispatchEntry.EARLIEST_DEADLINE_FIRST));
+    }
+
+    private NavigableSet<DispatchEntry> queueOf(String hubId) {
+        return queues.computeIfAbsent(hubId, key -> new ConcurrentSkipListSet<>(DispatchEntry.EARLIEST_DEADLINE_FIRST));
+    }
+}
@@ -0,0 +1,183 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.HubDeliveryCommandService;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.AssignDriverForSegmentCommand;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.AssignDriverResult;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch.dto.DispatchDto.DispatchQueueItemResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch.dto.DispatchDto.DispatchResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryId;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import com.early_express.hub_delivery_service.global.infrastructure.lease.ShardLeaseManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 마감 시각 순 드라이버 배정
+ *
+ * 허브 대기열을 마감 시각이 이른 구간부터 배정하며, 가용 드라이버가 없으면 해당 허브 배정을 멈춥니다.
+ * 드라이버가 부족할 때 뒤쪽(덜 급한) 구간이 먼저 드라이버를 가져가지 않도록 하기 위함입니다.
+ * 배정만 하고 출발은 하지 않으며(PENDING → ASSIGNED), 출발은 드라이버 앱 또는 적재 목록 출발로 처리합니다.
+ *
+ * 자동 배정(hub-delivery.dispatch.auto)을 켜면 주기적으로 모든 허브를 배정하며,
+ * 허브마다 리스를 획득한 인스턴스만 배정합니다.
+ */
+@Slf4j
+@Service
+public class DispatchService {
+
+    static final String REQUESTED_BY = "system-dispatcher";
+    static final String LEASE_KEY_PREFIX = "hub-dispatch:";
+    static final String OUTCOME_ASSIGNED = "assigned";
+    static final String OUTCOME_NO_DRIVER = "no_driver";
+    static final String OUTCOME_SKIPPED = "skipped";
+
+    private final DispatchQueue dispatchQueue;
+    private final HubDeliveryCommandService commandService;
+    private final HubDeliveryRepository hubDeliveryRepository;
+    private final ShardLeaseManager shardLeaseManager;
+    private final HubDeliveryMetrics metrics;
+    private final boolean autoEnabled;
+    private final int autoBatchSize;
+    private final Duration leaseTtl;
+
+    public DispatchService(
+            DispatchQueue dispatchQueue,
+            HubDeliveryCommandService commandService,
+            HubDeliveryRepository hubDeliveryRepository,
+            ShardLeaseManager shardLeaseManager,
+            HubDeliveryMetrics metrics,
+            @Value("${hub-delivery.dispatch.auto.enabled:false}") boolean autoEnabled,
+            @Value("${hub-delivery.dispatch.auto.batch-size:20}") int autoBatchSize,
+            @Value("${hub-delivery.dispatch.auto.lease-ttl:1m}") Duration leaseTtl) {
+        this.dispatchQueue = dispatchQueue;
+        this.commandService = commandService;
+        this.hubDeliveryRepository = hubDeliveryRepository;
+        this.shardLeaseManager = shardLeaseManager;
+        this.metrics = metrics;
+        this.autoEnabled = autoEnabled;
+        this.autoBatchSize = autoBatchSize;
+        this.leaseTtl = leaseTtl;
+    }
+
+    /**
+     * 허브 대기열 조회 (마감 시각 순)
+     */
+    public List<DispatchQueueItemResponse> findQueue(String hubId, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<DispatchEntry> entries = dispatchQueue.peek(hubId, limit);
+
+        List<DispatchQueueItemResponse> responses = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            responses.add(DispatchQueueItemResponse.from(i + 1, entries.get(i), now));
+        }
+        return responses;
+    }
+
+    /**
+     * 허브 대기열 순서대로 드라이버 배정
+     *
+     * @param hubId 출발 허브 ID
+     * @param limit 최대 배정 시도 수
+     */
+    public DispatchResponse dispatch(String hubId, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<AssignDriverResult> assigned = new ArrayList<>();
+        boolean driverExhausted = false;
+
+        for (DispatchEntry entry : dispatchQueue.peek(hubId, limit)) {
+            boolean late = entry.deadline() != null && entry.deadline().isBefore(now);
+
+            AssignDriverResult result;
+            try {
+                result = commandService.assignDriverOnlyForSegment(
+                        AssignDriverForSegmentCommand.builder()
+                                .hubDeliveryId(entry.hubDeliveryId())
+                                .segmentIndex(entry.segmentIndex())
+                                .requestedBy(REQUESTED_BY)
+                                .build());
+            } catch (OptimisticLockingFailureException e) {
+                // 조회 이후 다른 경로에서 같은 배송이 먼저 변경됨 (확보한 드라이버는 롤백 시 해제)
+                refreshIfStale(entry);
+                metrics.recordDispatch(OUTCOME_SKIPPED, late);
+                continue;
+            }
+
+            if (result.isSuccess()) {
+                assigned.add(result);
+                metrics.recordDispatch(OUTCOME_ASSIGNED, late);
+                continue;
+            }
+
+            // 다른 경로로 이미 배정/종료된 항목이면 대기열만 정리하고 계속
+            if (!refreshIfStale(entry)) {
+                metrics.recordDispatch(OUTCOME_SKIPPED, late);
+                continue;
+            }
+
+            // 가장 급한 구간도 배정하지 못했으면 뒤 구간도 시도하지 않음
+            metrics.recordDispatch(OUTCOME_NO_DRIVER, late);
+            driverExhausted = true;
+            break;
+        }
+
+        if (!assigned.isEmpty() || driverExhausted) {
+            log.info("허브 배정 완료 - hubId: {}, assigned: {}, driverExhausted: {}, remaining: {}",
+                    hubId, assigned.size(), driverExhausted, dispatchQueue.size(hubId));
+        }
+
+        return DispatchResponse.of(hubId, assigned, driverExhausted, dispatchQueue.size(hubId));
+    }
+
+    /**
+     * 자동 배정 (이전 실행 종료 후 interval 대기)
+     */
+    @Scheduled(fixedDelayString = "${hub-delivery.dispatch.auto.interval:PT10S}")
+    public void autoDispatch() {
+        if (!autoEnabled) {
+            return;
+        }
+
+        for (String hubId : dispatchQueue.getHubIds()) {
+            String leaseKey = LEASE_KEY_PREFIX + hubId;
+            if (!shardLeaseManager.tryAcquire(leaseKey, leaseTtl)) {
+                continue;
+            }
+
+            try {
+                dispatch(hubId, autoBatchSize);
+            } catch (Exception e) {
+                log.error("허브 자동 배정 실패 - hubId: {}, error: {}", hubId, e.getMessage(), e);
+            } finally {
+                shardLeaseManager.release(leaseKey);
+            }
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 배정 실패 항목 재확인
+     *
+     * @return 여전히 배정 대기 중이면 true
+     */
+    private boolean refreshIfStale(DispatchEntry entry) {
+        return hubDeliveryRepository.findById(HubDeliveryId.of(entry.hubDeliveryId()))
+                .map(hubDelivery -> {
+                    dispatchQueue.refresh(hubDelivery);
+                    return hubDelivery.isSegmentDispatchable(entry.segmentIndex());
+                })
+                .orElseGet(() -> {
+                    dispatchQueue.remove(entry.hubDeliveryId(), entry.segmentIndex());
+                    return false;
+                });
+    }
+}
@@ -0,0 +1,83 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch.dto;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.AssignDriverResult;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch.DispatchEntry;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 배정 대기열 DTO
+ */
+public class DispatchDto {
+
+    /**
+     * 대기열 항목 응답
+     */
+    @Getter
+    @Builder
+    public static class DispatchQueueItemResponse {
+        private Integer rank;
+        private String hubDeliveryId;
+        private String orderId;
+        private Integer segmentIndex;
+        private String fromHubId;
+        private String toHubId;
+        private LocalDateTime deadline;
+        private LocalDateTime readyAt;
+
+        /** 마감까지 남은 시간 (분, 음수면 초과) */
+        private Long slackMin;
+
+        private Boolean overdue;
+
+        public static DispatchQueueItemResponse from(int rank, DispatchEntry entry, LocalDateTime now) {
+            Long slackMin = entry.deadline() != null
+                    ? Duration.between(now, entry.deadline()).toMinutes()
+                    : null;
+
+            return DispatchQueueItemResponse.builder()
+                    .rank(rank)
+                    .hubDeliveryId(entry.hubDeliveryId())
+                    .orderId(entry.orderId())
+                    .segmentIndex(entry.segmentIndex())
+                    .fromHubId(entry.fromHubId())
+                    .toHubId(entry.toHubId())
+                    .deadline(entry.deadline())
+                    .readyAt(entry.readyAt())
+                    .slackMin(slackMin)
+                    .overdue(slackMin != null && entry.deadline().isBefore(now))
+                    .build();
+        }
+    }
+
+    /**
+     * 허브 배정 결과 응답
+     */
+    @Getter
+    @Builder
+    public static class DispatchResponse {
+        private String hubId;
+        private Integer assignedCount;
+        private List<AssignDriverResult> assigned;
+
+        /** 가용 드라이버가 없어 중단했는지 여부 */
+        private Boolean driverExhausted;
+
+        private Integer remaining;
+
+        public static DispatchResponse of(String hubId, List<AssignDriverResult> assigned,
+                                          boolean driverExhausted, int remaining) {
+            return DispatchResponse.builder()
+                    .hubId(hubId)
+                    .assignedCount(assigned.size())
+                    .assigned(assigned)
+                    .driverExhausted(driverExhausted)
+                    .remaining(remaining)
+                    .build();
+        }
+    }
+}
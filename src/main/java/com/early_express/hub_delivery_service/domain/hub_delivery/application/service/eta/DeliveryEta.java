@@ -0,0 +1,43 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.eta;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 허브 배송 ETA 계산 결과
+ */
+@Getter
+@Builder
+public class DeliveryEta {
+
+    /** 학습 모델 기준 남은 소요 시간 (분) */
+    private final Long remainingMin;
+
+    /** 학습 모델 기준 예상 도착 시각 */
+    private final LocalDateTime estimatedArrivalAt;
+
+    /** 경로 정보(routeInfoJson)의 정적 예상치 기준 남은 소요 시간 (분) */
+    private final Long staticRemainingMin;
+
+    /** 남은 구간 수 */
+    private final int remainingSegments;
+
+    /** 학습 모델 값을 사용한 구간 수 (나머지는 정적 예상치 사용) */
+    private final int learnedSegments;
+
+    /** 계산 시각 */
+    private final LocalDateTime calculatedAt;
+
+    public static DeliveryEta completed(LocalDateTime completedAt) {
+        return DeliveryEta.builder()
+                .remainingMin(0L)
+                .estimatedArrivalAt(completedAt)
+                .staticRemainingMin(0L)
+                .remainingSegments(0)
+                .learnedSegments(0)
+                .calculatedAt(LocalDateTime.now())
+                .build();
+    }
+}
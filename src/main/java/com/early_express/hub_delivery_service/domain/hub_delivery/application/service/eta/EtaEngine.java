@@ -0,0 +1,222 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.eta;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubSegmentChangedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubLane;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 학습형 ETA 엔진
+ *
+ * 레인별/출발 시간대별 실제 소요 시간의 지수이동평균으로 구간 소요 시간을 예측합니다.
+ * - 기동 시: 최근 도착 구간으로 모델 초기화 (warm-up)
+ * - 운영 중: 구간 도착 이벤트마다 증분 갱신
+ * - 조회 시: 남은 구간마다 O(1) 조회로 잔여 시간 계산
+ *
+ * 학습 표본이 부족한 레인은 경로 정보의 정적 예상치(estimatedDurationMin)를 사용합니다.
+ */
+@Slf4j
+@Component
+public class EtaEngine {
+
+    private final Map<HubLane, LaneDurationModel> models = new ConcurrentHashMap<>();
+    private final HubDeliveryRepository hubDeliveryRepository;
+    private final double alpha;
+    private final long minSamples;
+    private final int maxLanes;
+    private final int warmUpDays;
+    private final int warmUpLimit;
+
+    public EtaEngine(
+            HubDeliveryRepository hubDeliveryRepository,
+            @Value("${hub-delivery.eta.alpha:0.2}") double alpha,
+            @Value("${hub-delivery.eta.min-samples:5}") long minSamples,
+            @Value("${hub-delivery.eta.max-lanes:2000}") int maxLanes,
+            @Value("${hub-delivery.eta.warm-up-days:30}") int warmUpDays,
+            @Value("${hub-delivery.eta.warm-up-limit:50000}") int warmUpLimit) {
+        if (alpha <= 0 || alpha > 1) {
+            throw new IllegalArgumentException("hub-delivery.eta.alpha는 (0, 1] 범위여야 합니다: " + alpha);
+        }
+        this.hubDeliveryRepository = hubDeliveryRepository;
+        this.alpha = alpha;
+        this.minSamples = minSamples;
+        this.maxLanes = maxLanes;
+        this.warmUpDays = warmUpDays;
+        this.warmUpLimit = warmUpLimit;
+    }
+
+    // ==================== 학습 ====================
+
+    /**
+     * 기동 시 최근 도착 구간으로 모델 초기화
+     *
+     * 초기화에 실패해도 기동은 계속합니다. 학습 표본이 없는 레인은 정적 예상치로 계산되고,
+     * 이후 도착 이벤트로 모델이 채워집니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            List<HubSegment> arrivedSegments = hubDeliveryRepository.findArrivedSegmentsSince(
+                    LocalDateTime.now().minusDays(warmUpDays), warmUpLimit);
+
+            arrivedSegments.forEach(this::learn);
+
+            log.info("ETA 모델 초기화 완료 - segments: {}, lanes: {}, elapsed: {}ms",
+                    arrivedSegments.size(), models.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("ETA 모델 초기화 실패, 정적 예상치로 계산 - lanes: {}, elapsed: {}ms, error: {}",
+                    models.size(), System.currentTimeMillis() - startedAt, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 구간 도착 시 증분 갱신 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSegmentChanged(HubSegmentChangedEvent event) {
+        if (event.isTransitionTo(HubSegmentStatus.ARRIVED)) {
+            learn(event.getSegment());
+        }
+    }
+
+    /**
+     * 도착 구간의 실제 소요 시간 반영
+     *
+     * 출발 시각 또는 실제 소요 시간이 없는 구간은 무시합니다.
+     */
+    public void learn(HubSegment segment) {
+        if (segment.getDepartedAt() == null || segment.getActualDurationMin() == null) {
+            return;
+        }
+
+        LaneDurationModel model = modelFor(HubLane.of(segment));
+        if (model != null) {
+            model.update(segment.getDepartedAt().getHour(), segment.getActualDurationMin());
+        }
+    }
+
+    // ==================== 예측 ====================
+
+    /**
+     * 허브 배송 잔여 시간 계산 (현재 시각 기준)
+     */
+    public DeliveryEta estimate(HubDelivery hubDelivery) {
+        return estimate(hubDelivery, LocalDateTime.now());
+    }
+
+    /**
+     * 허브 배송 잔여 시간 계산
+     *
+     * 이동 중 구간은 출발 후 경과 시간을 차감하고,
+     * 미출발 구간은 앞 구간의 예상 도착 시각을 출발 시간대로 사용합니다.
+     *
+     * @return 실패한 배송이면 null
+     */
+    public DeliveryEta estimate(HubDelivery hubDelivery, LocalDateTime now) {
+        if (hubDelivery.isCompleted()) {
+            return DeliveryEta.completed(hubDelivery.getCompletedAt());
+        }
+        if (hubDelivery.isFailed()) {
+            return null;
+        }
+
+        LocalDateTime cursor = now;
+        long remaining = 0;
+        long staticRemaining = 0;
+        boolean remainingKnown = true;
+        boolean staticKnown = true;
+        int remainingSegments = 0;
+        int learnedSegments = 0;
+
+        for (HubSegment segment : hubDelivery.getSegments()) {
+            if (segment.getStatus().isTerminal()) {
+                continue;
+            }
+            remainingSegments++;
+
+            boolean inTransit = segment.isInTransit() && segment.getDepartedAt() != null;
+            LocalDateTime departure = inTransit ? segment.getDepartedAt() : cursor;
+            long elapsed = inTransit ? Math.max(Duration.between(departure, now).toMinutes(), 0) : 0;
+
+            Double learned = predict(HubLane.of(segment), departure.getHour());
+            Long staticEstimate = segment.getEstimatedDurationMin();
+
+            if (learned != null) {
+                learnedSegments++;
+            }
+
+            Long legRemaining = remainingAfter(learned != null ? Math.round(learned) : staticEstimate, elapsed);
+            Long staticLegRemaining = remainingAfter(staticEstimate, elapsed);
+
+            if (legRemaining == null) {
+                remainingKnown = false;
+            } else {
+                remaining += legRemaining;
+                cursor = cursor.plusMinutes(legRemaining);
+            }
+
+            if (staticLegRemaining == null) {
+                staticKnown = false;
+            } else {
+                staticRemaining += staticLegRemaining;
+            }
+        }
+
+        return DeliveryEta.builder()
+                .remainingMin(remainingKnown ? remaining : null)
+                .estimatedArrivalAt(remainingKnown ? now.plusMinutes(remaining) : null)
+                .staticRemainingMin(staticKnown ? staticRemaining : null)
+                .remainingSegments(remainingSegments)
+                .learnedSegments(learnedSegments)
+                .calculatedAt(now)
+                .build();
+    }
+
+    /**
+     * 레인/시간대 예상 소요 시간 (분)
+     *
+     * @return 학습 표본이 부족하면 null
+     */
+    public Double predict(HubLane lane, int hour) {
+        LaneDurationModel model = models.get(lane);
+        return model != null ? model.predict(hour, minSamples) : null;
+    }
+
+    public int getLaneCount() {
+        return models.size();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private LaneDurationModel modelFor(HubLane lane) {
+        LaneDurationModel model = models.get(lane);
+        if (model != null) {
+            return model;
+        }
+        if (models.size() >= maxLanes) {
+            log.debug("ETA 레인 수 상한 초과로 학습 제외 - lane: {}, maxLanes: {}", lane, maxLanes);
+            return null;
+        }
+        return models.computeIfAbsent(lane, key -> new LaneDurationModel(key, alpha));
+    }
+
+    private static Long remainingAfter(Long durationMin, long elapsedMin) {
+        return durationMin == null ? null : Math.max(durationMin - elapsedMin, 0);
+    }
+}
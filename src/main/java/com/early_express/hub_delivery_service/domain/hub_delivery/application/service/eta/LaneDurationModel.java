@@ -0,0 +1,65 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.eta;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubLane;
+import lombok.Getter;
+
+/**
+ * 레인별 소요 시간 학습 모델
+ *
+ * 시간대(0~23시, 출발 시각 기준)별 지수이동평균(EWMA)과 레인 전체 EWMA를 고정 크기 배열로 유지합니다.
+ * 갱신/조회 모두 O(1)이며, 시간대 표본이 부족하면 레인 전체 값으로 대체합니다.
+ */
+public class LaneDurationModel {
+
+    private static final int HOURS = 24;
+    private static final int ALL_HOURS = HOURS;
+
+    @Getter
+    private final HubLane lane;
+
+    private final double alpha;
+    private final double[] means = new double[HOURS + 1];
+    private final long[] samples = new long[HOURS + 1];
+
+    LaneDurationModel(HubLane lane, double alpha) {
+        this.lane = lane;
+        this.alpha = alpha;
+    }
+
+    /**
+     * 실제 소요 시간 반영
+     *
+     * @param departedHour 출발 시각의 시(0~23)
+     */
+    synchronized void update(int departedHour, long actualDurationMin) {
+        apply(departedHour, actualDurationMin);
+        apply(ALL_HOURS, actualDurationMin);
+    }
+
+    /**
+     * 예상 소요 시간 (분)
+     *
+     * @param hour 출발(예정) 시각의 시(0~23)
+     * @param minSamples 시간대 값을 사용할 최소 표본 수
+     * @return 학습 표본이 부족하면 null
+     */
+    synchronized Double predict(int hour, long minSamples) {
+        if (samples[hour] >= minSamples) {
+            return means[hour];
+        }
+        if (samples[ALL_HOURS] >= minSamples) {
+            return means[ALL_HOURS];
+        }
+        return null;
+    }
+
+    synchronized long getSampleCount() {
+        return samples[ALL_HOURS];
+    }
+
+    private void apply(int index, long value) {
+        // 첫 표본은 그대로 사용하고 이후 EWMA 적용
+        means[index] = samples[index] == 0 ? value : means[index] + alpha * (value - means[index]);
+        samples[index]++;
+    }
+}
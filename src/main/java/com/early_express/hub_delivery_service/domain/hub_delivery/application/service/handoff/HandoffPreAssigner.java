@@ -0,0 +1,325 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.handoff;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubSegmentChangedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.HubDeliveryCommandService;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryId;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentSnapshot;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver.HubDriverClient;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver.dto.DriverAssignRequest;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver.dto.DriverAssignResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import com.early_express.hub_delivery_service.global.common.timer.HierarchicalTimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 다음 구간 드라이버 선배정 (허브 환승 파이프라이닝)
+ *
+ * 앞 구간이 출발(또는 도착)하면 다음 구간 드라이버를 비동기로 미리 확보해 두어,
+ * Track Service의 드라이버 배정 요청 시 드라이버 검색 없이 바로 출발하도록 합니다.
+ *
+ * - 선배정은 만료 시각이 있는 ASSIGNED 상태로 저장되며, 만료 시 PENDING으로 되돌리고 드라이버를 해제합니다.
+ * - Track의 구간 배정과 같은 배송을 동시에 변경하면 배송 버전(@Version)으로 한 쪽만 커밋되고,
+ *   진 쪽이 확보한 드라이버는 해제합니다.
+ * - 만료는 타이밍 휠로 감시하며, 기동 시 저장된 선배정을 다시 등록합니다.
+ * - 효과는 hub_delivery.hub.dwell 타이머의 pre_assigned 태그로 비교합니다.
+ */
+@Slf4j
+@Component
+public class HandoffPreAssigner {
+
+    static final String OUTCOME_RESERVED = "reserved";
+    static final String OUTCOME_NO_DRIVER = "no_driver";
+    static final String OUTCOME_CONFLICT = "conflict";
+    static final String OUTCOME_REJECTED = "rejected";
+    static final String OUTCOME_ERROR = "error";
+    static final String OUTCOME_EXPIRED = "expired";
+
+    private final HubDeliveryRepository hubDeliveryRepository;
+    private final HubDeliveryCommandService commandService;
+    private final HubDriverClient hubDriverClient;
+    private final HubDeliveryMetrics metrics;
+    private final boolean enabled;
+    private final HandoffTrigger trigger;
+    private final Duration reservationTtl;
+    private final Duration tick;
+    private final int loadBatchSize;
+    private final HierarchicalTimingWheel<String, Reservation> wheel;
+    private final ThreadPoolExecutor executor;
+
+    private ScheduledExecutorService ticker;
+
+    public HandoffPreAssigner(
+            HubDeliveryRepository hubDeliveryRepository,
+            HubDeliveryCommandService commandService,
+            HubDriverClient hubDriverClient,
+            HubDeliveryMetrics metrics,
+            @Value("${hub-delivery.handoff.pre-assign.enabled:false}") boolean enabled,
+            @Value("${hub-delivery.handoff.pre-assign.trigger:DEPARTURE}") HandoffTrigger trigger,
+            @Value("${hub-delivery.handoff.pre-assign.reservation-ttl:15m}") Duration reservationTtl,
+            @Value("${hub-delivery.handoff.pre-assign.concurrency:4}") int concurrency,
+            @Value("${hub-delivery.handoff.pre-assign.queue-capacity:1000}") int queueCapacity,
+            @Value("${hub-delivery.handoff.pre-assign.tick:1s}") Duration tick,
+            @Value("${hub-delivery.handoff.pre-assign.load-batch-size:500}") int loadBatchSize) {
+        this.hubDeliveryRepository = hubDeliveryRepository;
+        this.commandService = commandService;
+        this.hubDriverClient = hubDriverClient;
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.trigger = trigger;
+        this.reservationTtl = reservationTtl;
+        this.tick = tick;
+        this.loadBatchSize = loadBatchSize;
+        this.wheel = new HierarchicalTimingWheel<>(tick.toMillis(), 60, System.currentTimeMillis());
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "handoff-pre-assign-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        metrics.bindActiveHandoffReservations(wheel::size);
+    }
+
+    // ==================== 수명 주기 ====================
+
+    /**
+     * 기동 시 저장된 선배정 만료 감시 등록 후 타이머 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("다음 구간 선배정 비활성화");
+            return;
+        }
+
+        loadReservations();
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "handoff-reservation-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::advance, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+
+        log.info("다음 구간 선배정 시작 - trigger: {}, reservationTtl: {}, reserved: {}",
+                trigger, reservationTtl, wheel.size());
+    }
+
+    /**
+     * 배정 구간을 배치 단위로 조회하여 선배정 구간만 만료 감시 등록
+     */
+    private void loadReservations() {
+        HubSegmentSnapshot after = null;
+        while (true) {
+            List<HubSegmentSnapshot> batch = hubDeliveryRepository.findSegmentsByStatus(
+                    HubSegmentStatus.ASSIGNED, after, loadBatchSize);
+            batch.stream()
+                    .filter(snapshot -> snapshot.getSegment().isReserved())
+                    .forEach(snapshot -> watch(snapshot.getHubDeliveryId(), snapshot.getSegment()));
+
+            if (batch.size() < loadBatchSize) {
+                return;
+            }
+            after = batch.get(batch.size() - 1);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    // ==================== 선배정 ====================
+
+    /**
+     * 구간 상태 변경 수신 (커밋 이후)
+     *
+     * 트리거 상태로 바뀐 구간의 다음 구간을 선배정하고,
+     * 선배정 구간이 출발/해제/실패하면 만료 감시를 취소합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSegmentChanged(HubSegmentChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        HubSegment segment = event.getSegment();
+        if (event.getPreviousStatus() == HubSegmentStatus.ASSIGNED && !segment.isAssigned()) {
+            wheel.cancel(key(event.getHubDeliveryId(), segment.getSequence()));
+        }
+
+        if (event.isTransitionTo(trigger.getSegmentStatus())) {
+            submit(event.getHubDeliveryId(), segment);
+        }
+    }
+
+    private void submit(String hubDeliveryId, HubSegment previousSegment) {
+        try {
+            executor.execute(() -> preAssign(hubDeliveryId, previousSegment));
+        } catch (RejectedExecutionException e) {
+            metrics.recordHandoffReservation(OUTCOME_REJECTED);
+            log.warn("선배정 요청 대기열 초과 - hubDeliveryId: {}, segment: {}",
+                    hubDeliveryId, previousSegment.getSequence() + 1);
+        }
+    }
+
+    /**
+     * 다음 구간 드라이버 확보 후 선배정 (비동기 스레드)
+     */
+    void preAssign(String hubDeliveryId, HubSegment previousSegment) {
+        int segmentIndex = previousSegment.getSequence() + 1;
+
+        try {
+            HubDelivery hubDelivery = hubDeliveryRepository.findById(HubDeliveryId.of(hubDeliveryId)).orElse(null);
+            if (hubDelivery == null || segmentIndex >= hubDelivery.getTotalSegments()
+                    || hubDelivery.getStatus().isTerminal()
+                    || !hubDelivery.getSegment(segmentIndex).isPending()) {
+                return;
+            }
+
+            DriverAssignResponse response = hubDriverClient.assignDriver(DriverAssignRequest.of(hubDeliveryId));
+            if (!response.isSuccess()) {
+                metrics.recordHandoffReservation(OUTCOME_NO_DRIVER);
+                log.info("선배정 가용 드라이버 없음 - hubDeliveryId: {}, segment: {}", hubDeliveryId, segmentIndex);
+                return;
+            }
+
+            LocalDateTime reservedUntil = reservedUntil(previousSegment);
+            boolean reserved;
+            try {
+                reserved = commandService.reserveDriverForSegment(
+                        hubDeliveryId, segmentIndex, response.getDriverId(), reservedUntil);
+            } catch (OptimisticLockingFailureException e) {
+                // 조회 이후 Track 요청 등으로 같은 배송이 먼저 변경된 경우 (커밋 시 버전 충돌)
+                reserved = false;
+            } catch (Exception e) {
+                releaseDriver(response.getDriverId());
+                throw e;
+            }
+
+            // 그 사이 Track 요청으로 배정되었거나 배송이 종료된 경우
+            if (!reserved) {
+                metrics.recordHandoffReservation(OUTCOME_CONFLICT);
+                releaseDriver(response.getDriverId());
+                return;
+            }
+
+            wheel.schedule(key(hubDeliveryId, segmentIndex),
+                    new Reservation(hubDeliveryId, segmentIndex, response.getDriverId()),
+                    toEpochMillis(reservedUntil));
+            metrics.recordHandoffReservation(OUTCOME_RESERVED);
+        } catch (Exception e) {
+            metrics.recordHandoffReservation(OUTCOME_ERROR);
+            log.error("다음 구간 선배정 실패 - hubDeliveryId: {}, segment: {}, error: {}",
+                    hubDeliveryId, segmentIndex, e.getMessage(), e);
+        }
+    }
+
+    // ==================== 만료 처리 ====================
+
+    /**
+     * 타이머 틱 (전용 스레드)
+     */
+    void advance() {
+        try {
+            for (Reservation reservation : wheel.advanceClock(System.currentTimeMillis())) {
+                expire(reservation);
+            }
+        } catch (Exception e) {
+            log.error("선배정 만료 틱 처리 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    void expire(Reservation reservation) {
+        try {
+            if (commandService.releaseSegmentReservation(
+                    reservation.hubDeliveryId(), reservation.segmentIndex(), reservation.driverId())) {
+                releaseDriver(reservation.driverId());
+                metrics.recordHandoffReservation(OUTCOME_EXPIRED);
+
+                log.info("구간 선배정 만료 - hubDeliveryId: {}, segment: {}, driverId: {}",
+                        reservation.hubDeliveryId(), reservation.segmentIndex(), reservation.driverId());
+            }
+        } catch (Exception e) {
+            log.error("구간 선배정 만료 처리 실패 - hubDeliveryId: {}, segment: {}, error: {}",
+                    reservation.hubDeliveryId(), reservation.segmentIndex(), e.getMessage(), e);
+        }
+    }
+
+    public int getReservedCount() {
+        return wheel.size();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void watch(String hubDeliveryId, HubSegment segment) {
+        wheel.schedule(key(hubDeliveryId, segment.getSequence()),
+                new Reservation(hubDeliveryId, segment.getSequence(), segment.getDriverId()),
+                toEpochMillis(segment.getReservedUntil()));
+    }
+
+    /**
+     * 선배정 만료 시각
+     *
+     * 출발 트리거는 앞 구간 이동 시간 동안 유지되어야 하므로 예상 소요 시간을 더합니다.
+     */
+    private LocalDateTime reservedUntil(HubSegment previousSegment) {
+        LocalDateTime until = LocalDateTime.now().plus(reservationTtl);
+        if (trigger == HandoffTrigger.DEPARTURE && previousSegment.getEstimatedDurationMin() != null) {
+            until = until.plusMinutes(previousSegment.getEstimatedDurationMin());
+        }
+        return until;
+    }
+
+    private void releaseDriver(String driverId) {
+        try {
+            hubDriverClient.cancelDelivery(driverId);
+        } catch (Exception e) {
+            log.error("선배정 드라이버 해제 통지 실패 - driverId: {}, error: {}", driverId, e.getMessage(), e);
+        }
+    }
+
+    private static String key(String hubDeliveryId, int segmentIndex) {
+        return hubDeliveryId + ":" + segmentIndex;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 만료 감시 대상 선배정
+     */
+    record Reservation(String hubDeliveryId, int segmentIndex, String driverId) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.handoff;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 다음 구간 선배정 시점
+ */
+@Getter
+@RequiredArgsConstructor
+public enum HandoffTrigger {
+
+    DEPARTURE(HubSegmentStatus.IN_TRANSIT),   // 앞 구간 출발 시 (이동 시간 동안 드라이버 확보)
+    ARRIVAL(HubSegmentStatus.ARRIVED);        // 앞 구간 도착 시
+
+    private final HubSegmentStatus segmentStatus;
+}
@@ -0,0 +1,49 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.hubload;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 허브별 대기/유입 구간 카운터
+ *
+ * 이벤트 누락 등으로 음수가 되면 조회 시 0으로 보정합니다. (다음 재집계에서 정정)
+ */
+public class HubLoad {
+
+    @Getter
+    private final String hubId;
+    private final AtomicLong pendingSegments = new AtomicLong();
+    private final AtomicLong inboundSegments = new AtomicLong();
+
+    HubLoad(String hubId) {
+        this.hubId = hubId;
+    }
+
+    /**
+     * 출발 허브에서 드라이버 배정을 기다리는 구간 수 (PENDING)
+     */
+    public long getPendingSegments() {
+        return Math.max(pendingSegments.get(), 0);
+    }
+
+    /**
+     * 이 허브로 이동 중인 구간 수 (IN_TRANSIT)
+     */
+    public long getInboundSegments() {
+        return Math.max(inboundSegments.get(), 0);
+    }
+
+    void addPending(long delta) {
+        pendingSegments.addAndGet(delta);
+    }
+
+    void addInbound(long delta) {
+        inboundSegments.addAndGet(delta);
+    }
+
+    void reset(long pending, long inbound) {
+        pendingSegments.set(pending);
+        inboundSegments.set(inbound);
+    }
+}
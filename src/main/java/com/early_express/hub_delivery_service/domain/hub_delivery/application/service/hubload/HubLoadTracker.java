@@ -0,0 +1,158 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.hubload;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubSegmentChangedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.hubload.dto.HubLoadDto.HubLoadResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 허브별 부하 집계기
+ *
+ * 허브마다 대기 구간 수(출발 허브 기준 PENDING)와 유입 구간 수(도착 허브 기준 IN_TRANSIT)를 유지합니다.
+ * - 기동 시: 허브별 GROUP BY 집계 1회로 초기화
+ * - 운영 중: 구간 상태 변경 이벤트마다 이전 상태 -1, 현재 상태 +1 (DB 조회 없음)
+ * - 주기 재집계: 다른 인스턴스에서 처리된 전이는 이벤트로 들어오지 않으므로 GROUP BY로 정정
+ */
+@Slf4j
+@Component
+public class HubLoadTracker {
+
+    private final Map<String, HubLoad> loads = new ConcurrentHashMap<>();
+    private final HubDeliveryRepository hubDeliveryRepository;
+    private final HubDeliveryMetrics metrics;
+    private final boolean reconcileEnabled;
+
+    @Getter
+    private volatile LocalDateTime reconciledAt;
+
+    public HubLoadTracker(
+            HubDeliveryRepository hubDeliveryRepository,
+            HubDeliveryMetrics metrics,
+            @Value("${hub-delivery.hub-load.reconcile.enabled:true}") boolean reconcileEnabled) {
+        this.hubDeliveryRepository = hubDeliveryRepository;
+        this.metrics = metrics;
+        this.reconcileEnabled = reconcileEnabled;
+    }
+
+    // ==================== 집계 ====================
+
+    /**
+     * 기동 시 허브별 구간 수 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+    /**
+     * 주기 재집계 (이전 실행 종료 후 interval 대기)
+     */
+    @Scheduled(fixedDelayString = "${hub-delivery.hub-load.reconcile.interval:PT10M}",
+            initialDelayString = "${hub-delivery.hub-load.reconcile.interval:PT10M}")
+    public void reconcile() {
+        if (reconcileEnabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 허브별 GROUP BY 결과로 카운터 재설정
+     *
+     * 집계 쿼리와 동시에 처리된 이벤트는 중복/누락될 수 있으며 다음 재집계에서 정정됩니다.
+     */
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+
+        Map<String, Long> pending = hubDeliveryRepository.countSegmentsByFromHub(HubSegmentStatus.PENDING);
+        Map<String, Long> inbound = hubDeliveryRepository.countSegmentsByToHub(HubSegmentStatus.IN_TRANSIT);
+
+        Set<String> hubIds = new HashSet<>(loads.keySet());
+        hubIds.addAll(pending.keySet());
+        hubIds.addAll(inbound.keySet());
+
+        for (String hubId : hubIds) {
+            loadOf(hubId).reset(pending.getOrDefault(hubId, 0L), inbound.getOrDefault(hubId, 0L));
+        }
+        reconciledAt = LocalDateTime.now();
+
+        log.info("허브 부하 집계 완료 - hubs: {}, elapsed: {}ms",
+                loads.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 구간 상태 변경 반영 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSegmentChanged(HubSegmentChangedEvent event) {
+        HubSegmentStatus previousStatus = event.getPreviousStatus();
+        HubSegmentStatus currentStatus = event.getCurrentStatus();
+        if (previousStatus == currentStatus) {
+            return;
+        }
+
+        HubSegment segment = event.getSegment();
+        apply(segment, previousStatus, -1);
+        apply(segment, currentStatus, 1);
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 허브 부하 조회 (집계된 적 없는 허브는 0)
+     */
+    public HubLoad getLoad(String hubId) {
+        HubLoad load = loads.get(hubId);
+        return load != null ? load : new HubLoad(hubId);
+    }
+
+    public HubLoadResponse findLoad(String hubId) {
+        return HubLoadResponse.from(getLoad(hubId), reconciledAt);
+    }
+
+    public Collection<HubLoad> getLoads() {
+        return loads.values();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void apply(HubSegment segment, HubSegmentStatus status, long delta) {
+        if (status == HubSegmentStatus.PENDING) {
+            loadOf(segment.getFromHubId()).addPending(delta);
+        } else if (status == HubSegmentStatus.IN_TRANSIT) {
+            loadOf(segment.getToHubId()).addInbound(delta);
+        }
+    }
+
+    /**
+     * 허브 카운터 조회 (처음 보는 허브면 생성 후 게이지 등록)
+     */
+    private HubLoad loadOf(String hubId) {
+        HubLoad load = loads.get(hubId);
+        if (load != null) {
+            return load;
+        }
+        return loads.computeIfAbsent(hubId, key -> {
+            HubLoad created = new HubLoad(key);
+            metrics.bindHubLoad(key, created::getPendingSegments, created::getInboundSegments);
+            return created;
+        });
+    }
+}
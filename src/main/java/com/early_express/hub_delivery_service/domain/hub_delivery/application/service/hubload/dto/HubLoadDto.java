@@ -0,0 +1,40 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.hubload.dto;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.hubload.HubLoad;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 허브 부하 DTO
+ */
+public class HubLoadDto {
+
+    /**
+     * 허브 부하 응답
+     */
+    @Getter
+    @Builder
+    public static class HubLoadResponse {
+        private String hubId;
+
+        /** 출발 허브 기준 드라이버 배정 대기 구간 수 */
+        private Long pendingSegments;
+
+        /** 도착 허브 기준 이동 중 구간 수 */
+        private Long inboundSegments;
+
+        /** 마지막 DB 재집계 시각 */
+        private LocalDateTime reconciledAt;
+
+        public static HubLoadResponse from(HubLoad load, LocalDateTime reconciledAt) {
+            return HubLoadResponse.builder()
+                    .hubId(load.getHubId())
+                    .pendingSegments(load.getPendingSegments())
+                    .inboundSegments(load.getInboundSegments())
+                    .reconciledAt(reconciledAt)
+                    .build();
+        }
+    }
+}
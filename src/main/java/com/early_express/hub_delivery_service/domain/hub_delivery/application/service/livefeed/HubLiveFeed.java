@@ -0,0 +1,281 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.livefeed;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubSegmentChangedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.livefeed.LiveFeedSubscriber.Drained;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.livefeed.LiveFeedSubscriber.Offer;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.livefeed.dto.LiveFeedDto.Connected;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.livefeed.dto.LiveFeedDto.DeliveryChange;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.livefeed.dto.LiveFeedDto.Resync;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryErrorCode;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 허브 실시간 배송 피드
+ *
+ * 대시보드가 목록 API를 주기적으로 다시 조회하는 대신, 허브 관리자에게 담당 허브의
+ * 배송/구간 변경을 스트림으로 보냅니다. 구간 상태 변경 이벤트(커밋 이후)만 사용하며 DB를 조회하지 않습니다.
+ *
+ * - 허브별 구독: 구간의 출발 허브(OUTBOUND)와 도착 허브(INBOUND) 구독자에게 전달
+ * - 구독자별 버퍼: coalesce-interval마다 전송하며, 그 사이 같은 배송의 변경은 하나로 합침
+ * - 버퍼 상한: 보관 배송 수가 buffer-size를 넘으면 변경을 버리고 resync 이벤트로 재조회 요청
+ * - 하트비트: heartbeat-interval 동안 보낸 이벤트가 없으면 하트비트 전송 (프록시 유휴 종료 방지)
+ * - 전송은 구독자별로 한 번에 하나씩 가상 스레드에서 실행 (느린 구독자가 다른 구독자를 막지 않음)
+ *
+ * 인스턴스 로컬 피드이므로 다른 인스턴스에서 처리된 변경은 전달되지 않습니다. (게이트웨이 고정 라우팅 필요)
+ */
+@Slf4j
+@Component
+public class HubLiveFeed {
+
+    public static final String EVENT_CONNECTED = "connected";
+    public static final String EVENT_DELIVERY = "delivery";
+    public static final String EVENT_RESYNC = "resync";
+
+    static final String RESULT_SENT = "sent";
+
+    private final Map<String, LiveFeedSubscriber> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, Set<LiveFeedSubscriber>> hubSubscribers = new ConcurrentHashMap<>();
+    private final AtomicLong eventSequence = new AtomicLong();
+    private final HubDeliveryMetrics metrics;
+    private final boolean enabled;
+    private final int bufferSize;
+    private final Duration coalesceInterval;
+    private final Duration heartbeatInterval;
+    private final Duration streamTimeout;
+    private final int maxSubscribers;
+
+    // 기동 전(단위 테스트 포함)에는 호출 스레드에서 바로 전송
+    private Executor sender = Runnable::run;
+    private ExecutorService senderExecutor;
+    private ScheduledExecutorService ticker;
+
+    public HubLiveFeed(
+            HubDeliveryMetrics metrics,
+            @Value("${hub-delivery.live-feed.enabled:true}") boolean enabled,
+            @Value("${hub-delivery.live-feed.buffer-size:256}") int bufferSize,
+            @Value("${hub-delivery.live-feed.coalesce-interval:500ms}") Duration coalesceInterval,
+            @Value("${hub-delivery.live-feed.heartbeat-interval:15s}") Duration heartbeatInterval,
+            @Value("${hub-delivery.live-feed.stream-timeout:30m}") Duration streamTimeout,
+            @Value("${hub-delivery.live-feed.max-subscribers:1000}") int maxSubscribers) {
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.bufferSize = bufferSize;
+        this.coalesceInterval = coalesceInterval;
+        this.heartbeatInterval = heartbeatInterval;
+        this.streamTimeout = streamTimeout;
+        this.maxSubscribers = maxSubscribers;
+
+        metrics.bindLiveFeedSubscribers(subscribers::size);
+    }
+
+    // ==================== 수명 주기 ====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("허브 실시간 피드 비활성화");
+            return;
+        }
+
+        senderExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        sender = senderExecutor;
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hub-live-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::tick, coalesceInterval.toMillis(), coalesceInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+
+        log.info("허브 실시간 피드 시작 - coalesceInterval: {}, heartbeat: {}, bufferSize: {}",
+                coalesceInterval, heartbeatInterval, bufferSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+        subscribers.values().forEach(subscriber -> subscriber.getSink().complete());
+        subscribers.clear();
+        hubSubscribers.clear();
+        if (senderExecutor != null) {
+            senderExecutor.shutdownNow();
+        }
+    }
+
+    // ==================== 구독 ====================
+
+    /**
+     * 허브 피드 구독
+     *
+     * @return 구독자 ID (해제 시 사용)
+     * @throws HubDeliveryException 피드가 비활성화되었거나 구독자 수가 한도에 도달한 경우
+     */
+    public String subscribe(String hubId, LiveFeedSink sink) {
+        if (!enabled || subscribers.size() >= maxSubscribers) {
+            throw new HubDeliveryException(HubDeliveryErrorCode.LIVE_FEED_NOT_AVAILABLE);
+        }
+
+        LiveFeedSubscriber subscriber = new LiveFeedSubscriber(UUID.randomUUID().toString(), hubId, sink,
+                bufferSize, System.currentTimeMillis());
+        subscribers.put(subscriber.getId(), subscriber);
+        hubSubscribers.compute(hubId, (ignored, hubSet) -> {
+            Set<LiveFeedSubscriber> targets = hubSet != null ? hubSet : ConcurrentHashMap.newKeySet();
+            targets.add(subscriber);
+            return targets;
+        });
+
+        try {
+            sink.send(eventSequence.incrementAndGet(), EVENT_CONNECTED, Connected.builder()
+                    .hubId(hubId)
+                    .subscriberId(subscriber.getId())
+                    .heartbeatIntervalSec(heartbeatInterval.toSeconds())
+                    .connectedAt(LocalDateTime.now())
+                    .build());
+        } catch (Exception e) {
+            remove(subscriber);
+            throw new HubDeliveryException(HubDeliveryErrorCode.LIVE_FEED_NOT_AVAILABLE, e.getMessage());
+        }
+
+        log.debug("허브 실시간 피드 구독 - hubId: {}, subscriberId: {}, subscribers: {}",
+                hubId, subscriber.getId(), subscribers.size());
+        return subscriber.getId();
+    }
+
+    /**
+     * 구독 해제 (연결 종료/타임아웃/오류 시, 여러 번 호출해도 무방)
+     */
+    public void unsubscribe(String subscriberId) {
+        LiveFeedSubscriber subscriber = subscribers.get(subscriberId);
+        if (subscriber != null) {
+            remove(subscriber);
+        }
+    }
+
+    public Duration getStreamTimeout() {
+        return streamTimeout;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // ==================== 변경 수신 ====================
+
+    /**
+     * 구간 상태 변경 수신 (커밋 이후, 버퍼에 넣기만 함)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSegmentChanged(HubSegmentChangedEvent event) {
+        if (!enabled || subscribers.isEmpty()) {
+            return;
+        }
+
+        HubSegment segment = event.getSegment();
+        offer(segment.getFromHubId(), event);
+        if (!segment.getToHubId().equals(segment.getFromHubId())) {
+            offer(segment.getToHubId(), event);
+        }
+    }
+
+    // ==================== 전송 ====================
+
+    /**
+     * 전송 주기 (보관 중인 변경이 있거나 하트비트가 필요한 구독자만)
+     */
+    void tick() {
+        try {
+            long now = System.currentTimeMillis();
+            long heartbeatMillis = heartbeatInterval.toMillis();
+            for (LiveFeedSubscriber subscriber : subscribers.values()) {
+                if ((subscriber.hasPending() || subscriber.isHeartbeatDue(now, heartbeatMillis))
+                        && subscriber.tryStartSending()) {
+                    sender.execute(() -> send(subscriber, now, heartbeatMillis));
+                }
+            }
+        } catch (Exception e) {
+            log.error("허브 실시간 피드 전송 주기 처리 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    private void send(LiveFeedSubscriber subscriber, long now, long heartbeatMillis) {
+        boolean sent = false;
+        try {
+            Drained drained = subscriber.drain();
+            LiveFeedSink sink = subscriber.getSink();
+
+            if (drained.dropped() > 0) {
+                sink.send(eventSequence.incrementAndGet(), EVENT_RESYNC, Resync.builder()
+                        .hubId(subscriber.getHubId())
+                        .droppedChanges(drained.dropped())
+                        .build());
+                sent = true;
+            }
+            for (DeliveryChange change : drained.changes()) {
+                sink.send(eventSequence.incrementAndGet(), EVENT_DELIVERY, change);
+                sent = true;
+            }
+            if (!sent && subscriber.isHeartbeatDue(now, heartbeatMillis)) {
+                sink.heartbeat();
+                sent = true;
+            }
+
+            metrics.recordLiveFeed(RESULT_SENT, drained.changes().size());
+        } catch (Exception e) {
+            // 연결이 끊긴 구독자
+            log.debug("허브 실시간 피드 전송 실패, 구독 해제 - subscriberId: {}, error: {}",
+                    subscriber.getId(), e.getMessage());
+            remove(subscriber);
+        } finally {
+            subscriber.endSending(now, sent);
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void offer(String hubId, HubSegmentChangedEvent event) {
+        Set<LiveFeedSubscriber> targets = hubSubscribers.get(hubId);
+        if (targets == null) {
+            return;
+        }
+
+        for (LiveFeedSubscriber subscriber : targets) {
+            Offer offer = subscriber.offer(event);
+            metrics.recordLiveFeed(offer.name().toLowerCase(), 1);
+        }
+    }
+
+    private void remove(LiveFeedSubscriber subscriber) {
+        if (subscribers.remove(subscriber.getId(), subscriber)) {
+            hubSubscribers.computeIfPresent(subscriber.getHubId(), (hubId, hubSet) -> {
+                hubSet.remove(subscriber);
+                return hubSet.isEmpty() ? null : hubSet;
+            });
+            subscriber.getSink().complete();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.livefeed;
+
+import java.io.IOException;
+
+/**
+ * 실시간 피드 전송 채널 (구독자 1명)
+ *
+ * 전송 방식(SSE 등)은 Presentation 계층에서 구현합니다.
+ * 전송에 실패하면 예외를 던지며, HubLiveFeed가 구독을 해제합니다.
+ */
+public interface LiveFeedSink {
+
+    /**
+     * 이벤트 전송
+     *
+     * @param eventId 피드 내 단조 증가 ID
+     * @param eventName 이벤트 이름 (connected, delivery, resync)
+     */
+    void send(long eventId, String eventName, Object data) throws IOException;
+
+    /**
+     * 연결 유지용 하트비트 (데이터 없음)
+     */
+    void heartbeat() throws IOException;
+
+    /**
+     * 스트림 종료
+     */
+    void complete();
+}
@@ -0,0 +1,199 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.livefeed;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubSegmentChangedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.livefeed.dto.LiveFeedDto.DeliveryChange;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.livefeed.dto.LiveFeedDto.SegmentChange;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 실시간 피드 구독자
+ *
+ * 전송 전 변경을 배송 ID별로 합쳐 보관합니다. (최대 bufferSize개 배송)
+ * 버퍼가 넘치면 보관 중인 변경을 버리고 다음 전송 때 재동기화(resync)를 요청합니다.
+ */
+final class LiveFeedSubscriber {
+
+    enum Offer { BUFFERED, COALESCED, DROPPED }
+
+    static final String OUTBOUND = "OUTBOUND";
+    static final String INBOUND = "INBOUND";
+
+    private final String id;
+    private final String hubId;
+    private final LiveFeedSink sink;
+    private final int bufferSize;
+
+    private final Map<String, PendingDelivery> pending = new LinkedHashMap<>();
+    private int dropped;
+
+    // 전송 중 여부 (구독자당 전송 작업 하나만 실행)
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private volatile long lastSentAtMillis;
+
+    LiveFeedSubscriber(String id, String hubId, LiveFeedSink sink, int bufferSize, long nowMillis) {
+        this.id = id;
+        this.hubId = hubId;
+        this.sink = sink;
+        this.bufferSize = bufferSize;
+        this.lastSentAtMillis = nowMillis;
+    }
+
+    /**
+     * 변경 보관 (같은 배송의 변경은 합침)
+     */
+    synchronized Offer offer(HubSegmentChangedEvent event) {
+        if (dropped > 0) {
+            dropped++;
+            return Offer.DROPPED;
+        }
+
+        PendingDelivery delivery = pending.get(event.getHubDeliveryId());
+        if (delivery != null) {
+            delivery.merge(event);
+            return Offer.COALESCED;
+        }
+
+        if (pending.size() >= bufferSize) {
+            dropped = pending.values().stream().mapToInt(PendingDelivery::getUpdates).sum() + 1;
+            pending.clear();
+            return Offer.DROPPED;
+        }
+
+        delivery = new PendingDelivery(event.getHubDeliveryId(), event.getOrderId());
+        delivery.merge(event);
+        pending.put(event.getHubDeliveryId(), delivery);
+        return Offer.BUFFERED;
+    }
+
+    /**
+     * 보관 중인 변경 꺼내기
+     */
+    synchronized Drained drain() {
+        List<DeliveryChange> changes = new ArrayList<>(pending.size());
+        for (PendingDelivery delivery : pending.values()) {
+            changes.add(delivery.toChange(hubId));
+        }
+        Drained drained = new Drained(changes, dropped);
+        pending.clear();
+        dropped = 0;
+        return drained;
+    }
+
+    synchronized boolean hasPending() {
+        return !pending.isEmpty() || dropped > 0;
+    }
+
+    boolean isHeartbeatDue(long nowMillis, long heartbeatIntervalMillis) {
+        return nowMillis - lastSentAtMillis >= heartbeatIntervalMillis;
+    }
+
+    boolean tryStartSending() {
+        return sending.compareAndSet(false, true);
+    }
+
+    void endSending(long nowMillis, boolean sent) {
+        if (sent) {
+            lastSentAtMillis = nowMillis;
+        }
+        sending.set(false);
+    }
+
+    String getId() {
+        return id;
+    }
+
+    String getHubId() {
+        return hubId;
+    }
+
+    LiveFeedSink getSink() {
+        return sink;
+    }
+
+    record Drained(List<DeliveryChange> changes, int dropped) {
+    }
+
+    /**
+     * 전송 전 배송 변경 (배송별 마지막 상태)
+     */
+    private static final class PendingDelivery {
+
+        private final String hubDeliveryId;
+        private final String orderId;
+        private final Map<Integer, PendingSegment> segments = new TreeMap<>();
+        private HubDeliveryStatus deliveryStatus;
+        private LocalDateTime changedAt;
+        private int updates;
+
+        private PendingDelivery(String hubDeliveryId, String orderId) {
+            this.hubDeliveryId = hubDeliveryId;
+            this.orderId = orderId;
+        }
+
+        private void merge(HubSegmentChangedEvent event) {
+            HubSegment segment = event.getSegment();
+            PendingSegment pendingSegment = segments.get(segment.getSequence());
+            if (pendingSegment == null) {
+                segments.put(segment.getSequence(), new PendingSegment(event.getPreviousStatus(), segment));
+            } else {
+                pendingSegment.segment = segment;
+            }
+
+            if (event.getDeliveryStatus() != null) {
+                deliveryStatus = event.getDeliveryStatus();
+            }
+            changedAt = event.getOccurredAt();
+            updates++;
+        }
+
+        private int getUpdates() {
+            return updates;
+        }
+
+        private DeliveryChange toChange(String hubId) {
+            return DeliveryChange.builder()
+                    .hubDeliveryId(hubDeliveryId)
+                    .orderId(orderId)
+                    .deliveryStatus(deliveryStatus)
+                    .segments(segments.values().stream()
+                            .map(pendingSegment -> pendingSegment.toChange(hubId))
+                            .toList())
+                    .coalesced(updates)
+                    .changedAt(changedAt)
+                    .build();
+        }
+    }
+
+    private static final class PendingSegment {
+
+        private final HubSegmentStatus previousStatus;
+        private HubSegment segment;
+
+        private PendingSegment(HubSegmentStatus previousStatus, HubSegment segment) {
+            this.previousStatus = previousStatus;
+            this.segment = segment;
+        }
+
+        private SegmentChange toChange(String hubId) {
+            return SegmentChange.builder()
+                    .segmentIndex(segment.getSequence())
+                    .direction(hubId.equals(segment.getFromHubId()) ? OUTBOUND : INBOUND)
+                    .fromHubId(segment.getFromHubId())
+                    .toHubId(segment.getToHubId())
+                    .previousStatus(previousStatus)
+                    .status(segment.getStatus())
+                    .driverId(segment.getDriverId())
+                    .build();
+        }
+    }
+}
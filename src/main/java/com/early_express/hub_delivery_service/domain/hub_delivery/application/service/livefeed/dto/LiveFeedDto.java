@@ -0,0 +1,68 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.livefeed.dto;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 허브 실시간 피드 DTO
+ */
+public class LiveFeedDto {
+
+    /**
+     * 구독 시작 (connected)
+     */
+    @Getter
+    @Builder
+    public static class Connected {
+        private String hubId;
+        private String subscriberId;
+        private long heartbeatIntervalSec;
+        private LocalDateTime connectedAt;
+    }
+
+    /**
+     * 배송 변경 (delivery)
+     *
+     * 전송 주기 안에 같은 배송이 여러 번 바뀌면 마지막 상태 하나로 합쳐 보냅니다.
+     * (구간은 구간별 마지막 상태, previousStatus는 합치기 전 첫 변경의 이전 상태)
+     */
+    @Getter
+    @Builder
+    public static class DeliveryChange {
+        private String hubDeliveryId;
+        private String orderId;
+        private HubDeliveryStatus deliveryStatus;
+        private List<SegmentChange> segments;
+        private int coalesced;  // 합쳐진 변경 수 (1이면 단일 변경)
+        private LocalDateTime changedAt;
+    }
+
+    @Getter
+    @Builder
+    public static class SegmentChange {
+        private Integer segmentIndex;
+        private String direction;  // OUTBOUND: 이 허브에서 출발, INBOUND: 이 허브로 도착
+        private String fromHubId;
+        private String toHubId;
+        private HubSegmentStatus previousStatus;
+        private HubSegmentStatus status;
+        private String driverId;
+    }
+
+    /**
+     * 재동기화 요청 (resync)
+     *
+     * 구독자 버퍼가 넘쳐 변경을 버렸을 때 보냅니다. 클라이언트는 목록 API로 한 번 다시 조회합니다.
+     */
+    @Getter
+    @Builder
+    public static class Resync {
+        private String hubId;
+        private int droppedChanges;
+    }
+}
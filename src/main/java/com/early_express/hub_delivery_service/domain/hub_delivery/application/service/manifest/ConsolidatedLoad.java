@@ -0,0 +1,37 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.manifest;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch.DispatchEntry;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubLane;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 적재 편성 제안 (트럭 한 대분)
+ *
+ * @param waveStartAt 출발 웨이브 시작 시각 (항목 중 가장 이른 마감이 속한 웨이브)
+ * @param entries 적재 구간 (마감 시각 순, 마감 없는 구간은 뒤)
+ */
+public record ConsolidatedLoad(
+        HubLane lane,
+        LocalDateTime waveStartAt,
+        List<DispatchEntry> entries
+) {
+
+    /**
+     * 출발 웨이브 순, 같으면 마감 시각이 이른 순
+     */
+    public static final Comparator<ConsolidatedLoad> EARLIEST_WAVE_FIRST = Comparator
+            .comparing(ConsolidatedLoad::waveStartAt)
+            .thenComparing(ConsolidatedLoad::departureDeadline, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(load -> load.lane().getToHubId());
+
+    public LocalDateTime departureDeadline() {
+        return entries.isEmpty() ? null : entries.get(0).deadline();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,201 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.manifest;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch.DispatchEntry;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch.DispatchQueue;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubLane;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 적재 편성기 (레인별 증분 재편성)
+ *
+ * 배정 대기열의 레인별 마감 시각 순 항목을 트럭 용량(max-segments)과 편성 구간(consolidation-window) 안에서
+ * 묶어 적재 제안을 만듭니다.
+ * - 적재는 첫 구간(가장 이른 마감)이 속한 웨이브에 출발하므로, 뒤에 실린 구간도 마감 전에 출발
+ * - 마감이 웨이브 시작 + consolidation-window 이후인 구간은 다음 적재로
+ * - 마감 없는 구간은 빈 자리가 있는 가장 이른 적재에 채움
+ *
+ * 편성 전에 대기열을 DB 기준으로 보정(직전 보정 이후 변경분)하므로, 다른 인스턴스에서 생성/배정된 구간도 반영합니다.
+ * 레인마다 마감 순 상위 scan-limit개 구간만 읽어 편성하며, 나머지는 앞 적재가 출발한 뒤 다음 편성에서 다룹니다.
+ *
+ * 레인별 편성 결과를 대기열 레인 버전과 함께 보관하고, 구간 생성/배정 등으로 버전이 바뀐 레인,
+ * 이미 편성된 구간이 달라진 레인, 웨이브가 넘어간 경우에만 해당 레인을 다시 계산합니다.
+ * 편성 결과는 인스턴스별 인메모리 캐시입니다.
+ */
+@Slf4j
+@Component
+public class ConsolidationPlanner {
+
+    private final Map<HubLane, LanePlan> plans = new ConcurrentHashMap<>();
+    private final DispatchQueue dispatchQueue;
+    private final HubDeliveryMetrics metrics;
+    private final Duration waveInterval;
+    private final Duration window;
+    private final int capacity;
+    private final int scanLimit;
+
+    public ConsolidationPlanner(
+            DispatchQueue dispatchQueue,
+            HubDeliveryMetrics metrics,
+            @Value("${hub-delivery.manifest.wave-interval:2h}") Duration waveInterval,
+            @Value("${hub-delivery.manifest.consolidation-window:4h}") Duration window,
+            @Value("${hub-delivery.manifest.max-segments:200}") int capacity,
+            @Value("${hub-delivery.manifest.scan-limit:5000}") int scanLimit) {
+        this.dispatchQueue = dispatchQueue;
+        this.metrics = metrics;
+        this.waveInterval = waveInterval;
+        // 편성 구간은 최소 웨이브 하나
+        this.window = window.compareTo(waveInterval) < 0 ? waveInterval : window;
+        this.capacity = capacity;
+        this.scanLimit = scanLimit;
+    }
+
+    /**
+     * 출발 허브의 적재 제안 (출발 웨이브 순)
+     *
+     * @param hubId 출발 허브 ID
+     * @param excludedKeys 이미 출발 전 적재 목록에 편성된 구간 키 (hubDeliveryId:segmentIndex)
+     */
+    public List<ConsolidatedLoad> propose(String hubId, Set<String> excludedKeys) {
+        dispatchQueue.reconcile();
+
+        LocalDateTime currentWave = waveStart(LocalDateTime.now());
+        Map<HubLane, Set<String>> excludedByLane = groupByLane(excludedKeys);
+        Set<HubLane> lanes = dispatchQueue.getLanes(hubId);
+
+        int replanned = 0;
+        List<ConsolidatedLoad> loads = new ArrayList<>();
+        for (HubLane lane : lanes) {
+            Set<String> excluded = excludedByLane.getOrDefault(lane, Set.of());
+            // 항목보다 버전을 먼저 읽어, 읽는 중 바뀐 레인은 다음 요청에서 다시 계산
+            long version = dispatchQueue.laneVersion(lane);
+
+            LanePlan plan = plans.get(lane);
+            if (plan == null || !plan.isCurrent(version, currentWave, excluded)) {
+                plan = new LanePlan(version, currentWave, Set.copyOf(excluded),
+                        consolidate(lane, dispatchQueue.peekLane(lane, scanLimit + excluded.size()),
+                                excluded, currentWave));
+                plans.put(lane, plan);
+                replanned++;
+            }
+            loads.addAll(plan.loads());
+        }
+
+        // 대기 항목이 없어진 레인의 편성 결과 정리
+        plans.keySet().removeIf(lane -> lane.getFromHubId().equals(hubId) && !lanes.contains(lane));
+
+        metrics.recordConsolidation(replanned, lanes.size() - replanned);
+        log.debug("적재 편성 - hubId: {}, lanes: {}, replanned: {}, loads: {}",
+                hubId, lanes.size(), replanned, loads.size());
+
+        loads.sort(ConsolidatedLoad.EARLIEST_WAVE_FIRST);
+        return loads;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 레인 항목을 적재로 묶음
+     *
+     * @param entries 마감 시각 순 항목 (마감 없는 항목은 뒤)
+     */
+    private List<ConsolidatedLoad> consolidate(HubLane lane, List<DispatchEntry> entries,
+                                               Set<String> excluded, LocalDateTime currentWave) {
+        List<LoadBuilder> builders = new ArrayList<>();
+        List<DispatchEntry> undated = new ArrayList<>();
+
+        LoadBuilder open = null;
+        for (DispatchEntry entry : entries) {
+            if (excluded.contains(entry.key())) {
+                continue;
+            }
+            if (entry.deadline() == null) {
+                undated.add(entry);
+                continue;
+            }
+
+            LocalDateTime wave = entry.deadline().isAfter(currentWave) ? waveStart(entry.deadline()) : currentWave;
+            if (open == null || open.isFull() || !wave.isBefore(open.waveStartAt.plus(window))) {
+                open = new LoadBuilder(wave);
+                builders.add(open);
+            }
+            open.entries.add(entry);
+        }
+
+        // 마감 없는 구간은 빈 자리부터 채우고, 남으면 현재 웨이브 적재로
+        int fill = 0;
+        for (DispatchEntry entry : undated) {
+            while (fill < builders.size() && builders.get(fill).isFull()) {
+                fill++;
+            }
+            if (fill == builders.size()) {
+                builders.add(new LoadBuilder(currentWave));
+            }
+            builders.get(fill).entries.add(entry);
+        }
+
+        return builders.stream()
+                .map(builder -> new ConsolidatedLoad(lane, builder.waveStartAt, List.copyOf(builder.entries)))
+                .toList();
+    }
+
+    /**
+     * 구간 키를 대기열 항목의 레인별로 분류 (대기열에 없는 구간은 편성 대상이 아니므로 무시)
+     */
+    private Map<HubLane, Set<String>> groupByLane(Set<String> keys) {
+        Map<HubLane, Set<String>> byLane = new HashMap<>();
+        for (String key : keys) {
+            dispatchQueue.get(key).ifPresent(entry ->
+                    byLane.computeIfAbsent(entry.lane(), lane -> new HashSet<>()).add(key));
+        }
+        return byLane;
+    }
+
+    /**
+     * 웨이브 시작 시각 (wave-interval 단위 내림)
+     */
+    private LocalDateTime waveStart(LocalDateTime time) {
+        long epochSecond = time.toEpochSecond(ZoneOffset.UTC);
+        long flooredSecond = epochSecond - Math.floorMod(epochSecond, waveInterval.toSeconds());
+        return LocalDateTime.ofEpochSecond(flooredSecond, 0, ZoneOffset.UTC);
+    }
+
+    private final class LoadBuilder {
+        private final LocalDateTime waveStartAt;
+        private final List<DispatchEntry> entries = new ArrayList<>();
+
+        private LoadBuilder(LocalDateTime waveStartAt) {
+            this.waveStartAt = waveStartAt;
+        }
+
+        private boolean isFull() {
+            return entries.size() >= capacity;
+        }
+    }
+
+    /**
+     * 레인 편성 결과 (계산 당시 레인 버전, 웨이브, 제외 구간)
+     */
+    private record LanePlan(long version, LocalDateTime currentWave, Set<String> excluded,
+                            List<ConsolidatedLoad> loads) {
+
+        boolean isCurrent(long version, LocalDateTime currentWave, Set<String> excluded) {
+            return this.version == version
+                    && this.currentWave.equals(currentWave)
+                    && this.excluded.equals(excluded);
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.manifest;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.HubDeliveryCommandService;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.ManifestCommand;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.ManifestItemResult;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.ManifestSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.manifest.dto.ManifestDto.ManifestPlanResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.manifest.dto.ManifestDto.ManifestResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryErrorCode;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.Manifest;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestId;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestItem;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.ManifestRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver.HubDriverClient;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver.dto.DriverAssignRequest;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver.dto.DriverAssignResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver.dto.DriverCompleteRequest;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import com.early_express.hub_delivery_service.global.infrastructure.lease.ShardLeaseManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 간선 적재 목록(Manifest) 편성 및 처리
+ *
+ * ConsolidationPlanner가 제안한 레인별 적재를 트럭 한 대분의 적재 목록으로 저장하고,
+ * 드라이버 배정/출발/도착을 적재 목록 단위로 처리합니다.
+ * - 드라이버 서비스 호출은 적재 목록당 한 번 (배정 1회, 완료 통지 1회)
+ *   배정으로 확보한 드라이버는 롤백 시 반환하고, 완료/취소 통지는 커밋 이후 전송
+ * - 같은 적재 목록의 동시 전환은 version 충돌로 한 쪽만 커밋 (중복 완료 통지 없음)
+ *   구간 출발/도착, 배송 완료 이벤트도 커밋 이후 발행되므로 충돌로 롤백된 쪽의 이벤트는 나가지 않음
+ * - 출발에서 제외된 구간은 같은 트랜잭션에서 배정을 해제하여 다시 개별 배정 대상으로 되돌림
+ * - 구간 상태 변경은 HubDeliveryCommandService의 일괄 처리로 한 번에 반영
+ * - 편성은 허브별 리스를 잡고 커밋까지 마친 뒤 반납하여, 동시에 편성해도 같은 구간이 두 적재 목록에 들어가지 않음
+ */
+@Slf4j
+@Service
+@Transactional
+public class ManifestService {
+
+    static final String PLANNED_BY = "system-manifest-planner";
+
+    private static final String PLAN_LEASE_KEY_PREFIX = "manifest-plan:";
+
+    private final ManifestRepository manifestRepository;
+    private final ConsolidationPlanner consolidationPlanner;
+    private final HubDeliveryCommandService commandService;
+    private final HubDriverClient hubDriverClient;
+    private final HubDeliveryMetrics metrics;
+    private final ShardLeaseManager shardLeaseManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration planLeaseTtl;
+
+    public ManifestService(
+            ManifestRepository manifestRepository,
+            ConsolidationPlanner consolidationPlanner,
+            HubDeliveryCommandService commandService,
+            HubDriverClient hubDriverClient,
+            HubDeliveryMetrics metrics,
+            ShardLeaseManager shardLeaseManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${hub-delivery.manifest.plan-lease-ttl:1m}") Duration planLeaseTtl) {
+        this.manifestRepository = manifestRepository;
+        this.consolidationPlanner = consolidationPlanner;
+        this.commandService = commandService;
+        this.hubDriverClient = hubDriverClient;
+        this.metrics = metrics;
+        this.shardLeaseManager = shardLeaseManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.planLeaseTtl = planLeaseTtl;
+    }
+
+    // ==================== 편성 ====================
+
+    /**
+     * 허브 배정 대기열로 적재 목록 편성
+     *
+     * 이미 출발 전 적재 목록에 편성된 구간은 제외하며, 적재 묶음 기준은 ConsolidationPlanner를 따릅니다.
+     * 편성 구간 조회부터 저장 커밋까지 허브 리스를 유지하여 동시 편성으로 같은 구간이 중복 편성되지 않게 합니다.
+     *
+     * @param hubId 출발 허브 ID
+     * @param requestedBy 요청자 (null이면 시스템)
+     * @throws HubDeliveryException 다른 요청이 같은 허브를 편성 중인 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ManifestPlanResponse plan(String hubId, String requestedBy) {
+        String leaseKey = PLAN_LEASE_KEY_PREFIX + hubId;
+        if (!shardLeaseManager.tryAcquire(leaseKey, planLeaseTtl)) {
+            throw new HubDeliveryException(HubDeliveryErrorCode.MANIFEST_PLAN_IN_PROGRESS,
+                    "해당 허브의 적재 목록을 다른 요청이 편성 중입니다. hubId: " + hubId);
+        }
+
+        try {
+            // 리스 반납 전에 커밋하여 다음 편성이 이번 편성 구간을 조회하도록
+            return metrics.timeCommand(HubDeliveryMetrics.COMMAND_PLAN_MANIFEST,
+                    () -> transactionTemplate.execute(status -> doPlan(hubId, requestedBy)));
+        } finally {
+            shardLeaseManager.release(leaseKey);
+        }
+    }
+
+    private ManifestPlanResponse doPlan(String hubId, String requestedBy) {
+        Set<String> planned = manifestRepository.findOpenItemKeys(hubId);
+
+        String createdBy = requestedBy != null ? requestedBy : PLANNED_BY;
+        List<ManifestResponse> manifests = new ArrayList<>();
+        for (ConsolidatedLoad load : consolidationPlanner.propose(hubId, planned)) {
+            List<ManifestItem> items = load.entries().stream()
+                    .map(entry -> ManifestItem.of(entry.hubDeliveryId(), entry.segmentIndex(),
+                            entry.orderId(), entry.deadline()))
+                    .toList();
+            Manifest manifest = Manifest.create(hubId, load.lane().getToHubId(), load.waveStartAt(), items, createdBy);
+            manifests.add(ManifestResponse.from(manifestRepository.save(manifest)));
+        }
+
+        if (!manifests.isEmpty()) {
+            log.info("적재 목록 편성 완료 - hubId: {}, manifests: {}, segments: {}, alreadyPlanned: {}",
+                    hubId, manifests.size(), manifests.stream().mapToInt(ManifestResponse::getSize).sum(),
+                    planned.size());
+        }
+        return ManifestPlanResponse.of(hubId, manifests);
+    }
+
+    // ==================== 배정 / 출발 / 도착 ====================
+
+    /**
+     * 적재 목록 드라이버 배정
+     *
+     * 드라이버 서비스에 한 번 요청해 확보한 드라이버를 모든 구간에 배정합니다.
+     * 편성 이후 다른 경로로 배정/종료된 구간은 목록에서 제외하며,
+     * 배정할 구간이 하나도 없으면 드라이버를 반환하고 적재 목록을 취소합니다.
+     * 드라이버 확보 이후 트랜잭션이 롤백되면 확보한 드라이버를 반환합니다. (보상)
+     *
+     * @throws HubDeliveryException 배정 불가 상태이거나 가용 드라이버가 없는 경우
+     */
+    public ManifestResponse assignDriver(String manifestId) {
+        Manifest manifest = findManifest(manifestId);
+        validateStatus(manifest, manifest.getStatus().canAssign(), "드라이버 배정");
+
+        DriverAssignResponse response = hubDriverClient.assignDriver(
+                DriverAssignRequest.forManifest(manifest.getIdValue(), manifest.getSize()));
+        if (response == null || !response.isSuccess()) {
+            throw new HubDeliveryException(HubDeliveryErrorCode.DRIVER_NOT_ASSIGNED,
+                    "가용 드라이버가 없습니다. manifestId: " + manifestId);
+        }
+        String driverId = response.getDriverId();
+        onRollback(() -> {
+            log.warn("적재 목록 배정 롤백, 드라이버 반환 - manifestId: {}, driverId: {}", manifestId, driverId);
+            notifyDriverCancel(driverId);
+        });
+
+        List<ManifestItemResult> results = commandService.assignManifest(
+                toCommand(manifest, driverId));
+        List<ManifestItem> assigned = succeededItems(manifest, results);
+
+        if (assigned.isEmpty()) {
+            log.warn("적재 목록 배정 가능 구간 없음, 취소 - manifestId: {}, driverId: {}",
+                    manifestId, driverId);
+            afterCommit(() -> notifyDriverCancel(driverId));
+            manifest.cancel();
+        } else {
+            manifest.assignDriver(driverId, assigned);
+        }
+
+        return ManifestResponse.from(manifestRepository.save(manifest));
+    }
+
+    /**
+     * 적재 목록 출발 (구간 일괄 출발)
+     *
+     * 출발하지 못한 구간은 목록에서 제외하고, 이 적재 목록 드라이버로 배정된 채 남지 않도록 배정을 해제합니다.
+     *
+     * @return 적재 목록과 구간별 출발 결과
+     * @throws HubDeliveryException 출발 불가 상태이거나 출발할 수 있는 구간이 없는 경우
+     */
+    public ManifestResponse depart(String manifestId) {
+        Manifest manifest = findManifest(manifestId);
+        validateStatus(manifest, manifest.getStatus().canDepart(), "출발");
+
+        List<ManifestItemResult> results = commandService.departManifest(
+                toCommand(manifest, manifest.getDriverId()));
+        List<ManifestItem> departed = succeededItems(manifest, results);
+        List<ManifestItem> dropped = manifest.getItems().stream()
+                .filter(item -> !departed.contains(item))
+                .toList();
+        manifest.depart(departed);
+
+        if (!dropped.isEmpty()) {
+            commandService.releaseManifestSegments(
+                    toCommand(manifest.getIdValue(), dropped, manifest.getDriverId()));
+        }
+
+        return ManifestResponse.from(manifestRepository.save(manifest), results);
+    }
+
+    /**
+     * 적재 목록 도착 (구간 일괄 도착, 커밋 이후 드라이버 완료 통지 1회)
+     *
+     * @return 적재 목록과 구간별 도착 결과
+     * @throws HubDeliveryException 도착 불가 상태
+     */
+    public ManifestResponse arrive(String manifestId) {
+        Manifest manifest = findManifest(manifestId);
+        validateStatus(manifest, manifest.getStatus().canArrive(), "도착");
+
+        List<ManifestItemResult> results = commandService.arriveManifest(
+                toCommand(manifest, manifest.getDriverId()));
+        manifest.arrive();
+
+        Manifest savedManifest = manifestRepository.save(manifest);
+        afterCommit(() -> notifyDriverComplete(savedManifest));
+        return ManifestResponse.from(savedManifest, results);
+    }
+
+    /**
+     * 적재 목록 취소 (드라이버 배정 전만 가능, 구간은 다시 개별 배정 대상)
+     */
+    public ManifestResponse cancel(String manifestId) {
+        Manifest manifest = findManifest(manifestId);
+        manifest.cancel();
+        return ManifestResponse.from(manifestRepository.save(manifest));
+    }
+
+    // ==================== 조회 ====================
+
+    @Transactional(readOnly = true)
+    public ManifestResponse findById(String manifestId) {
+        return ManifestResponse.from(findManifest(manifestId));
+    }
+
+    /**
+     * 출발 허브의 적재 목록 조회 (출발 웨이브 순)
+     */
+    @Transactional(readOnly = true)
+    public List<ManifestResponse> findByHub(String hubId, ManifestStatus status, int limit) {
+        return manifestRepository.findByFromHubId(hubId, status, limit).stream()
+                .map(ManifestResponse::from)
+                .toList();
+    }
+
+    // ===== Private Helper Methods =====
+
+    private Manifest findManifest(String manifestId) {
+        return manifestRepository.findById(ManifestId.of(manifestId))
+                .orElseThrow(() -> new HubDeliveryException(
+                        HubDeliveryErrorCode.MANIFEST_NOT_FOUND,
+                        "적재 목록 정보를 찾을 수 없습니다: " + manifestId
+                ));
+    }
+
+    /**
+     * 구간 일괄 처리 전 상태 확인 (구간이 바뀐 뒤 적재 목록 전환이 실패하지 않도록)
+     */
+    private void validateStatus(Manifest manifest, boolean allowed, String action) {
+        if (!allowed) {
+            throw new HubDeliveryException(
+                    HubDeliveryErrorCode.INVALID_MANIFEST_STATUS,
+                    String.format("적재 목록 %s를 할 수 없습니다. manifestId: %s, 현재 상태: %s",
+                            action, manifest.getIdValue(), manifest.getStatus().getDescription())
+            );
+        }
+    }
+
+    private ManifestCommand toCommand(Manifest manifest, String driverId) {
+        return toCommand(manifest.getIdValue(), manifest.getItems(), driverId);
+    }
+
+    private ManifestCommand toCommand(String manifestId, List<ManifestItem> items, String driverId) {
+        List<ManifestSegment> segments = items.stream()
+                .map(item -> ManifestSegment.builder()
+                        .hubDeliveryId(item.getHubDeliveryId())
+                        .segmentIndex(item.getSegmentIndex())
+                        .build())
+                .toList();
+
+        return ManifestCommand.builder()
+                .manifestId(manifestId)
+                .driverId(driverId)
+                .segments(segments)
+                .build();
+    }
+
+    private List<ManifestItem> succeededItems(Manifest manifest, List<ManifestItemResult> results) {
+        Set<String> succeeded = new HashSet<>();
+        for (ManifestItemResult result : results) {
+            if (result.isSuccess()) {
+                succeeded.add(ManifestItem.key(result.getHubDeliveryId(), result.getSegmentIndex()));
+            }
+        }
+        return manifest.getItems().stream()
+                .filter(item -> succeeded.contains(item.key()))
+                .toList();
+    }
+
+    /**
+     * 드라이버 완료 통지 (적재 목록당 한 번)
+     */
+    private void notifyDriverComplete(Manifest manifest) {
+        try {
+            hubDriverClient.completeDelivery(
+                    manifest.getDriverId(),
+                    DriverCompleteRequest.of(manifest.getActualDurationMin())
+            );
+            log.info("드라이버 완료 통지 성공 - manifestId: {}, driverId: {}, duration: {}분",
+                    manifest.getIdValue(), manifest.getDriverId(), manifest.getActualDurationMin());
+        } catch (Exception e) {
+            log.error("드라이버 완료 통지 실패 - manifestId: {}, driverId: {}, error: {}",
+                    manifest.getIdValue(), manifest.getDriverId(), e.getMessage(), e);
+            // 통지 실패해도 도착 처리는 계속
+        }
+    }
+
+    /**
+     * 커밋 이후 실행 (트랜잭션이 없으면 바로 실행)
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 롤백 시 실행 (트랜잭션이 없으면 무시)
+     */
+    private void onRollback(Runnable compensation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    compensation.run();
+                }
+            }
+        });
+    }
+
+    private void notifyDriverCancel(String driverId) {
+        try {
+            hubDriverClient.cancelDelivery(driverId);
+        } catch (Exception e) {
+            log.error("드라이버 취소 통지 실패 - driverId: {}, error: {}", driverId, e.getMessage(), e);
+        }
+    }
+}
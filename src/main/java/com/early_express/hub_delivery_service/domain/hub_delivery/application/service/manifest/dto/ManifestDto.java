@@ -0,0 +1,108 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.manifest.dto;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.ManifestItemResult;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.Manifest;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestItem;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 간선 적재 목록(Manifest) DTO
+ */
+public class ManifestDto {
+
+    /**
+     * 적재 목록 응답
+     */
+    @Getter
+    @Builder
+    public static class ManifestResponse {
+        private String manifestId;
+        private String fromHubId;
+        private String toHubId;
+        private LocalDateTime waveStartAt;
+        private LocalDateTime departureDeadline;
+        private ManifestStatus status;
+        private String driverId;
+        private Integer size;
+        private LocalDateTime assignedAt;
+        private LocalDateTime departedAt;
+        private LocalDateTime arrivedAt;
+        private Long actualDurationMin;
+        private List<ManifestItemResponse> items;
+
+        /** 구간 일괄 처리(출발/도착) 항목별 결과, 처리하지 않았으면 null */
+        private List<ManifestItemResult> itemResults;
+
+        public static ManifestResponse from(Manifest manifest) {
+            return from(manifest, null);
+        }
+
+        public static ManifestResponse from(Manifest manifest, List<ManifestItemResult> itemResults) {
+            return ManifestResponse.builder()
+                    .manifestId(manifest.getIdValue())
+                    .fromHubId(manifest.getFromHubId())
+                    .toHubId(manifest.getToHubId())
+                    .waveStartAt(manifest.getWaveStartAt())
+                    .departureDeadline(manifest.getDepartureDeadline())
+                    .status(manifest.getStatus())
+                    .driverId(manifest.getDriverId())
+                    .size(manifest.getSize())
+                    .assignedAt(manifest.getAssignedAt())
+                    .departedAt(manifest.getDepartedAt())
+                    .arrivedAt(manifest.getArrivedAt())
+                    .actualDurationMin(manifest.getActualDurationMin())
+                    .items(manifest.getItems().stream()
+                            .map(ManifestItemResponse::from)
+                            .toList())
+                    .itemResults(itemResults)
+                    .build();
+        }
+    }
+
+    /**
+     * 적재 목록 항목 응답
+     */
+    @Getter
+    @Builder
+    public static class ManifestItemResponse {
+        private String hubDeliveryId;
+        private String orderId;
+        private Integer segmentIndex;
+        private LocalDateTime deadline;
+
+        public static ManifestItemResponse from(ManifestItem item) {
+            return ManifestItemResponse.builder()
+                    .hubDeliveryId(item.getHubDeliveryId())
+                    .orderId(item.getOrderId())
+                    .segmentIndex(item.getSegmentIndex())
+                    .deadline(item.getDeadline())
+                    .build();
+        }
+    }
+
+    /**
+     * 적재 목록 편성 결과 응답
+     */
+    @Getter
+    @Builder
+    public static class ManifestPlanResponse {
+        private String hubId;
+        private Integer manifestCount;
+        private Integer plannedSegments;
+        private List<ManifestResponse> manifests;
+
+        public static ManifestPlanResponse of(String hubId, List<ManifestResponse> manifests) {
+            return ManifestPlanResponse.builder()
+                    .hubId(hubId)
+                    .manifestCount(manifests.size())
+                    .plannedSegments(manifests.stream().mapToInt(ManifestResponse::getSize).sum())
+                    .manifests(manifests)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.overdue;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubDeliveryEventPublisher;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubSegmentChangedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.eta.EtaEngine;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryId;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubLane;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentSnapshot;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import com.early_express.hub_delivery_service.global.common.timer.HierarchicalTimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지연 구간 감지기
+ *
+ * 이동 중(IN_TRANSIT) 구간마다 "출발 시각 + 예상 소요 시간 + 유예 시간"을 타이밍 휠에 등록하고,
+ * 만료 시 구간이 여전히 이동 중이면 지연 이벤트를 발행합니다.
+ *
+ * - 기동 시: 이동 중 구간을 배치 단위(키셋 페이징)로 조회하여 등록 (전체를 한 번에 메모리에 올리지 않음)
+ * - 운영 중: 구간 상태 변경 이벤트로 등록/취소 (DB 주기 조회 없음)
+ * - 만료 시: 해당 배송 1건만 조회하여 상태 재확인 (다른 인스턴스에서 도착 처리된 경우 등)
+ *
+ * 예상 소요 시간이 없는 구간은 ETA 엔진의 학습값을 사용하며, 둘 다 없으면 감지하지 않습니다.
+ */
+@Slf4j
+@Component
+public class OverdueSegmentDetector {
+
+    static final String OUTCOME_PUBLISHED = "published";
+    static final String OUTCOME_STALE = "stale";
+    static final String OUTCOME_ERROR = "error";
+
+    private final HubDeliveryRepository hubDeliveryRepository;
+    private final HubDeliveryEventPublisher eventPublisher;
+    private final EtaEngine etaEngine;
+    private final HubDeliveryMetrics metrics;
+    private final boolean enabled;
+    private final Duration tick;
+    private final Duration grace;
+    private final int loadBatchSize;
+    private final HierarchicalTimingWheel<String, OverdueSegment> wheel;
+
+    private ScheduledExecutorService ticker;
+
+    public OverdueSegmentDetector(
+            HubDeliveryRepository hubDeliveryRepository,
+            HubDeliveryEventPublisher eventPublisher,
+            EtaEngine etaEngine,
+            HubDeliveryMetrics metrics,
+            @Value("${hub-delivery.overdue.enabled:true}") boolean enabled,
+            @Value("${hub-delivery.overdue.tick:1s}") Duration tick,
+            @Value("${hub-delivery.overdue.wheel-size:60}") int wheelSize,
+            @Value("${hub-delivery.overdue.grace:10m}") Duration grace,
+            @Value("${hub-delivery.overdue.load-batch-size:500}") int loadBatchSize) {
+        this.hubDeliveryRepository = hubDeliveryRepository;
+        this.eventPublisher = eventPublisher;
+        this.etaEngine = etaEngine;
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.tick = tick;
+        this.grace = grace;
+        this.loadBatchSize = loadBatchSize;
+        this.wheel = new HierarchicalTimingWheel<>(tick.toMillis(), wheelSize, System.currentTimeMillis());
+
+        metrics.bindOverdueWatchedSegments(wheel::size);
+    }
+
+    // ==================== 수명 주기 ====================
+
+    /**
+     * 기동 시 이동 중 구간 등록 후 타이머 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("지연 구간 감지 비활성화");
+            return;
+        }
+
+        int inTransit = loadInTransit();
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "overdue-segment-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::advance, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+
+        log.info("지연 구간 감지 시작 - inTransit: {}, watched: {}, tick: {}, grace: {}",
+                inTransit, wheel.size(), tick, grace);
+    }
+
+    /**
+     * 이동 중 구간을 배치 단위로 조회하여 등록
+     *
+     * @return 조회한 구간 수
+     */
+    private int loadInTransit() {
+        int loaded = 0;
+        HubSegmentSnapshot after = null;
+        while (true) {
+            List<HubSegmentSnapshot> batch = hubDeliveryRepository.findSegmentsByStatus(
+                    HubSegmentStatus.IN_TRANSIT, after, loadBatchSize);
+            batch.forEach(snapshot ->
+                    watch(snapshot.getHubDeliveryId(), snapshot.getOrderId(), snapshot.getSegment()));
+            loaded += batch.size();
+
+            if (batch.size() < loadBatchSize) {
+                return loaded;
+            }
+            after = batch.get(batch.size() - 1);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    // ==================== 등록/취소 ====================
+
+    /**
+     * 구간 상태 변경 수신 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSegmentChanged(HubSegmentChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        if (event.getCurrentStatus() == HubSegmentStatus.IN_TRANSIT) {
+            watch(event.getHubDeliveryId(), event.getOrderId(), event.getSegment());
+        } else {
+            wheel.cancel(key(event.getHubDeliveryId(), event.getSegment().getSequence()));
+        }
+    }
+
+    /**
+     * 이동 중 구간 감시 등록
+     */
+    void watch(String hubDeliveryId, String orderId, HubSegment segment) {
+        if (segment.getDepartedAt() == null) {
+            return;
+        }
+
+        Long expectedDurationMin = expectedDurationMin(segment);
+        if (expectedDurationMin == null) {
+            log.debug("예상 소요 시간이 없어 지연 감지 제외 - hubDeliveryId: {}, segment: {}",
+                    hubDeliveryId, segment.getSequence());
+            return;
+        }
+
+        LocalDateTime expectedArrivalAt = segment.getDepartedAt().plusMinutes(expectedDurationMin);
+        OverdueSegment target = new OverdueSegment(hubDeliveryId, orderId, segment.getSequence(),
+                segment.getDepartedAt(), expectedArrivalAt);
+
+        wheel.schedule(key(hubDeliveryId, segment.getSequence()), target, toEpochMillis(expectedArrivalAt.plus(grace)));
+    }
+
+    // ==================== 만료 처리 ====================
+
+    /**
+     * 타이머 틱 (전용 스레드)
+     */
+    void advance() {
+        try {
+            for (OverdueSegment target : wheel.advanceClock(System.currentTimeMillis())) {
+                handleOverdue(target);
+            }
+        } catch (Exception e) {
+            log.error("지연 구간 감지 틱 처리 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    private void handleOverdue(OverdueSegment target) {
+        try {
+            HubDelivery hubDelivery = hubDeliveryRepository.findById(HubDeliveryId.of(target.hubDeliveryId()))
+                    .orElse(null);
+            HubSegment segment = hubDelivery != null ? hubDelivery.getSegment(target.segmentIndex()) : null;
+
+            // 다른 인스턴스에서 도착/취소된 경우
+            if (segment == null || !segment.isInTransit()) {
+                metrics.recordSegmentOverdue(OUTCOME_STALE);
+                return;
+            }
+
+            eventPublisher.publishSegmentDelayed(hubDelivery, segment, target.expectedArrivalAt());
+            metrics.recordSegmentOverdue(OUTCOME_PUBLISHED);
+
+            log.warn("구간 지연 감지 - hubDeliveryId: {}, segment: {}, expectedArrivalAt: {}",
+                    target.hubDeliveryId(), target.segmentIndex(), target.expectedArrivalAt());
+        } catch (Exception e) {
+            metrics.recordSegmentOverdue(OUTCOME_ERROR);
+            log.error("지연 구간 처리 실패 - hubDeliveryId: {}, segment: {}, error: {}",
+                    target.hubDeliveryId(), target.segmentIndex(), e.getMessage(), e);
+        }
+    }
+
+    public int getWatchedCount() {
+        return wheel.size();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private Long expectedDurationMin(HubSegment segment) {
+        if (segment.getEstimatedDurationMin() != null) {
+            return segment.getEstimatedDurationMin();
+        }
+        Double learned = etaEngine.predict(HubLane.of(segment), segment.getDepartedAt().getHour());
+        return learned != null ? Math.round(learned) : null;
+    }
+
+    private static String key(String hubDeliveryId, int segmentIndex) {
+        return hubDeliveryId + ":" + segmentIndex;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 감시 대상 구간
+     */
+    record OverdueSegment(
+            String hubDeliveryId,
+            String orderId,
+            int segmentIndex,
+            LocalDateTime departedAt,
+            LocalDateTime expectedArrivalAt
+    ) {
+    }
+}
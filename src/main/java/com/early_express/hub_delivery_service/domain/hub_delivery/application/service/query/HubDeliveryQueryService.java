@@ -1,5 +1,6 @@
 package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.query;
 
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.eta.EtaEngine;
 import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.query.dto.HubDeliveryQueryDto.*;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryErrorCode;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
@@ -24,9 +25,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class HubDeliveryQueryService {
 
     private final HubDeliveryRepository hubDeliveryRepository;
+    private final EtaEngine etaEngine;
 
     /**
-     * ID로 상세 조회
+     * ID로 상세 조회 (ETA 포함)
      */
     public HubDeliveryDetailResponse findById(String hubDeliveryId) {
         HubDelivery hubDelivery = hubDeliveryRepository.findById(HubDeliveryId.of(hubDeliveryId))
@@ -35,11 +37,11 @@ public class HubDeliveryQueryService {
                         "허브 배송 정보를 찾을 수 없습니다: " + hubDeliveryId
                 ));
 
-        return HubDeliveryDetailResponse.from(hubDelivery);
+        return HubDeliveryDetailResponse.from(hubDelivery, etaEngine.estimate(hubDelivery));
     }
 
     /**
-     * 주문 ID로 조회
+     * 주문 ID로 조회 (ETA 포함)
      */
     public HubDeliveryDetailResponse findByOrderId(String orderId) {
         HubDelivery hubDelivery = hubDeliveryRepository.findByOrderId(orderId)
@@ -48,7 +50,7 @@ public class HubDeliveryQueryService {
                         "해당 주문의 허브 배송 정보를 찾을 수 없습니다: " + orderId
                 ));
 
-        return HubDeliveryDetailResponse.from(hubDelivery);
+        return HubDeliveryDetailResponse.from(hubDelivery, etaEngine.estimate(hubDelivery));
     }
 
     /**
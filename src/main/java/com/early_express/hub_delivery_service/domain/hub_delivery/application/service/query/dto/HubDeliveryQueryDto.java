@@ -1,5 +1,6 @@
 package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.query.dto;
 
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.eta.DeliveryEta;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryStatus;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
@@ -34,6 +35,8 @@ public class HubDeliveryQueryDto {
         private LocalDateTime completedAt;
         private Long totalEstimatedDurationMin;
         private Long totalActualDurationMin;
+        private LocalDateTime departureDeadline;
+        private LocalDateTime estimatedArrivalTime;
         private LocalDateTime createdAt;
 
         public static HubDeliveryResponse from(HubDelivery hubDelivery) {
@@ -51,6 +54,8 @@ public class HubDeliveryQueryDto {
                     .completedAt(hubDelivery.getCompletedAt())
                     .totalEstimatedDurationMin(hubDelivery.getTotalEstimatedDurationMin())
                     .totalActualDurationMin(hubDelivery.getTotalActualDurationMin())
+                    .departureDeadline(hubDelivery.getDepartureDeadline())
+                    .estimatedArrivalTime(hubDelivery.getEstimatedArrivalTime())
                     .createdAt(hubDelivery.getCreatedAt())
                     .build();
         }
@@ -64,8 +69,13 @@ public class HubDeliveryQueryDto {
     public static class HubDeliveryDetailResponse {
         private HubDeliveryResponse hubDelivery;
         private List<HubSegmentResponse> segments;
+        private EtaResponse eta;
 
         public static HubDeliveryDetailResponse from(HubDelivery hubDelivery) {
+            return from(hubDelivery, null);
+        }
+
+        public static HubDeliveryDetailResponse from(HubDelivery hubDelivery, DeliveryEta eta) {
             List<HubSegmentResponse> segmentResponses = hubDelivery.getSegments().stream()
                     .map(HubSegmentResponse::from)
                     .toList();
@@ -73,6 +83,32 @@ public class HubDeliveryQueryDto {
             return HubDeliveryDetailResponse.builder()
                     .hubDelivery(HubDeliveryResponse.from(hubDelivery))
                     .segments(segmentResponses)
+                    .eta(eta != null ? EtaResponse.from(eta) : null)
+                    .build();
+        }
+    }
+
+    /**
+     * 허브 배송 ETA 응답 (레인별 실적 기반 예측)
+     */
+    @Getter
+    @Builder
+    public static class EtaResponse {
+        private Long remainingMin;
+        private LocalDateTime estimatedArrivalAt;
+        private Long staticRemainingMin;
+        private Integer remainingSegments;
+        private Integer learnedSegments;
+        private LocalDateTime calculatedAt;
+
+        public static EtaResponse from(DeliveryEta eta) {
+            return EtaResponse.builder()
+                    .remainingMin(eta.getRemainingMin())
+                    .estimatedArrivalAt(eta.getEstimatedArrivalAt())
+                    .staticRemainingMin(eta.getStaticRemainingMin())
+                    .remainingSegments(eta.getRemainingSegments())
+                    .learnedSegments(eta.getLearnedSegments())
+                    .calculatedAt(eta.getCalculatedAt())
                     .build();
         }
     }
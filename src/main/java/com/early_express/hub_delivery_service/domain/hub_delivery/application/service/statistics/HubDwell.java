@@ -0,0 +1,104 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 허브별 체류 시간 집계
+ *
+ * 출발 시각 기준 시간 버킷(bucketWidth)마다 체류 시간(초) 분위수 스케치를 유지합니다.
+ * 가장 최근 버킷부터 retainedBuckets개만 보관하며, 그보다 오래된 버킷은 기록 시점에 제거합니다.
+ * 조회 구간의 분위수는 해당 버킷 스케치를 병합하여 구합니다.
+ */
+public class HubDwell {
+
+    @Getter
+    private final String hubId;
+
+    private final Duration bucketWidth;
+    private final int retainedBuckets;
+    private final double relativeAccuracy;
+
+    private final ConcurrentSkipListMap<LocalDateTime, QuantileSketch> buckets = new ConcurrentSkipListMap<>();
+    private final LongAdder departures = new LongAdder();
+    private final AtomicReference<LocalDateTime> lastDepartedAt = new AtomicReference<>();
+
+    HubDwell(String hubId, Duration bucketWidth, int retainedBuckets, double relativeAccuracy) {
+        this.hubId = hubId;
+        this.bucketWidth = bucketWidth;
+        this.retainedBuckets = retainedBuckets;
+        this.relativeAccuracy = relativeAccuracy;
+    }
+
+    /**
+     * 체류 시간 기록
+     *
+     * 보관 범위보다 오래된 출발(지연 수신)은 누적 출발 수에만 반영합니다.
+     */
+    void record(Duration dwell, LocalDateTime departedAt) {
+        departures.increment();
+        lastDepartedAt.accumulateAndGet(departedAt,
+                (prev, next) -> prev == null || next.isAfter(prev) ? next : prev);
+
+        LocalDateTime bucketStart = bucketStart(departedAt);
+        LocalDateTime oldestRetained = bucketStart(lastDepartedAt.get())
+                .minus(bucketWidth.multipliedBy(retainedBuckets - 1L));
+        if (bucketStart.isBefore(oldestRetained)) {
+            return;
+        }
+
+        buckets.computeIfAbsent(bucketStart, start -> new QuantileSketch(relativeAccuracy))
+                .record(dwell.toMillis() / 1000.0);
+        buckets.headMap(oldestRetained).clear();
+    }
+
+    /**
+     * 지정 시각 이후 체류 시간 (초)
+     *
+     * since가 속한 버킷부터 포함하므로 최대 bucketWidth만큼 더 넓은 구간이 집계됩니다.
+     */
+    public QuantileSketch window(LocalDateTime since) {
+        QuantileSketch merged = new QuantileSketch(relativeAccuracy);
+        buckets.tailMap(bucketStart(since), true).values().forEach(merged::mergeFrom);
+        return merged;
+    }
+
+    /**
+     * 지정 시각 이후 시간 버킷 목록 (오래된 순)
+     */
+    public List<TimeBucket> getBuckets(LocalDateTime since) {
+        return buckets.tailMap(bucketStart(since), true).entrySet().stream()
+                .map(entry -> new TimeBucket(entry.getKey(), entry.getValue().copy()))
+                .toList();
+    }
+
+    /**
+     * 누적 출발 수 (보관 범위 밖 포함)
+     */
+    public long getDepartures() {
+        return departures.sum();
+    }
+
+    public LocalDateTime getLastDepartedAt() {
+        return lastDepartedAt.get();
+    }
+
+    private LocalDateTime bucketStart(LocalDateTime time) {
+        long widthSec = bucketWidth.toSeconds();
+        long epochSec = time.toEpochSecond(ZoneOffset.UTC);
+        return LocalDateTime.ofEpochSecond(epochSec - Math.floorMod(epochSec, widthSec), 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * 시간 버킷 (start 이상 start + bucketWidth 미만 출발분)
+     */
+    public record TimeBucket(LocalDateTime start, QuantileSketch dwellSec) {
+    }
+}
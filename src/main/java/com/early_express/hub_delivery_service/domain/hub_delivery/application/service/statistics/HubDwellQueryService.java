@@ -0,0 +1,71 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics.dto.HubDwellStatisticsDto.HubDwellResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryErrorCode;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 허브 체류 시간 통계 Query Service
+ *
+ * 인메모리 스케치만 조회하며 DB에 접근하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class HubDwellQueryService {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final HubDwellStatistics hubDwellStatistics;
+
+    /**
+     * 허브별 체류 시간 목록 조회
+     *
+     * @param sortBy p90(체류 시간 p90), p99, volume(출발 수)
+     * @param windowHours 조회 구간 (최근 N시간, 보관 범위로 제한)
+     * @param limit 최대 개수
+     */
+    public List<HubDwellResponse> findHubs(String sortBy, int windowHours, int limit) {
+        LocalDateTime windowFrom = windowFrom(windowHours);
+
+        return hubDwellStatistics.getHubs().stream()
+                .map(hub -> HubDwellResponse.from(hub, windowFrom))
+                .filter(response -> response.getDwellSec().getCount() > 0)
+                .sorted(comparator(sortBy))
+                .limit(Math.clamp(limit, 1, MAX_LIMIT))
+                .toList();
+    }
+
+    /**
+     * 단일 허브 체류 시간 조회 (시간 버킷별 분포 포함)
+     */
+    public HubDwellResponse findHub(String hubId, int windowHours) {
+        return hubDwellStatistics.findHub(hubId)
+                .map(hub -> HubDwellResponse.withBuckets(hub, windowFrom(windowHours)))
+                .orElseThrow(() -> new HubDeliveryException(
+                        HubDeliveryErrorCode.HUB_DWELL_STATISTICS_NOT_FOUND,
+                        "허브 체류 시간 통계 정보를 찾을 수 없습니다: " + hubId
+                ));
+    }
+
+    private LocalDateTime windowFrom(int windowHours) {
+        Duration window = Duration.ofHours(Math.max(windowHours, 1));
+        Duration retention = hubDwellStatistics.getRetention();
+        return LocalDateTime.now().minus(window.compareTo(retention) > 0 ? retention : window);
+    }
+
+    private Comparator<HubDwellResponse> comparator(String sortBy) {
+        Comparator<HubDwellResponse> comparator = switch (sortBy == null ? "p90" : sortBy) {
+            case "p99" -> Comparator.comparingDouble(hub -> hub.getDwellSec().getP99());
+            case "volume" -> Comparator.comparingLong(hub -> hub.getDwellSec().getCount());
+            default -> Comparator.comparingDouble(hub -> hub.getDwellSec().getP90());
+        };
+        return comparator.reversed();
+    }
+}
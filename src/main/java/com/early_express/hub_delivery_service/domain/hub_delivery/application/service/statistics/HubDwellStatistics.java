@@ -0,0 +1,132 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubSegmentChangedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 중간 허브 체류 시간 통계
+ *
+ * 구간 출발(IN_TRANSIT) 시점마다 출발 허브의 체류 시간(앞 구간 도착 ~ 이 구간 출발)을
+ * 허브 × 시간 버킷별 분위수 스케치에 기록합니다. 첫 구간(출발 허브)은 체류 시간이 없어 제외됩니다.
+ *
+ * 허브 수는 max-hubs로 제한되며, 초과분은 OVERFLOW 허브(*)에 합산됩니다.
+ * OVERFLOW 허브는 허브 목록과 max-hubs 계산에서 제외되며, 허브 ID(*)로만 조회됩니다.
+ * 스케치는 인스턴스 로컬 집계(조회 API용)이므로 재시작 시 초기화됩니다.
+ * 인스턴스 간 합산이 필요한 모니터링은 함께 기록하는 체류 시간 히스토그램(hub_delivery.hub.dwell{hub_id, pre_assigned})을 사용합니다.
+ */
+@Slf4j
+@Component
+public class HubDwellStatistics {
+
+    public static final String OVERFLOW_HUB_ID = "*";
+
+    private final Map<String, HubDwell> hubs = new ConcurrentHashMap<>();
+    private final HubDeliveryMetrics metrics;
+    private final int maxHubs;
+    private final Duration bucketWidth;
+    private final int retainedBuckets;
+    private final double relativeAccuracy;
+    private final HubDwell overflow;
+
+    public HubDwellStatistics(
+            HubDeliveryMetrics metrics,
+            @Value("${hub-delivery.statistics.dwell.max-hubs:500}") int maxHubs,
+            @Value("${hub-delivery.statistics.dwell.bucket-width:1h}") Duration bucketWidth,
+            @Value("${hub-delivery.statistics.dwell.retained-buckets:48}") int retainedBuckets,
+            @Value("${hub-delivery.statistics.dwell.relative-accuracy:0.01}") double relativeAccuracy) {
+        if (bucketWidth.toSeconds() < 1 || retainedBuckets < 1) {
+            throw new IllegalArgumentException("체류 시간 버킷 폭은 1초 이상, 보관 버킷 수는 1 이상이어야 합니다.");
+        }
+        this.metrics = metrics;
+        this.maxHubs = maxHubs;
+        this.bucketWidth = bucketWidth;
+        this.retainedBuckets = retainedBuckets;
+        this.relativeAccuracy = relativeAccuracy;
+        this.overflow = new HubDwell(OVERFLOW_HUB_ID, bucketWidth, retainedBuckets, relativeAccuracy);
+    }
+
+    /**
+     * 구간 상태 변경 수신 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSegmentChanged(HubSegmentChangedEvent event) {
+        if (event.isTransitionTo(HubSegmentStatus.IN_TRANSIT) && event.getHubDwell() != null) {
+            HubSegment segment = event.getSegment();
+            record(segment.getFromHubId(), event.getHubDwell(), segment.getDepartedAt(), event.isPreAssigned());
+        }
+    }
+
+    /**
+     * 체류 시간 기록
+     *
+     * 음수(허브 간 시계 오차 등)는 무시하며, 출발 시각이 없으면 현재 시각 버킷에 기록합니다.
+     *
+     * @param preAssigned 선배정 상태에서 출발했는지 여부 (메트릭 태그)
+     */
+    public void record(String hubId, Duration dwell, LocalDateTime departedAt, boolean preAssigned) {
+        if (hubId == null || dwell == null || dwell.isNegative()) {
+            return;
+        }
+
+        HubDwell hub = hubFor(hubId);
+        hub.record(dwell, departedAt != null ? departedAt : LocalDateTime.now());
+        metrics.recordHubDwell(hub.getHubId(), dwell, preAssigned);
+    }
+
+    public Optional<HubDwell> findHub(String hubId) {
+        return Optional.ofNullable(OVERFLOW_HUB_ID.equals(hubId) ? overflow : hubs.get(hubId));
+    }
+
+    public Collection<HubDwell> getHubs() {
+        return List.copyOf(hubs.values());
+    }
+
+    public int getHubCount() {
+        return hubs.size();
+    }
+
+    /**
+     * 보관 범위 (bucketWidth × retainedBuckets)
+     */
+    public Duration getRetention() {
+        return bucketWidth.multipliedBy(retainedBuckets);
+    }
+
+    // ===== Private Helper Methods =====
+
+    private HubDwell hubFor(String hubId) {
+        HubDwell existing = hubs.get(hubId);
+        if (existing != null) {
+            return existing;
+        }
+
+        synchronized (hubs) {
+            existing = hubs.get(hubId);
+            if (existing != null) {
+                return existing;
+            }
+            if (hubs.size() >= maxHubs) {
+                log.debug("허브 수 상한 초과로 OVERFLOW 허브에 집계 - hubId: {}, maxHubs: {}", hubId, maxHubs);
+                return overflow;
+            }
+            HubDwell hubDwell = new HubDwell(hubId, bucketWidth, retainedBuckets, relativeAccuracy);
+            hubs.put(hubId, hubDwell);
+            return hubDwell;
+        }
+    }
+}
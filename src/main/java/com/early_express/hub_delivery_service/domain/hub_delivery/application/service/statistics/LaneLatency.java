@@ -0,0 +1,65 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubLane;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 레인별 소요 시간 집계
+ *
+ * - actualDuration: 실제 소요 시간 (분)
+ * - delay: 실제 - 예상 소요 시간 (분, 음수면 조기 도착)
+ *
+ * 예상 소요 시간이 없는 구간은 actualDuration에만 반영됩니다.
+ */
+public class LaneLatency {
+
+    /** 실제 소요 시간 버킷 상한 (분) */
+    static final long[] DURATION_BUCKETS_MIN = {
+            5, 10, 15, 20, 30, 45, 60, 90, 120, 180, 240, 360, 480, 720, 1440
+    };
+
+    /** 지연 시간 버킷 상한 (분) */
+    static final long[] DELAY_BUCKETS_MIN = {
+            -120, -60, -30, -15, -5, 0, 5, 15, 30, 60, 120, 240, 480
+    };
+
+    @Getter
+    private final HubLane lane;
+
+    @Getter
+    private final LatencyHistogram actualDuration = new LatencyHistogram(DURATION_BUCKETS_MIN);
+
+    @Getter
+    private final LatencyHistogram delay = new LatencyHistogram(DELAY_BUCKETS_MIN);
+
+    private final AtomicReference<LocalDateTime> lastArrivedAt = new AtomicReference<>();
+
+    LaneLatency(HubLane lane) {
+        this.lane = lane;
+    }
+
+    void record(long actualDurationMin, Long estimatedDurationMin, LocalDateTime arrivedAt) {
+        actualDuration.record(actualDurationMin);
+        if (estimatedDurationMin != null) {
+            delay.record(actualDurationMin - estimatedDurationMin);
+        }
+        if (arrivedAt != null) {
+            lastArrivedAt.accumulateAndGet(arrivedAt,
+                    (prev, next) -> prev == null || next.isAfter(prev) ? next : prev);
+        }
+    }
+
+    public LocalDateTime getLastArrivedAt() {
+        return lastArrivedAt.get();
+    }
+
+    /**
+     * 지연 도착 비율 (허용 오차 초과)
+     */
+    public double lateRatio(long toleranceMin) {
+        return delay.ratioAbove(toleranceMin);
+    }
+}
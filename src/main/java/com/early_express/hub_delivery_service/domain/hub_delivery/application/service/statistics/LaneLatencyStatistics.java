@@ -0,0 +1,120 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubSegmentChangedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubLane;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 레인별 구간 소요 시간 통계
+ *
+ * 구간 도착(ARRIVED) 시점마다 레인(출발 허브 → 도착 허브)별 히스토그램을 갱신합니다.
+ * 조회 요청은 인메모리 스냅샷만 읽으며 DB 집계를 하지 않습니다.
+ *
+ * 레인 수는 max-lanes로 제한되며, 초과분은 OVERFLOW 레인(*->*)에 합산됩니다.
+ * OVERFLOW 레인은 레인 목록과 max-lanes 계산에서 제외되며, 레인 ID(*->*)로만 조회됩니다.
+ * 인메모리 집계는 인스턴스 로컬(조회 API용)이므로 재시작 시 초기화되며,
+ * 인스턴스 간 합산은 함께 기록하는 레인별 히스토그램(hub_delivery.lane.duration 등)으로 Prometheus에서 처리합니다.
+ */
+@Slf4j
+@Component
+public class LaneLatencyStatistics {
+
+    private final Map<HubLane, LaneLatency> lanes = new ConcurrentHashMap<>();
+    private final HubDeliveryMetrics metrics;
+    private final int maxLanes;
+    private final LaneLatency overflow;
+
+    public LaneLatencyStatistics(
+            HubDeliveryMetrics metrics,
+            @Value("${hub-delivery.statistics.lane.max-lanes:500}") int maxLanes) {
+        this.metrics = metrics;
+        this.maxLanes = maxLanes;
+        this.overflow = new LaneLatency(HubLane.OVERFLOW);
+    }
+
+    /**
+     * 구간 상태 변경 수신 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSegmentChanged(HubSegmentChangedEvent event) {
+        if (event.isTransitionTo(HubSegmentStatus.ARRIVED)) {
+            record(event.getSegment());
+        }
+    }
+
+    /**
+     * 도착 구간 기록
+     *
+     * 실제 소요 시간이 없는 구간(출발 시각 누락)은 무시합니다.
+     */
+    public void record(HubSegment segment) {
+        if (segment.getActualDurationMin() == null) {
+            return;
+        }
+
+        LaneLatency lane = laneFor(HubLane.of(segment));
+        lane.record(
+                segment.getActualDurationMin(),
+                segment.getEstimatedDurationMin(),
+                segment.getArrivedAt()
+        );
+        metrics.recordLaneArrival(lane.getLane(), segment.getActualDurationMin(), segment.getEstimatedDurationMin());
+    }
+
+    public Optional<LaneLatency> findLane(HubLane lane) {
+        return Optional.ofNullable(lane.isOverflow() ? overflow : lanes.get(lane));
+    }
+
+    /**
+     * 레인 목록 조회
+     *
+     * @param comparator 정렬 기준
+     * @param limit 최대 개수
+     */
+    public List<LaneLatency> getLanes(Comparator<LaneLatency> comparator, int limit) {
+        return lanes.values().stream()
+                .sorted(comparator)
+                .limit(limit)
+                .toList();
+    }
+
+    public int getLaneCount() {
+        return lanes.size();
+    }
+
+    // ===== Private Helper Methods =====
+
+    private LaneLatency laneFor(HubLane lane) {
+        LaneLatency existing = lanes.get(lane);
+        if (existing != null) {
+            return existing;
+        }
+
+        synchronized (lanes) {
+            existing = lanes.get(lane);
+            if (existing != null) {
+                return existing;
+            }
+            if (lanes.size() >= maxLanes) {
+                log.debug("레인 수 상한 초과로 OVERFLOW 레인에 집계 - lane: {}, maxLanes: {}", lane, maxLanes);
+                return overflow;
+            }
+            LaneLatency laneLatency = new LaneLatency(lane);
+            lanes.put(lane, laneLatency);
+            return laneLatency;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics.dto.LaneStatisticsDto.LaneLatencyResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryErrorCode;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubLane;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 레인 통계 Query Service
+ *
+ * 인메모리 레인 통계만 조회하며 DB에 접근하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LaneStatisticsQueryService {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final LaneLatencyStatistics laneLatencyStatistics;
+
+    /**
+     * 레인 통계 목록 조회
+     *
+     * @param sortBy volume(도착 수), delay(평균 지연), late(지연 비율)
+     * @param limit 최대 개수
+     */
+    public List<LaneLatencyResponse> findLanes(String sortBy, int limit) {
+        return laneLatencyStatistics.getLanes(comparator(sortBy), Math.clamp(limit, 1, MAX_LIMIT)).stream()
+                .map(lane -> LaneLatencyResponse.from(lane, HubDeliveryMetrics.LANE_LATE_TOLERANCE_MIN))
+                .toList();
+    }
+
+    /**
+     * 단일 레인 통계 조회
+     */
+    public LaneLatencyResponse findLane(String fromHubId, String toHubId) {
+        HubLane lane = HubLane.of(fromHubId, toHubId);
+
+        return laneLatencyStatistics.findLane(lane)
+                .map(found -> LaneLatencyResponse.from(found, HubDeliveryMetrics.LANE_LATE_TOLERANCE_MIN))
+                .orElseThrow(() -> new HubDeliveryException(
+                        HubDeliveryErrorCode.LANE_STATISTICS_NOT_FOUND,
+                        "레인 통계 정보를 찾을 수 없습니다: " + lane
+                ));
+    }
+
+    private Comparator<LaneLatency> comparator(String sortBy) {
+        Comparator<LaneLatency> comparator = switch (sortBy == null ? "volume" : sortBy) {
+            case "delay" -> Comparator.comparingDouble(lane -> lane.getDelay().getMean());
+            case "late" -> Comparator.comparingDouble(lane -> lane.lateRatio(HubDeliveryMetrics.LANE_LATE_TOLERANCE_MIN));
+            default -> Comparator.comparingLong(lane -> lane.getActualDuration().getCount());
+        };
+        return comparator.reversed();
+    }
+}
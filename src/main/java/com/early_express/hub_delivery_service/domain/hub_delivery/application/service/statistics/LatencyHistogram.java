@@ -0,0 +1,138 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 버킷 히스토그램 (분 단위)
+ *
+ * 버킷 경계가 고정되어 있어 메모리 사용량이 레인 수에만 비례합니다.
+ * 기록은 락 없이 원자적 카운터로 처리되며, 분위수는 버킷 상한으로 근사합니다.
+ * 마지막 버킷은 가장 큰 경계를 초과하는 값(overflow)을 집계합니다.
+ */
+public class LatencyHistogram {
+
+    private final long[] upperBounds;
+    private final AtomicLongArray bucketCounts;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    /**
+     * @param upperBounds 오름차순 버킷 상한 (값 <= 상한이면 해당 버킷)
+     */
+    public LatencyHistogram(long[] upperBounds) {
+        for (int i = 1; i < upperBounds.length; i++) {
+            if (upperBounds[i] <= upperBounds[i - 1]) {
+                throw new IllegalArgumentException("버킷 상한은 오름차순이어야 합니다: " + Arrays.toString(upperBounds));
+            }
+        }
+        this.upperBounds = upperBounds.clone();
+        this.bucketCounts = new AtomicLongArray(upperBounds.length + 1);
+    }
+
+    public void record(long value) {
+        bucketCounts.incrementAndGet(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+        min.accumulate(value);
+        max.accumulate(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * 분위수 근사값 (해당 분위가 속한 버킷 상한, overflow 버킷이면 최댓값)
+     *
+     * @param quantile 0.0 ~ 1.0
+     * @return 기록이 없으면 null
+     */
+    public Long quantile(double quantile) {
+        long n = count.sum();
+        if (n == 0) {
+            return null;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(quantile * n));
+        long cumulative = 0;
+        for (int i = 0; i < bucketCounts.length(); i++) {
+            cumulative += bucketCounts.get(i);
+            if (cumulative >= rank) {
+                return i < upperBounds.length ? Math.min(upperBounds[i], max.get()) : max.get();
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * 지정 값 초과 비율
+     */
+    public double ratioAbove(long threshold) {
+        long n = count.sum();
+        if (n == 0) {
+            return 0.0;
+        }
+
+        long above = 0;
+        for (int i = 0; i < bucketCounts.length(); i++) {
+            long lowerExclusive = i == 0 ? Long.MIN_VALUE : upperBounds[i - 1];
+            if (lowerExclusive >= threshold) {
+                above += bucketCounts.get(i);
+            }
+        }
+        return (double) above / n;
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[bucketCounts.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = bucketCounts.get(i);
+        }
+
+        long n = count.sum();
+        return new Snapshot(
+                upperBounds.clone(),
+                counts,
+                n,
+                getMean(),
+                n == 0 ? null : min.get(),
+                n == 0 ? null : max.get(),
+                quantile(0.5),
+                quantile(0.9),
+                quantile(0.99)
+        );
+    }
+
+    private int bucketIndex(long value) {
+        int index = Arrays.binarySearch(upperBounds, value);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * 히스토그램 스냅샷
+     *
+     * @param upperBounds 버킷 상한 (counts는 overflow 버킷 1개를 더 가짐)
+     */
+    public record Snapshot(
+            long[] upperBounds,
+            long[] counts,
+            long count,
+            double mean,
+            Long min,
+            Long max,
+            Long p50,
+            Long p90,
+            Long p99
+    ) {
+    }
+}
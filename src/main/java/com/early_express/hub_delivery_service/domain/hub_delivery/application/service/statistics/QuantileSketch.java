@@ -0,0 +1,160 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상대 오차 보장 분위수 스케치 (DDSketch 방식)
+ *
+ * 양수 값을 로그 간격 버킷(gamma^(k-1), gamma^k]에 집계하여 분위수를 relativeAccuracy 이내 오차로 근사합니다.
+ * 버킷은 기록된 구간만 생성되므로(희소) 값이 몰려 있는 체류 시간 분포에서 메모리 사용량이 작습니다.
+ * 같은 정확도의 스케치끼리는 병합할 수 있어 시간 버킷별 스케치를 합쳐 임의 구간 분위수를 구합니다.
+ *
+ * 0 이하의 값은 zero 버킷에 집계합니다.
+ */
+public class QuantileSketch {
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+
+    private final TreeMap<Integer, Long> bins = new TreeMap<>();
+    private long zeroCount;
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * @param relativeAccuracy 분위수 상대 오차 (0 < a < 1, 예: 0.01 = 1%)
+     */
+    public QuantileSketch(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException("상대 오차는 0과 1 사이여야 합니다: " + relativeAccuracy);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    public synchronized void record(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+
+        if (value <= 0) {
+            zeroCount++;
+        } else {
+            bins.merge(key(value), 1L, Long::sum);
+        }
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * 다른 스케치의 집계를 합산
+     *
+     * @throws IllegalArgumentException 상대 오차가 다른 경우
+     */
+    public void mergeFrom(QuantileSketch other) {
+        if (other.relativeAccuracy != this.relativeAccuracy) {
+            throw new IllegalArgumentException("상대 오차가 다른 스케치는 병합할 수 없습니다.");
+        }
+
+        // 두 스케치의 락을 동시에 잡지 않도록 복사본을 병합
+        QuantileSketch source = other.copy();
+        synchronized (this) {
+            source.bins.forEach((key, binCount) -> bins.merge(key, binCount, Long::sum));
+            zeroCount += source.zeroCount;
+            count += source.count;
+            sum += source.sum;
+            min = Math.min(min, source.min);
+            max = Math.max(max, source.max);
+        }
+    }
+
+    public synchronized QuantileSketch copy() {
+        QuantileSketch copy = new QuantileSketch(relativeAccuracy);
+        copy.bins.putAll(bins);
+        copy.zeroCount = zeroCount;
+        copy.count = count;
+        copy.sum = sum;
+        copy.min = min;
+        copy.max = max;
+        return copy;
+    }
+
+    /**
+     * 분위수 근사값 (최솟값/최댓값 범위로 보정)
+     *
+     * @param quantile 0.0 ~ 1.0
+     * @return 기록이 없으면 null
+     */
+    public synchronized Double quantile(double quantile) {
+        if (count == 0) {
+            return null;
+        }
+
+        long rank = (long) Math.floor(Math.clamp(quantile, 0.0, 1.0) * (count - 1));
+        if (rank < zeroCount) {
+            return Math.max(min, 0.0);
+        }
+
+        long cumulative = zeroCount;
+        for (Map.Entry<Integer, Long> bin : bins.entrySet()) {
+            cumulative += bin.getValue();
+            if (cumulative > rank) {
+                return Math.clamp(value(bin.getKey()), min, max);
+            }
+        }
+        return max;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized double getMean() {
+        return count == 0 ? 0.0 : sum / count;
+    }
+
+    /**
+     * @return 기록이 없으면 null
+     */
+    public synchronized Double getMin() {
+        return count == 0 ? null : min;
+    }
+
+    /**
+     * @return 기록이 없으면 null
+     */
+    public synchronized Double getMax() {
+        return count == 0 ? null : max;
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    /**
+     * 버킷 수 (zero 버킷 제외)
+     */
+    public synchronized int getBinCount() {
+        return bins.size();
+    }
+
+    // ===== Private Helper Methods =====
+
+    private int key(double value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    /**
+     * 버킷 대표값 (버킷 내 모든 값과의 상대 오차가 relativeAccuracy 이내)
+     */
+    private double value(int key) {
+        return 2 * Math.pow(gamma, key) / (gamma + 1);
+    }
+}
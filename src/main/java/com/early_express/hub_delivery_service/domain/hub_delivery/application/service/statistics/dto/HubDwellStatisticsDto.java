@@ -0,0 +1,85 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics.dto;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics.HubDwell;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics.QuantileSketch;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 허브 체류 시간 통계 Query DTO
+ */
+public class HubDwellStatisticsDto {
+
+    /**
+     * 허브 체류 시간 응답
+     *
+     * dwellSec은 조회 구간(windowFrom 이후) 합산이며, buckets는 단건 조회에서만 채워집니다.
+     */
+    @Getter
+    @Builder
+    public static class HubDwellResponse {
+        private String hubId;
+        private LocalDateTime windowFrom;
+        private Long totalDepartures;
+        private LocalDateTime lastDepartedAt;
+        private SketchResponse dwellSec;
+        private List<TimeBucketResponse> buckets;
+
+        public static HubDwellResponse from(HubDwell hub, LocalDateTime windowFrom) {
+            return builder(hub, windowFrom).build();
+        }
+
+        public static HubDwellResponse withBuckets(HubDwell hub, LocalDateTime windowFrom) {
+            return builder(hub, windowFrom)
+                    .buckets(hub.getBuckets(windowFrom).stream()
+                            .map(bucket -> new TimeBucketResponse(bucket.start(), SketchResponse.from(bucket.dwellSec())))
+                            .toList())
+                    .build();
+        }
+
+        private static HubDwellResponseBuilder builder(HubDwell hub, LocalDateTime windowFrom) {
+            return HubDwellResponse.builder()
+                    .hubId(hub.getHubId())
+                    .windowFrom(windowFrom)
+                    .totalDepartures(hub.getDepartures())
+                    .lastDepartedAt(hub.getLastDepartedAt())
+                    .dwellSec(SketchResponse.from(hub.window(windowFrom)));
+        }
+    }
+
+    /**
+     * 분위수 스케치 응답 (초)
+     */
+    @Getter
+    @Builder
+    public static class SketchResponse {
+        private Long count;
+        private Double mean;
+        private Double min;
+        private Double max;
+        private Double p50;
+        private Double p90;
+        private Double p99;
+
+        public static SketchResponse from(QuantileSketch sketch) {
+            return SketchResponse.builder()
+                    .count(sketch.getCount())
+                    .mean(sketch.getMean())
+                    .min(sketch.getMin())
+                    .max(sketch.getMax())
+                    .p50(sketch.quantile(0.5))
+                    .p90(sketch.quantile(0.9))
+                    .p99(sketch.quantile(0.99))
+                    .build();
+        }
+    }
+
+    /**
+     * 시간 버킷 응답 (start 기준 출발분)
+     */
+    public record TimeBucketResponse(LocalDateTime start, SketchResponse dwellSec) {
+    }
+}
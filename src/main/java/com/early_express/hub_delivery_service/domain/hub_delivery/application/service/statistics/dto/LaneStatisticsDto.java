@@ -0,0 +1,84 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics.dto;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics.LaneLatency;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics.LatencyHistogram;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 레인 통계 Query DTO
+ */
+public class LaneStatisticsDto {
+
+    /**
+     * 레인 통계 응답
+     */
+    @Getter
+    @Builder
+    public static class LaneLatencyResponse {
+        private String fromHubId;
+        private String toHubId;
+        private Long arrivals;
+        private Double lateRatio;
+        private LocalDateTime lastArrivedAt;
+        private HistogramResponse actualDurationMin;
+        private HistogramResponse delayMin;
+
+        public static LaneLatencyResponse from(LaneLatency lane, long lateToleranceMin) {
+            return LaneLatencyResponse.builder()
+                    .fromHubId(lane.getLane().getFromHubId())
+                    .toHubId(lane.getLane().getToHubId())
+                    .arrivals(lane.getActualDuration().getCount())
+                    .lateRatio(lane.lateRatio(lateToleranceMin))
+                    .lastArrivedAt(lane.getLastArrivedAt())
+                    .actualDurationMin(HistogramResponse.from(lane.getActualDuration().snapshot()))
+                    .delayMin(HistogramResponse.from(lane.getDelay().snapshot()))
+                    .build();
+        }
+    }
+
+    /**
+     * 히스토그램 응답
+     */
+    @Getter
+    @Builder
+    public static class HistogramResponse {
+        private Long count;
+        private Double mean;
+        private Long min;
+        private Long max;
+        private Long p50;
+        private Long p90;
+        private Long p99;
+        private List<BucketResponse> buckets;
+
+        public static HistogramResponse from(LatencyHistogram.Snapshot snapshot) {
+            List<BucketResponse> buckets = new ArrayList<>(snapshot.counts().length);
+            for (int i = 0; i < snapshot.counts().length; i++) {
+                Long upperBound = i < snapshot.upperBounds().length ? snapshot.upperBounds()[i] : null;
+                buckets.add(new BucketResponse(upperBound, snapshot.counts()[i]));
+            }
+
+            return HistogramResponse.builder()
+                    .count(snapshot.count())
+                    .mean(snapshot.mean())
+                    .min(snapshot.min())
+                    .max(snapshot.max())
+                    .p50(snapshot.p50())
+                    .p90(snapshot.p90())
+                    .p99(snapshot.p99())
+                    .buckets(buckets)
+                    .build();
+        }
+    }
+
+    /**
+     * 버킷 응답 (upperBound가 null이면 overflow 버킷)
+     */
+    public record BucketResponse(Long upperBound, long count) {
+    }
+}
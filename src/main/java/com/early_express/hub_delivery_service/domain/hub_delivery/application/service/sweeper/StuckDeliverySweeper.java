@@ -0,0 +1,238 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.sweeper;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.HubDeliveryCommandService;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.AssignDriverForSegmentCommand;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.AssignDriverResult;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryCursor;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import com.early_express.hub_delivery_service.global.infrastructure.lease.ShardLeaseManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 방치 배송 스위퍼
+ *
+ * Track Service가 드라이버 배정을 요청하지 않아 CREATED/WAITING_DRIVER 상태로 남은 배송을 정리합니다.
+ * - fail-after 이상 방치: 실패 처리
+ * - stale-after 이상 방치: 다음 대기 구간 드라이버 배정 재요청
+ *
+ * 배정 재요청은 호출 전에 시도 시각을 기록하고(updated_at은 그대로 두어 fail-after 판단에 영향 없음),
+ * reassign-retry-interval 안에 시도한 배송은 건너뜁니다. 배치당 드라이버 서비스 호출은
+ * max-reassigns-per-batch 건으로 제한하며, 남은 배송은 다음 실행에서 이어서 처리합니다.
+ *
+ * (status, updated_at) 인덱스를 따라 키셋 배치로 조회하므로 전체 스캔이 없습니다.
+ * ID 첫 글자(16진수) 기준 16개 샤드로 나누고, 샤드마다 DB 리스를 획득한 인스턴스만 처리합니다.
+ * 리스는 배치마다 연장하며, 연장에 실패하면(만료 후 다른 인스턴스가 이어받음) 해당 샤드 처리를 중단합니다.
+ */
+@Slf4j
+@Component
+public class StuckDeliverySweeper {
+
+    static final String LEASE_KEY_PREFIX = "stuck-delivery-sweeper:";
+    static final String REQUESTED_BY = "system-sweeper";
+    static final String SHARD_ACQUIRED = "acquired";
+    static final String SHARD_SKIPPED = "skipped";
+    static final String SHARD_LOST = "lost";
+    static final String ACTION_FAILED = "failed";
+    static final String ACTION_REASSIGNED = "reassigned";
+    static final String ACTION_REASSIGN_FAILED = "reassign_failed";
+
+    private static final char[] SHARDS = "0123456789abcdef".toCharArray();
+    private static final List<HubDeliveryStatus> TARGET_STATUSES =
+            List.of(HubDeliveryStatus.CREATED, HubDeliveryStatus.WAITING_DRIVER);
+
+    private final HubDeliveryRepository hubDeliveryRepository;
+    private final HubDeliveryCommandService commandService;
+    private final ShardLeaseManager shardLeaseManager;
+    private final HubDeliveryMetrics metrics;
+    private final boolean enabled;
+    private final Duration staleAfter;
+    private final Duration failAfter;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration leaseTtl;
+    private final Duration reassignRetryInterval;
+    private final int maxReassignsPerBatch;
+
+    public StuckDeliverySweeper(
+            HubDeliveryRepository hubDeliveryRepository,
+            HubDeliveryCommandService commandService,
+            ShardLeaseManager shardLeaseManager,
+            HubDeliveryMetrics metrics,
+            @Value("${hub-delivery.sweeper.enabled:true}") boolean enabled,
+            @Value("${hub-delivery.sweeper.stale-after:30m}") Duration staleAfter,
+            @Value("${hub-delivery.sweeper.fail-after:24h}") Duration failAfter,
+            @Value("${hub-delivery.sweeper.batch-size:200}") int batchSize,
+            @Value("${hub-delivery.sweeper.max-batches:50}") int maxBatches,
+            @Value("${hub-delivery.sweeper.lease-ttl:4m}") Duration leaseTtl,
+            @Value("${hub-delivery.sweeper.reassign-retry-interval:30m}") Duration reassignRetryInterval,
+            @Value("${hub-delivery.sweeper.max-reassigns-per-batch:20}") int maxReassignsPerBatch) {
+        if (failAfter.compareTo(staleAfter) <= 0) {
+            throw new IllegalArgumentException("hub-delivery.sweeper.fail-after는 stale-after보다 길어야 합니다.");
+        }
+        this.hubDeliveryRepository = hubDeliveryRepository;
+        this.commandService = commandService;
+        this.shardLeaseManager = shardLeaseManager;
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.staleAfter = staleAfter;
+        this.failAfter = failAfter;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.leaseTtl = leaseTtl;
+        this.reassignRetryInterval = reassignRetryInterval;
+        this.maxReassignsPerBatch = maxReassignsPerBatch;
+    }
+
+    /**
+     * 주기 실행 (이전 실행 종료 후 interval 대기)
+     */
+    @Scheduled(
+            initialDelayString = "${hub-delivery.sweeper.initial-delay:PT1M}",
+            fixedDelayString = "${hub-delivery.sweeper.interval:PT5M}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        metrics.timeSweeperRun(() -> sweep(LocalDateTime.now()));
+    }
+
+    /**
+     * 전체 샤드 처리 (리스를 획득한 샤드만)
+     */
+    void sweep(LocalDateTime now) {
+        for (char shard : SHARDS) {
+            String leaseKey = LEASE_KEY_PREFIX + shard;
+
+            if (!shardLeaseManager.tryAcquire(leaseKey, leaseTtl)) {
+                metrics.recordSweeperShard(SHARD_SKIPPED);
+                continue;
+            }
+
+            metrics.recordSweeperShard(SHARD_ACQUIRED);
+            try {
+                sweepShard(leaseKey, String.valueOf(shard), now);
+            } catch (LeaseLostException e) {
+                metrics.recordSweeperShard(SHARD_LOST);
+                log.warn("방치 배송 스위퍼 리스 연장 실패, 샤드 처리 중단 - shard: {}", shard);
+            } catch (Exception e) {
+                log.error("방치 배송 스위퍼 샤드 처리 실패 - shard: {}, error: {}", shard, e.getMessage(), e);
+            } finally {
+                shardLeaseManager.release(leaseKey);
+            }
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void sweepShard(String leaseKey, String idPrefix, LocalDateTime now) {
+        for (HubDeliveryStatus status : TARGET_STATUSES) {
+            // 1. 오래 방치된 배송 실패 처리 (먼저 처리하여 재배정 대상에서 제외)
+            int failed = scan(leaseKey, status, now.minus(failAfter), null, idPrefix, ids -> {
+                int count = commandService.failStale(ids);
+                metrics.recordSweeperDeliveries(ACTION_FAILED, count);
+            });
+
+            // 2. 방치된 배송 드라이버 배정 재요청 (최근 재요청한 배송 제외)
+            int reassignTargets = scan(leaseKey, status, now.minus(staleAfter), now.minus(reassignRetryInterval),
+                    idPrefix, ids -> reassign(ids, now));
+
+            if (failed > 0 || reassignTargets > 0) {
+                log.info("방치 배송 스위퍼 샤드 처리 - shard: {}, status: {}, failTargets: {}, reassignTargets: {}",
+                        idPrefix, status, failed, reassignTargets);
+            }
+        }
+    }
+
+    /**
+     * 키셋 배치 조회 후 배치마다 리스를 연장하고 처리
+     *
+     * @return 조회된 배송 수
+     * @throws LeaseLostException 리스 연장에 실패한 경우
+     */
+    private int scan(String leaseKey, HubDeliveryStatus status, LocalDateTime updatedBefore,
+                     LocalDateTime reassignAttemptedBefore, String idPrefix, Consumer<List<String>> handler) {
+        HubDeliveryCursor cursor = null;
+        int scanned = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<HubDeliveryCursor> cursors = hubDeliveryRepository.findStaleCursors(
+                    status, updatedBefore, reassignAttemptedBefore, idPrefix, cursor, batchSize);
+            if (cursors.isEmpty()) {
+                break;
+            }
+            if (!shardLeaseManager.renew(leaseKey, leaseTtl)) {
+                throw new LeaseLostException();
+            }
+
+            handler.accept(cursors.stream().map(HubDeliveryCursor::id).toList());
+            scanned += cursors.size();
+
+            if (cursors.size() < batchSize) {
+                break;
+            }
+            cursor = cursors.get(cursors.size() - 1);
+        }
+        return scanned;
+    }
+
+    /**
+     * 배정 가능한 배송을 배치당 최대 건수만큼 골라 시도 시각을 먼저 기록한 뒤 배정 재요청
+     */
+    private void reassign(List<String> ids, LocalDateTime now) {
+        List<HubDelivery> candidates = hubDeliveryRepository.findAllByIds(ids).stream()
+                .filter(hubDelivery -> hubDelivery.getStatus().canAssignDriver()
+                        && hubDelivery.getNextPendingSegmentIndex() >= 0)
+                .limit(maxReassignsPerBatch)
+                .toList();
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // 호출 결과와 관계없이 재요청 간격 동안은 다시 시도하지 않도록 먼저 기록
+        hubDeliveryRepository.markReassignAttempted(
+                candidates.stream().map(HubDelivery::getIdValue).toList(), now);
+
+        int reassigned = 0;
+        int reassignFailed = 0;
+
+        for (HubDelivery hubDelivery : candidates) {
+            int segmentIndex = hubDelivery.getNextPendingSegmentIndex();
+            AssignDriverResult result = commandService.assignDriverForSegment(
+                    AssignDriverForSegmentCommand.builder()
+                            .hubDeliveryId(hubDelivery.getIdValue())
+                            .segmentIndex(segmentIndex)
+                            .requestedBy(REQUESTED_BY)
+                            .build());
+
+            if (result.isSuccess()) {
+                reassigned++;
+            } else {
+                reassignFailed++;
+            }
+        }
+
+        metrics.recordSweeperDeliveries(ACTION_REASSIGNED, reassigned);
+        metrics.recordSweeperDeliveries(ACTION_REASSIGN_FAILED, reassignFailed);
+    }
+
+    /**
+     * 샤드 리스를 잃어 처리를 중단해야 함
+     */
+    private static class LeaseLostException extends RuntimeException {
+
+        LeaseLostException() {
+            super(null, null, false, false);
+        }
+    }
+}
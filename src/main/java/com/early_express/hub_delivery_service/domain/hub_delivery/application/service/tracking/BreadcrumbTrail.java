@@ -0,0 +1,154 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 압축 이동 경로 (breadcrumb)
+ *
+ * 좌표는 1e-5도(약 1m) 단위 정수, 시각은 초 단위로 바꾼 뒤 직전 지점과의 차이를
+ * ZigZag + 가변 길이 정수(varint)로 바이트 배열 하나에 이어 기록합니다.
+ * 연속 지점의 차이는 대부분 1~3바이트라 지점당 6~8바이트 정도이며, 지점마다 객체를 만들지 않습니다.
+ *
+ * 지점 수가 상한에 도달하면 하나 걸러 하나씩 남겨(간격 2배) 다시 인코딩하므로
+ * 긴 구간도 크기가 상한을 넘지 않습니다. 스레드 안전하지 않으며 호출 측에서 동기화합니다.
+ */
+public final class BreadcrumbTrail {
+
+    private static final double SCALE = 1e5;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int maxPoints;
+    private byte[] buffer;
+    private int length;
+    private int points;
+
+    // 직전 지점 (델타 기준)
+    private int lastLat;
+    private int lastLng;
+    private long lastSecond;
+
+    public BreadcrumbTrail(int maxPoints) {
+        this.maxPoints = Math.max(3, maxPoints);
+        this.buffer = new byte[INITIAL_CAPACITY];
+    }
+
+    /**
+     * 저장된 경로로 복원
+     */
+    public static BreadcrumbTrail restore(byte[] data, int maxPoints) {
+        BreadcrumbTrail trail = new BreadcrumbTrail(maxPoints);
+        if (data != null) {
+            for (Point point : decode(data)) {
+                trail.append(point.latitude(), point.longitude(), point.epochSecond());
+            }
+        }
+        return trail;
+    }
+
+    public void append(double latitude, double longitude, long epochSecond) {
+        if (points >= maxPoints) {
+            decimate();
+        }
+
+        int lat = (int) Math.round(latitude * SCALE);
+        int lng = (int) Math.round(longitude * SCALE);
+        writeVarint(zigZag(lat - lastLat));
+        writeVarint(zigZag(lng - lastLng));
+        writeVarint(zigZag(epochSecond - lastSecond));
+
+        lastLat = lat;
+        lastLng = lng;
+        lastSecond = epochSecond;
+        points++;
+    }
+
+    public int size() {
+        return points;
+    }
+
+    public byte[] toBytes() {
+        return Arrays.copyOf(buffer, length);
+    }
+
+    /**
+     * 압축된 경로 해제
+     */
+    public static List<Point> decode(byte[] data) {
+        List<Point> decoded = new ArrayList<>();
+        int[] position = {0};
+        int lat = 0;
+        int lng = 0;
+        long second = 0;
+        while (position[0] < data.length) {
+            lat += (int) unZigZag(readVarint(data, position));
+            lng += (int) unZigZag(readVarint(data, position));
+            second += unZigZag(readVarint(data, position));
+            decoded.add(new Point(lat / SCALE, lng / SCALE, second));
+        }
+        return decoded;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 하나 걸러 하나씩 남기되, 마지막 지점은 유지
+     */
+    private void decimate() {
+        List<Point> current = decode(toBytes());
+        Point last = current.get(current.size() - 1);
+
+        reset();
+        for (int i = 0; i < current.size() - 1; i += 2) {
+            Point point = current.get(i);
+            append(point.latitude(), point.longitude(), point.epochSecond());
+        }
+        append(last.latitude(), last.longitude(), last.epochSecond());
+    }
+
+    private void reset() {
+        length = 0;
+        points = 0;
+        lastLat = 0;
+        lastLng = 0;
+        lastSecond = 0;
+    }
+
+    private void writeVarint(long value) {
+        if (buffer.length - length < 10) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        while ((value & ~0x7FL) != 0) {
+            buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[length++] = (byte) value;
+    }
+
+    private static long readVarint(byte[] data, int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 경로 지점
+     */
+    public record Point(double latitude, double longitude, long epochSecond) {
+    }
+}
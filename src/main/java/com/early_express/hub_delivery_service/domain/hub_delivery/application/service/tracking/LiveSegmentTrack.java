@@ -0,0 +1,237 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.SegmentTrack;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 이동 중 구간의 인메모리 위치 상태
+ *
+ * 핑마다 객체를 남기지 않고 최신 위치와 누적 거리를 기본형 필드로 갱신하며,
+ * 다운샘플링을 통과한 지점만 압축 경로에 기록합니다.
+ * - 이동 거리: 직전 기준점에서 min-movement 이상 벗어났을 때만 누적 (정차 중 GPS 흔들림 제외)
+ * - 경로 기록: 직전 기록 지점에서 sample-interval 또는 sample-distance 이상일 때
+ * - 순서가 뒤바뀐 핑(직전 핑 이전 시각)과 max-speed를 넘는 순간 이동은 버림
+ */
+final class LiveSegmentTrack {
+
+    private static final double EARTH_RADIUS_M = 6_371_000;
+
+    private final String hubDeliveryId;
+    private final int segmentIndex;
+    private final String driverId;
+    private final Long estimatedDistanceM;
+    private final Policy policy;
+    private final BreadcrumbTrail trail;
+
+    // 최신 위치
+    private double latitude;
+    private double longitude;
+    private long recordedAtMillis;
+
+    // 이동 거리 기준점
+    private double anchorLatitude;
+    private double anchorLongitude;
+    private long anchorMillis;
+
+    // 마지막 경로 기록 지점
+    private double sampledLatitude;
+    private double sampledLongitude;
+    private long sampledMillis;
+
+    private double travelledM;
+    private long pingCount;
+    private boolean dirty;
+    private boolean finished;
+
+    // 마지막 수신 시각 (서버 시계, 유휴 구간 정리용)
+    private volatile long touchedAtMillis = System.currentTimeMillis();
+
+    LiveSegmentTrack(String hubDeliveryId, int segmentIndex, String driverId, Long estimatedDistanceM, Policy policy) {
+        this.hubDeliveryId = hubDeliveryId;
+        this.segmentIndex = segmentIndex;
+        this.driverId = driverId;
+        this.estimatedDistanceM = estimatedDistanceM;
+        this.policy = policy;
+        this.trail = new BreadcrumbTrail(policy.maxBreadcrumbPoints());
+    }
+
+    /**
+     * 저장된 추적 상태로 복원 (기동 또는 다른 인스턴스에서 이어받을 때)
+     */
+    LiveSegmentTrack(SegmentTrack saved, String driverId, Long estimatedDistanceM, Policy policy) {
+        this.hubDeliveryId = saved.getHubDeliveryId();
+        this.segmentIndex = saved.getSegmentIndex();
+        this.driverId = driverId;
+        this.estimatedDistanceM = estimatedDistanceM;
+        this.policy = policy;
+        this.trail = BreadcrumbTrail.restore(saved.getBreadcrumb(), policy.maxBreadcrumbPoints());
+
+        this.latitude = saved.getLatitude();
+        this.longitude = saved.getLongitude();
+        this.recordedAtMillis = toEpochMillis(saved.getRecordedAt());
+        this.anchorLatitude = this.sampledLatitude = this.latitude;
+        this.anchorLongitude = this.sampledLongitude = this.longitude;
+        this.anchorMillis = this.sampledMillis = this.recordedAtMillis;
+        this.travelledM = saved.getTravelledM();
+        this.pingCount = saved.getPingCount();
+    }
+
+    /**
+     * 핑 반영
+     *
+     * @return 반영 여부 (종료된 구간이거나, 순서가 뒤바뀌었거나 순간 이동이면 false)
+     */
+    synchronized boolean accept(double lat, double lng, long epochMillis) {
+        if (finished) {
+            return false;
+        }
+        touchedAtMillis = System.currentTimeMillis();
+        if (pingCount == 0) {
+            moveTo(lat, lng, epochMillis);
+            anchor(lat, lng, epochMillis);
+            sample(lat, lng, epochMillis);
+            return true;
+        }
+        if (epochMillis <= recordedAtMillis) {
+            return false;
+        }
+
+        double moved = distanceM(anchorLatitude, anchorLongitude, lat, lng);
+        double elapsedSec = (epochMillis - anchorMillis) / 1000.0;
+        if (moved > policy.maxSpeedMps() * Math.max(elapsedSec, 1.0)) {
+            return false;
+        }
+
+        moveTo(lat, lng, epochMillis);
+        if (moved >= policy.minMovementM()) {
+            travelledM += moved;
+            anchor(lat, lng, epochMillis);
+        }
+        if (epochMillis - sampledMillis >= policy.sampleIntervalMillis()
+                || distanceM(sampledLatitude, sampledLongitude, lat, lng) >= policy.sampleDistanceM()) {
+            sample(lat, lng, epochMillis);
+        }
+        return true;
+    }
+
+    /**
+     * 이동 종료 (마지막 위치를 경로에 남김)
+     */
+    synchronized void finish() {
+        if (pingCount > 0 && sampledMillis != recordedAtMillis) {
+            sample(latitude, longitude, recordedAtMillis);
+        }
+        finished = true;
+        dirty = pingCount > 0;
+    }
+
+    /**
+     * 저장용 스냅샷 (저장 대상에서 제외하려면 clearDirty)
+     */
+    synchronized SegmentTrack snapshot(boolean clearDirty) {
+        if (clearDirty) {
+            dirty = false;
+        }
+        return SegmentTrack.builder()
+                .hubDeliveryId(hubDeliveryId)
+                .segmentIndex(segmentIndex)
+                .driverId(driverId)
+                .latitude(latitude)
+                .longitude(longitude)
+                .recordedAt(toLocalDateTime(recordedAtMillis))
+                .travelledM(travelledM)
+                .estimatedDistanceM(estimatedDistanceM)
+                .pingCount(pingCount)
+                .breadcrumb(trail.toBytes())
+                .breadcrumbPoints(trail.size())
+                .finished(finished)
+                .build();
+    }
+
+    /**
+     * 저장 실패 시 다음 주기에 다시 저장
+     */
+    synchronized void markDirty() {
+        dirty = true;
+    }
+
+    synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    synchronized boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * 기준 시각 이후 핑이 없었는지 (등록 후 핑이 없으면 등록 시각 기준)
+     */
+    boolean isIdleSince(long epochMillis) {
+        return touchedAtMillis < epochMillis;
+    }
+
+    boolean isDriver(String candidate) {
+        return candidate == null || driverId == null || driverId.equals(candidate);
+    }
+
+    String hubDeliveryId() {
+        return hubDeliveryId;
+    }
+
+    String key() {
+        return SegmentTrack.key(hubDeliveryId, segmentIndex);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void moveTo(double lat, double lng, long epochMillis) {
+        latitude = lat;
+        longitude = lng;
+        recordedAtMillis = epochMillis;
+        pingCount++;
+        dirty = true;
+    }
+
+    private void anchor(double lat, double lng, long epochMillis) {
+        anchorLatitude = lat;
+        anchorLongitude = lng;
+        anchorMillis = epochMillis;
+    }
+
+    private void sample(double lat, double lng, long epochMillis) {
+        trail.append(lat, lng, epochMillis / 1000);
+        sampledLatitude = lat;
+        sampledLongitude = lng;
+        sampledMillis = epochMillis;
+    }
+
+    /**
+     * 두 좌표 사이 거리 (하버사인, 미터)
+     */
+    static double distanceM(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * 다운샘플링/필터 기준
+     */
+    record Policy(long sampleIntervalMillis, double sampleDistanceM, double minMovementM,
+                  double maxSpeedMps, int maxBreadcrumbPoints) {
+    }
+}
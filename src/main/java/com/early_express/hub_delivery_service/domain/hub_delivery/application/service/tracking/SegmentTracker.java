@@ -0,0 +1,480 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubSegmentChangedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking.dto.TrackingDto.PingCommand;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking.dto.TrackingDto.PingResult;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking.dto.TrackingDto.SegmentTrackResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryErrorCode;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentSnapshot;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.SegmentTrack;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.SegmentTrackRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 이동 중 구간 위치 추적기
+ *
+ * 드라이버 위치 핑(HTTP 일괄 / Kafka 배치)을 이동 중(IN_TRANSIT) 구간별 인메모리 상태에 반영하고,
+ * 변경된 구간만 flush-interval마다 일괄 저장합니다. (핑마다 DB에 쓰지 않음)
+ * - 구간별로 최신 위치, 누적 이동 거리, 다운샘플링한 압축 경로만 유지
+ * - 진행률 = 누적 이동 거리 / 구간 예상 거리(estimatedDistanceM)
+ *
+ * 추적 대상 등록:
+ * - 기동 시: 이동 중 구간을 배치 단위로 조회하고 저장된 추적 상태를 이어받음
+ * - 운영 중: 구간 상태 변경 이벤트로 등록/종료
+ * - 이 인스턴스가 모르는 구간의 핑: 배치당 한 번 해당 배송을 조회해 이동 중이면 등록 (아니면 unknown-segment-ttl 동안 거절)
+ *
+ * 추적 종료:
+ * - 이 인스턴스에서 도착/취소되면 상태 변경 이벤트로 종료
+ * - 다른 인스턴스에서 종료된 구간은 저장 시 배치당 한 번 배송을 조회해 종료 표시 (종료된 구간의 핑은 거절)
+ *
+ * 같은 구간의 핑이 여러 인스턴스로 나뉘면 저장 상태를 서로 덮어쓰므로,
+ * 다중 인스턴스에서는 hubDeliveryId 키의 Kafka 수신(파티션 고정) 사용을 권장합니다.
+ */
+@Slf4j
+@Component
+public class SegmentTracker {
+
+    static final String RESULT_ACCEPTED = "accepted";
+    static final String RESULT_UNKNOWN_SEGMENT = "unknown_segment";
+    static final String RESULT_DRIVER_MISMATCH = "driver_mismatch";
+    static final String RESULT_INVALID = "invalid";
+    static final String RESULT_STALE = "stale";
+    static final String RESULT_FINISHED = "finished";
+
+    // 드라이버 단말 시계 오차 허용 범위
+    private static final long MAX_CLOCK_SKEW_MILLIS = Duration.ofMinutes(1).toMillis();
+    private static final int UNKNOWN_CACHE_SIZE = 10_000;
+
+    private final Map<String, LiveSegmentTrack> tracks = new ConcurrentHashMap<>();
+    private final Queue<LiveSegmentTrack> detached = new ConcurrentLinkedQueue<>();
+    private final HubDeliveryRepository hubDeliveryRepository;
+    private final SegmentTrackRepository segmentTrackRepository;
+    private final HubDeliveryMetrics metrics;
+    private final boolean enabled;
+    private final LiveSegmentTrack.Policy policy;
+    private final Duration idleTimeout;
+    private final Duration unknownSegmentTtl;
+    private final int flushBatchSize;
+
+    // 이동 중이 아닌 것으로 확인된 구간 키 → 재조회 가능 시각
+    private final Map<String, Long> unknownSegments;
+
+    public SegmentTracker(
+            HubDeliveryRepository hubDeliveryRepository,
+            SegmentTrackRepository segmentTrackRepository,
+            HubDeliveryMetrics metrics,
+            @Value("${hub-delivery.tracking.enabled:true}") boolean enabled,
+            @Value("${hub-delivery.tracking.sample-interval:30s}") Duration sampleInterval,
+            @Value("${hub-delivery.tracking.sample-distance-m:200}") double sampleDistanceM,
+            @Value("${hub-delivery.tracking.min-movement-m:15}") double minMovementM,
+            @Value("${hub-delivery.tracking.max-speed-kmh:200}") double maxSpeedKmh,
+            @Value("${hub-delivery.tracking.max-breadcrumb-points:500}") int maxBreadcrumbPoints,
+            @Value("${hub-delivery.tracking.idle-timeout:30m}") Duration idleTimeout,
+            @Value("${hub-delivery.tracking.unknown-segment-ttl:1m}") Duration unknownSegmentTtl,
+            @Value("${hub-delivery.tracking.flush-batch-size:500}") int flushBatchSize) {
+        this.hubDeliveryRepository = hubDeliveryRepository;
+        this.segmentTrackRepository = segmentTrackRepository;
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.policy = new LiveSegmentTrack.Policy(sampleInterval.toMillis(), sampleDistanceM, minMovementM,
+                maxSpeedKmh * 1000 / 3600, maxBreadcrumbPoints);
+        this.idleTimeout = idleTimeout;
+        this.unknownSegmentTtl = unknownSegmentTtl;
+        this.flushBatchSize = flushBatchSize;
+        this.unknownSegments = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > UNKNOWN_CACHE_SIZE;
+            }
+        });
+
+        metrics.bindTrackedSegments(tracks::size);
+    }
+
+    // ==================== 수명 주기 ====================
+
+    /**
+     * 기동 시 이동 중 구간 등록 (저장된 추적 상태 이어받음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("구간 위치 추적 비활성화");
+            return;
+        }
+
+        int inTransit = loadInTransit();
+
+        log.info("구간 위치 추적 시작 - inTransit: {}, restored: {}", inTransit, tracks.size());
+    }
+
+    /**
+     * 이동 중 구간을 배치 단위로 조회하여 등록 (배치마다 저장된 추적 상태 한 번 조회)
+     *
+     * @return 조회한 구간 수
+     */
+    private int loadInTransit() {
+        int loaded = 0;
+        HubSegmentSnapshot after = null;
+        while (true) {
+            List<HubSegmentSnapshot> batch = hubDeliveryRepository.findSegmentsByStatus(
+                    HubSegmentStatus.IN_TRANSIT, after, flushBatchSize);
+            Map<String, SegmentTrack> saved = findSaved(batch.stream()
+                    .map(snapshot -> SegmentTrack.key(snapshot.getHubDeliveryId(), snapshot.getSegment().getSequence()))
+                    .toList());
+            batch.forEach(snapshot -> track(snapshot.getHubDeliveryId(), snapshot.getSegment(), saved));
+            loaded += batch.size();
+
+            if (batch.size() < flushBatchSize) {
+                return loaded;
+            }
+            after = batch.get(batch.size() - 1);
+        }
+    }
+
+    /**
+     * 종료 시 남은 변경 저장
+     */
+    @PreDestroy
+    public void stop() {
+        if (enabled) {
+            flush();
+        }
+    }
+
+    // ==================== 등록/종료 ====================
+
+    /**
+     * 구간 상태 변경 수신 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSegmentChanged(HubSegmentChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        HubSegment segment = event.getSegment();
+        String key = SegmentTrack.key(event.getHubDeliveryId(), segment.getSequence());
+
+        if (event.isTransitionTo(HubSegmentStatus.IN_TRANSIT)) {
+            unknownSegments.remove(key);
+            tracks.put(key, new LiveSegmentTrack(event.getHubDeliveryId(), segment.getSequence(),
+                    segment.getDriverId(), segment.getEstimatedDistanceM(), policy));
+        } else if (event.getPreviousStatus() == HubSegmentStatus.IN_TRANSIT) {
+            LiveSegmentTrack track = tracks.remove(key);
+            if (track != null) {
+                track.finish();
+                detached.add(track);
+            }
+        }
+    }
+
+    // ==================== 핑 수신 ====================
+
+    /**
+     * 위치 핑 일괄 반영
+     *
+     * 메모리만 갱신하며, 이 인스턴스가 모르는 구간이 있을 때만 배치당 한 번 배송을 조회합니다.
+     */
+    public PingResult ingest(List<PingCommand> pings) {
+        Map<String, Integer> counts = new HashMap<>();
+        if (!enabled) {
+            counts.put(RESULT_UNKNOWN_SEGMENT, pings.size());
+            return toResult(pings.size(), counts);
+        }
+
+        long now = System.currentTimeMillis();
+        List<PingCommand> unresolved = null;
+        for (PingCommand ping : pings) {
+            if (!isValid(ping, now)) {
+                counts.merge(RESULT_INVALID, 1, Integer::sum);
+                continue;
+            }
+
+            String key = SegmentTrack.key(ping.getHubDeliveryId(), ping.getSegmentIndex());
+            LiveSegmentTrack track = tracks.get(key);
+            if (track != null) {
+                counts.merge(apply(track, ping, now), 1, Integer::sum);
+            } else if (isKnownUnknown(key, now)) {
+                counts.merge(RESULT_UNKNOWN_SEGMENT, 1, Integer::sum);
+            } else {
+                if (unresolved == null) {
+                    unresolved = new ArrayList<>();
+                }
+                unresolved.add(ping);
+            }
+        }
+
+        if (unresolved != null) {
+            resolve(unresolved, now);
+            for (PingCommand ping : unresolved) {
+                LiveSegmentTrack track = tracks.get(SegmentTrack.key(ping.getHubDeliveryId(), ping.getSegmentIndex()));
+                counts.merge(track != null ? apply(track, ping, now) : RESULT_UNKNOWN_SEGMENT, 1, Integer::sum);
+            }
+        }
+
+        metrics.recordTrackingPings(counts);
+        return toResult(pings.size(), counts);
+    }
+
+    // ==================== 저장 ====================
+
+    /**
+     * 변경된 구간 일괄 저장 (이전 실행 종료 후 flush-interval 대기)
+     *
+     * 저장에 실패한 구간은 다음 주기에 다시 저장하며, idle-timeout 동안 핑이 없는 구간은
+     * 저장 후 메모리에서 내립니다. (다른 인스턴스에서 도착 처리된 경우 등, 핑이 다시 오면 저장 상태로 복원)
+     */
+    @Scheduled(fixedDelayString = "${hub-delivery.tracking.flush-interval:PT10S}",
+            initialDelayString = "${hub-delivery.tracking.flush-interval:PT10S}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        long idleCutoff = System.currentTimeMillis() - idleTimeout.toMillis();
+        List<LiveSegmentTrack> pending = new ArrayList<>();
+
+        LiveSegmentTrack finished;
+        while ((finished = detached.poll()) != null) {
+            // 핑 없이 종료된 구간은 저장할 위치가 없음
+            if (finished.isDirty()) {
+                pending.add(finished);
+            }
+        }
+
+        Iterator<LiveSegmentTrack> iterator = tracks.values().iterator();
+        while (iterator.hasNext()) {
+            LiveSegmentTrack track = iterator.next();
+            if (track.isIdleSince(idleCutoff)) {
+                iterator.remove();
+            }
+            if (track.isDirty()) {
+                pending.add(track);
+            }
+        }
+
+        for (int from = 0; from < pending.size(); from += flushBatchSize) {
+            List<LiveSegmentTrack> chunk = pending.subList(from, Math.min(from + flushBatchSize, pending.size()));
+            finishEnded(chunk);
+            save(chunk);
+        }
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 구간 위치 추적 조회 (추적 중이면 메모리, 아니면 저장된 상태)
+     *
+     * @throws HubDeliveryException 위치 정보가 없는 경우
+     */
+    public SegmentTrackResponse findTrack(String hubDeliveryId, int segmentIndex) {
+        LiveSegmentTrack live = tracks.get(SegmentTrack.key(hubDeliveryId, segmentIndex));
+        SegmentTrack track = live != null
+                ? live.snapshot(false)
+                : segmentTrackRepository.find(hubDeliveryId, segmentIndex).orElseThrow(() ->
+                        new HubDeliveryException(HubDeliveryErrorCode.SEGMENT_TRACK_NOT_FOUND,
+                                String.format("구간 위치 정보를 찾을 수 없습니다: %s (구간 %d)", hubDeliveryId, segmentIndex)));
+        return SegmentTrackResponse.from(track);
+    }
+
+    public int getTrackedCount() {
+        return tracks.size();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private String apply(LiveSegmentTrack track, PingCommand ping, long now) {
+        if (track.isFinished()) {
+            return RESULT_FINISHED;
+        }
+        if (!track.isDriver(ping.getDriverId())) {
+            return RESULT_DRIVER_MISMATCH;
+        }
+        long recordedAt = ping.getRecordedAt() != null ? LiveSegmentTrack.toEpochMillis(ping.getRecordedAt()) : now;
+        return track.accept(ping.getLatitude(), ping.getLongitude(), recordedAt) ? RESULT_ACCEPTED : RESULT_STALE;
+    }
+
+    private boolean isValid(PingCommand ping, long now) {
+        if (ping.getHubDeliveryId() == null || ping.getSegmentIndex() == null || ping.getSegmentIndex() < 0
+                || ping.getLatitude() == null || ping.getLongitude() == null) {
+            return false;
+        }
+        double lat = ping.getLatitude();
+        double lng = ping.getLongitude();
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            return false;
+        }
+        return ping.getRecordedAt() == null
+                || LiveSegmentTrack.toEpochMillis(ping.getRecordedAt()) <= now + MAX_CLOCK_SKEW_MILLIS;
+    }
+
+    private boolean isKnownUnknown(String key, long now) {
+        Long retryAt = unknownSegments.get(key);
+        return retryAt != null && retryAt > now;
+    }
+
+    /**
+     * 모르는 구간의 배송을 한 번에 조회해 이동 중인 구간 등록
+     */
+    private void resolve(List<PingCommand> pings, long now) {
+        Set<String> hubDeliveryIds = new HashSet<>();
+        Set<String> keys = new HashSet<>();
+        for (PingCommand ping : pings) {
+            hubDeliveryIds.add(ping.getHubDeliveryId());
+            keys.add(SegmentTrack.key(ping.getHubDeliveryId(), ping.getSegmentIndex()));
+        }
+
+        List<HubSegmentSnapshot> inTransit = new ArrayList<>();
+        for (HubDelivery hubDelivery : hubDeliveryRepository.findAllByIds(hubDeliveryIds)) {
+            for (int i = 0; i < hubDelivery.getTotalSegments(); i++) {
+                HubSegment segment = hubDelivery.getSegment(i);
+                if (segment.isInTransit() && keys.contains(SegmentTrack.key(hubDelivery.getIdValue(), i))) {
+                    inTransit.add(HubSegmentSnapshot.of(hubDelivery.getIdValue(), hubDelivery.getOrderId(), segment));
+                }
+            }
+        }
+
+        Map<String, SegmentTrack> saved = findSaved(inTransit.stream()
+                .map(snapshot -> SegmentTrack.key(snapshot.getHubDeliveryId(), snapshot.getSegment().getSequence()))
+                .toList());
+        inTransit.forEach(snapshot -> track(snapshot.getHubDeliveryId(), snapshot.getSegment(), saved));
+
+        long retryAt = now + unknownSegmentTtl.toMillis();
+        for (String key : keys) {
+            if (!tracks.containsKey(key)) {
+                unknownSegments.put(key, retryAt);
+            }
+        }
+    }
+
+    private void track(String hubDeliveryId, HubSegment segment, Map<String, SegmentTrack> saved) {
+        String key = SegmentTrack.key(hubDeliveryId, segment.getSequence());
+        tracks.computeIfAbsent(key, ignored -> {
+            SegmentTrack restored = saved.get(key);
+            return restored != null
+                    ? new LiveSegmentTrack(restored, segment.getDriverId(), segment.getEstimatedDistanceM(), policy)
+                    : new LiveSegmentTrack(hubDeliveryId, segment.getSequence(), segment.getDriverId(),
+                            segment.getEstimatedDistanceM(), policy);
+        });
+    }
+
+    /**
+     * 저장된 추적 상태 (이전 이동의 종료된 기록은 제외)
+     */
+    private Map<String, SegmentTrack> findSaved(Collection<String> keys) {
+        Map<String, SegmentTrack> saved = new HashMap<>();
+        for (SegmentTrack track : segmentTrackRepository.findAllByKeys(keys)) {
+            if (!track.isFinished()) {
+                saved.put(track.key(), track);
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * 다른 인스턴스에서 종료된 구간 확인 (배송을 한 번에 조회)
+     *
+     * 이동 중이 아닌 구간은 종료 표시 후 메모리에서 내리고, 이후 핑은 조회 없이 거절합니다.
+     * 조회에 실패하면 확인 없이 저장하고 다음 주기에 다시 확인합니다.
+     */
+    private void finishEnded(List<LiveSegmentTrack> chunk) {
+        Set<String> hubDeliveryIds = new HashSet<>();
+        for (LiveSegmentTrack track : chunk) {
+            if (!track.isFinished()) {
+                hubDeliveryIds.add(track.hubDeliveryId());
+            }
+        }
+        if (hubDeliveryIds.isEmpty()) {
+            return;
+        }
+
+        Set<String> ended = new HashSet<>();
+        try {
+            for (HubDelivery hubDelivery : hubDeliveryRepository.findAllByIds(hubDeliveryIds)) {
+                for (int i = 0; i < hubDelivery.getTotalSegments(); i++) {
+                    if (!hubDelivery.getSegment(i).isInTransit()) {
+                        ended.add(SegmentTrack.key(hubDelivery.getIdValue(), i));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("구간 상태 확인 실패, 다음 주기에 재확인 - hubDeliveries: {}, error: {}",
+                    hubDeliveryIds.size(), e.getMessage());
+            return;
+        }
+
+        long retryAt = System.currentTimeMillis() + unknownSegmentTtl.toMillis();
+        for (LiveSegmentTrack track : chunk) {
+            String key = track.key();
+            if (ended.contains(key) && !track.isFinished()) {
+                track.finish();
+                tracks.remove(key, track);
+                unknownSegments.put(key, retryAt);
+            }
+        }
+    }
+
+    private void save(List<LiveSegmentTrack> chunk) {
+        List<SegmentTrack> snapshots = chunk.stream()
+                .map(track -> track.snapshot(true))
+                .toList();
+        try {
+            segmentTrackRepository.saveAll(snapshots);
+            metrics.recordTrackingFlush(HubDeliveryMetrics.OUTCOME_SUCCESS, snapshots.size());
+        } catch (Exception e) {
+            metrics.recordTrackingFlush(HubDeliveryMetrics.OUTCOME_ERROR, snapshots.size());
+            log.error("구간 위치 저장 실패, 다음 주기에 재시도 - tracks: {}, error: {}", snapshots.size(), e.getMessage(), e);
+
+            for (LiveSegmentTrack track : chunk) {
+                track.markDirty();
+                // 메모리에서 내린 구간은 다음 주기 저장 대상으로 다시 보관
+                if (tracks.get(track.key()) != track) {
+                    detached.add(track);
+                }
+            }
+        }
+    }
+
+    private PingResult toResult(int received, Map<String, Integer> counts) {
+        int accepted = counts.getOrDefault(RESULT_ACCEPTED, 0);
+        Map<String, Integer> rejectedBy = new HashMap<>(counts);
+        rejectedBy.remove(RESULT_ACCEPTED);
+
+        return PingResult.builder()
+                .received(received)
+                .accepted(accepted)
+                .rejected(received - accepted)
+                .rejectedBy(rejectedBy)
+                .build();
+    }
+}
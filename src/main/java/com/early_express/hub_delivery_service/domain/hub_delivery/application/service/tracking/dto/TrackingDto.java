@@ -0,0 +1,111 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking.dto;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking.BreadcrumbTrail;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.SegmentTrack;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 드라이버 위치 추적 DTO
+ */
+public class TrackingDto {
+
+    /**
+     * 드라이버 위치 핑
+     */
+    @Getter
+    @Builder
+    public static class PingCommand {
+        private String hubDeliveryId;
+        private Integer segmentIndex;
+        private String driverId;
+        private Double latitude;
+        private Double longitude;
+        private LocalDateTime recordedAt;  // 없으면 수신 시각
+    }
+
+    /**
+     * 핑 일괄 수신 결과
+     */
+    @Getter
+    @Builder
+    public static class PingResult {
+        private int received;
+        private int accepted;
+        private int rejected;
+
+        /** 거절 사유별 건수 (unknown_segment, driver_mismatch, invalid, stale) */
+        private Map<String, Integer> rejectedBy;
+    }
+
+    /**
+     * 구간 위치 추적 응답
+     */
+    @Getter
+    @Builder
+    public static class SegmentTrackResponse {
+        private String hubDeliveryId;
+        private Integer segmentIndex;
+        private String driverId;
+        private Double latitude;
+        private Double longitude;
+        private LocalDateTime recordedAt;
+        private Long travelledM;
+        private Long estimatedDistanceM;
+        private Long remainingM;
+        private Double progress;
+        private Long pingCount;
+        private Boolean finished;
+        private List<TrackPointResponse> breadcrumb;
+
+        public static SegmentTrackResponse from(SegmentTrack track) {
+            List<TrackPointResponse> breadcrumb = track.getBreadcrumb() != null
+                    ? BreadcrumbTrail.decode(track.getBreadcrumb()).stream()
+                            .map(TrackPointResponse::from)
+                            .toList()
+                    : List.of();
+
+            return SegmentTrackResponse.builder()
+                    .hubDeliveryId(track.getHubDeliveryId())
+                    .segmentIndex(track.getSegmentIndex())
+                    .driverId(track.getDriverId())
+                    .latitude(track.getLatitude())
+                    .longitude(track.getLongitude())
+                    .recordedAt(track.getRecordedAt())
+                    .travelledM(Math.round(track.getTravelledM()))
+                    .estimatedDistanceM(track.getEstimatedDistanceM())
+                    .remainingM(track.getRemainingM())
+                    .progress(track.getProgress())
+                    .pingCount(track.getPingCount())
+                    .finished(track.isFinished())
+                    .breadcrumb(breadcrumb)
+                    .build();
+        }
+    }
+
+    /**
+     * 이동 경로 지점 응답
+     */
+    @Getter
+    @Builder
+    public static class TrackPointResponse {
+        private Double latitude;
+        private Double longitude;
+        private LocalDateTime recordedAt;
+
+        public static TrackPointResponse from(BreadcrumbTrail.Point point) {
+            return TrackPointResponse.builder()
+                    .latitude(point.latitude())
+                    .longitude(point.longitude())
+                    .recordedAt(LocalDateTime.ofInstant(Instant.ofEpochSecond(point.epochSecond()),
+                            ZoneId.systemDefault()))
+                    .build();
+        }
+    }
+}
@@ -14,12 +14,17 @@ public enum HubDeliveryErrorCode implements ErrorCode {
     // 조회 관련 (404)
     HUB_DELIVERY_NOT_FOUND("HUB_DELIVERY_001", "허브 배송 정보를 찾을 수 없습니다.", 404),
     HUB_SEGMENT_NOT_FOUND("HUB_DELIVERY_002", "허브 구간 정보를 찾을 수 없습니다.", 404),
+    LANE_STATISTICS_NOT_FOUND("HUB_DELIVERY_003", "레인 통계 정보를 찾을 수 없습니다.", 404),
+    HUB_DWELL_STATISTICS_NOT_FOUND("HUB_DELIVERY_004", "허브 체류 시간 통계 정보를 찾을 수 없습니다.", 404),
+    MANIFEST_NOT_FOUND("HUB_DELIVERY_005", "적재 목록 정보를 찾을 수 없습니다.", 404),
+    SEGMENT_TRACK_NOT_FOUND("HUB_DELIVERY_006", "구간 위치 정보를 찾을 수 없습니다.", 404),
 
     // 상태 관련 (400)
     INVALID_HUB_DELIVERY_STATUS("HUB_DELIVERY_101", "유효하지 않은 허브 배송 상태입니다.", 400),
     INVALID_STATUS_TRANSITION("HUB_DELIVERY_102", "허용되지 않는 상태 전환입니다.", 400),
     HUB_DELIVERY_ALREADY_COMPLETED("HUB_DELIVERY_103", "이미 완료된 허브 배송입니다.", 400),
     HUB_DELIVERY_ALREADY_FAILED("HUB_DELIVERY_104", "이미 실패한 허브 배송입니다.", 400),
+    INVALID_MANIFEST_STATUS("HUB_DELIVERY_105", "허용되지 않는 적재 목록 상태 전환입니다.", 400),
 
     // 구간 관련 (400)
     INVALID_SEGMENT_INDEX("HUB_DELIVERY_201", "유효하지 않은 구간 순서입니다.", 400),
@@ -38,9 +43,16 @@ public enum HubDeliveryErrorCode implements ErrorCode {
     INVALID_HUB_ID("HUB_DELIVERY_402", "유효하지 않은 허브 ID입니다.", 400),
     INVALID_ROUTING_DATA("HUB_DELIVERY_403", "유효하지 않은 경로 데이터입니다.", 400),
     EMPTY_SEGMENTS("HUB_DELIVERY_404", "허브 구간이 비어있습니다.", 400),
+    EMPTY_MANIFEST("HUB_DELIVERY_405", "적재 목록에 구간이 없습니다.", 400),
 
     // 중복 관련 (409)
-    HUB_DELIVERY_ALREADY_EXISTS("HUB_DELIVERY_501", "해당 주문의 허브 배송이 이미 존재합니다.", 409);
+    HUB_DELIVERY_ALREADY_EXISTS("HUB_DELIVERY_501", "해당 주문의 허브 배송이 이미 존재합니다.", 409),
+    MANIFEST_PLAN_IN_PROGRESS("HUB_DELIVERY_502", "해당 허브의 적재 목록을 다른 요청이 편성 중입니다. 잠시 후 다시 시도해주세요.", 409),
+
+    // 일시적 사용 불가 (503)
+    ANALYTICS_NOT_AVAILABLE("HUB_DELIVERY_601", "실시간 분석 스토어를 조회할 수 없습니다.", 503),
+    LIVE_FEED_NOT_AVAILABLE("HUB_DELIVERY_602", "실시간 피드를 구독할 수 없습니다. 잠시 후 다시 연결해주세요.", 503),
+    DRIVER_SERVICE_BUSY("HUB_DELIVERY_603", "드라이버 서비스 동시 호출 한도를 초과했습니다. 잠시 후 다시 시도해주세요.", 503);
 
     private final String code;
     private final String message;
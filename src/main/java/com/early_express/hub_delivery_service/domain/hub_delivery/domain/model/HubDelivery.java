@@ -9,6 +9,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -36,6 +37,9 @@ public class HubDelivery {
     private LocalDateTime completedAt;
     private Long totalEstimatedDurationMin;
     private Long totalActualDurationMin;
+    private LocalDateTime departureDeadline;     // 출발 마감 시각 (주문 기준)
+    private LocalDateTime estimatedArrivalTime;  // 최종 허브 도착 예정 시각
+    private Long version;                        // 애그리거트 버전 (커밋마다 증가, 신규는 null)
 
     // Audit 필드
     private LocalDateTime createdAt;
@@ -52,8 +56,9 @@ public class HubDelivery {
                         HubDeliveryStatus status, String driverId,
                         Integer currentSegmentIndex, LocalDateTime startedAt,
                         LocalDateTime completedAt, Long totalEstimatedDurationMin,
-                        Long totalActualDurationMin, LocalDateTime createdAt,
-                        String createdBy, LocalDateTime updatedAt, String updatedBy,
+                        Long totalActualDurationMin, LocalDateTime departureDeadline,
+                        LocalDateTime estimatedArrivalTime, Long version,
+                        LocalDateTime createdAt, String createdBy, LocalDateTime updatedAt, String updatedBy,
                         LocalDateTime deletedAt, String deletedBy, boolean isDeleted) {
         this.id = id;
         this.orderId = orderId;
@@ -67,6 +72,9 @@ public class HubDelivery {
         this.completedAt = completedAt;
         this.totalEstimatedDurationMin = totalEstimatedDurationMin;
         this.totalActualDurationMin = totalActualDurationMin;
+        this.departureDeadline = departureDeadline;
+        this.estimatedArrivalTime = estimatedArrivalTime;
+        this.version = version;
         this.createdAt = createdAt;
         this.createdBy = createdBy;
         this.updatedAt = updatedAt;
@@ -91,6 +99,20 @@ public class HubDelivery {
     public static HubDelivery create(String orderId, String originHubId,
                                      String destinationHubId, List<HubSegment> segments,
                                      String createdBy) {
+        return create(orderId, originHubId, destinationHubId, segments, null, null, createdBy);
+    }
+
+    /**
+     * 새로운 HubDelivery 생성 (마감 시각 포함)
+     *
+     * @param departureDeadline 출발 마감 시각 (없으면 null)
+     * @param estimatedArrivalTime 최종 허브 도착 예정 시각 (없으면 null)
+     * @see #create(String, String, String, List, String)
+     */
+    public static HubDelivery create(String orderId, String originHubId,
+                                     String destinationHubId, List<HubSegment> segments,
+                                     LocalDateTime departureDeadline, LocalDateTime estimatedArrivalTime,
+                                     String createdBy) {
         validateNotBlank(orderId, "주문 ID");
         validateNotBlank(originHubId, "출발 허브 ID");
         validateNotBlank(destinationHubId, "도착 허브 ID");
@@ -109,6 +131,8 @@ public class HubDelivery {
                 .status(HubDeliveryStatus.CREATED)
                 .currentSegmentIndex(0)
                 .totalEstimatedDurationMin(totalEstimatedDuration)
+                .departureDeadline(departureDeadline)
+                .estimatedArrivalTime(estimatedArrivalTime)
                 .createdAt(LocalDateTime.now())
                 .createdBy(createdBy)
                 .isDeleted(false)
@@ -124,8 +148,9 @@ public class HubDelivery {
             HubDeliveryStatus status, String driverId,
             Integer currentSegmentIndex, LocalDateTime startedAt,
             LocalDateTime completedAt, Long totalEstimatedDurationMin,
-            Long totalActualDurationMin, LocalDateTime createdAt,
-            String createdBy, LocalDateTime updatedAt, String updatedBy,
+            Long totalActualDurationMin, LocalDateTime departureDeadline,
+            LocalDateTime estimatedArrivalTime, Long version,
+            LocalDateTime createdAt, String createdBy, LocalDateTime updatedAt, String updatedBy,
             LocalDateTime deletedAt, String deletedBy, boolean isDeleted) {
 
         return HubDelivery.builder()
@@ -141,6 +166,9 @@ public class HubDelivery {
                 .completedAt(completedAt)
                 .totalEstimatedDurationMin(totalEstimatedDurationMin)
                 .totalActualDurationMin(totalActualDurationMin)
+                .departureDeadline(departureDeadline)
+                .estimatedArrivalTime(estimatedArrivalTime)
+                .version(version)
                 .createdAt(createdAt)
                 .createdBy(createdBy)
                 .updatedAt(updatedAt)
@@ -202,6 +230,75 @@ public class HubDelivery {
                 driverId);
     }
 
+    /**
+     * 특정 구간에 드라이버 선배정
+     *
+     * 구간 상태: PENDING → ASSIGNED (만료 시각 포함)
+     *
+     * @param segmentIndex 구간 인덱스
+     * @param driverId 드라이버 ID
+     * @param reservedUntil 선배정 만료 시각
+     * @throws HubDeliveryException 유효하지 않은 구간 인덱스 또는 배정 불가 상태
+     */
+    public void reserveDriverForSegment(int segmentIndex, String driverId, LocalDateTime reservedUntil) {
+        validateNotTerminal();
+        validateSegmentIndex(segmentIndex);
+
+        HubSegment segment = this.segments.get(segmentIndex);
+        this.segments.set(segmentIndex, segment.reserveDriver(driverId, reservedUntil));
+
+        log.info("구간 드라이버 선배정 - hubDeliveryId: {}, segment: {}/{}, driverId: {}, reservedUntil: {}",
+                this.getIdValue(),
+                segmentIndex + 1,
+                this.segments.size(),
+                driverId,
+                reservedUntil);
+    }
+
+    /**
+     * 구간 선배정 해제
+     *
+     * 구간 상태: ASSIGNED(선배정) → PENDING
+     *
+     * @param segmentIndex 구간 인덱스
+     * @throws HubDeliveryException 유효하지 않은 구간 인덱스 또는 선배정 상태가 아닌 경우
+     */
+    public void releaseSegmentReservation(int segmentIndex) {
+        validateNotTerminal();
+        validateSegmentIndex(segmentIndex);
+
+        HubSegment segment = this.segments.get(segmentIndex);
+        this.segments.set(segmentIndex, segment.releaseReservation());
+
+        log.info("구간 선배정 해제 - hubDeliveryId: {}, segment: {}/{}, driverId: {}",
+                this.getIdValue(),
+                segmentIndex + 1,
+                this.segments.size(),
+                segment.getDriverId());
+    }
+
+    /**
+     * 특정 구간 드라이버 배정 해제
+     *
+     * 구간 상태: ASSIGNED → PENDING
+     *
+     * @param segmentIndex 구간 인덱스
+     * @throws HubDeliveryException 유효하지 않은 구간 인덱스 또는 배정 상태가 아닌 경우
+     */
+    public void releaseSegmentDriver(int segmentIndex) {
+        validateNotTerminal();
+        validateSegmentIndex(segmentIndex);
+
+        HubSegment segment = this.segments.get(segmentIndex);
+        this.segments.set(segmentIndex, segment.releaseDriver());
+
+        log.info("구간 드라이버 배정 해제 - hubDeliveryId: {}, segment: {}/{}, driverId: {}",
+                this.getIdValue(),
+                segmentIndex + 1,
+                this.segments.size(),
+                segment.getDriverId());
+    }
+
     /**
      * 구간 출발
      *
@@ -432,6 +529,63 @@ public class HubDelivery {
         return -1;
     }
 
+    /**
+     * 구간 출발 전 허브 체류 시간 (앞 구간 도착 ~ 해당 구간 출발)
+     *
+     * @return 첫 구간이거나 시각 정보가 없으면 null
+     */
+    public Duration getHubDwell(int segmentIndex) {
+        if (segmentIndex <= 0 || segmentIndex >= this.segments.size()) {
+            return null;
+        }
+
+        LocalDateTime arrivedAt = this.segments.get(segmentIndex - 1).getArrivedAt();
+        LocalDateTime departedAt = this.segments.get(segmentIndex).getDepartedAt();
+        if (arrivedAt == null || departedAt == null) {
+            return null;
+        }
+        return Duration.between(arrivedAt, departedAt);
+    }
+
+    /**
+     * 배정 가능 구간 여부 (대기 중이며 앞 구간이 도착 완료)
+     */
+    public boolean isSegmentDispatchable(int segmentIndex) {
+        if (this.status.isTerminal() || segmentIndex < 0 || segmentIndex >= this.segments.size()) {
+            return false;
+        }
+        return this.segments.get(segmentIndex).isPending()
+                && (segmentIndex == 0 || this.segments.get(segmentIndex - 1).isCompleted());
+    }
+
+    /**
+     * 구간 출발 마감 시각
+     *
+     * 도착 예정 시각에서 남은 구간(해당 구간 포함)의 예상 소요 시간을 뺀 최종 출발 시각입니다.
+     * 첫 구간은 출발 마감 시각과 비교하여 더 이른 값을 사용합니다.
+     *
+     * @return 마감 정보가 없으면 null
+     */
+    public LocalDateTime getSegmentDeadline(int segmentIndex) {
+        validateSegmentIndex(segmentIndex);
+
+        LocalDateTime latestStart = null;
+        if (this.estimatedArrivalTime != null) {
+            long remainingMin = 0;
+            for (int i = segmentIndex; i < this.segments.size(); i++) {
+                Long duration = this.segments.get(i).getEstimatedDurationMin();
+                remainingMin += duration != null ? duration : 0;
+            }
+            latestStart = this.estimatedArrivalTime.minusMinutes(remainingMin);
+        }
+
+        if (segmentIndex == 0 && this.departureDeadline != null
+                && (latestStart == null || this.departureDeadline.isBefore(latestStart))) {
+            return this.departureDeadline;
+        }
+        return latestStart;
+    }
+
     /**
      * 모든 구간 완료 여부
      */
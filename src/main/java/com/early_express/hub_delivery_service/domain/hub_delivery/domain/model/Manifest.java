@@ -0,0 +1,289 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.domain.model;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryErrorCode;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubLane;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestId;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestItem;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestStatus;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Manifest Aggregate Root
+ *
+ * 간선 트럭 한 대가 같은 레인(fromHubId → toHubId)으로 같은 출발 웨이브에 싣고 가는
+ * 허브 구간 묶음입니다. 드라이버 배정, 출발, 도착을 적재 목록 단위로 관리하며
+ * 구간 상태는 HubDelivery가 그대로 소유합니다.
+ */
+@Slf4j
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Manifest {
+
+    private ManifestId id;
+    private String fromHubId;
+    private String toHubId;
+    private LocalDateTime waveStartAt;        // 출발 웨이브 시작 시각
+    private LocalDateTime departureDeadline;  // 항목 중 가장 이른 출발 마감 시각
+    private List<ManifestItem> items;
+    private ManifestStatus status;
+    private String driverId;
+    private LocalDateTime assignedAt;
+    private LocalDateTime departedAt;
+    private LocalDateTime arrivedAt;
+
+    // Audit 필드
+    private LocalDateTime createdAt;
+    private String createdBy;
+    private LocalDateTime updatedAt;
+    private String updatedBy;
+
+    @Builder
+    private Manifest(ManifestId id, String fromHubId, String toHubId,
+                     LocalDateTime waveStartAt, LocalDateTime departureDeadline,
+                     List<ManifestItem> items, ManifestStatus status, String driverId,
+                     LocalDateTime assignedAt, LocalDateTime departedAt, LocalDateTime arrivedAt,
+                     LocalDateTime createdAt, String createdBy,
+                     LocalDateTime updatedAt, String updatedBy) {
+        this.id = id;
+        this.fromHubId = fromHubId;
+        this.toHubId = toHubId;
+        this.waveStartAt = waveStartAt;
+        this.departureDeadline = departureDeadline;
+        this.items = items != null ? new ArrayList<>(items) : new ArrayList<>();
+        this.status = status;
+        this.driverId = driverId;
+        this.assignedAt = assignedAt;
+        this.departedAt = departedAt;
+        this.arrivedAt = arrivedAt;
+        this.createdAt = createdAt;
+        this.createdBy = createdBy;
+        this.updatedAt = updatedAt;
+        this.updatedBy = updatedBy;
+    }
+
+    // ===== 팩토리 메서드 =====
+
+    /**
+     * 새로운 Manifest 생성
+     *
+     * @param fromHubId 출발 허브 ID
+     * @param toHubId 도착 허브 ID
+     * @param waveStartAt 출발 웨이브 시작 시각
+     * @param items 적재 구간 (모두 같은 레인의 PENDING 구간)
+     * @param createdBy 생성자
+     * @return 생성된 Manifest (PLANNED 상태)
+     */
+    public static Manifest create(String fromHubId, String toHubId, LocalDateTime waveStartAt,
+                                  List<ManifestItem> items, String createdBy) {
+        validateHubId(fromHubId, "출발 허브 ID");
+        validateHubId(toHubId, "도착 허브 ID");
+        validateNotEmpty(items);
+
+        LocalDateTime departureDeadline = items.stream()
+                .map(ManifestItem::getDeadline)
+                .filter(Objects::nonNull)
+                .min(LocalDateTime::compareTo)
+                .orElse(null);
+
+        return Manifest.builder()
+                .id(null)  // Entity에서 UUID 생성
+                .fromHubId(fromHubId)
+                .toHubId(toHubId)
+                .waveStartAt(waveStartAt)
+                .departureDeadline(departureDeadline)
+                .items(items)
+                .status(ManifestStatus.PLANNED)
+                .createdAt(LocalDateTime.now())
+                .createdBy(createdBy)
+                .build();
+    }
+
+    /**
+     * DB 조회 후 도메인 복원용
+     */
+    public static Manifest reconstitute(
+            ManifestId id, String fromHubId, String toHubId,
+            LocalDateTime waveStartAt, LocalDateTime departureDeadline,
+            List<ManifestItem> items, ManifestStatus status, String driverId,
+            LocalDateTime assignedAt, LocalDateTime departedAt, LocalDateTime arrivedAt,
+            LocalDateTime createdAt, String createdBy,
+            LocalDateTime updatedAt, String updatedBy) {
+
+        return Manifest.builder()
+                .id(id)
+                .fromHubId(fromHubId)
+                .toHubId(toHubId)
+                .waveStartAt(waveStartAt)
+                .departureDeadline(departureDeadline)
+                .items(items)
+                .status(status)
+                .driverId(driverId)
+                .assignedAt(assignedAt)
+                .departedAt(departedAt)
+                .arrivedAt(arrivedAt)
+                .createdAt(createdAt)
+                .createdBy(createdBy)
+                .updatedAt(updatedAt)
+                .updatedBy(updatedBy)
+                .build();
+    }
+
+    // ===== 비즈니스 메서드 =====
+
+    /**
+     * 드라이버 배정
+     *
+     * 상태: PLANNED → ASSIGNED
+     * 배정 중 다른 경로로 배정/종료되어 빠진 구간은 목록에서 제외합니다.
+     *
+     * @param driverId 배정된 드라이버 ID
+     * @param assignedItems 드라이버가 실제로 배정된 구간
+     * @throws HubDeliveryException 배정 불가 상태이거나 배정된 구간이 없는 경우
+     */
+    public void assignDriver(String driverId, Collection<ManifestItem> assignedItems) {
+        validateTransition(this.status.canAssign(), "드라이버 배정", ManifestStatus.PLANNED);
+        if (driverId == null || driverId.isBlank()) {
+            throw new HubDeliveryException(HubDeliveryErrorCode.DRIVER_NOT_ASSIGNED);
+        }
+
+        retainItems(assignedItems);
+        this.driverId = driverId;
+        this.status = ManifestStatus.ASSIGNED;
+        this.assignedAt = LocalDateTime.now();
+
+        log.info("적재 목록 드라이버 배정 - manifestId: {}, lane: {} → {}, items: {}, driverId: {}",
+                this.getIdValue(), this.fromHubId, this.toHubId, this.items.size(), driverId);
+    }
+
+    /**
+     * 출발
+     *
+     * 상태: ASSIGNED → IN_TRANSIT
+     *
+     * @param departedItems 실제로 출발 처리된 구간
+     * @throws HubDeliveryException 출발 불가 상태이거나 출발한 구간이 없는 경우
+     */
+    public void depart(Collection<ManifestItem> departedItems) {
+        validateTransition(this.status.canDepart(), "출발", ManifestStatus.ASSIGNED);
+
+        retainItems(departedItems);
+        this.status = ManifestStatus.IN_TRANSIT;
+        this.departedAt = LocalDateTime.now();
+
+        log.info("적재 목록 출발 - manifestId: {}, lane: {} → {}, items: {}",
+                this.getIdValue(), this.fromHubId, this.toHubId, this.items.size());
+    }
+
+    /**
+     * 도착
+     *
+     * 상태: IN_TRANSIT → ARRIVED
+     *
+     * @throws HubDeliveryException 도착 불가 상태
+     */
+    public void arrive() {
+        validateTransition(this.status.canArrive(), "도착", ManifestStatus.IN_TRANSIT);
+
+        this.status = ManifestStatus.ARRIVED;
+        this.arrivedAt = LocalDateTime.now();
+
+        log.info("적재 목록 도착 - manifestId: {}, lane: {} → {}, 소요시간: {}분",
+                this.getIdValue(), this.fromHubId, this.toHubId, getActualDurationMin());
+    }
+
+    /**
+     * 취소 (드라이버 배정 전만 가능, 구간은 다시 개별 배정 대상)
+     *
+     * 상태: PLANNED → CANCELLED
+     */
+    public void cancel() {
+        validateTransition(this.status.canCancel(), "취소", ManifestStatus.PLANNED);
+
+        this.status = ManifestStatus.CANCELLED;
+
+        log.info("적재 목록 취소 - manifestId: {}, lane: {} → {}",
+                this.getIdValue(), this.fromHubId, this.toHubId);
+    }
+
+    // ===== 검증 메서드 =====
+
+    private void retainItems(Collection<ManifestItem> retained) {
+        Set<ManifestItem> keep = new HashSet<>(retained);
+        List<ManifestItem> remaining = this.items.stream()
+                .filter(keep::contains)
+                .toList();
+        validateNotEmpty(remaining);
+
+        if (remaining.size() < this.items.size()) {
+            log.info("적재 목록 구간 제외 - manifestId: {}, excluded: {}",
+                    this.getIdValue(), this.items.size() - remaining.size());
+        }
+        this.items = new ArrayList<>(remaining);
+    }
+
+    private void validateTransition(boolean allowed, String action, ManifestStatus required) {
+        if (!allowed) {
+            throw new HubDeliveryException(
+                    HubDeliveryErrorCode.INVALID_MANIFEST_STATUS,
+                    String.format("적재 목록 %s는 %s 상태에서만 가능합니다. 현재 상태: %s",
+                            action, required.name(), this.status.getDescription())
+            );
+        }
+    }
+
+    private static void validateHubId(String hubId, String fieldName) {
+        if (hubId == null || hubId.isBlank()) {
+            throw new HubDeliveryException(
+                    HubDeliveryErrorCode.INVALID_HUB_ID,
+                    fieldName + "는 비어있을 수 없습니다."
+            );
+        }
+    }
+
+    private static void validateNotEmpty(List<ManifestItem> items) {
+        if (items == null || items.isEmpty()) {
+            throw new HubDeliveryException(HubDeliveryErrorCode.EMPTY_MANIFEST);
+        }
+    }
+
+    // ===== 조회 메서드 =====
+
+    public String getIdValue() {
+        return this.id != null ? this.id.getValue() : null;
+    }
+
+    public HubLane getLane() {
+        return HubLane.of(this.fromHubId, this.toHubId);
+    }
+
+    /**
+     * 적재 구간 수
+     */
+    public int getSize() {
+        return this.items.size();
+    }
+
+    /**
+     * 실제 운행 시간 (분, 도착 전이면 null)
+     */
+    public Long getActualDurationMin() {
+        if (this.departedAt == null || this.arrivedAt == null) {
+            return null;
+        }
+        return Duration.between(this.departedAt, this.arrivedAt).toMinutes();
+    }
+}
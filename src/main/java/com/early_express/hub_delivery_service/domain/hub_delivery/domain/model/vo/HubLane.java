@@ -0,0 +1,46 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 허브 레인 값 객체
+ *
+ * 출발 허브 → 도착 허브 방향의 구간 경로를 나타냅니다.
+ * 구간 통계, ETA 예측 등 레인 단위 집계의 키로 사용됩니다.
+ */
+@Getter
+@EqualsAndHashCode
+public class HubLane {
+
+    /** 레인 수 상한 초과 시 집계되는 레인 */
+    public static final HubLane OVERFLOW = new HubLane("*", "*");
+
+    private final String fromHubId;
+    private final String toHubId;
+
+    private HubLane(String fromHubId, String toHubId) {
+        this.fromHubId = fromHubId;
+        this.toHubId = toHubId;
+    }
+
+    public static HubLane of(String fromHubId, String toHubId) {
+        if (fromHubId == null || fromHubId.isBlank() || toHubId == null || toHubId.isBlank()) {
+            throw new IllegalArgumentException("HubLane의 출발/도착 허브 ID는 null이거나 빈 값일 수 없습니다.");
+        }
+        return new HubLane(fromHubId, toHubId);
+    }
+
+    public static HubLane of(HubSegment segment) {
+        return of(segment.getFromHubId(), segment.getToHubId());
+    }
+
+    public boolean isOverflow() {
+        return this.equals(OVERFLOW);
+    }
+
+    @Override
+    public String toString() {
+        return fromHubId + "->" + toHubId;
+    }
+}
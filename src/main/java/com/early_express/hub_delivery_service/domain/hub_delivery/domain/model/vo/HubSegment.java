@@ -18,6 +18,9 @@ import java.time.LocalDateTime;
  *
  * 상태 흐름:
  * PENDING → ASSIGNED → IN_TRANSIT → ARRIVED
+ *
+ * 선배정(reservation)은 만료 시각이 있는 ASSIGNED 상태로,
+ * 출발하면 확정되고 만료되면 PENDING으로 돌아갑니다.
  */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -53,12 +56,15 @@ public class HubSegment {
     /** 실제 소요 시간 (분) */
     private Long actualDurationMin;
 
+    /** 선배정 만료 시각 (선배정 상태일 때만 존재) */
+    private LocalDateTime reservedUntil;
+
     @Builder
     private HubSegment(Integer sequence, String fromHubId, String toHubId,
                        Long estimatedDistanceM, Long estimatedDurationMin,
                        String driverId, HubSegmentStatus status,
                        LocalDateTime departedAt, LocalDateTime arrivedAt,
-                       Long actualDurationMin) {
+                       Long actualDurationMin, LocalDateTime reservedUntil) {
         this.sequence = sequence;
         this.fromHubId = fromHubId;
         this.toHubId = toHubId;
@@ -69,6 +75,7 @@ public class HubSegment {
         this.departedAt = departedAt;
         this.arrivedAt = arrivedAt;
         this.actualDurationMin = actualDurationMin;
+        this.reservedUntil = reservedUntil;
     }
 
     // ==================== 팩토리 메서드 ====================
@@ -129,6 +136,88 @@ public class HubSegment {
                 .build();
     }
 
+    /**
+     * 드라이버 선배정
+     *
+     * PENDING → ASSIGNED 상태로 전환하되, 만료 시각까지 출발하지 않으면 해제 대상이 됩니다.
+     *
+     * @param driverId 선배정할 드라이버 ID
+     * @param reservedUntil 선배정 만료 시각
+     * @return 선배정된 새 HubSegment
+     * @throws HubDeliveryException PENDING 상태가 아닌 경우
+     */
+    public HubSegment reserveDriver(String driverId, LocalDateTime reservedUntil) {
+        HubSegment assigned = assignDriver(driverId);
+
+        return HubSegment.builder()
+                .sequence(assigned.sequence)
+                .fromHubId(assigned.fromHubId)
+                .toHubId(assigned.toHubId)
+                .estimatedDistanceM(assigned.estimatedDistanceM)
+                .estimatedDurationMin(assigned.estimatedDurationMin)
+                .driverId(assigned.driverId)
+                .status(assigned.status)
+                .departedAt(assigned.departedAt)
+                .arrivedAt(assigned.arrivedAt)
+                .actualDurationMin(assigned.actualDurationMin)
+                .reservedUntil(reservedUntil)
+                .build();
+    }
+
+    /**
+     * 선배정 해제
+     *
+     * 선배정 ASSIGNED → PENDING 상태로 전환 (드라이버 해제)
+     *
+     * @return 선배정이 해제된 새 HubSegment
+     * @throws HubDeliveryException 선배정 상태가 아닌 경우
+     */
+    public HubSegment releaseReservation() {
+        if (!isReserved()) {
+            throw new HubDeliveryException(
+                    HubDeliveryErrorCode.INVALID_STATUS_TRANSITION,
+                    String.format("구간 %d는 선배정 상태가 아닙니다. 현재 상태: %s",
+                            this.sequence, this.status.getDescription())
+            );
+        }
+
+        return toPending();
+    }
+
+    /**
+     * 배정 해제
+     *
+     * ASSIGNED → PENDING 상태로 전환 (선배정 여부와 관계없이 드라이버 해제)
+     *
+     * @return 배정이 해제된 새 HubSegment
+     * @throws HubDeliveryException 배정 상태가 아닌 경우
+     */
+    public HubSegment releaseDriver() {
+        if (!isAssigned()) {
+            throw new HubDeliveryException(
+                    HubDeliveryErrorCode.INVALID_STATUS_TRANSITION,
+                    String.format("구간 %d는 배정 상태가 아닙니다. 현재 상태: %s",
+                            this.sequence, this.status.getDescription())
+            );
+        }
+
+        return toPending();
+    }
+
+    private HubSegment toPending() {
+        return HubSegment.builder()
+                .sequence(this.sequence)
+                .fromHubId(this.fromHubId)
+                .toHubId(this.toHubId)
+                .estimatedDistanceM(this.estimatedDistanceM)
+                .estimatedDurationMin(this.estimatedDurationMin)
+                .status(HubSegmentStatus.PENDING)
+                .departedAt(this.departedAt)
+                .arrivedAt(this.arrivedAt)
+                .actualDurationMin(this.actualDurationMin)
+                .build();
+    }
+
     /**
      * 구간 출발
      *
@@ -238,6 +327,13 @@ public class HubSegment {
         return this.status == HubSegmentStatus.ASSIGNED;
     }
 
+    /**
+     * 선배정 상태 여부 (출발 전, 만료 시각 존재)
+     */
+    public boolean isReserved() {
+        return this.status == HubSegmentStatus.ASSIGNED && this.reservedUntil != null;
+    }
+
     /**
      * 이동 중 상태 여부
      */
@@ -0,0 +1,27 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo;
+
+import lombok.Getter;
+
+/**
+ * 허브 구간 조회 모델
+ *
+ * 애그리거트 전체를 로딩하지 않고 구간 단위로 조회할 때 사용합니다.
+ * (기동 시 인메모리 구조 초기화 등)
+ */
+@Getter
+public class HubSegmentSnapshot {
+
+    private final String hubDeliveryId;
+    private final String orderId;
+    private final HubSegment segment;
+
+    private HubSegmentSnapshot(String hubDeliveryId, String orderId, HubSegment segment) {
+        this.hubDeliveryId = hubDeliveryId;
+        this.orderId = orderId;
+        this.segment = segment;
+    }
+
+    public static HubSegmentSnapshot of(String hubDeliveryId, String orderId, HubSegment segment) {
+        return new HubSegmentSnapshot(hubDeliveryId, orderId, segment);
+    }
+}
@@ -0,0 +1,28 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Manifest ID 값 객체
+ */
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ManifestId {
+
+    private String value;
+
+    private ManifestId(String value) {
+        this.value = value;
+    }
+
+    public static ManifestId of(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("ManifestId는 null이거나 빈 값일 수 없습니다.");
+        }
+        return new ManifestId(value);
+    }
+}
@@ -0,0 +1,56 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 적재 목록 항목 값 객체 (허브 배송의 한 구간)
+ *
+ * 동등성은 (hubDeliveryId, segmentIndex)로만 판단합니다.
+ */
+@Getter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ManifestItem {
+
+    @EqualsAndHashCode.Include
+    private String hubDeliveryId;
+
+    @EqualsAndHashCode.Include
+    private Integer segmentIndex;
+
+    private String orderId;
+    private LocalDateTime deadline;  // 구간 출발 마감 시각 (없으면 null)
+
+    private ManifestItem(String hubDeliveryId, Integer segmentIndex, String orderId, LocalDateTime deadline) {
+        this.hubDeliveryId = hubDeliveryId;
+        this.segmentIndex = segmentIndex;
+        this.orderId = orderId;
+        this.deadline = deadline;
+    }
+
+    public static ManifestItem of(String hubDeliveryId, int segmentIndex, String orderId, LocalDateTime deadline) {
+        if (hubDeliveryId == null || hubDeliveryId.isBlank()) {
+            throw new IllegalArgumentException("hubDeliveryId는 null이거나 빈 값일 수 없습니다.");
+        }
+        if (segmentIndex < 0) {
+            throw new IllegalArgumentException("segmentIndex는 0 이상이어야 합니다.");
+        }
+        return new ManifestItem(hubDeliveryId, segmentIndex, orderId, deadline);
+    }
+
+    /**
+     * 구간 키 (hubDeliveryId:segmentIndex)
+     */
+    public String key() {
+        return key(hubDeliveryId, segmentIndex);
+    }
+
+    public static String key(String hubDeliveryId, int segmentIndex) {
+        return hubDeliveryId + ":" + segmentIndex;
+    }
+}
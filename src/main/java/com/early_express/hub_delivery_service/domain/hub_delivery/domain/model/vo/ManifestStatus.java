@@ -0,0 +1,71 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 간선 적재 목록(매니페스트) 상태
+ *
+ * 상태 흐름:
+ * PLANNED → ASSIGNED → IN_TRANSIT → ARRIVED
+ *    ↓
+ * CANCELLED
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ManifestStatus {
+
+    PLANNED("계획"),              // 구간 묶음 생성, 드라이버 미배정
+    ASSIGNED("배정 완료"),        // 드라이버 배정됨, 출발 대기
+    IN_TRANSIT("이동 중"),        // 출발함
+    ARRIVED("도착"),              // 도착 완료
+    CANCELLED("취소");            // 배정 전 취소
+
+    private final String description;
+
+    /**
+     * 드라이버 배정 가능 여부
+     * PLANNED 상태에서만 배정 가능
+     */
+    public boolean canAssign() {
+        return this == PLANNED;
+    }
+
+    /**
+     * 출발 가능 여부
+     * ASSIGNED 상태에서만 출발 가능
+     */
+    public boolean canDepart() {
+        return this == ASSIGNED;
+    }
+
+    /**
+     * 도착 처리 가능 여부
+     * IN_TRANSIT 상태에서만 도착 가능
+     */
+    public boolean canArrive() {
+        return this == IN_TRANSIT;
+    }
+
+    /**
+     * 취소 가능 여부
+     * 드라이버 배정 전(PLANNED)에만 취소 가능
+     */
+    public boolean canCancel() {
+        return this == PLANNED;
+    }
+
+    /**
+     * 출발 전 상태 여부 (구간이 다른 적재 목록에 중복 편성되지 않도록 확인)
+     */
+    public boolean isOpen() {
+        return this == PLANNED || this == ASSIGNED;
+    }
+
+    /**
+     * 종료 상태 여부 (더 이상 상태 변경 불가)
+     */
+    public boolean isTerminal() {
+        return this == ARRIVED || this == CANCELLED;
+    }
+}
@@ -0,0 +1,63 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이동 중 구간 위치 추적 스냅샷
+ *
+ * 드라이버 위치 핑으로 갱신된 구간의 최신 위치, 누적 이동 거리, 압축된 이동 경로(breadcrumb)입니다.
+ * 핑마다 저장하지 않고 주기적으로 일괄 저장됩니다.
+ */
+@Getter
+@Builder
+public class SegmentTrack {
+
+    private final String hubDeliveryId;
+    private final Integer segmentIndex;
+    private final String driverId;
+
+    // 최신 위치
+    private final double latitude;
+    private final double longitude;
+    private final LocalDateTime recordedAt;
+
+    private final double travelledM;          // 핑 사이 직선 거리 누적 (미터)
+    private final Long estimatedDistanceM;    // 구간 예상 거리 (미터, 없으면 null)
+    private final long pingCount;             // 수신 핑 수 (다운샘플링 전)
+
+    private final byte[] breadcrumb;          // 델타 + 가변 길이 정수로 압축한 이동 경로
+    private final int breadcrumbPoints;
+
+    private final boolean finished;           // 구간 이동 종료 (도착/취소)
+
+    /**
+     * 예상 거리 대비 진행률 (0.0 ~ 1.0, 예상 거리가 없으면 null)
+     */
+    public Double getProgress() {
+        if (estimatedDistanceM == null || estimatedDistanceM <= 0) {
+            return null;
+        }
+        return Math.min(1.0, travelledM / estimatedDistanceM);
+    }
+
+    /**
+     * 남은 예상 거리 (미터, 예상 거리가 없으면 null)
+     */
+    public Long getRemainingM() {
+        if (estimatedDistanceM == null) {
+            return null;
+        }
+        return Math.max(0L, estimatedDistanceM - Math.round(travelledM));
+    }
+
+    public String key() {
+        return key(hubDeliveryId, segmentIndex);
+    }
+
+    public static String key(String hubDeliveryId, int segmentIndex) {
+        return hubDeliveryId + ":" + segmentIndex;
+    }
+}
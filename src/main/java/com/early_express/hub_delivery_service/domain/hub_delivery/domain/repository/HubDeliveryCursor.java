@@ -0,0 +1,13 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 허브 배송 키셋 커서
+ *
+ * (updatedAt, id) 순서로 정렬된 배치 조회에서 마지막으로 읽은 위치를 나타냅니다.
+ */
+public record HubDeliveryCursor(String id, HubDeliveryStatus status, LocalDateTime updatedAt) {
+}
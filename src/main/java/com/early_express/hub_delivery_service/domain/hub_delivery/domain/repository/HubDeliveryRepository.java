@@ -3,9 +3,16 @@ package com.early_express.hub_delivery_service.domain.hub_delivery.domain.reposi
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryId;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentSnapshot;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -15,6 +22,11 @@ public interface HubDeliveryRepository {
 
     HubDelivery save(HubDelivery hubDelivery);
 
+    /**
+     * 일괄 저장 (기존 배송은 같은 트랜잭션에서 조회한 Entity를 재사용하고 변경분을 flush 시 일괄 UPDATE)
+     */
+    List<HubDelivery> saveAll(Collection<HubDelivery> hubDeliveries);
+
     Optional<HubDelivery> findById(HubDeliveryId id);
 
     Optional<HubDelivery> findByOrderId(String orderId);
@@ -24,4 +36,80 @@ public interface HubDeliveryRepository {
     Page<HubDelivery> findByStatus(HubDeliveryStatus status, Pageable pageable);
 
     boolean existsByOrderId(String orderId);
+
+    /**
+     * 주문 ID 목록 중 이미 배송이 생성된 주문 조회 (일괄 생성 중복 체크용)
+     *
+     * @return 주문 ID → 허브 배송 ID
+     */
+    Map<String, String> findIdsByOrderIds(Collection<String> orderIds);
+
+    /**
+     * ID 목록으로 일괄 조회 (구간 포함, 순서 보장 없음)
+     */
+    List<HubDelivery> findAllByIds(Collection<String> ids);
+
+    /**
+     * 오래 변경되지 않은 배송 키셋 조회
+     *
+     * (status, updated_at) 인덱스를 따라 updatedAt, id 오름차순으로 조회합니다.
+     *
+     * @param status 대상 상태
+     * @param updatedBefore 이 시각 이전에 마지막으로 변경된 배송만
+     * @param reassignAttemptedBefore 배정 재요청 기록이 없거나 이 시각 이전인 배송만, null이면 조건 없음
+     * @param idPrefix ID 접두사 (샤드), null이면 전체
+     * @param after 이전 배치의 마지막 커서, null이면 처음부터
+     * @param limit 배치 크기
+     */
+    List<HubDeliveryCursor> findStaleCursors(HubDeliveryStatus status, LocalDateTime updatedBefore,
+                                             LocalDateTime reassignAttemptedBefore, String idPrefix,
+                                             HubDeliveryCursor after, int limit);
+
+    /**
+     * 배정 재요청 시각 기록 (updated_at/버전은 바꾸지 않음)
+     */
+    void markReassignAttempted(Collection<String> ids, LocalDateTime attemptedAt);
+
+    /**
+     * 지정 시각 이후 변경된 배송 키셋 조회 (배정 대기열 재구성/보정용)
+     *
+     * (status, updated_at) 인덱스를 따라 updatedAt, id 오름차순으로 조회합니다.
+     *
+     * @param status 대상 상태
+     * @param updatedSince 이 시각 이후(포함)에 변경된 배송만, null이면 전체
+     * @param after 이전 배치의 마지막 커서, null이면 처음부터
+     * @param limit 배치 크기
+     */
+    List<HubDeliveryCursor> findCursorsUpdatedSince(HubDeliveryStatus status, LocalDateTime updatedSince,
+                                                    HubDeliveryCursor after, int limit);
+
+    /**
+     * 지정 시각 이후 도착한 구간 조회 (도착 시각 오름차순)
+     *
+     * 건수가 limit을 초과하면 가장 최근 limit건만 반환합니다.
+     */
+    List<HubSegment> findArrivedSegmentsSince(LocalDateTime arrivedAfter, int limit);
+
+    /**
+     * 상태별 구간 배치 조회 (배송 ID, 구간 순번 오름차순 키셋 페이징)
+     *
+     * @param status 대상 상태
+     * @param after 이전 배치의 마지막 구간, null이면 처음부터
+     * @param limit 배치 크기
+     */
+    List<HubSegmentSnapshot> findSegmentsByStatus(HubSegmentStatus status, HubSegmentSnapshot after, int limit);
+
+    /**
+     * 상태별 구간 수 (출발 허브 기준 집계)
+     *
+     * @return 출발 허브 ID → 구간 수
+     */
+    Map<String, Long> countSegmentsByFromHub(HubSegmentStatus status);
+
+    /**
+     * 상태별 구간 수 (도착 허브 기준 집계)
+     *
+     * @return 도착 허브 ID → 구간 수
+     */
+    Map<String, Long> countSegmentsByToHub(HubSegmentStatus status);
 }
@@ -0,0 +1,36 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.Manifest;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestId;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Manifest Domain Repository Interface
+ */
+public interface ManifestRepository {
+
+    Manifest save(Manifest manifest);
+
+    Optional<Manifest> findById(ManifestId id);
+
+    /**
+     * 출발 허브의 적재 목록 조회 (출발 웨이브 순)
+     *
+     * @param fromHubId 출발 허브 ID
+     * @param status 상태, null이면 전체
+     * @param limit 최대 건수
+     */
+    List<Manifest> findByFromHubId(String fromHubId, ManifestStatus status, int limit);
+
+    /**
+     * 출발 전(PLANNED/ASSIGNED) 적재 목록에 편성된 구간 키 조회 (중복 편성 방지용)
+     *
+     * @return 구간 키 (hubDeliveryId:segmentIndex)
+     * @see com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestItem#key()
+     */
+    Set<String> findOpenItemKeys(String fromHubId);
+}
@@ -0,0 +1,30 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.SegmentTrack;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SegmentTrack Domain Repository Interface
+ */
+public interface SegmentTrackRepository {
+
+    /**
+     * 구간 위치 추적 일괄 저장 (있으면 갱신, 없으면 추가)
+     *
+     * @return 새로 추가된 건수
+     */
+    int saveAll(Collection<SegmentTrack> tracks);
+
+    Optional<SegmentTrack> find(String hubDeliveryId, int segmentIndex);
+
+    /**
+     * 구간 키로 일괄 조회 (기동 시 이동 중 구간 복원용)
+     *
+     * @param keys 구간 키 (hubDeliveryId:segmentIndex)
+     * @see SegmentTrack#key()
+     */
+    List<SegmentTrack> findAllByKeys(Collection<String> keys);
+}
@@ -0,0 +1,82 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryErrorCode;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HubDriver Client 동시 호출 제한 (Bulkhead)
+ *
+ * 가상 스레드 모드에서는 요청 스레드 수가 더 이상 동시성 상한이 되지 않으므로,
+ * HubDriver Service로 나가는 동시 호출 수를 세마포어로 직접 제한합니다.
+ * 허용 수를 넘는 호출은 acquireTimeout 동안 대기 후 503(HUB_DELIVERY_603)으로 실패합니다.
+ *
+ * 호출은 트랜잭션 안에서 DB 커넥션을 점유한 채 실행되므로 허용 수는 커넥션 풀 크기보다 작게 둡니다.
+ * (HubDriverClientConfig에서 검증)
+ */
+@Slf4j
+public class HubDriverBulkheadCapability implements Capability {
+
+    private final Semaphore permits;
+    private final int maxConcurrentCalls;
+    private final Duration acquireTimeout;
+
+    public HubDriverBulkheadCapability(int maxConcurrentCalls, Duration acquireTimeout) {
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> execute(client, request, options);
+    }
+
+    /**
+     * 현재 사용 중인 호출 슬롯 수
+     */
+    public int getInFlightCalls() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+
+    private Response execute(Client delegate, Request request, Request.Options options) throws IOException {
+        acquire(request);
+        try {
+            return delegate.execute(request, options);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire(Request request) {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HubDeliveryException(
+                    HubDeliveryErrorCode.DRIVER_SERVICE_BUSY,
+                    "드라이버 서비스 호출 대기 중 인터럽트가 발생했습니다.",
+                    e
+            );
+        }
+
+        if (!acquired) {
+            log.warn("HubDriver Service 동시 호출 한도 초과 - url: {}, maxConcurrentCalls: {}",
+                    request.url(), maxConcurrentCalls);
+            throw new HubDeliveryException(
+                    HubDeliveryErrorCode.DRIVER_SERVICE_BUSY,
+                    "드라이버 서비스 동시 호출 한도를 초과했습니다."
+            );
+        }
+    }
+}
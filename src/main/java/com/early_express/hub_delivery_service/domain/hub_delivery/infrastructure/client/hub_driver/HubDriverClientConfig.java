@@ -1,9 +1,13 @@
 package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver;
 
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
 import feign.codec.ErrorDecoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * HubDriver Client 설정
  */
@@ -17,4 +21,33 @@ public class HubDriverClientConfig {
     public ErrorDecoder hubDriverErrorDecoder() {
         return new HubDriverErrorDecoder();
     }
+
+    /**
+     * HubDriver 동시 호출 제한
+     * 가상 스레드 사용 시 실질적인 Bulkhead 역할
+     *
+     * 드라이버 배정 호출은 커맨드 트랜잭션 안에서 DB 커넥션을 잡은 채 실행되므로,
+     * 동시 호출 상한이 커넥션 풀 크기 이상이면 풀이 먼저 고갈되어 Bulkhead가 의미를 잃고
+     * 호출과 무관한 요청까지 커넥션 대기로 실패합니다. 상한은 풀 크기보다 작아야 합니다.
+     */
+    @Bean
+    public HubDriverBulkheadCapability hubDriverBulkheadCapability(
+            @Value("${client.hub-driver-service.max-concurrent-calls:8}") int maxConcurrentCalls,
+            @Value("${client.hub-driver-service.acquire-timeout:2s}") Duration acquireTimeout,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int dbPoolSize) {
+        if (maxConcurrentCalls >= dbPoolSize) {
+            throw new IllegalArgumentException(
+                    "client.hub-driver-service.max-concurrent-calls(" + maxConcurrentCalls
+                            + ")는 DB 커넥션 풀 크기(" + dbPoolSize + ")보다 작아야 합니다");
+        }
+        return new HubDriverBulkheadCapability(maxConcurrentCalls, acquireTimeout);
+    }
+
+    /**
+     * HubDriver 호출 타이머 (메서드별)
+     */
+    @Bean
+    public HubDriverMetricsCapability hubDriverMetricsCapability(HubDeliveryMetrics hubDeliveryMetrics) {
+        return new HubDriverMetricsCapability(hubDeliveryMetrics);
+    }
 }
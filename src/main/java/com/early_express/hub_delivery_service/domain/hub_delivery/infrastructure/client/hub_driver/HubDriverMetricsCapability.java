@@ -0,0 +1,63 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import feign.Capability;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Response;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+
+/**
+ * HubDriver Client 호출 타이머
+ *
+ * 실제 HTTP 호출(재시도 시 시도별)을 인터페이스 메서드명과 응답 결과로 태깅하여 기록합니다.
+ */
+@RequiredArgsConstructor
+public class HubDriverMetricsCapability implements Capability {
+
+    private static final String CLIENT_NAME = "hub-driver-service";
+
+    private final HubDeliveryMetrics metrics;
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> execute(client, request, options);
+    }
+
+    private Response execute(Client delegate, Request request, Request.Options options) throws IOException {
+        long startedAt = System.nanoTime();
+        String outcome = "io_error";
+        try {
+            Response response = delegate.execute(request, options);
+            outcome = outcomeOf(response.status());
+            return response;
+        } catch (RuntimeException e) {
+            outcome = HubDeliveryMetrics.OUTCOME_REJECTED;
+            throw e;
+        } finally {
+            metrics.recordClientCall(CLIENT_NAME, methodName(request), outcome, System.nanoTime() - startedAt);
+        }
+    }
+
+    private static String outcomeOf(int status) {
+        if (status >= 500) {
+            return "server_error";
+        }
+        if (status >= 400) {
+            return "client_error";
+        }
+        return HubDeliveryMetrics.OUTCOME_SUCCESS;
+    }
+
+    private static String methodName(Request request) {
+        MethodMetadata metadata = request.requestTemplate() != null
+                ? request.requestTemplate().methodMetadata()
+                : null;
+        return metadata != null && metadata.method() != null
+                ? metadata.method().getName()
+                : "unknown";
+    }
+}
@@ -17,9 +17,25 @@ public class DriverAssignRequest {
 
     private String hubDeliveryId;
 
+    /** 적재 목록 단위 배정 시 적재 목록 ID (구간 단위 배정이면 null) */
+    private String manifestId;
+
+    /** 적재 목록 단위 배정 시 적재 구간 수 */
+    private Integer deliveryCount;
+
     public static DriverAssignRequest of(String hubDeliveryId) {
         return DriverAssignRequest.builder()
                 .hubDeliveryId(hubDeliveryId)
                 .build();
     }
+
+    /**
+     * 적재 목록 단위 배정 요청 (트럭 한 대분 구간을 드라이버 한 명에게 배정)
+     */
+    public static DriverAssignRequest forManifest(String manifestId, int deliveryCount) {
+        return DriverAssignRequest.builder()
+                .manifestId(manifestId)
+                .deliveryCount(deliveryCount)
+                .build();
+    }
 }
@@ -4,12 +4,20 @@ import com.early_express.hub_delivery_service.domain.hub_delivery.application.ev
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
 import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.order.producer.OrderEventProducer;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.state.producer.DeliveryStateProducer;
 import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.track.producer.TrackEventProducer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
 
 /**
  * HubDelivery 이벤트 발행 구현체
+ *
+ * 트랜잭션 안에서 호출되면 커밋 이후에 발행 큐에 적재합니다.
+ * 동시 변경 충돌 등으로 롤백된 변경의 이벤트는 발행되지 않습니다.
  */
 @Component
 @RequiredArgsConstructor
@@ -17,19 +25,46 @@ public class HubDeliveryEventPublisherImpl implements HubDeliveryEventPublisher
 
     private final TrackEventProducer trackEventProducer;
     private final OrderEventProducer orderEventProducer;
+    private final DeliveryStateProducer deliveryStateProducer;
 
     @Override
     public void publishSegmentDeparted(HubDelivery hubDelivery, HubSegment segment) {
-        trackEventProducer.publishSegmentDeparted(hubDelivery, segment);
+        afterCommit(() -> trackEventProducer.publishSegmentDeparted(hubDelivery, segment));
     }
 
     @Override
     public void publishSegmentArrived(HubDelivery hubDelivery, HubSegment segment) {
-        trackEventProducer.publishSegmentArrived(hubDelivery, segment);
+        afterCommit(() -> trackEventProducer.publishSegmentArrived(hubDelivery, segment));
+    }
+
+    @Override
+    public void publishSegmentDelayed(HubDelivery hubDelivery, HubSegment segment, LocalDateTime expectedArrivalAt) {
+        afterCommit(() -> trackEventProducer.publishSegmentDelayed(hubDelivery, segment, expectedArrivalAt));
     }
 
     @Override
     public void publishHubDeliveryCompleted(HubDelivery hubDelivery) {
-        orderEventProducer.publishHubDeliveryCompleted(hubDelivery);
+        afterCommit(() -> orderEventProducer.publishHubDeliveryCompleted(hubDelivery));
+    }
+
+    @Override
+    public void publishStateSnapshot(HubDelivery hubDelivery) {
+        deliveryStateProducer.publishSnapshot(hubDelivery);
+    }
+
+    /**
+     * 커밋 이후 실행 (트랜잭션이 없으면 바로 실행)
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
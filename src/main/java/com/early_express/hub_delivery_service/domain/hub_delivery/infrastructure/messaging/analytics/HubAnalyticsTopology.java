@@ -0,0 +1,147 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.analytics;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import com.early_express.hub_delivery_service.global.infrastructure.event.serialization.EventSchemaRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Grouped;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.Named;
+import org.apache.kafka.streams.kstream.TimeWindows;
+import org.apache.kafka.streams.state.WindowStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.KafkaStreamsInfrastructureCustomizer;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.serializer.JsonSerde;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 허브/레인 실시간 분석 Kafka Streams 토폴로지
+ *
+ * hub-segment-departed / hub-segment-arrived 토픽을 구독하여 고정 윈도우(window) 단위로 집계합니다.
+ * - hub-throughput: 허브별 출발/도착 수 (출발은 출발 허브, 도착은 도착 허브 기준)
+ * - lane-flow: 레인(출발 허브 → 도착 허브)별 출발/도착 수, 소요 시간, 지연 시간
+ *
+ * 집계 결과는 인스턴스 로컬 윈도우 스토어(RocksDB + changelog 토픽)에 저장되며,
+ * HubAnalyticsQueryService가 interactive query로 조회합니다. Postgres에는 접근하지 않습니다.
+ *
+ * 윈도우 시각은 Kafka 레코드 타임스탬프(이벤트 발행 시각) 기준이며,
+ * grace 이후 도착한 레코드는 집계에서 제외됩니다.
+ * 입력 토픽은 JSON / 바이너리 인코딩 레코드를 모두 읽습니다. (hub-delivery.kafka.serialization.binary-topics)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "hub-delivery.analytics.streams.enabled", havingValue = "true")
+public class HubAnalyticsTopology implements KafkaStreamsInfrastructureCustomizer {
+
+    public static final String HUB_THROUGHPUT_STORE = "hub-throughput";
+    public static final String LANE_FLOW_STORE = "lane-flow";
+
+    private final String departedTopic;
+    private final String arrivedTopic;
+
+    @Getter
+    private final Duration window;
+
+    private final Duration grace;
+    private final Duration retention;
+    private final EventSchemaRegistry eventSchemaRegistry;
+
+    public HubAnalyticsTopology(
+            @Value("${spring.kafka.topic.hub-segment-departed}") String departedTopic,
+            @Value("${spring.kafka.topic.hub-segment-arrived}") String arrivedTopic,
+            @Value("${hub-delivery.analytics.streams.window:15m}") Duration window,
+            @Value("${hub-delivery.analytics.streams.grace:5m}") Duration grace,
+            @Value("${hub-delivery.analytics.streams.retention:24h}") Duration retention,
+            EventSchemaRegistry eventSchemaRegistry) {
+        if (retention.compareTo(window.plus(grace)) < 0) {
+            throw new IllegalArgumentException("분석 스토어 보관 기간은 window + grace 이상이어야 합니다.");
+        }
+        this.departedTopic = departedTopic;
+        this.arrivedTopic = arrivedTopic;
+        this.window = window;
+        this.grace = grace;
+        this.retention = retention;
+        this.eventSchemaRegistry = eventSchemaRegistry;
+    }
+
+    @Override
+    public void configureBuilder(StreamsBuilder builder) {
+        Serde<SegmentFlow> flowSerde = jsonSerde(SegmentFlow.class);
+        Serde<SegmentFlow> sourceSerde = sourceSerde(flowSerde);
+
+        KStream<String, SegmentFlow> departed = builder
+                .stream(departedTopic, Consumed.with(Serdes.String(), sourceSerde).withName("segment-departed-source"))
+                .filter((key, flow) -> flow != null, Named.as("segment-departed-non-null"))
+                .mapValues(flow -> flow.withType(SegmentFlow.Type.DEPARTED), Named.as("segment-departed-type"));
+
+        KStream<String, SegmentFlow> arrived = builder
+                .stream(arrivedTopic, Consumed.with(Serdes.String(), sourceSerde).withName("segment-arrived-source"))
+                .filter((key, flow) -> flow != null, Named.as("segment-arrived-non-null"))
+                .mapValues(flow -> flow.withType(SegmentFlow.Type.ARRIVED), Named.as("segment-arrived-type"));
+
+        KStream<String, SegmentFlow> flows = departed.merge(arrived, Named.as("segment-flows"));
+        TimeWindows windows = TimeWindows.ofSizeAndGrace(window, grace);
+
+        // 허브별 처리량 (주문 ID 키 → 허브 ID 키로 재파티셔닝)
+        flows.filter((key, flow) -> flow.hubKey() != null, Named.as("hub-flow-filter"))
+                .selectKey((key, flow) -> flow.hubKey(), Named.as("hub-flow-key"))
+                .groupByKey(Grouped.with("hub-flow", Serdes.String(), flowSerde))
+                .windowedBy(windows)
+                .aggregate(
+                        HubThroughput::empty,
+                        (hubId, flow, throughput) -> throughput.add(flow),
+                        Named.as("hub-throughput-aggregate"),
+                        Materialized.<String, HubThroughput, WindowStore<Bytes, byte[]>>as(HUB_THROUGHPUT_STORE)
+                                .withKeySerde(Serdes.String())
+                                .withValueSerde(jsonSerde(HubThroughput.class))
+                                .withRetention(retention));
+
+        // 레인별 처리량/지연 (출발 허브를 알 수 없는 도착 이벤트는 제외)
+        flows.filter((key, flow) -> flow.laneKey() != null, Named.as("lane-flow-filter"))
+                .selectKey((key, flow) -> flow.laneKey(), Named.as("lane-flow-key"))
+                .groupByKey(Grouped.with("lane-flow", Serdes.String(), flowSerde))
+                .windowedBy(windows)
+                .aggregate(
+                        LaneFlow::empty,
+                        (lane, flow, laneFlow) -> laneFlow.add(flow, HubDeliveryMetrics.LANE_LATE_TOLERANCE_MIN),
+                        Named.as("lane-flow-aggregate"),
+                        Materialized.<String, LaneFlow, WindowStore<Bytes, byte[]>>as(LANE_FLOW_STORE)
+                                .withKeySerde(Serdes.String())
+                                .withValueSerde(jsonSerde(LaneFlow.class))
+                                .withRetention(retention));
+
+        log.info("허브 분석 토폴로지 구성 - topics: [{}, {}], window: {}, grace: {}, retention: {}",
+                departedTopic, arrivedTopic, window, grace, retention);
+    }
+
+    /**
+     * 입력 토픽 Serde (바이너리 레코드는 스키마 레지스트리로 디코딩, 그 외는 JSON)
+     */
+    private Serde<SegmentFlow> sourceSerde(Serde<SegmentFlow> jsonSerde) {
+        Deserializer<SegmentFlow> jsonDeserializer = jsonSerde.deserializer();
+        Deserializer<SegmentFlow> deserializer = (topic, data) -> EventSchemaRegistry.isBinary(data)
+                ? SegmentFlow.from(eventSchemaRegistry.decode(data))
+                : jsonDeserializer.deserialize(topic, data);
+        return Serdes.serdeFrom(jsonSerde.serializer(), deserializer);
+    }
+
+    /**
+     * JSON Serde (발행 측 타입 헤더를 무시하고 지정 타입으로 읽음)
+     */
+    static <T> JsonSerde<T> jsonSerde(Class<T> type) {
+        return new JsonSerde<>(type, JacksonUtils.enhancedObjectMapper())
+                .ignoreTypeHeaders()
+                .noTypeInfo();
+    }
+}
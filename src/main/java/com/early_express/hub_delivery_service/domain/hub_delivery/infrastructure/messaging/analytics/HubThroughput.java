@@ -0,0 +1,20 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.analytics;
+
+/**
+ * 허브 윈도우 처리량 집계 (불변)
+ *
+ * @param departures 이 허브에서 출발한 구간 수
+ * @param arrivals 이 허브에 도착한 구간 수
+ */
+public record HubThroughput(long departures, long arrivals) {
+
+    public static HubThroughput empty() {
+        return new HubThroughput(0, 0);
+    }
+
+    public HubThroughput add(SegmentFlow flow) {
+        return flow.isDeparture()
+                ? new HubThroughput(departures + 1, arrivals)
+                : new HubThroughput(departures, arrivals + 1);
+    }
+}
@@ -0,0 +1,50 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.analytics;
+
+/**
+ * 레인 윈도우 처리량/지연 집계 (불변)
+ *
+ * 평균값은 합계와 표본 수로 보관하여 윈도우 집계 중 누적 오차가 생기지 않도록 합니다.
+ *
+ * @param durationSumMin 실제 소요 시간 합계 (분, durationSamples개)
+ * @param delaySumMin 지연 시간 합계 (실제 - 예상, 분, delaySamples개)
+ * @param lateArrivals 허용 오차를 초과해 지연 도착한 수
+ * @param maxDelayMin 최대 지연 시간 (분, 표본이 없으면 null)
+ */
+public record LaneFlow(
+        long departures,
+        long arrivals,
+        long durationSamples,
+        long durationSumMin,
+        long delaySamples,
+        long delaySumMin,
+        long lateArrivals,
+        Long maxDelayMin
+) {
+
+    public static LaneFlow empty() {
+        return new LaneFlow(0, 0, 0, 0, 0, 0, 0, null);
+    }
+
+    /**
+     * @param lateToleranceMin 지연 도착 판정 허용 오차 (분)
+     */
+    public LaneFlow add(SegmentFlow flow, long lateToleranceMin) {
+        if (flow.isDeparture()) {
+            return new LaneFlow(departures + 1, arrivals, durationSamples, durationSumMin,
+                    delaySamples, delaySumMin, lateArrivals, maxDelayMin);
+        }
+
+        Long duration = flow.actualDurationMin();
+        Long delay = flow.delayMin();
+        return new LaneFlow(
+                departures,
+                arrivals + 1,
+                duration != null ? durationSamples + 1 : durationSamples,
+                duration != null ? durationSumMin + duration : durationSumMin,
+                delay != null ? delaySamples + 1 : delaySamples,
+                delay != null ? delaySumMin + delay : delaySumMin,
+                delay != null && delay > lateToleranceMin ? lateArrivals + 1 : lateArrivals,
+                delay == null ? maxDelayMin : maxDelayMin == null ? delay : Math.max(maxDelayMin, delay)
+        );
+    }
+}
@@ -0,0 +1,93 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.analytics;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.track.event.HubSegmentArrivedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.track.event.HubSegmentDepartedEvent;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 구간 이동 레코드 (분석 토폴로지 입력)
+ *
+ * hub-segment-departed / hub-segment-arrived 이벤트 JSON에서 집계에 필요한 필드만 읽습니다.
+ * 이벤트 자체에는 구분 필드가 없으므로 type은 토폴로지에서 입력 토픽 기준으로 채웁니다.
+ * 바이너리 인코딩 레코드는 디코딩한 이벤트 객체에서 같은 필드를 옮겨 만듭니다. ({@link #from(Object)})
+ *
+ * @param hubId 도착 이벤트의 도착 허브 ID
+ * @param fromHubId 출발 허브 ID (fromHubId가 없는 이전 버전 도착 이벤트는 레인 집계에서 제외)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SegmentFlow(
+        Type type,
+        String fromHubId,
+        String toHubId,
+        String hubId,
+        Long estimatedDurationMin,
+        Long actualDurationMin
+) {
+
+    /** 레인 키 구분자 (HubLane.toString과 동일) */
+    public static final String LANE_KEY_SEPARATOR = "->";
+
+    public enum Type {
+        DEPARTED, ARRIVED
+    }
+
+    /**
+     * 디코딩한 구간 이벤트에서 생성 (JSON으로 읽을 때와 같은 필드만 사용)
+     *
+     * @return 구간 출발/도착 이벤트가 아니면 null
+     */
+    public static SegmentFlow from(Object event) {
+        if (event instanceof HubSegmentDepartedEvent departed) {
+            return new SegmentFlow(null, departed.getFromHubId(), departed.getToHubId(), null, null, null);
+        }
+        if (event instanceof HubSegmentArrivedEvent arrived) {
+            return new SegmentFlow(null, arrived.getFromHubId(), null, arrived.getHubId(),
+                    arrived.getEstimatedDurationMin(), arrived.getActualDurationMin());
+        }
+        return null;
+    }
+
+    public SegmentFlow withType(Type type) {
+        return new SegmentFlow(type, fromHubId, toHubId, hubId, estimatedDurationMin, actualDurationMin);
+    }
+
+    @JsonIgnore
+    public boolean isDeparture() {
+        return type == Type.DEPARTED;
+    }
+
+    /**
+     * 허브 집계 키 (출발은 출발 허브, 도착은 도착 허브)
+     */
+    public String hubKey() {
+        return isDeparture() ? fromHubId : destinationHubId();
+    }
+
+    /**
+     * 레인 집계 키 (출발/도착 허브 중 하나라도 없으면 null)
+     */
+    public String laneKey() {
+        String destination = destinationHubId();
+        if (fromHubId == null || fromHubId.isBlank() || destination == null || destination.isBlank()) {
+            return null;
+        }
+        return fromHubId + LANE_KEY_SEPARATOR + destination;
+    }
+
+    /**
+     * 지연 시간 (실제 - 예상, 분)
+     *
+     * @return 도착 이벤트가 아니거나 소요 시간 정보가 없으면 null
+     */
+    public Long delayMin() {
+        if (isDeparture() || actualDurationMin == null || estimatedDurationMin == null) {
+            return null;
+        }
+        return actualDurationMin - estimatedDurationMin;
+    }
+
+    private String destinationHubId() {
+        return hubId != null ? hubId : toHubId;
+    }
+}
@@ -0,0 +1,59 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.codec;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.order.event.HubDeliveryCompletedEvent;
+import com.early_express.hub_delivery_service.global.infrastructure.event.serialization.BinaryEventCodec;
+import com.early_express.hub_delivery_service.global.infrastructure.event.serialization.BinaryEventReader;
+import com.early_express.hub_delivery_service.global.infrastructure.event.serialization.BinaryEventWriter;
+import org.springframework.stereotype.Component;
+
+/**
+ * HubDeliveryCompletedEvent 바이너리 코덱
+ *
+ * v1: eventId, eventType, source, timestamp, orderId, hubDeliveryId, completedAt, totalActualDurationMin
+ */
+@Component
+public class HubDeliveryCompletedEventCodec implements BinaryEventCodec<HubDeliveryCompletedEvent> {
+
+    private static final String EVENT_TYPE = "HUB_DELIVERY_COMPLETED";
+
+    @Override
+    public int schemaId() {
+        return HubDeliveryEventSchemas.HUB_DELIVERY_COMPLETED;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<HubDeliveryCompletedEvent> eventType() {
+        return HubDeliveryCompletedEvent.class;
+    }
+
+    @Override
+    public void write(HubDeliveryCompletedEvent event, BinaryEventWriter writer) {
+        writer.writeId(event.getEventId());
+        writer.writeDefaulted(event.getEventType(), EVENT_TYPE);
+        writer.writeDefaulted(event.getSource(), HubDeliveryEventSchemas.SOURCE);
+        writer.writeDateTime(event.getTimestamp());
+        writer.writeId(event.getOrderId());
+        writer.writeId(event.getHubDeliveryId());
+        writer.writeDateTime(event.getCompletedAt());
+        writer.writeLong(event.getTotalActualDurationMin());
+    }
+
+    @Override
+    public HubDeliveryCompletedEvent read(int version, BinaryEventReader reader) {
+        return HubDeliveryCompletedEvent.builder()
+                .eventId(reader.readId())
+                .eventType(reader.readDefaulted(EVENT_TYPE))
+                .source(reader.readDefaulted(HubDeliveryEventSchemas.SOURCE))
+                .timestamp(reader.readDateTime())
+                .orderId(reader.readId())
+                .hubDeliveryId(reader.readId())
+                .completedAt(reader.readDateTime())
+                .totalActualDurationMin(reader.readLong())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.codec;
+
+/**
+ * 허브 배송 이벤트 바이너리 스키마 ID
+ *
+ * 한 번 배정한 ID는 재사용하지 않습니다. (필드 변경은 같은 ID에서 코덱 version을 올려 처리)
+ */
+public final class HubDeliveryEventSchemas {
+
+    public static final int HUB_SEGMENT_DEPARTED = 1;
+    public static final int HUB_SEGMENT_ARRIVED = 2;
+    public static final int HUB_DELIVERY_COMPLETED = 3;
+
+    /** 이벤트 source 기본값 (같으면 1바이트로 인코딩) */
+    public static final String SOURCE = "hub-delivery-service";
+
+    private HubDeliveryEventSchemas() {
+    }
+}
@@ -0,0 +1,70 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.codec;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.track.event.HubSegmentArrivedEvent;
+import com.early_express.hub_delivery_service.global.infrastructure.event.serialization.BinaryEventCodec;
+import com.early_express.hub_delivery_service.global.infrastructure.event.serialization.BinaryEventReader;
+import com.early_express.hub_delivery_service.global.infrastructure.event.serialization.BinaryEventWriter;
+import org.springframework.stereotype.Component;
+
+/**
+ * HubSegmentArrivedEvent 바이너리 코덱
+ *
+ * v1: eventId, eventType, source, timestamp, orderId, hubDeliveryId, segmentIndex, hubId, arrivedAt,
+ *     fromHubId, departedAt, estimatedDurationMin, actualDurationMin
+ */
+@Component
+public class HubSegmentArrivedEventCodec implements BinaryEventCodec<HubSegmentArrivedEvent> {
+
+    private static final String EVENT_TYPE = "HUB_SEGMENT_ARRIVED";
+
+    @Override
+    public int schemaId() {
+        return HubDeliveryEventSchemas.HUB_SEGMENT_ARRIVED;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<HubSegmentArrivedEvent> eventType() {
+        return HubSegmentArrivedEvent.class;
+    }
+
+    @Override
+    public void write(HubSegmentArrivedEvent event, BinaryEventWriter writer) {
+        writer.writeId(event.getEventId());
+        writer.writeDefaulted(event.getEventType(), EVENT_TYPE);
+        writer.writeDefaulted(event.getSource(), HubDeliveryEventSchemas.SOURCE);
+        writer.writeDateTime(event.getTimestamp());
+        writer.writeId(event.getOrderId());
+        writer.writeId(event.getHubDeliveryId());
+        writer.writeInteger(event.getSegmentIndex());
+        writer.writeId(event.getHubId());
+        writer.writeDateTime(event.getArrivedAt());
+        writer.writeId(event.getFromHubId());
+        writer.writeDateTime(event.getDepartedAt());
+        writer.writeLong(event.getEstimatedDurationMin());
+        writer.writeLong(event.getActualDurationMin());
+    }
+
+    @Override
+    public HubSegmentArrivedEvent read(int version, BinaryEventReader reader) {
+        return HubSegmentArrivedEvent.builder()
+                .eventId(reader.readId())
+                .eventType(reader.readDefaulted(EVENT_TYPE))
+                .source(reader.readDefaulted(HubDeliveryEventSchemas.SOURCE))
+                .timestamp(reader.readDateTime())
+                .orderId(reader.readId())
+                .hubDeliveryId(reader.readId())
+                .segmentIndex(reader.readInteger())
+                .hubId(reader.readId())
+                .arrivedAt(reader.readDateTime())
+                .fromHubId(reader.readId())
+                .departedAt(reader.readDateTime())
+                .estimatedDurationMin(reader.readLong())
+                .actualDurationMin(reader.readLong())
+                .build();
+    }
+}
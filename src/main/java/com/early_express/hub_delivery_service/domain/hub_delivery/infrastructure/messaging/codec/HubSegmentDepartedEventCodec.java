@@ -0,0 +1,63 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.codec;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.track.event.HubSegmentDepartedEvent;
+import com.early_express.hub_delivery_service.global.infrastructure.event.serialization.BinaryEventCodec;
+import com.early_express.hub_delivery_service.global.infrastructure.event.serialization.BinaryEventReader;
+import com.early_express.hub_delivery_service.global.infrastructure.event.serialization.BinaryEventWriter;
+import org.springframework.stereotype.Component;
+
+/**
+ * HubSegmentDepartedEvent 바이너리 코덱
+ *
+ * v1: eventId, eventType, source, timestamp, orderId, hubDeliveryId, segmentIndex, fromHubId, toHubId, departedAt
+ */
+@Component
+public class HubSegmentDepartedEventCodec implements BinaryEventCodec<HubSegmentDepartedEvent> {
+
+    private static final String EVENT_TYPE = "HUB_SEGMENT_DEPARTED";
+
+    @Override
+    public int schemaId() {
+        return HubDeliveryEventSchemas.HUB_SEGMENT_DEPARTED;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<HubSegmentDepartedEvent> eventType() {
+        return HubSegmentDepartedEvent.class;
+    }
+
+    @Override
+    public void write(HubSegmentDepartedEvent event, BinaryEventWriter writer) {
+        writer.writeId(event.getEventId());
+        writer.writeDefaulted(event.getEventType(), EVENT_TYPE);
+        writer.writeDefaulted(event.getSource(), HubDeliveryEventSchemas.SOURCE);
+        writer.writeDateTime(event.getTimestamp());
+        writer.writeId(event.getOrderId());
+        writer.writeId(event.getHubDeliveryId());
+        writer.writeInteger(event.getSegmentIndex());
+        writer.writeId(event.getFromHubId());
+        writer.writeId(event.getToHubId());
+        writer.writeDateTime(event.getDepartedAt());
+    }
+
+    @Override
+    public HubSegmentDepartedEvent read(int version, BinaryEventReader reader) {
+        return HubSegmentDepartedEvent.builder()
+                .eventId(reader.readId())
+                .eventType(reader.readDefaulted(EVENT_TYPE))
+                .source(reader.readDefaulted(HubDeliveryEventSchemas.SOURCE))
+                .timestamp(reader.readDateTime())
+                .orderId(reader.readId())
+                .hubDeliveryId(reader.readId())
+                .segmentIndex(reader.readInteger())
+                .fromHubId(reader.readId())
+                .toHubId(reader.readId())
+                .departedAt(reader.readDateTime())
+                .build();
+    }
+}
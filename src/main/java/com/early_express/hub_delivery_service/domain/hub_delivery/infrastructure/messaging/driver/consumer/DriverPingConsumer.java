@@ -0,0 +1,75 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.driver.consumer;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking.SegmentTracker;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking.dto.TrackingDto.PingCommand;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking.dto.TrackingDto.PingResult;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.driver.event.DriverLocationPingEvent;
+import com.early_express.hub_delivery_service.global.config.KafkaConsumerConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 드라이버 위치 핑 구독
+ *
+ * driver-location-ping을 배치로 받아 SegmentTracker에 한 번에 반영합니다. (메모리 갱신만, DB 쓰기 없음)
+ * - 위치 핑은 손실을 허용하는 데이터이므로 변환할 수 없는/역직렬화에 실패한 레코드는 건너뛰고 DLT로 보내지 않음
+ * - 오프셋은 배치 반영 직후 커밋
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DriverPingConsumer {
+
+    private static final String DRIVER_PING_CONSUMER = "hub-delivery-driver-ping";
+
+    private final SegmentTracker segmentTracker;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            id = DRIVER_PING_CONSUMER,
+            topics = "${spring.kafka.topic.driver-location-ping}",
+            containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY,
+            autoStartup = "${hub-delivery.kafka.driver-ping.enabled:true}"
+    )
+    public void onPings(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment) {
+        List<PingCommand> pings = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, Object> record : records) {
+            DriverLocationPingEvent event = convert(record);
+            if (event != null) {
+                pings.add(event.toCommand());
+            }
+        }
+
+        PingResult result = pings.isEmpty() ? null : segmentTracker.ingest(pings);
+
+        acknowledgment.acknowledge();
+
+        if (result != null && result.getRejected() > 0) {
+            log.debug("[Driver] 위치 핑 일부 거절 - records: {}, accepted: {}, rejectedBy: {}",
+                    records.size(), result.getAccepted(), result.getRejectedBy());
+        }
+    }
+
+    private DriverLocationPingEvent convert(ConsumerRecord<String, Object> record) {
+        if (record.value() == null) {
+            log.warn("[Driver] 빈/역직렬화 실패 위치 핑 건너뜀 - partition: {}, offset: {}",
+                    record.partition(), record.offset());
+            return null;
+        }
+        try {
+            return objectMapper.convertValue(record.value(), DriverLocationPingEvent.class);
+        } catch (IllegalArgumentException e) {
+            log.warn("[Driver] 위치 핑 형식 오류 건너뜀 - partition: {}, offset: {}, key: {}",
+                    record.partition(), record.offset(), record.key());
+            return null;
+        }
+    }
+}
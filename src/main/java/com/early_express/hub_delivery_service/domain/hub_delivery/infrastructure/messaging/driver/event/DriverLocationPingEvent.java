@@ -0,0 +1,48 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.driver.event;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking.dto.TrackingDto.PingCommand;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 드라이버 위치 핑 이벤트
+ * 드라이버 단말(게이트웨이) → Hub Delivery Service
+ *
+ * 키는 hubDeliveryId (같은 배송의 핑이 한 파티션/인스턴스로 모이도록)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DriverLocationPingEvent {
+
+    private String hubDeliveryId;
+    private Integer segmentIndex;
+    private String driverId;
+    private Double latitude;
+    private Double longitude;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime recordedAt;
+
+    /**
+     * Message → Command 변환
+     */
+    public PingCommand toCommand() {
+        return PingCommand.builder()
+                .hubDeliveryId(this.hubDeliveryId)
+                .segmentIndex(this.segmentIndex)
+                .driverId(this.driverId)
+                .latitude(this.latitude)
+                .longitude(this.longitude)
+                .recordedAt(this.recordedAt)
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.order.command;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.CreateCommand;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 허브 배송 생성 커맨드
+ * Order Service → Hub Delivery Service
+ *
+ * POST /internal/deliveries와 같은 정보를 담으며, 결과는 hub-delivery-create-reply로 응답합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class HubDeliveryCreateCommand {
+
+    private String eventId;
+    private String eventType;
+    private String source;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime timestamp;
+
+    private String orderId;
+    private String originHubId;
+    private String destinationHubId;
+    private List<String> routeHubs;
+    private String routeInfoJson;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime departureDeadline;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime estimatedArrivalTime;
+
+    private String requestedBy;
+
+    /**
+     * Message → Command 변환
+     */
+    public CreateCommand toCommand() {
+        return CreateCommand.builder()
+                .orderId(this.orderId)
+                .originHubId(this.originHubId)
+                .destinationHubId(this.destinationHubId)
+                .routeHubs(this.routeHubs)
+                .routeInfoJson(this.routeInfoJson)
+                .departureDeadline(this.departureDeadline)
+                .estimatedArrivalTime(this.estimatedArrivalTime)
+                .createdBy(this.requestedBy != null ? this.requestedBy : "system")
+                .build();
+    }
+}
@@ -0,0 +1,210 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.order.consumer;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.HubDeliveryCommandService;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.CreateCommand;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.CreateResult;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.order.command.HubDeliveryCreateCommand;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.order.producer.OrderEventProducer;
+import com.early_express.hub_delivery_service.global.config.KafkaConsumerConfig;
+import com.early_express.hub_delivery_service.global.infrastructure.event.idempotency.ProcessedEventStore;
+import com.early_express.hub_delivery_service.global.infrastructure.event.parallel.KeyOrderedRecordDispatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Order 도메인 커맨드 구독
+ *
+ * hub-delivery-create-command를 배치로 받아 허브 배송을 일괄 생성하고,
+ * 항목별 결과를 hub-delivery-create-reply로 응답합니다.
+ *
+ * 처리 순서: 변환 → 처리 완료 eventId 제외 → 일괄 생성(단일 트랜잭션) → 응답 발행 → 응답 전송 확인 → eventId 기록 → 오프셋 커밋
+ * - 변환할 수 없는 커맨드는 배치를 막지 않도록 로그만 남기고 건너뜀
+ * - 역직렬화에 실패한 레코드는 앞 레코드까지 처리/커밋하고 DLT로 보냄 (재시도하지 않음)
+ * - 일괄 생성이 재시도 후에도 실패하면 배치의 레코드를 DLT로 보냄 (DeadLetterReplayService로 재처리)
+ * - 필수 값 누락/경로 오류는 해당 항목만 FAILED 응답
+ * - 응답 전송이 확인된 커맨드만 eventId를 기록하여 재전달 시 다시 응답하지 않음
+ * - 응답 전송 확인 전에 실패(전송 실패/시간 초과 포함)하면 배치 전체가 재전달되며, 주문 ID 중복 체크로 같은 응답을 다시 보냄
+ *
+ * 병렬 모드(hub-delivery.kafka.create-command.parallel.enabled)에서는 배치 리스너 대신 레코드 리스너가
+ * 같은 그룹으로 구독하여, 파티션 내 커맨드를 주문 ID(키)별 순서를 지키며 병렬로 처리합니다. (KeyOrderedRecordDispatcher)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderCommandConsumer {
+
+    private static final String CREATE_COMMAND_CONSUMER = "hub-delivery-create-command";
+    private static final String CREATE_COMMAND_PARALLEL_LISTENER = "hub-delivery-create-command-parallel";
+    private static final LogAccessor LOG_ACCESSOR = new LogAccessor(OrderCommandConsumer.class);
+
+    private final HubDeliveryCommandService hubDeliveryCommandService;
+    private final OrderEventProducer orderEventProducer;
+    private final ProcessedEventStore processedEventStore;
+    private final ObjectMapper objectMapper;
+    private final KeyOrderedRecordDispatcher keyOrderedRecordDispatcher;
+
+    @Value("${hub-delivery.kafka.create-command.reply-timeout:10s}")
+    private Duration replyTimeout;
+
+    @KafkaListener(
+            id = CREATE_COMMAND_CONSUMER,
+            topics = "${spring.kafka.topic.hub-delivery-create-command}",
+            containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY,
+            autoStartup = "#{${hub-delivery.kafka.create-command.enabled:true} && !${hub-delivery.kafka.create-command.parallel.enabled:false}}"
+    )
+    public void onCreateCommands(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment) {
+        // 1. 변환 (형식 오류는 건너뜀, 역직렬화 실패 레코드 앞까지만 처리)
+        List<HubDeliveryCreateCommand> converted = new ArrayList<>(records.size());
+        ConsumerRecord<String, Object> poisoned = null;
+        DeserializationException deserializationException = null;
+        for (ConsumerRecord<String, Object> record : records) {
+            deserializationException = deserializationFailure(record);
+            if (deserializationException != null) {
+                poisoned = record;
+                break;
+            }
+            HubDeliveryCreateCommand message = convert(record);
+            if (message != null) {
+                converted.add(message);
+            }
+        }
+
+        // 2. 처리 완료된 커맨드 제외 (배치 내 같은 eventId 포함)
+        Set<String> seenEventIds = new HashSet<>(processedEventStore.findProcessed(CREATE_COMMAND_CONSUMER,
+                converted.stream().map(HubDeliveryCreateCommand::getEventId).toList()));
+
+        List<HubDeliveryCreateCommand> messages = new ArrayList<>(converted.size());
+        List<CreateCommand> commands = new ArrayList<>(converted.size());
+        for (HubDeliveryCreateCommand message : converted) {
+            if (message.getEventId() != null && !seenEventIds.add(message.getEventId())) {
+                continue;
+            }
+            messages.add(message);
+            commands.add(message.toCommand());
+        }
+
+        // 3. 일괄 생성 (실패 시 예외 → 커밋하지 않고 에러 핸들러가 재전달)
+        List<CreateResult> results = commands.isEmpty()
+                ? List.of()
+                : hubDeliveryCommandService.createBatch(commands);
+
+        // 4. 응답 발행 (DB 커밋 이후) 및 전송 확인 (실패 시 예외 → 기록/커밋하지 않고 재전달)
+        List<CompletableFuture<?>> replies = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            replies.add(orderEventProducer.publishHubDeliveryCreateReply(messages.get(i).getEventId(), results.get(i)));
+        }
+        awaitReplies(replies);
+
+        // 5. 처리 완료 기록
+        processedEventStore.markProcessed(CREATE_COMMAND_CONSUMER,
+                messages.stream().map(HubDeliveryCreateCommand::getEventId).toList());
+
+        // 6. 역직렬화 실패 레코드: 에러 핸들러가 앞 레코드까지 커밋하고 해당 레코드를 DLT로 보낸 뒤 나머지를 재전달
+        if (poisoned != null) {
+            throw new BatchListenerFailedException("생성 커맨드 역직렬화 실패", deserializationException, poisoned);
+        }
+
+        // 7. 오프셋 커밋
+        acknowledgment.acknowledge();
+
+        log.info("[Order] 허브 배송 생성 커맨드 처리 - records: {}, processed: {}", records.size(), results.size());
+    }
+
+    /**
+     * 생성 커맨드 키 순서 병렬 처리 (병렬 모드)
+     * - 리스너 스레드는 예약만 하고 바로 다음 레코드로 진행
+     * - 오프셋은 앞선 레코드가 모두 처리된 지점까지만 커밋 (asyncAcks)
+     */
+    @KafkaListener(
+            id = CREATE_COMMAND_PARALLEL_LISTENER,
+            groupId = CREATE_COMMAND_CONSUMER,
+            topics = "${spring.kafka.topic.hub-delivery-create-command}",
+            containerFactory = KafkaConsumerConfig.PARALLEL_LISTENER_CONTAINER_FACTORY,
+            autoStartup = "#{${hub-delivery.kafka.create-command.enabled:true} && ${hub-delivery.kafka.create-command.parallel.enabled:false}}"
+    )
+    public void onCreateCommand(ConsumerRecord<String, Object> record, Acknowledgment acknowledgment)
+            throws InterruptedException {
+        keyOrderedRecordDispatcher.dispatch(record, acknowledgment, this::processCreateCommand);
+    }
+
+    /**
+     * 생성 커맨드 1건 처리 (예외 시 KeyOrderedRecordDispatcher가 재시도 후 DLT로 보냄)
+     */
+    private void processCreateCommand(ConsumerRecord<String, Object> record) {
+        HubDeliveryCreateCommand message = convert(record);
+        if (message == null || processedEventStore.isProcessed(CREATE_COMMAND_CONSUMER, message.getEventId())) {
+            return;
+        }
+
+        CreateResult result = hubDeliveryCommandService.createBatch(List.of(message.toCommand())).get(0);
+        awaitReplies(List.of(orderEventProducer.publishHubDeliveryCreateReply(message.getEventId(), result)));
+        processedEventStore.markProcessed(CREATE_COMMAND_CONSUMER, Collections.singletonList(message.getEventId()));
+    }
+
+    /**
+     * 응답 전송 확인 대기
+     *
+     * @throws KafkaException 전송 실패 또는 시간 초과 (에러 핸들러가 재전달)
+     */
+    private void awaitReplies(List<CompletableFuture<?>> replies) {
+        if (replies.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(replies.toArray(CompletableFuture[]::new))
+                    .get(replyTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("생성 커맨드 응답 전송 대기 중단", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new KafkaException("생성 커맨드 응답 전송 실패 - replies: " + replies.size(), e);
+        }
+    }
+
+    private HubDeliveryCreateCommand convert(ConsumerRecord<String, Object> record) {
+        if (record.value() == null) {
+            log.warn("[Order] 빈 생성 커맨드 건너뜀 - partition: {}, offset: {}", record.partition(), record.offset());
+            return null;
+        }
+        try {
+            return objectMapper.convertValue(record.value(), HubDeliveryCreateCommand.class);
+        } catch (IllegalArgumentException e) {
+            log.error("[Order] 생성 커맨드 형식 오류 건너뜀 - partition: {}, offset: {}, key: {}",
+                    record.partition(), record.offset(), record.key(), e);
+            return null;
+        }
+    }
+
+    /**
+     * ErrorHandlingDeserializer가 기록한 역직렬화 예외 (정상 레코드면 null)
+     */
+    private DeserializationException deserializationFailure(ConsumerRecord<String, Object> record) {
+        if (record.value() != null) {
+            return null;
+        }
+        return SerializationUtils.getExceptionFromHeader(
+                record, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+    }
+}
@@ -0,0 +1,35 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.order.event;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 허브 배송 생성 커맨드 응답 이벤트
+ * Hub Delivery Service → Order Service
+ *
+ * result: CREATED(새로 생성), DUPLICATE(이미 생성된 주문), FAILED(검증 실패)
+ */
+@Getter
+@Builder
+public class HubDeliveryCreateReplyEvent {
+
+    private String eventId;
+    private String eventType;
+    private String source;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime timestamp;
+
+    /** 응답 대상 커맨드의 eventId */
+    private String commandEventId;
+
+    private String orderId;
+    private String hubDeliveryId;
+    private String status;
+    private String result;
+    private boolean success;
+    private String message;
+}
@@ -1,18 +1,30 @@
 package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.order.producer;
 
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.CreateOutcome;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.CreateResult;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
 import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.order.event.HubDeliveryCompletedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.order.event.HubDeliveryCreateReplyEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import com.early_express.hub_delivery_service.global.infrastructure.event.publish.AsyncEventPublisher;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Order 도메인 이벤트 발행
+ *
+ * 완료 이벤트는 AsyncEventPublisher로 비동기 전송하고,
+ * 생성 커맨드 응답은 KafkaTemplate으로 바로 전송하고 전송 결과를 반환하여,
+ * 리스너가 전송 확인 후에만 처리 완료 기록/오프셋 커밋을 하도록 합니다.
  */
 @Slf4j
 @Component
@@ -20,10 +32,15 @@ import java.util.UUID;
 public class OrderEventProducer {
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final AsyncEventPublisher asyncEventPublisher;
+    private final HubDeliveryMetrics metrics;
 
     @Value("${spring.kafka.topic.hub-delivery-completed}")
     private String hubDeliveryCompletedTopic;
 
+    @Value("${spring.kafka.topic.hub-delivery-create-reply}")
+    private String hubDeliveryCreateReplyTopic;
+
     /**
      * 허브 배송 완료 이벤트 발행
      */
@@ -39,9 +56,55 @@ public class OrderEventProducer {
                 .totalActualDurationMin(hubDelivery.getTotalActualDurationMin())
                 .build();
 
-        kafkaTemplate.send(hubDeliveryCompletedTopic, hubDelivery.getOrderId(), event);
+        Timer.Sample sample = metrics.startTimer();
+        asyncEventPublisher.publish(hubDeliveryCompletedTopic, hubDelivery.getOrderId(), event,
+                (result, ex) -> onSendComplete(hubDeliveryCompletedTopic, hubDelivery.getOrderId(), sample, ex));
 
         log.info("[Order] HubDeliveryCompleted 이벤트 발행 - orderId: {}, hubDeliveryId: {}",
                 hubDelivery.getOrderId(), hubDelivery.getIdValue());
     }
+
+    /**
+     * 허브 배송 생성 커맨드 응답 발행
+     *
+     * @param commandEventId 응답 대상 커맨드의 eventId
+     * @return 전송 결과 (브로커 확인 시 완료, 실패 시 예외로 완료)
+     */
+    public CompletableFuture<SendResult<String, Object>> publishHubDeliveryCreateReply(String commandEventId, CreateResult result) {
+        HubDeliveryCreateReplyEvent event = HubDeliveryCreateReplyEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType("HUB_DELIVERY_CREATE_REPLY")
+                .source("hub-delivery-service")
+                .timestamp(LocalDateTime.now())
+                .commandEventId(commandEventId)
+                .orderId(result.getOrderId())
+                .hubDeliveryId(result.getHubDeliveryId())
+                .status(result.getStatus())
+                .result(result.getOutcome().name())
+                .success(result.getOutcome() != CreateOutcome.FAILED)
+                .message(result.getMessage())
+                .build();
+
+        CompletableFuture<SendResult<String, Object>> sent = send(hubDeliveryCreateReplyTopic, result.getOrderId(), event);
+
+        log.debug("[Order] HubDeliveryCreateReply 이벤트 발행 - orderId: {}, result: {}",
+                result.getOrderId(), result.getOutcome());
+        return sent;
+    }
+
+    // ===== Private Helper Methods =====
+
+    private CompletableFuture<SendResult<String, Object>> send(String topic, String key, Object event) {
+        Timer.Sample sample = metrics.startTimer();
+
+        return kafkaTemplate.send(topic, key, event)
+                .whenComplete((result, ex) -> onSendComplete(topic, key, sample, ex));
+    }
+
+    private void onSendComplete(String topic, String key, Timer.Sample sample, Throwable ex) {
+        metrics.recordKafkaSend(topic, sample, ex);
+        if (ex != null) {
+            log.error("[Order] 이벤트 전송 실패 - topic: {}, key: {}", topic, key, ex);
+        }
+    }
 }
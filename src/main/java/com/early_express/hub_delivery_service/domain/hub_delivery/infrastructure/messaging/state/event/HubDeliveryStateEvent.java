@@ -0,0 +1,135 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.state.event;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 허브 배송 상태 스냅샷 이벤트
+ * Hub Delivery Service → Track / Order Service (compacted 토픽)
+ *
+ * hubDeliveryId를 키로 변경이 커밋될 때마다 집계 전체를 발행합니다.
+ * 토픽이 compact되므로 소비 측은 처음부터 읽으면 배송별 최신 상태만 받아 REST 조회 없이 상태를 구성할 수 있습니다.
+ * 삭제된 배송은 값이 null인 tombstone으로 발행됩니다.
+ *
+ * version: 배송 애그리거트 버전 (커밋마다 증가하는 낙관적 잠금 버전)
+ * - 커밋 후 전송은 인스턴스마다 따로 이루어지므로 같은 배송의 스냅샷이 커밋 순서와 다르게 도착할 수 있습니다.
+ * - 소비 측은 배송별로 마지막으로 반영한 version을 보관하고, version이 그 값 이하인 스냅샷은 버립니다.
+ * snapshotAt: 스냅샷 생성 시각 (인스턴스 시계 기준 참고용, 선후 비교에 사용하지 않음)
+ */
+@Getter
+@Builder
+public class HubDeliveryStateEvent {
+
+    private String eventId;
+    private String eventType;
+    private String source;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime timestamp;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime snapshotAt;
+
+    private String hubDeliveryId;
+    private Long version;
+    private String orderId;
+    private String originHubId;
+    private String destinationHubId;
+    private String status;
+    private Integer currentSegmentIndex;
+    private Integer totalSegments;
+    private Integer completedSegments;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime completedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime departureDeadline;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime estimatedArrivalTime;
+
+    private Long totalEstimatedDurationMin;
+    private Long totalActualDurationMin;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    private List<SegmentState> segments;
+
+    public static HubDeliveryStateEvent of(HubDelivery hubDelivery) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return HubDeliveryStateEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType("HUB_DELIVERY_STATE")
+                .source("hub-delivery-service")
+                .timestamp(now)
+                .snapshotAt(now)
+                .hubDeliveryId(hubDelivery.getIdValue())
+                .version(hubDelivery.getVersion())
+                .orderId(hubDelivery.getOrderId())
+                .originHubId(hubDelivery.getOriginHubId())
+                .destinationHubId(hubDelivery.getDestinationHubId())
+                .status(hubDelivery.getStatus().name())
+                .currentSegmentIndex(hubDelivery.getCurrentSegmentIndex())
+                .totalSegments(hubDelivery.getTotalSegments())
+                .completedSegments(hubDelivery.getCompletedSegments())
+                .startedAt(hubDelivery.getStartedAt())
+                .completedAt(hubDelivery.getCompletedAt())
+                .departureDeadline(hubDelivery.getDepartureDeadline())
+                .estimatedArrivalTime(hubDelivery.getEstimatedArrivalTime())
+                .totalEstimatedDurationMin(hubDelivery.getTotalEstimatedDurationMin())
+                .totalActualDurationMin(hubDelivery.getTotalActualDurationMin())
+                .createdAt(hubDelivery.getCreatedAt())
+                .segments(hubDelivery.getSegments().stream().map(SegmentState::from).toList())
+                .build();
+    }
+
+    /**
+     * 구간 상태
+     */
+    @Getter
+    @Builder
+    public static class SegmentState {
+        private Integer sequence;
+        private String fromHubId;
+        private String toHubId;
+        private String status;
+        private String driverId;
+        private Long estimatedDistanceM;
+        private Long estimatedDurationMin;
+        private Long actualDurationMin;
+
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime departedAt;
+
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime arrivedAt;
+
+        public static SegmentState from(HubSegment segment) {
+            return SegmentState.builder()
+                    .sequence(segment.getSequence())
+                    .fromHubId(segment.getFromHubId())
+                    .toHubId(segment.getToHubId())
+                    .status(segment.getStatus().name())
+                    .driverId(segment.getDriverId())
+                    .estimatedDistanceM(segment.getEstimatedDistanceM())
+                    .estimatedDurationMin(segment.getEstimatedDurationMin())
+                    .actualDurationMin(segment.getActualDurationMin())
+                    .departedAt(segment.getDepartedAt())
+                    .arrivedAt(segment.getArrivedAt())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.state.producer;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.state.event.HubDeliveryStateEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import com.early_express.hub_delivery_service.global.infrastructure.event.publish.AsyncEventPublisher;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 허브 배송 상태 스냅샷 발행 (compacted 토픽)
+ *
+ * 스냅샷은 호출 시점의 집계 상태로 만들고, 트랜잭션 커밋 이후에 전송합니다. (롤백 시 전송하지 않음)
+ * 한 트랜잭션에서 같은 배송을 여러 번 저장하면 마지막 스냅샷만 전송합니다.
+ * 전송은 AsyncEventPublisher를 통해 비동기로 처리합니다.
+ * 인스턴스 간 전송 순서는 보장되지 않으므로, 소비 측은 스냅샷의 version으로 오래된 스냅샷을 걸러냅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeliveryStateProducer {
+
+    private final AsyncEventPublisher asyncEventPublisher;
+    private final HubDeliveryMetrics metrics;
+
+    @Value("${spring.kafka.topic.hub-delivery-state}")
+    private String hubDeliveryStateTopic;
+
+    /**
+     * 상태 스냅샷 발행 (삭제된 배송은 tombstone)
+     */
+    public void publishSnapshot(HubDelivery hubDelivery) {
+        String key = hubDelivery.getIdValue();
+        HubDeliveryStateEvent snapshot = hubDelivery.isDeleted() ? null : HubDeliveryStateEvent.of(hubDelivery);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(key, snapshot);
+            return;
+        }
+        pendingSnapshots().put(key, snapshot);
+    }
+
+    // ===== Private Helper Methods =====
+
+    /**
+     * 현재 트랜잭션의 전송 대기 스냅샷 (배송 ID → 스냅샷, 처음 호출 시 커밋 후 전송 등록)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, HubDeliveryStateEvent> pendingSnapshots() {
+        Map<String, HubDeliveryStateEvent> pending =
+                (Map<String, HubDeliveryStateEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        Map<String, HubDeliveryStateEvent> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                created.forEach(DeliveryStateProducer.this::send);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(DeliveryStateProducer.this);
+            }
+        });
+        return created;
+    }
+
+    private void send(String key, HubDeliveryStateEvent snapshot) {
+        Timer.Sample sample = metrics.startTimer();
+
+        asyncEventPublisher.publish(hubDeliveryStateTopic, key, snapshot, (result, ex) -> {
+            metrics.recordKafkaSend(hubDeliveryStateTopic, sample, ex);
+            if (ex != null) {
+                log.error("[State] 상태 스냅샷 전송 실패 - hubDeliveryId: {}", key, ex);
+            }
+        });
+
+        log.debug("[State] 상태 스냅샷 발행 - hubDeliveryId: {}, status: {}",
+                key, snapshot != null ? snapshot.getStatus() : "DELETED");
+    }
+}
@@ -28,4 +28,16 @@ public class HubSegmentArrivedEvent {
 
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime arrivedAt;
+
+    /** 출발 허브 ID (레인 집계용) */
+    private String fromHubId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime departedAt;
+
+    /** 예상 소요 시간 (분) */
+    private Long estimatedDurationMin;
+
+    /** 실제 소요 시간 (분) */
+    private Long actualDurationMin;
 }
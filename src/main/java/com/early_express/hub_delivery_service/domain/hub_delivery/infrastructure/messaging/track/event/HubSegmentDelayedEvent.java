@@ -0,0 +1,41 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.track.event;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 허브 구간 지연 이벤트
+ * Hub Delivery Service → Track Service
+ *
+ * 이동 중 구간이 예상 도착 시각(+유예 시간)을 넘기면 발행됩니다.
+ * eventId는 구간 단위로 고정되어 중복 발행 시 수신 측에서 멱등 처리할 수 있습니다.
+ */
+@Getter
+@Builder
+public class HubSegmentDelayedEvent {
+
+    private String eventId;
+    private String eventType;
+    private String source;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime timestamp;
+
+    private String orderId;
+    private String hubDeliveryId;
+    private Integer segmentIndex;
+    private String fromHubId;
+    private String toHubId;
+    private String driverId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime departedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime expectedArrivalAt;
+
+    private Long overdueMin;
+}
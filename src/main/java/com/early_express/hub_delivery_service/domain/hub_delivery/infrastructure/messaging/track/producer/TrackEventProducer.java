@@ -3,25 +3,32 @@ package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructur
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
 import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.track.event.HubSegmentArrivedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.track.event.HubSegmentDelayedEvent;
 import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.track.event.HubSegmentDepartedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import com.early_express.hub_delivery_service.global.infrastructure.event.publish.AsyncEventPublisher;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
  * Track 도메인 이벤트 발행
+ *
+ * 전송은 AsyncEventPublisher를 통해 비동기로 처리합니다. (호출 스레드 비차단)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TrackEventProducer {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final AsyncEventPublisher asyncEventPublisher;
+    private final HubDeliveryMetrics metrics;
 
     @Value("${spring.kafka.topic.hub-segment-departed}")
     private String hubSegmentDepartedTopic;
@@ -29,6 +36,9 @@ public class TrackEventProducer {
     @Value("${spring.kafka.topic.hub-segment-arrived}")
     private String hubSegmentArrivedTopic;
 
+    @Value("${spring.kafka.topic.hub-segment-delayed}")
+    private String hubSegmentDelayedTopic;
+
     /**
      * 허브 구간 출발 이벤트 발행
      */
@@ -46,7 +56,7 @@ public class TrackEventProducer {
                 .departedAt(segment.getDepartedAt())
                 .build();
 
-        kafkaTemplate.send(hubSegmentDepartedTopic, hubDelivery.getOrderId(), event);
+        send(hubSegmentDepartedTopic, hubDelivery.getOrderId(), event);
 
         log.info("[Track] HubSegmentDeparted 이벤트 발행 - orderId: {}, segment: {}, from: {} → to: {}",
                 hubDelivery.getOrderId(), segment.getSequence(), segment.getFromHubId(), segment.getToHubId());
@@ -66,11 +76,56 @@ public class TrackEventProducer {
                 .segmentIndex(segment.getSequence())
                 .hubId(segment.getToHubId())
                 .arrivedAt(segment.getArrivedAt())
+                .fromHubId(segment.getFromHubId())
+                .departedAt(segment.getDepartedAt())
+                .estimatedDurationMin(segment.getEstimatedDurationMin())
+                .actualDurationMin(segment.getActualDurationMin())
                 .build();
 
-        kafkaTemplate.send(hubSegmentArrivedTopic, hubDelivery.getOrderId(), event);
+        send(hubSegmentArrivedTopic, hubDelivery.getOrderId(), event);
 
         log.info("[Track] HubSegmentArrived 이벤트 발행 - orderId: {}, segment: {}, hubId: {}",
                 hubDelivery.getOrderId(), segment.getSequence(), segment.getToHubId());
     }
+
+    /**
+     * 허브 구간 지연 이벤트 발행
+     */
+    public void publishSegmentDelayed(HubDelivery hubDelivery, HubSegment segment, LocalDateTime expectedArrivalAt) {
+        LocalDateTime now = LocalDateTime.now();
+
+        HubSegmentDelayedEvent event = HubSegmentDelayedEvent.builder()
+                .eventId(hubDelivery.getIdValue() + ":" + segment.getSequence() + ":DELAYED")
+                .eventType("HUB_SEGMENT_DELAYED")
+                .source("hub-delivery-service")
+                .timestamp(now)
+                .orderId(hubDelivery.getOrderId())
+                .hubDeliveryId(hubDelivery.getIdValue())
+                .segmentIndex(segment.getSequence())
+                .fromHubId(segment.getFromHubId())
+                .toHubId(segment.getToHubId())
+                .driverId(segment.getDriverId())
+                .departedAt(segment.getDepartedAt())
+                .expectedArrivalAt(expectedArrivalAt)
+                .overdueMin(Math.max(Duration.between(expectedArrivalAt, now).toMinutes(), 0))
+                .build();
+
+        send(hubSegmentDelayedTopic, hubDelivery.getOrderId(), event);
+
+        log.info("[Track] HubSegmentDelayed 이벤트 발행 - orderId: {}, segment: {}, expectedArrivalAt: {}",
+                hubDelivery.getOrderId(), segment.getSequence(), expectedArrivalAt);
+    }
+
+    // ===== Private Helper Methods =====
+
+    private void send(String topic, String key, Object event) {
+        Timer.Sample sample = metrics.startTimer();
+
+        asyncEventPublisher.publish(topic, key, event, (result, ex) -> {
+            metrics.recordKafkaSend(topic, sample, ex);
+            if (ex != null) {
+                log.error("[Track] 이벤트 전송 실패 - topic: {}, key: {}", topic, key, ex);
+            }
+        });
+    }
 }
@@ -0,0 +1,539 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubLane;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Hub Delivery 메트릭
+ *
+ * 커맨드, Repository 쿼리, Kafka 전송, HubDriver 호출의 타이머/카운터를 한 곳에서 정의합니다.
+ * 모든 태그 값은 고정된 집합(커맨드명, 쿼리명, 토픽, 메서드명, 결과, 에러 코드)만 사용하여
+ * Prometheus 카디널리티를 낮게 유지합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HubDeliveryMetrics {
+
+    // ===== 메트릭 이름 =====
+    public static final String COMMAND_TIMER = "hub_delivery.command";
+    public static final String COMMAND_ERRORS = "hub_delivery.command.errors";
+    public static final String REPOSITORY_TIMER = "hub_delivery.repository.query";
+    public static final String KAFKA_SEND_TIMER = "hub_delivery.kafka.send";
+    public static final String KAFKA_SEND_FAILURES = "hub_delivery.kafka.send.failures";
+    public static final String CLIENT_TIMER = "hub_delivery.client.call";
+    public static final String LANE_DURATION = "hub_delivery.lane.duration";
+    public static final String LANE_DELAY = "hub_delivery.lane.delay";
+    public static final String LANE_LATE = "hub_delivery.lane.late";
+    public static final String SEGMENT_OVERDUE = "hub_delivery.segment.overdue";
+    public static final String SEGMENT_OVERDUE_WATCHED = "hub_delivery.segment.overdue.watched";
+    public static final String SWEEPER_RUN = "hub_delivery.sweeper.run";
+    public static final String SWEEPER_SHARDS = "hub_delivery.sweeper.shards";
+    public static final String SWEEPER_DELIVERIES = "hub_delivery.sweeper.deliveries";
+    public static final String HANDOFF_RESERVATION = "hub_delivery.handoff.reservation";
+    public static final String HANDOFF_RESERVATIONS_ACTIVE = "hub_delivery.handoff.reservations.active";
+    public static final String HUB_DWELL = "hub_delivery.hub.dwell";
+    public static final String DISPATCH_QUEUE_SIZE = "hub_delivery.dispatch.queue.size";
+    public static final String DISPATCH_ASSIGNMENTS = "hub_delivery.dispatch.assignments";
+    public static final String HUB_PENDING_SEGMENTS = "hub_delivery.hub.segments.pending";
+    public static final String HUB_INBOUND_SEGMENTS = "hub_delivery.hub.segments.inbound";
+    public static final String CREATE_BATCH_SIZE = "hub_delivery.create.batch.size";
+    public static final String CREATE_BATCH_ITEMS = "hub_delivery.create.batch.items";
+    public static final String MANIFEST_SIZE = "hub_delivery.manifest.size";
+    public static final String MANIFEST_ITEMS = "hub_delivery.manifest.items";
+    public static final String CONSOLIDATION_LANES = "hub_delivery.consolidation.lanes";
+    public static final String TRACKING_PINGS = "hub_delivery.tracking.pings";
+    public static final String TRACKING_SEGMENTS = "hub_delivery.tracking.segments";
+    public static final String TRACKING_FLUSHED = "hub_delivery.tracking.flushed";
+    public static final String LIVE_FEED_SUBSCRIBERS = "hub_delivery.live_feed.subscribers";
+    public static final String LIVE_FEED_CHANGES = "hub_delivery.live_feed.changes";
+
+    /** 지연 도착 판정 허용 오차 (분) */
+    public static final long LANE_LATE_TOLERANCE_MIN = 5;
+
+    // ===== 커맨드 =====
+    public static final String COMMAND_CREATE = "create";
+    public static final String COMMAND_ASSIGN = "assign";
+    public static final String COMMAND_DISPATCH = "dispatch";
+    public static final String COMMAND_DEPART = "depart";
+    public static final String COMMAND_ARRIVE = "arrive";
+    public static final String COMMAND_CANCEL = "cancel";
+    public static final String COMMAND_CREATE_BATCH = "create_batch";
+    public static final String COMMAND_PLAN_MANIFEST = "plan_manifest";
+    public static final String COMMAND_ASSIGN_MANIFEST = "assign_manifest";
+    public static final String COMMAND_DEPART_MANIFEST = "depart_manifest";
+    public static final String COMMAND_ARRIVE_MANIFEST = "arrive_manifest";
+
+    // ===== 결과 =====
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_REJECTED = "rejected";   // 비즈니스 규칙 위반 (HubDeliveryException)
+    public static final String OUTCOME_ERROR = "error";         // 예상하지 못한 오류
+
+    private final MeterRegistry meterRegistry;
+
+    // ===== 커맨드 =====
+
+    /**
+     * 커맨드 실행 시간 측정
+     *
+     * @param command 커맨드명 (create/assign/depart/arrive/cancel)
+     * @param action 실행할 커맨드
+     * @param succeeded 결과 객체 기준 성공 여부 (false면 rejected로 기록)
+     */
+    public <T> T timeCommand(String command, Supplier<T> action, Predicate<T> succeeded) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = OUTCOME_ERROR;
+        try {
+            T result = action.get();
+            outcome = succeeded.test(result) ? OUTCOME_SUCCESS : OUTCOME_REJECTED;
+            return result;
+        } catch (RuntimeException e) {
+            outcome = recordCommandError(command, e);
+            throw e;
+        } finally {
+            sample.stop(commandTimer(command, outcome));
+        }
+    }
+
+    public <T> T timeCommand(String command, Supplier<T> action) {
+        return timeCommand(command, action, result -> true);
+    }
+
+    public void timeCommand(String command, Runnable action) {
+        timeCommand(command, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // ===== Repository =====
+
+    /**
+     * Repository 쿼리 실행 시간 측정
+     *
+     * @param operation 쿼리명 (save, find_by_id 등)
+     */
+    public <T> T timeQuery(String operation, Supplier<T> query) {
+        return Timer.builder(REPOSITORY_TIMER)
+                .description("HubDelivery Repository 쿼리 실행 시간")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(query);
+    }
+
+    // ===== Kafka =====
+
+    public Timer.Sample startTimer() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Kafka 전송 결과 기록 (send future 완료 시 호출)
+     *
+     * @param topic 토픽명
+     * @param sample send 호출 시점에 시작한 샘플
+     * @param failure 실패 원인 (성공 시 null)
+     */
+    public void recordKafkaSend(String topic, Timer.Sample sample, Throwable failure) {
+        String outcome = failure == null ? OUTCOME_SUCCESS : OUTCOME_ERROR;
+
+        sample.stop(Timer.builder(KAFKA_SEND_TIMER)
+                .description("Kafka 이벤트 전송 완료(ack)까지의 시간")
+                .tag("topic", topic)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+
+        if (failure != null) {
+            Counter.builder(KAFKA_SEND_FAILURES)
+                    .description("Kafka 이벤트 전송 실패 수")
+                    .tag("topic", topic)
+                    .tag("exception", rootCause(failure).getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    // ===== Feign Client =====
+
+    /**
+     * 외부 서비스 호출 시간 기록
+     *
+     * @param client 클라이언트명 (Feign client name)
+     * @param method 인터페이스 메서드명
+     * @param outcome 결과 (success, client_error, server_error, io_error 등)
+     */
+    public void recordClientCall(String client, String method, String outcome, long elapsedNanos) {
+        Timer.builder(CLIENT_TIMER)
+                .description("외부 서비스 Feign 호출 시간")
+                .tag("client", client)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // ===== Lane =====
+
+    /**
+     * 레인별 구간 도착 기록 (히스토그램 버킷 발행)
+     *
+     * 인스턴스별 분위수/비율은 합산할 수 없으므로 버킷과 건수만 발행하고, Prometheus에서 전체 인스턴스 기준으로 계산합니다.
+     * - 소요 시간 p90: histogram_quantile(0.9, sum by (le, from_hub, to_hub) (rate(hub_delivery_lane_duration_seconds_bucket[1h])))
+     * - 지연 도착 비율: sum by (from_hub, to_hub) (rate(hub_delivery_lane_late_total[1h]))
+     *   / sum by (from_hub, to_hub) (rate(hub_delivery_lane_delay_count[1h]))
+     * 지연 시간은 예상 소요 시간이 있는 구간만 기록하며, 조기 도착(음수)은 0으로 기록합니다.
+     * 레인 수는 LaneLatencyStatistics의 max-lanes로 제한되므로 태그 카디널리티도 함께 제한됩니다.
+     */
+    public void recordLaneArrival(HubLane lane, long actualDurationMin, Long estimatedDurationMin) {
+        Tags tags = Tags.of(
+                "from_hub", lane.getFromHubId(),
+                "to_hub", lane.getToHubId());
+
+        Timer.builder(LANE_DURATION)
+                .description("레인별 구간 실제 소요 시간")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMinutes(1))
+                .maximumExpectedValue(Duration.ofDays(2))
+                .register(meterRegistry)
+                .record(Duration.ofMinutes(actualDurationMin));
+
+        if (estimatedDurationMin == null) {
+            return;
+        }
+        long delayMin = actualDurationMin - estimatedDurationMin;
+        DistributionSummary.builder(LANE_DELAY)
+                .description("레인별 지연 시간 (실제 - 예상, 조기 도착은 0)")
+                .baseUnit("minutes")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue((double) Duration.ofDays(2).toMinutes())
+                .register(meterRegistry)
+                .record(Math.max(0, delayMin));
+
+        if (delayMin > LANE_LATE_TOLERANCE_MIN) {
+            Counter.builder(LANE_LATE)
+                    .description("레인별 지연 도착 수 (예상 대비 허용 오차 초과)")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    // ===== 지연 감지 =====
+
+    /**
+     * 지연 구간 판정 결과 기록
+     *
+     * @param outcome published(지연 이벤트 발행), stale(이미 도착/취소됨), error
+     */
+    public void recordSegmentOverdue(String outcome) {
+        Counter.builder(SEGMENT_OVERDUE)
+                .description("예상 도착 시각을 초과한 이동 중 구간 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void bindOverdueWatchedSegments(IntSupplier watchedSegments) {
+        Gauge.builder(SEGMENT_OVERDUE_WATCHED, watchedSegments, IntSupplier::getAsInt)
+                .description("지연 감지 타이밍 휠에 등록된 이동 중 구간 수")
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    // ===== 허브 환승 =====
+
+    /**
+     * 구간 선배정 결과 기록
+     *
+     * @param outcome reserved, no_driver, conflict, rejected, error, expired
+     */
+    public void recordHandoffReservation(String outcome) {
+        Counter.builder(HANDOFF_RESERVATION)
+                .description("다음 구간 드라이버 선배정 처리 결과 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void bindActiveHandoffReservations(IntSupplier activeReservations) {
+        Gauge.builder(HANDOFF_RESERVATIONS_ACTIVE, activeReservations, IntSupplier::getAsInt)
+                .description("만료 대기 중인 구간 선배정 수")
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 중간 허브 체류 시간 기록 (앞 구간 도착 ~ 다음 구간 출발, 히스토그램 버킷 발행)
+     *
+     * 인스턴스별 분위수는 합산할 수 없으므로 버킷을 발행하고, 분위수는 Prometheus에서
+     * histogram_quantile(0.9, sum by (le, hub_id) (rate(..._bucket[1h])))로 전체 인스턴스 기준으로 계산합니다.
+     * 선배정 효과는 같은 버킷을 pre_assigned로 묶어 비교합니다.
+     * 허브 수는 HubDwellStatistics의 max-hubs로 제한되므로 태그 카디널리티도 함께 제한됩니다.
+     *
+     * @param preAssigned 구간이 선배정 상태에서 출발했는지 여부
+     */
+    public void recordHubDwell(String hubId, Duration dwell, boolean preAssigned) {
+        Timer.builder(HUB_DWELL)
+                .description("중간 허브 체류 시간")
+                .tag("hub_id", hubId)
+                .tag("pre_assigned", String.valueOf(preAssigned))
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMinutes(1))
+                .maximumExpectedValue(Duration.ofDays(2))
+                .register(meterRegistry)
+                .record(dwell);
+    }
+
+    // ===== 배정 대기열 =====
+
+    public void bindDispatchQueueSize(IntSupplier queueSize) {
+        Gauge.builder(DISPATCH_QUEUE_SIZE, queueSize, IntSupplier::getAsInt)
+                .description("드라이버 배정 대기 중인 구간 수 (전체 허브)")
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기열 기반 배정 결과 기록
+     *
+     * @param outcome assigned, no_driver, skipped
+     * @param late 마감 시각을 넘겨 배정했는지 여부
+     */
+    public void recordDispatch(String outcome, boolean late) {
+        Counter.builder(DISPATCH_ASSIGNMENTS)
+                .description("마감 시각 순 배정 처리 결과 수")
+                .tag("outcome", outcome)
+                .tag("late", String.valueOf(late))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // ===== 허브 부하 =====
+
+    /**
+     * 허브별 대기/유입 구간 수를 게이지로 등록
+     *
+     * 허브 수는 운영 허브 목록으로 제한되므로 태그 카디널리티도 함께 제한됩니다.
+     */
+    public void bindHubLoad(String hubId, LongSupplier pendingSegments, LongSupplier inboundSegments) {
+        Gauge.builder(HUB_PENDING_SEGMENTS, pendingSegments, LongSupplier::getAsLong)
+                .description("허브에서 드라이버 배정을 기다리는 구간 수 (출발 허브 기준 PENDING)")
+                .tag("hub_id", hubId)
+                .strongReference(true)
+                .register(meterRegistry);
+
+        Gauge.builder(HUB_INBOUND_SEGMENTS, inboundSegments, LongSupplier::getAsLong)
+                .description("허브로 이동 중인 구간 수 (도착 허브 기준 IN_TRANSIT)")
+                .tag("hub_id", hubId)
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    // ===== 스위퍼 =====
+
+    public void timeSweeperRun(Runnable run) {
+        Timer.builder(SWEEPER_RUN)
+                .description("방치 배송 스위퍼 1회 실행 시간")
+                .register(meterRegistry)
+                .record(run);
+    }
+
+    /**
+     * @param result acquired(리스 획득 후 처리), skipped(다른 인스턴스가 처리 중)
+     */
+    public void recordSweeperShard(String result) {
+        Counter.builder(SWEEPER_SHARDS)
+                .description("스위퍼 샤드 처리 결과 수")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * @param action failed, reassigned, reassign_failed
+     */
+    public void recordSweeperDeliveries(String action, int count) {
+        if (count <= 0) {
+            return;
+        }
+        Counter.builder(SWEEPER_DELIVERIES)
+                .description("스위퍼가 처리한 방치 배송 수")
+                .tag("action", action)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    // ===== 일괄 생성 =====
+
+    /**
+     * 일괄 생성 배치 크기와 항목별 결과 기록
+     *
+     * @param outcomeCounts 결과(created, duplicate, failed)별 항목 수
+     */
+    public void recordCreateBatch(int batchSize, Map<String, Integer> outcomeCounts) {
+        DistributionSummary.builder(CREATE_BATCH_SIZE)
+                .description("일괄 생성 커맨드 배치 크기")
+                .register(meterRegistry)
+                .record(batchSize);
+
+        outcomeCounts.forEach((outcome, count) -> Counter.builder(CREATE_BATCH_ITEMS)
+                .description("일괄 생성 커맨드 항목별 처리 결과 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment(count));
+    }
+
+    // ===== 적재 목록 일괄 처리 =====
+
+    /**
+     * 적재 목록 크기와 항목별 결과 기록
+     *
+     * @param command assign_manifest / depart_manifest / arrive_manifest
+     */
+    public void recordManifest(String command, int size, int succeeded) {
+        DistributionSummary.builder(MANIFEST_SIZE)
+                .description("적재 목록 일괄 배정/출발/도착 항목 수")
+                .tag("command", command)
+                .register(meterRegistry)
+                .record(size);
+
+        manifestItems(command, OUTCOME_SUCCESS).increment(succeeded);
+        manifestItems(command, OUTCOME_REJECTED).increment(size - succeeded);
+    }
+
+    /**
+     * 적재 편성 시 레인별 재계산 여부 기록
+     *
+     * @param replanned 변경이 있어 다시 편성한 레인 수
+     * @param reused 이전 편성 결과를 그대로 쓴 레인 수
+     */
+    public void recordConsolidation(int replanned, int reused) {
+        consolidationLanes("replanned").increment(replanned);
+        consolidationLanes("reused").increment(reused);
+    }
+
+    // ===== 구간 위치 추적 =====
+
+    /**
+     * 위치 핑 처리 결과 기록
+     *
+     * @param resultCounts 결과(accepted, stale, unknown_segment, driver_mismatch, invalid)별 핑 수
+     */
+    public void recordTrackingPings(Map<String, Integer> resultCounts) {
+        resultCounts.forEach((result, count) -> Counter.builder(TRACKING_PINGS)
+                .description("드라이버 위치 핑 처리 결과 수")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(count));
+    }
+
+    public void bindTrackedSegments(IntSupplier trackedSegments) {
+        Gauge.builder(TRACKING_SEGMENTS, trackedSegments, IntSupplier::getAsInt)
+                .description("메모리에서 위치를 추적 중인 구간 수")
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 위치 추적 상태 일괄 저장 결과 기록
+     *
+     * @param outcome success / error
+     * @param tracks 저장 대상 구간 수
+     */
+    public void recordTrackingFlush(String outcome, int tracks) {
+        Counter.builder(TRACKING_FLUSHED)
+                .description("위치 추적 상태 저장 구간 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment(tracks);
+    }
+
+    // ===== 허브 실시간 피드 =====
+
+    public void bindLiveFeedSubscribers(IntSupplier subscribers) {
+        Gauge.builder(LIVE_FEED_SUBSCRIBERS, subscribers, IntSupplier::getAsInt)
+                .description("허브 실시간 피드 구독자 수")
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 실시간 피드 변경 처리 결과 기록
+     *
+     * @param result buffered, coalesced(같은 배송 변경과 합침), dropped(버퍼 초과), sent(전송)
+     */
+    public void recordLiveFeed(String result, int count) {
+        Counter.builder(LIVE_FEED_CHANGES)
+                .description("허브 실시간 피드 변경 처리 결과 수")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    // ===== Private Helper Methods =====
+
+    private Counter consolidationLanes(String result) {
+        return Counter.builder(CONSOLIDATION_LANES)
+                .description("적재 편성 요청별 레인 재계산/재사용 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter manifestItems(String command, String outcome) {
+        return Counter.builder(MANIFEST_ITEMS)
+                .description("적재 목록 항목별 처리 결과 수")
+                .tag("command", command)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Timer commandTimer(String command, String outcome) {
+        return Timer.builder(COMMAND_TIMER)
+                .description("HubDelivery 커맨드 처리 시간")
+                .tag("command", command)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private String recordCommandError(String command, RuntimeException e) {
+        boolean rejected = e instanceof HubDeliveryException;
+        String errorCode = rejected
+                ? ((HubDeliveryException) e).getErrorCode().getCode()
+                : e.getClass().getSimpleName();
+
+        Counter.builder(COMMAND_ERRORS)
+                .description("HubDelivery 커맨드 실패 수 (에러 코드별)")
+                .tag("command", command)
+                .tag("error_code", errorCode)
+                .register(meterRegistry)
+                .increment();
+
+        return rejected ? OUTCOME_REJECTED : OUTCOME_ERROR;
+    }
+
+    private static Throwable rootCause(Throwable failure) {
+        Throwable cause = failure;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -24,6 +24,7 @@ import java.util.UUID;
 @Table(name = "p_hub_delivery", indexes = {
         @Index(name = "idx_hub_delivery_order_id", columnList = "order_id"),
         @Index(name = "idx_hub_delivery_status", columnList = "status"),
+        @Index(name = "idx_hub_delivery_status_updated_at", columnList = "status, updated_at, id"),
         @Index(name = "idx_hub_delivery_driver_id", columnList = "driver_id"),
         @Index(name = "idx_hub_delivery_origin_hub", columnList = "origin_hub_id"),
         @Index(name = "idx_hub_delivery_destination_hub", columnList = "destination_hub_id")
@@ -48,7 +49,10 @@ public class HubDeliveryEntity extends BaseEntity {
     @ElementCollection
     @CollectionTable(
             name = "p_hub_delivery_segment",
-            joinColumns = @JoinColumn(name = "hub_delivery_id")
+            joinColumns = @JoinColumn(name = "hub_delivery_id"),
+            indexes = {
+                    @Index(name = "idx_hub_delivery_segment_status_arrived", columnList = "status, arrived_at")
+            }
     )
     @OrderBy("sequence ASC")
     private List<HubSegmentEmbeddable> segments = new ArrayList<>();
@@ -75,13 +79,28 @@ public class HubDeliveryEntity extends BaseEntity {
     @Column(name = "total_actual_duration_min")
     private Long totalActualDurationMin;
 
+    @Column(name = "departure_deadline")
+    private LocalDateTime departureDeadline;
+
+    @Column(name = "estimated_arrival_time")
+    private LocalDateTime estimatedArrivalTime;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    /** 스위퍼의 마지막 드라이버 배정 재요청 시각 (재요청 간격 판단용, 도메인에 노출하지 않음) */
+    @Column(name = "reassign_attempted_at")
+    private LocalDateTime reassignAttemptedAt;
+
     @Builder
     private HubDeliveryEntity(String id, String orderId, String originHubId,
                               String destinationHubId, List<HubSegmentEmbeddable> segments,
                               HubDeliveryStatus status, String driverId,
                               Integer currentSegmentIndex, LocalDateTime startedAt,
                               LocalDateTime completedAt, Long totalEstimatedDurationMin,
-                              Long totalActualDurationMin) {
+                              Long totalActualDurationMin, LocalDateTime departureDeadline,
+                              LocalDateTime estimatedArrivalTime) {
         this.id = id;
         this.orderId = orderId;
         this.originHubId = originHubId;
@@ -94,6 +113,8 @@ public class HubDeliveryEntity extends BaseEntity {
         this.completedAt = completedAt;
         this.totalEstimatedDurationMin = totalEstimatedDurationMin;
         this.totalActualDurationMin = totalActualDurationMin;
+        this.departureDeadline = departureDeadline;
+        this.estimatedArrivalTime = estimatedArrivalTime;
     }
 
     // ===== 도메인 → 엔티티 변환 =====
@@ -120,6 +141,8 @@ public class HubDeliveryEntity extends BaseEntity {
                 .completedAt(hubDelivery.getCompletedAt())
                 .totalEstimatedDurationMin(hubDelivery.getTotalEstimatedDurationMin())
                 .totalActualDurationMin(hubDelivery.getTotalActualDurationMin())
+                .departureDeadline(hubDelivery.getDepartureDeadline())
+                .estimatedArrivalTime(hubDelivery.getEstimatedArrivalTime())
                 .build();
     }
 
@@ -143,6 +166,9 @@ public class HubDeliveryEntity extends BaseEntity {
                 this.completedAt,
                 this.totalEstimatedDurationMin,
                 this.totalActualDurationMin,
+                this.departureDeadline,
+                this.estimatedArrivalTime,
+                this.version,
                 this.getCreatedAt(),
                 this.getCreatedBy(),
                 this.getUpdatedAt(),
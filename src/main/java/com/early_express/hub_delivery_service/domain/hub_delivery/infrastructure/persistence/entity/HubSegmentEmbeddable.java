@@ -36,6 +36,9 @@ public class HubSegmentEmbeddable {
     @Column(name = "estimated_duration_min")
     private Long estimatedDurationMin;
 
+    @Column(name = "driver_id", length = 36)
+    private String driverId;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
     private HubSegmentStatus status;
@@ -49,20 +52,26 @@ public class HubSegmentEmbeddable {
     @Column(name = "actual_duration_min")
     private Long actualDurationMin;
 
+    @Column(name = "reserved_until")
+    private LocalDateTime reservedUntil;
+
     @Builder
     private HubSegmentEmbeddable(Integer sequence, String fromHubId, String toHubId,
                                  Long estimatedDistanceM, Long estimatedDurationMin,
-                                 HubSegmentStatus status, LocalDateTime departedAt,
-                                 LocalDateTime arrivedAt, Long actualDurationMin) {
+                                 String driverId, HubSegmentStatus status,
+                                 LocalDateTime departedAt, LocalDateTime arrivedAt,
+                                 Long actualDurationMin, LocalDateTime reservedUntil) {
         this.sequence = sequence;
         this.fromHubId = fromHubId;
         this.toHubId = toHubId;
         this.estimatedDistanceM = estimatedDistanceM;
         this.estimatedDurationMin = estimatedDurationMin;
+        this.driverId = driverId;
         this.status = status;
         this.departedAt = departedAt;
         this.arrivedAt = arrivedAt;
         this.actualDurationMin = actualDurationMin;
+        this.reservedUntil = reservedUntil;
     }
 
     /**
@@ -75,10 +84,12 @@ public class HubSegmentEmbeddable {
                 .toHubId(segment.getToHubId())
                 .estimatedDistanceM(segment.getEstimatedDistanceM())
                 .estimatedDurationMin(segment.getEstimatedDurationMin())
+                .driverId(segment.getDriverId())
                 .status(segment.getStatus())
                 .departedAt(segment.getDepartedAt())
                 .arrivedAt(segment.getArrivedAt())
                 .actualDurationMin(segment.getActualDurationMin())
+                .reservedUntil(segment.getReservedUntil())
                 .build();
     }
 
@@ -92,10 +103,12 @@ public class HubSegmentEmbeddable {
                 .toHubId(this.toHubId)
                 .estimatedDistanceM(this.estimatedDistanceM)
                 .estimatedDurationMin(this.estimatedDurationMin)
+                .driverId(this.driverId)
                 .status(this.status)
                 .departedAt(this.departedAt)
                 .arrivedAt(this.arrivedAt)
                 .actualDurationMin(this.actualDurationMin)
+                .reservedUntil(this.reservedUntil)
                 .build();
     }
 }
@@ -0,0 +1,170 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.entity;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.Manifest;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestId;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestStatus;
+import com.early_express.hub_delivery_service.global.common.utils.UuidUtils;
+import com.early_express.hub_delivery_service.global.infrastructure.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Manifest JPA Entity
+ *
+ * 같은 적재 목록을 동시에 전환(배정/출발/도착)하면 version 충돌로 나중 트랜잭션이 롤백됩니다.
+ */
+@Entity
+@Table(name = "p_manifest", indexes = {
+        @Index(name = "idx_manifest_from_hub_status", columnList = "from_hub_id, status"),
+        @Index(name = "idx_manifest_driver_id", columnList = "driver_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ManifestEntity extends BaseEntity {
+
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Column(name = "from_hub_id", nullable = false, length = 36)
+    private String fromHubId;
+
+    @Column(name = "to_hub_id", nullable = false, length = 36)
+    private String toHubId;
+
+    @Column(name = "wave_start_at")
+    private LocalDateTime waveStartAt;
+
+    @Column(name = "departure_deadline")
+    private LocalDateTime departureDeadline;
+
+    @ElementCollection
+    @CollectionTable(
+            name = "p_manifest_item",
+            joinColumns = @JoinColumn(name = "manifest_id"),
+            indexes = {
+                    @Index(name = "idx_manifest_item_segment", columnList = "hub_delivery_id, segment_index")
+            }
+    )
+    @OrderBy("deadline ASC")
+    private List<ManifestItemEmbeddable> items = new ArrayList<>();
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ManifestStatus status;
+
+    @Column(name = "driver_id", length = 36)
+    private String driverId;
+
+    @Column(name = "assigned_at")
+    private LocalDateTime assignedAt;
+
+    @Column(name = "departed_at")
+    private LocalDateTime departedAt;
+
+    @Column(name = "arrived_at")
+    private LocalDateTime arrivedAt;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    @Builder
+    private ManifestEntity(String id, String fromHubId, String toHubId,
+                           LocalDateTime waveStartAt, LocalDateTime departureDeadline,
+                           List<ManifestItemEmbeddable> items, ManifestStatus status, String driverId,
+                           LocalDateTime assignedAt, LocalDateTime departedAt, LocalDateTime arrivedAt) {
+        this.id = id;
+        this.fromHubId = fromHubId;
+        this.toHubId = toHubId;
+        this.waveStartAt = waveStartAt;
+        this.departureDeadline = departureDeadline;
+        this.items = items != null ? new ArrayList<>(items) : new ArrayList<>();
+        this.status = status;
+        this.driverId = driverId;
+        this.assignedAt = assignedAt;
+        this.departedAt = departedAt;
+        this.arrivedAt = arrivedAt;
+    }
+
+    // ===== 도메인 → 엔티티 변환 =====
+
+    public static ManifestEntity fromDomain(Manifest manifest) {
+        String entityId = manifest.getIdValue() != null
+                ? manifest.getIdValue()
+                : UuidUtils.generate();
+
+        return ManifestEntity.builder()
+                .id(entityId)
+                .fromHubId(manifest.getFromHubId())
+                .toHubId(manifest.getToHubId())
+                .waveStartAt(manifest.getWaveStartAt())
+                .departureDeadline(manifest.getDepartureDeadline())
+                .items(manifest.getItems().stream()
+                        .map(ManifestItemEmbeddable::from)
+                        .toList())
+                .status(manifest.getStatus())
+                .driverId(manifest.getDriverId())
+                .assignedAt(manifest.getAssignedAt())
+                .departedAt(manifest.getDepartedAt())
+                .arrivedAt(manifest.getArrivedAt())
+                .build();
+    }
+
+    // ===== 엔티티 → 도메인 변환 =====
+
+    public Manifest toDomain() {
+        return Manifest.reconstitute(
+                ManifestId.of(this.id),
+                this.fromHubId,
+                this.toHubId,
+                this.waveStartAt,
+                this.departureDeadline,
+                this.items.stream()
+                        .map(ManifestItemEmbeddable::toDomain)
+                        .toList(),
+                this.status,
+                this.driverId,
+                this.assignedAt,
+                this.departedAt,
+                this.arrivedAt,
+                this.getCreatedAt(),
+                this.getCreatedBy(),
+                this.getUpdatedAt(),
+                this.getUpdatedBy()
+        );
+    }
+
+    // ===== 도메인 → 엔티티 업데이트 =====
+
+    public void updateFromDomain(Manifest manifest) {
+        if (!this.id.equals(manifest.getIdValue())) {
+            throw new IllegalStateException(
+                    "엔티티 ID와 도메인 ID가 일치하지 않습니다."
+            );
+        }
+
+        // 배정/출발 시 빠진 구간 반영
+        if (this.items.size() != manifest.getSize()) {
+            this.items.clear();
+            this.items.addAll(
+                    manifest.getItems().stream()
+                            .map(ManifestItemEmbeddable::from)
+                            .toList()
+            );
+        }
+
+        this.status = manifest.getStatus();
+        this.driverId = manifest.getDriverId();
+        this.assignedAt = manifest.getAssignedAt();
+        this.departedAt = manifest.getDepartedAt();
+        this.arrivedAt = manifest.getArrivedAt();
+    }
+}
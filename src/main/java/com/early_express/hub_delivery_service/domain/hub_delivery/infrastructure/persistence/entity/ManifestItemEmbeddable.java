@@ -0,0 +1,60 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.entity;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestItem;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ManifestItem Embeddable
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ManifestItemEmbeddable {
+
+    @Column(name = "hub_delivery_id", nullable = false, length = 36)
+    private String hubDeliveryId;
+
+    @Column(name = "segment_index", nullable = false)
+    private Integer segmentIndex;
+
+    @Column(name = "order_id", length = 36)
+    private String orderId;
+
+    @Column(name = "deadline")
+    private LocalDateTime deadline;
+
+    @Builder
+    private ManifestItemEmbeddable(String hubDeliveryId, Integer segmentIndex,
+                                   String orderId, LocalDateTime deadline) {
+        this.hubDeliveryId = hubDeliveryId;
+        this.segmentIndex = segmentIndex;
+        this.orderId = orderId;
+        this.deadline = deadline;
+    }
+
+    /**
+     * 도메인 → Embeddable 변환
+     */
+    public static ManifestItemEmbeddable from(ManifestItem item) {
+        return ManifestItemEmbeddable.builder()
+                .hubDeliveryId(item.getHubDeliveryId())
+                .segmentIndex(item.getSegmentIndex())
+                .orderId(item.getOrderId())
+                .deadline(item.getDeadline())
+                .build();
+    }
+
+    /**
+     * Embeddable → 도메인 변환
+     */
+    public ManifestItem toDomain() {
+        return ManifestItem.of(this.hubDeliveryId, this.segmentIndex, this.orderId, this.deadline);
+    }
+}
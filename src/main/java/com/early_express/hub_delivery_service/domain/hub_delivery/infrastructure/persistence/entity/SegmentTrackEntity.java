@@ -0,0 +1,135 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.entity;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.SegmentTrack;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구간 위치 추적 JPA Entity
+ *
+ * 키(hubDeliveryId:segmentIndex)를 식별자로 쓰며, 주기 저장 시 기존 행은 한 번의 IN 조회 후 갱신하고
+ * 새 행은 조회 없이 INSERT 합니다. (Persistable)
+ * 경로 요약(breadcrumb)은 PostgreSQL에서 bytea 컬럼으로 저장합니다. (Large Object 미사용)
+ */
+@Entity
+@Table(name = "p_segment_track", indexes = {
+        @Index(name = "idx_segment_track_hub_delivery_id", columnList = "hub_delivery_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SegmentTrackEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "id", length = 50)
+    private String id;
+
+    @Column(name = "hub_delivery_id", nullable = false, length = 36)
+    private String hubDeliveryId;
+
+    @Column(name = "segment_index", nullable = false)
+    private Integer segmentIndex;
+
+    @Column(name = "driver_id", length = 36)
+    private String driverId;
+
+    @Column(name = "latitude", nullable = false)
+    private double latitude;
+
+    @Column(name = "longitude", nullable = false)
+    private double longitude;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    @Column(name = "travelled_m", nullable = false)
+    private double travelledM;
+
+    @Column(name = "estimated_distance_m")
+    private Long estimatedDistanceM;
+
+    @Column(name = "ping_count", nullable = false)
+    private long pingCount;
+
+    @JdbcTypeCode(SqlTypes.VARBINARY)
+    @Column(name = "breadcrumb")
+    private byte[] breadcrumb;
+
+    @Column(name = "breadcrumb_points", nullable = false)
+    private int breadcrumbPoints;
+
+    @Column(name = "finished", nullable = false)
+    private boolean finished;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    /**
+     * Domain → Entity 변환
+     */
+    public static SegmentTrackEntity fromDomain(SegmentTrack track) {
+        SegmentTrackEntity entity = new SegmentTrackEntity();
+        entity.id = track.key();
+        entity.hubDeliveryId = track.getHubDeliveryId();
+        entity.segmentIndex = track.getSegmentIndex();
+        entity.updateFromDomain(track);
+        return entity;
+    }
+
+    /**
+     * Entity → Domain 변환
+     */
+    public SegmentTrack toDomain() {
+        return SegmentTrack.builder()
+                .hubDeliveryId(this.hubDeliveryId)
+                .segmentIndex(this.segmentIndex)
+                .driverId(this.driverId)
+                .latitude(this.latitude)
+                .longitude(this.longitude)
+                .recordedAt(this.recordedAt)
+                .travelledM(this.travelledM)
+                .estimatedDistanceM(this.estimatedDistanceM)
+                .pingCount(this.pingCount)
+                .breadcrumb(this.breadcrumb)
+                .breadcrumbPoints(this.breadcrumbPoints)
+                .finished(this.finished)
+                .build();
+    }
+
+    /**
+     * Domain 변경사항을 Entity에 반영
+     */
+    public void updateFromDomain(SegmentTrack track) {
+        this.driverId = track.getDriverId();
+        this.latitude = track.getLatitude();
+        this.longitude = track.getLongitude();
+        this.recordedAt = track.getRecordedAt();
+        this.travelledM = track.getTravelledM();
+        this.estimatedDistanceM = track.getEstimatedDistanceM();
+        this.pingCount = track.getPingCount();
+        this.breadcrumb = track.getBreadcrumb();
+        this.breadcrumbPoints = track.getBreadcrumbPoints();
+        this.finished = track.isFinished();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
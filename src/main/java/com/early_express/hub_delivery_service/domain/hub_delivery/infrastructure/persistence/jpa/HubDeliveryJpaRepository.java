@@ -5,7 +5,13 @@ import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -22,4 +28,13 @@ public interface HubDeliveryJpaRepository extends JpaRepository<HubDeliveryEntit
     Page<HubDeliveryEntity> findByStatusAndIsDeletedFalse(HubDeliveryStatus status, Pageable pageable);
 
     Page<HubDeliveryEntity> findByIsDeletedFalse(Pageable pageable);
+
+    /**
+     * 배정 재요청 시각 일괄 기록 (벌크 업데이트라 updated_at/버전은 바뀌지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("update HubDeliveryEntity d set d.reassignAttemptedAt = :attemptedAt where d.id in :ids")
+    int markReassignAttempted(@Param("ids") Collection<String> ids,
+                              @Param("attemptedAt") LocalDateTime attemptedAt);
 }
\ No newline at end of file
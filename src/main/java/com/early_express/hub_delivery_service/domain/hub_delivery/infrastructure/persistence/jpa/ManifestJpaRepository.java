@@ -0,0 +1,14 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.jpa;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.entity.ManifestEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+/**
+ * Manifest JPA Repository
+ */
+public interface ManifestJpaRepository extends JpaRepository<ManifestEntity, String> {
+
+    Optional<ManifestEntity> findByIdAndIsDeletedFalse(String id);
+}
@@ -0,0 +1,10 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.jpa;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.entity.SegmentTrackEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * SegmentTrack JPA Repository
+ */
+public interface SegmentTrackJpaRepository extends JpaRepository<SegmentTrackEntity, String> {
+}
@@ -5,21 +5,41 @@ import com.early_express.hub_delivery_service.domain.hub_delivery.domain.excepti
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryId;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentSnapshot;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryCursor;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
 import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.entity.HubDeliveryEntity;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.entity.HubSegmentEmbeddable;
 import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.entity.QHubDeliveryEntity;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.entity.QHubSegmentEmbeddable;
 import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.jpa.HubDeliveryJpaRepository;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -31,12 +51,161 @@ public class HubDeliveryRepositoryImpl implements HubDeliveryRepository {
 
     private final HubDeliveryJpaRepository jpaRepository;
     private final JPAQueryFactory queryFactory;
+    private final HubDeliveryMetrics metrics;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     private static final QHubDeliveryEntity hubDelivery = QHubDeliveryEntity.hubDeliveryEntity;
+    private static final QHubSegmentEmbeddable segment = QHubSegmentEmbeddable.hubSegmentEmbeddable;
 
     @Override
     @Transactional
     public HubDelivery save(HubDelivery hubDelivery) {
+        return metrics.timeQuery("save", () -> doSave(hubDelivery));
+    }
+
+    @Override
+    @Transactional
+    public List<HubDelivery> saveAll(Collection<HubDelivery> hubDeliveries) {
+        if (hubDeliveries.isEmpty()) {
+            return List.of();
+        }
+        return metrics.timeQuery("save_all", () -> doSaveAll(hubDeliveries));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<HubDelivery> findById(HubDeliveryId id) {
+        return metrics.timeQuery("find_by_id", () -> jpaRepository.findByIdAndIsDeletedFalse(id.getValue())
+                .map(HubDeliveryEntity::toDomain));
+    }
+
+    @Override
+    public Optional<HubDelivery> findByOrderId(String orderId) {
+        return metrics.timeQuery("find_by_order_id", () -> jpaRepository.findByOrderIdAndIsDeletedFalse(orderId)
+                .map(HubDeliveryEntity::toDomain));
+    }
+
+    @Override
+    public Page<HubDelivery> findAll(Pageable pageable) {
+        return metrics.timeQuery("find_all", () -> doFindAll(pageable));
+    }
+
+    @Override
+    public Page<HubDelivery> findByStatus(HubDeliveryStatus status, Pageable pageable) {
+        return metrics.timeQuery("find_by_status", () -> doFindByStatus(status, pageable));
+    }
+
+    @Override
+    public boolean existsByOrderId(String orderId) {
+        return metrics.timeQuery("exists_by_order_id", () -> jpaRepository.existsByOrderIdAndIsDeletedFalse(orderId));
+    }
+
+    @Override
+    public Map<String, String> findIdsByOrderIds(Collection<String> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+        return metrics.timeQuery("find_ids_by_order_ids", () -> doFindIdsByOrderIds(orderIds));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HubDelivery> findAllByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return metrics.timeQuery("find_all_by_ids", () -> queryFactory
+                .selectFrom(hubDelivery)
+                .distinct()
+                .leftJoin(hubDelivery.segments).fetchJoin()
+                .where(
+                        hubDelivery.id.in(ids),
+                        isNotDeleted()
+                )
+                .fetch()
+                .stream()
+                .map(HubDeliveryEntity::toDomain)
+                .toList());
+    }
+
+    @Override
+    public List<HubDeliveryCursor> findStaleCursors(HubDeliveryStatus status, LocalDateTime updatedBefore,
+                                                    LocalDateTime reassignAttemptedBefore, String idPrefix,
+                                                    HubDeliveryCursor after, int limit) {
+        return metrics.timeQuery("find_stale_cursors", () -> queryFactory
+                .select(hubDelivery.id, hubDelivery.updatedAt)
+                .from(hubDelivery)
+                .where(
+                        hubDelivery.status.eq(status),
+                        hubDelivery.updatedAt.lt(updatedBefore),
+                        reassignAttemptedBefore(reassignAttemptedBefore),
+                        idStartsWith(idPrefix),
+                        afterCursor(after),
+                        isNotDeleted()
+                )
+                .orderBy(hubDelivery.updatedAt.asc(), hubDelivery.id.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(row -> new HubDeliveryCursor(row.get(hubDelivery.id), status, row.get(hubDelivery.updatedAt)))
+                .toList());
+    }
+
+    @Override
+    public void markReassignAttempted(Collection<String> ids, LocalDateTime attemptedAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        metrics.timeQuery("mark_reassign_attempted", () -> jpaRepository.markReassignAttempted(ids, attemptedAt));
+    }
+
+    @Override
+    public List<HubDeliveryCursor> findCursorsUpdatedSince(HubDeliveryStatus status, LocalDateTime updatedSince,
+                                                           HubDeliveryCursor after, int limit) {
+        return metrics.timeQuery("find_cursors_updated_since", () -> queryFactory
+                .select(hubDelivery.id, hubDelivery.updatedAt)
+                .from(hubDelivery)
+                .where(
+                        hubDelivery.status.eq(status),
+                        updatedSince != null ? hubDelivery.updatedAt.goe(updatedSince) : null,
+                        afterCursor(after),
+                        isNotDeleted()
+                )
+                .orderBy(hubDelivery.updatedAt.asc(), hubDelivery.id.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(row -> new HubDeliveryCursor(row.get(hubDelivery.id), status, row.get(hubDelivery.updatedAt)))
+                .toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HubSegment> findArrivedSegmentsSince(LocalDateTime arrivedAfter, int limit) {
+        return metrics.timeQuery("find_arrived_segments", () -> doFindArrivedSegmentsSince(arrivedAfter, limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HubSegmentSnapshot> findSegmentsByStatus(HubSegmentStatus status, HubSegmentSnapshot after, int limit) {
+        return metrics.timeQuery("find_segments_by_status_batch", () -> doFindSegmentsByStatus(status, after, limit));
+    }
+
+    @Override
+    public Map<String, Long> countSegmentsByFromHub(HubSegmentStatus status) {
+        return metrics.timeQuery("count_segments_by_from_hub", () -> doCountSegmentsByHub(segment.fromHubId, status));
+    }
+
+    @Override
+    public Map<String, Long> countSegmentsByToHub(HubSegmentStatus status) {
+        return metrics.timeQuery("count_segments_by_to_hub", () -> doCountSegmentsByHub(segment.toHubId, status));
+    }
+
+    // ===== Internal =====
+
+    private HubDelivery doSave(HubDelivery hubDelivery) {
         HubDeliveryEntity entity;
 
         if (hubDelivery.getId() != null) {
@@ -51,23 +220,86 @@ public class HubDeliveryRepositoryImpl implements HubDeliveryRepository {
             entity = jpaRepository.save(entity);
         }
 
+        // 반환 도메인이 증가된 버전을 갖도록 즉시 반영 (상태 스냅샷 순서 비교용)
+        entityManager.flush();
         return entity.toDomain();
     }
 
-    @Override
-    public Optional<HubDelivery> findById(HubDeliveryId id) {
-        return jpaRepository.findByIdAndIsDeletedFalse(id.getValue())
-                .map(HubDeliveryEntity::toDomain);
+    private List<HubDelivery> doSaveAll(Collection<HubDelivery> hubDeliveries) {
+        List<String> ids = hubDeliveries.stream()
+                .filter(hubDelivery -> hubDelivery.getId() != null)
+                .map(HubDelivery::getIdValue)
+                .toList();
+
+        Map<String, HubDeliveryEntity> entities = ids.isEmpty() ? new HashMap<>() : findManagedEntities(ids);
+
+        List<HubDeliveryEntity> savedEntities = new ArrayList<>(hubDeliveries.size());
+        for (HubDelivery domain : hubDeliveries) {
+            HubDeliveryEntity entity;
+            if (domain.getId() != null) {
+                entity = entities.get(domain.getIdValue());
+                if (entity == null) {
+                    throw new HubDeliveryException(
+                            HubDeliveryErrorCode.HUB_DELIVERY_NOT_FOUND,
+                            "허브 배송 정보를 찾을 수 없습니다: " + domain.getIdValue()
+                    );
+                }
+                entity.updateFromDomain(domain);
+            } else {
+                entity = jpaRepository.save(HubDeliveryEntity.fromDomain(domain));
+            }
+            savedEntities.add(entity);
+        }
+
+        // 한 번에 반영한 뒤 증가된 버전으로 도메인 변환
+        entityManager.flush();
+        return savedEntities.stream()
+                .map(HubDeliveryEntity::toDomain)
+                .toList();
     }
 
-    @Override
-    public Optional<HubDelivery> findByOrderId(String orderId) {
-        return jpaRepository.findByOrderIdAndIsDeletedFalse(orderId)
-                .map(HubDeliveryEntity::toDomain);
+    /**
+     * 저장 대상 Entity 조회
+     *
+     * 같은 트랜잭션에서 이미 조회한 Entity(findAllByIds 등)는 영속성 컨텍스트에서 그대로 사용하고,
+     * 없거나 구간이 로딩되지 않은 Entity만 구간 fetch join 쿼리 한 번으로 조회합니다.
+     */
+    private Map<String, HubDeliveryEntity> findManagedEntities(List<String> ids) {
+        Map<String, HubDeliveryEntity> entities = new HashMap<>();
+        List<String> unloaded = new ArrayList<>();
+
+        List<HubDeliveryEntity> managed = entityManager.unwrap(Session.class)
+                .byMultipleIds(HubDeliveryEntity.class)
+                .enableSessionCheck(true)
+                .enableOrderedReturn(false)
+                .multiLoad(ids);
+        for (HubDeliveryEntity entity : managed) {
+            if (entity == null || entity.isDeleted()) {
+                continue;
+            }
+            if (Hibernate.isInitialized(entity.getSegments())) {
+                entities.put(entity.getId(), entity);
+            } else {
+                unloaded.add(entity.getId());
+            }
+        }
+
+        if (!unloaded.isEmpty()) {
+            queryFactory
+                    .selectFrom(hubDelivery)
+                    .distinct()
+                    .leftJoin(hubDelivery.segments).fetchJoin()
+                    .where(
+                            hubDelivery.id.in(unloaded),
+                            isNotDeleted()
+                    )
+                    .fetch()
+                    .forEach(entity -> entities.put(entity.getId(), entity));
+        }
+        return entities;
     }
 
-    @Override
-    public Page<HubDelivery> findAll(Pageable pageable) {
+    private Page<HubDelivery> doFindAll(Pageable pageable) {
         List<HubDeliveryEntity> content = queryFactory
                 .selectFrom(hubDelivery)
                 .where(isNotDeleted())
@@ -85,8 +317,7 @@ public class HubDeliveryRepositoryImpl implements HubDeliveryRepository {
                 .map(HubDeliveryEntity::toDomain);
     }
 
-    @Override
-    public Page<HubDelivery> findByStatus(HubDeliveryStatus status, Pageable pageable) {
+    private Page<HubDelivery> doFindByStatus(HubDeliveryStatus status, Pageable pageable) {
         List<HubDeliveryEntity> content = queryFactory
                 .selectFrom(hubDelivery)
                 .where(
@@ -110,9 +341,91 @@ public class HubDeliveryRepositoryImpl implements HubDeliveryRepository {
                 .map(HubDeliveryEntity::toDomain);
     }
 
-    @Override
-    public boolean existsByOrderId(String orderId) {
-        return jpaRepository.existsByOrderIdAndIsDeletedFalse(orderId);
+    private List<HubSegment> doFindArrivedSegmentsSince(LocalDateTime arrivedAfter, int limit) {
+        // 최근 limit건을 가져온 뒤 학습 순서(오래된 순)로 뒤집음
+        List<HubSegmentEmbeddable> recent = queryFactory
+                .select(segment)
+                .from(hubDelivery)
+                .join(hubDelivery.segments, segment)
+                .where(
+                        segment.status.eq(HubSegmentStatus.ARRIVED),
+                        segment.arrivedAt.after(arrivedAfter),
+                        isNotDeleted()
+                )
+                .orderBy(segment.arrivedAt.desc())
+                .limit(limit)
+                .fetch();
+
+        List<HubSegment> segments = new ArrayList<>(recent.size());
+        for (HubSegmentEmbeddable embeddable : recent) {
+            segments.add(embeddable.toDomain());
+        }
+        Collections.reverse(segments);
+        return segments;
+    }
+
+    private List<HubSegmentSnapshot> doFindSegmentsByStatus(HubSegmentStatus status, HubSegmentSnapshot after,
+                                                            int limit) {
+        List<Tuple> rows = queryFactory
+                .select(hubDelivery.id, hubDelivery.orderId, segment)
+                .from(hubDelivery)
+                .join(hubDelivery.segments, segment)
+                .where(
+                        segment.status.eq(status),
+                        afterSegment(after),
+                        isNotDeleted()
+                )
+                .orderBy(hubDelivery.id.asc(), segment.sequence.asc())
+                .limit(limit)
+                .fetch();
+
+        List<HubSegmentSnapshot> snapshots = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            snapshots.add(HubSegmentSnapshot.of(
+                    row.get(hubDelivery.id),
+                    row.get(hubDelivery.orderId),
+                    row.get(segment).toDomain()
+            ));
+        }
+        return snapshots;
+    }
+
+    private Map<String, String> doFindIdsByOrderIds(Collection<String> orderIds) {
+        List<Tuple> rows = queryFactory
+                .select(hubDelivery.orderId, hubDelivery.id)
+                .from(hubDelivery)
+                .where(
+                        hubDelivery.orderId.in(orderIds),
+                        isNotDeleted()
+                )
+                .fetch();
+
+        Map<String, String> ids = new HashMap<>(rows.size());
+        for (Tuple row : rows) {
+            ids.put(row.get(hubDelivery.orderId), row.get(hubDelivery.id));
+        }
+        return ids;
+    }
+
+    private Map<String, Long> doCountSegmentsByHub(StringPath hubId, HubSegmentStatus status) {
+        NumberExpression<Long> count = segment.count();
+
+        List<Tuple> rows = queryFactory
+                .select(hubId, count)
+                .from(hubDelivery)
+                .join(hubDelivery.segments, segment)
+                .where(
+                        segment.status.eq(status),
+                        isNotDeleted()
+                )
+                .groupBy(hubId)
+                .fetch();
+
+        Map<String, Long> counts = new HashMap<>(rows.size());
+        for (Tuple row : rows) {
+            counts.put(row.get(hubId), row.get(count));
+        }
+        return counts;
     }
 
     // ===== BooleanExpression =====
@@ -121,6 +434,35 @@ public class HubDeliveryRepositoryImpl implements HubDeliveryRepository {
         return status != null ? hubDelivery.status.eq(status) : null;
     }
 
+    private BooleanExpression reassignAttemptedBefore(LocalDateTime attemptedBefore) {
+        if (attemptedBefore == null) {
+            return null;
+        }
+        return hubDelivery.reassignAttemptedAt.isNull()
+                .or(hubDelivery.reassignAttemptedAt.lt(attemptedBefore));
+    }
+
+    private BooleanExpression idStartsWith(String idPrefix) {
+        return idPrefix != null ? hubDelivery.id.startsWith(idPrefix) : null;
+    }
+
+    private BooleanExpression afterCursor(HubDeliveryCursor after) {
+        if (after == null) {
+            return null;
+        }
+        return hubDelivery.updatedAt.gt(after.updatedAt())
+                .or(hubDelivery.updatedAt.eq(after.updatedAt()).and(hubDelivery.id.gt(after.id())));
+    }
+
+    private BooleanExpression afterSegment(HubSegmentSnapshot after) {
+        if (after == null) {
+            return null;
+        }
+        return hubDelivery.id.gt(after.getHubDeliveryId())
+                .or(hubDelivery.id.eq(after.getHubDeliveryId())
+                        .and(segment.sequence.gt(after.getSegment().getSequence())));
+    }
+
     private BooleanExpression isNotDeleted() {
         return hubDelivery.isDeleted.eq(false);
     }
@@ -0,0 +1,125 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.repository;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryErrorCode;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.Manifest;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestId;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestItem;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.ManifestRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.entity.ManifestEntity;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.entity.QManifestEntity;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.entity.QManifestItemEmbeddable;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.jpa.ManifestJpaRepository;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Manifest Repository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class ManifestRepositoryImpl implements ManifestRepository {
+
+    private final ManifestJpaRepository jpaRepository;
+    private final JPAQueryFactory queryFactory;
+    private final HubDeliveryMetrics metrics;
+
+    private static final QManifestEntity manifest = QManifestEntity.manifestEntity;
+    private static final QManifestItemEmbeddable item = QManifestItemEmbeddable.manifestItemEmbeddable;
+
+    @Override
+    @Transactional
+    public Manifest save(Manifest domain) {
+        return metrics.timeQuery("manifest_save", () -> doSave(domain));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Manifest> findById(ManifestId id) {
+        return metrics.timeQuery("manifest_find_by_id", () -> jpaRepository.findByIdAndIsDeletedFalse(id.getValue())
+                .map(ManifestEntity::toDomain));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Manifest> findByFromHubId(String fromHubId, ManifestStatus status, int limit) {
+        return metrics.timeQuery("manifest_find_by_from_hub", () -> queryFactory
+                .selectFrom(manifest)
+                .where(
+                        manifest.fromHubId.eq(fromHubId),
+                        statusEq(status),
+                        isNotDeleted()
+                )
+                .orderBy(manifest.waveStartAt.asc(), manifest.createdAt.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(ManifestEntity::toDomain)
+                .toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findOpenItemKeys(String fromHubId) {
+        return metrics.timeQuery("manifest_find_open_item_keys", () -> doFindOpenItemKeys(fromHubId));
+    }
+
+    // ===== Internal =====
+
+    private Manifest doSave(Manifest domain) {
+        ManifestEntity entity;
+
+        if (domain.getId() != null) {
+            entity = jpaRepository.findByIdAndIsDeletedFalse(domain.getIdValue())
+                    .orElseThrow(() -> new HubDeliveryException(
+                            HubDeliveryErrorCode.MANIFEST_NOT_FOUND,
+                            "적재 목록 정보를 찾을 수 없습니다: " + domain.getIdValue()
+                    ));
+            entity.updateFromDomain(domain);
+        } else {
+            entity = jpaRepository.save(ManifestEntity.fromDomain(domain));
+        }
+
+        return entity.toDomain();
+    }
+
+    private Set<String> doFindOpenItemKeys(String fromHubId) {
+        List<Tuple> rows = queryFactory
+                .select(item.hubDeliveryId, item.segmentIndex)
+                .from(manifest)
+                .join(manifest.items, item)
+                .where(
+                        manifest.fromHubId.eq(fromHubId),
+                        manifest.status.in(ManifestStatus.PLANNED, ManifestStatus.ASSIGNED),
+                        isNotDeleted()
+                )
+                .fetch();
+
+        Set<String> keys = new HashSet<>(rows.size());
+        for (Tuple row : rows) {
+            keys.add(ManifestItem.key(row.get(item.hubDeliveryId), row.get(item.segmentIndex)));
+        }
+        return keys;
+    }
+
+    // ===== BooleanExpression =====
+
+    private BooleanExpression statusEq(ManifestStatus status) {
+        return status != null ? manifest.status.eq(status) : null;
+    }
+
+    private BooleanExpression isNotDeleted() {
+        return manifest.isDeleted.eq(false);
+    }
+}
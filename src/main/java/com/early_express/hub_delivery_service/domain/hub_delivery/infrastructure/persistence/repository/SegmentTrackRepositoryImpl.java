@@ -0,0 +1,80 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.repository;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.SegmentTrack;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.SegmentTrackRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.entity.SegmentTrackEntity;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.persistence.jpa.SegmentTrackJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * SegmentTrack Repository 구현체
+ *
+ * 일괄 저장은 기존 행 IN 조회 1회 + JDBC 배치 UPDATE/INSERT (hibernate.jdbc.batch_size)로 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SegmentTrackRepositoryImpl implements SegmentTrackRepository {
+
+    private final SegmentTrackJpaRepository jpaRepository;
+    private final HubDeliveryMetrics metrics;
+
+    @Override
+    @Transactional
+    public int saveAll(Collection<SegmentTrack> tracks) {
+        if (tracks.isEmpty()) {
+            return 0;
+        }
+        return metrics.timeQuery("segment_track_save_all", () -> doSaveAll(tracks));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<SegmentTrack> find(String hubDeliveryId, int segmentIndex) {
+        return metrics.timeQuery("segment_track_find", () -> jpaRepository
+                .findById(SegmentTrack.key(hubDeliveryId, segmentIndex))
+                .map(SegmentTrackEntity::toDomain));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SegmentTrack> findAllByKeys(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        return metrics.timeQuery("segment_track_find_all", () -> jpaRepository.findAllById(keys).stream()
+                .map(SegmentTrackEntity::toDomain)
+                .toList());
+    }
+
+    // ===== Private Helper Methods =====
+
+    private int doSaveAll(Collection<SegmentTrack> tracks) {
+        Map<String, SegmentTrackEntity> existing = jpaRepository
+                .findAllById(tracks.stream().map(SegmentTrack::key).toList())
+                .stream()
+                .collect(Collectors.toMap(SegmentTrackEntity::getId, Function.identity()));
+
+        List<SegmentTrackEntity> created = new ArrayList<>();
+        for (SegmentTrack track : tracks) {
+            SegmentTrackEntity entity = existing.get(track.key());
+            if (entity != null) {
+                entity.updateFromDomain(track);
+            } else {
+                created.add(SegmentTrackEntity.fromDomain(track));
+            }
+        }
+        jpaRepository.saveAll(created);
+        return created.size();
+    }
+}
@@ -1,7 +1,16 @@
 package com.early_express.hub_delivery_service.domain.hub_delivery.presentation.internal;
 
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.analytics.HubAnalyticsQueryService;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.analytics.dto.HubAnalyticsDto.HubThroughputResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.analytics.dto.HubAnalyticsDto.LaneFlowResponse;
 import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.HubDeliveryCommandService;
 import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.*;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch.DispatchService;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch.dto.DispatchDto.DispatchResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics.HubDwellQueryService;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics.LaneStatisticsQueryService;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics.dto.HubDwellStatisticsDto.HubDwellResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics.dto.LaneStatisticsDto.LaneLatencyResponse;
 import com.early_express.hub_delivery_service.domain.hub_delivery.presentation.internal.dto.request.AssignDriverForSegmentRequest;
 import com.early_express.hub_delivery_service.domain.hub_delivery.presentation.internal.dto.request.HubDeliveryCreateRequest;
 import com.early_express.hub_delivery_service.domain.hub_delivery.presentation.internal.dto.response.AssignDriverForSegmentResponse;
@@ -11,12 +20,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * Hub Delivery Internal Controller
  *
  * 내부 서비스 간 통신용 API
  * - Order Service: 배송 생성/취소
  * - Track Service: 구간 드라이버 배정
+ * - 배정 스케줄러/운영: 허브 대기열 마감 시각 순 배정
+ * - 운영/모니터링: 레인 통계, 허브 체류 시간 통계, 실시간 처리량/지연 분석 조회
  */
 @Slf4j
 @RestController
@@ -25,6 +38,10 @@ import org.springframework.web.bind.annotation.*;
 public class HubDeliveryInternalController {
 
     private final HubDeliveryCommandService hubDeliveryCommandService;
+    private final LaneStatisticsQueryService laneStatisticsQueryService;
+    private final HubDwellQueryService hubDwellQueryService;
+    private final HubAnalyticsQueryService hubAnalyticsQueryService;
+    private final DispatchService dispatchService;
 
     /**
      * 허브 배송 생성
@@ -108,4 +125,135 @@ public class HubDeliveryInternalController {
 
         return HubDeliveryCreateResponse.from(result);
     }
-}
\ No newline at end of file
+
+    /**
+     * 허브 대기열 마감 시각 순 드라이버 배정
+     *
+     * 가용 드라이버가 없으면 남은 구간은 배정하지 않고 중단합니다.
+     *
+     * POST /v1/hub-delivery/internal/hubs/{hubId}/dispatch?limit=20
+     */
+    @PostMapping("/hubs/{hubId}/dispatch")
+    public DispatchResponse dispatch(
+            @PathVariable String hubId,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        log.info("[Internal] 허브 대기열 배정 요청 - hubId: {}, limit: {}", hubId, limit);
+
+        return dispatchService.dispatch(hubId, limit);
+    }
+
+    /**
+     * 레인별 소요 시간 통계 목록 조회
+     *
+     * 인메모리 집계 결과이며 인스턴스별 값입니다.
+     *
+     * GET /v1/hub-delivery/internal/statistics/lanes?sortBy=delay&limit=50
+     */
+    @GetMapping("/statistics/lanes")
+    public List<LaneLatencyResponse> getLaneStatistics(
+            @RequestParam(defaultValue = "volume") String sortBy,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        return laneStatisticsQueryService.findLanes(sortBy, limit);
+    }
+
+    /**
+     * 단일 레인 소요 시간 통계 조회
+     *
+     * GET /v1/hub-delivery/internal/statistics/lanes/{fromHubId}/{toHubId}
+     */
+    @GetMapping("/statistics/lanes/{fromHubId}/{toHubId}")
+    public LaneLatencyResponse getLaneStatistic(
+            @PathVariable String fromHubId,
+            @PathVariable String toHubId) {
+
+        return laneStatisticsQueryService.findLane(fromHubId, toHubId);
+    }
+
+    /**
+     * 허브별 체류 시간 통계 목록 조회
+     *
+     * 앞 구간 도착 ~ 다음 구간 출발 시간(초)의 분위수이며, 인메모리 집계 결과로 인스턴스별 값입니다.
+     *
+     * GET /v1/hub-delivery/internal/statistics/hub-dwell?sortBy=p90&windowHours=24&limit=50
+     */
+    @GetMapping("/statistics/hub-dwell")
+    public List<HubDwellResponse> getHubDwellStatistics(
+            @RequestParam(defaultValue = "p90") String sortBy,
+            @RequestParam(defaultValue = "24") int windowHours,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        return hubDwellQueryService.findHubs(sortBy, windowHours, limit);
+    }
+
+    /**
+     * 단일 허브 체류 시간 통계 조회 (시간 버킷별 분포 포함)
+     *
+     * GET /v1/hub-delivery/internal/statistics/hub-dwell/{hubId}?windowHours=24
+     */
+    @GetMapping("/statistics/hub-dwell/{hubId}")
+    public HubDwellResponse getHubDwellStatistic(
+            @PathVariable String hubId,
+            @RequestParam(defaultValue = "24") int windowHours) {
+
+        return hubDwellQueryService.findHub(hubId, windowHours);
+    }
+
+    /**
+     * 허브별 윈도우 처리량 목록 조회 (Kafka Streams interactive query)
+     *
+     * local=true면 이 인스턴스의 스토어만 조회합니다. (인스턴스 간 전달용)
+     *
+     * GET /v1/hub-delivery/internal/analytics/hubs?minutes=60
+     */
+    @GetMapping("/analytics/hubs")
+    public List<HubThroughputResponse> getHubThroughputs(
+            @RequestParam(defaultValue = "60") int minutes,
+            @RequestParam(defaultValue = "false") boolean local) {
+
+        return hubAnalyticsQueryService.findAllHubThroughput(minutes, local);
+    }
+
+    /**
+     * 단일 허브 윈도우 처리량 조회
+     *
+     * GET /v1/hub-delivery/internal/analytics/hubs/{hubId}?minutes=60
+     */
+    @GetMapping("/analytics/hubs/{hubId}")
+    public List<HubThroughputResponse> getHubThroughput(
+            @PathVariable String hubId,
+            @RequestParam(defaultValue = "60") int minutes,
+            @RequestParam(defaultValue = "false") boolean local) {
+
+        return hubAnalyticsQueryService.findHubThroughput(hubId, minutes, local);
+    }
+
+    /**
+     * 레인별 윈도우 처리량/지연 목록 조회
+     *
+     * GET /v1/hub-delivery/internal/analytics/lanes?minutes=60
+     */
+    @GetMapping("/analytics/lanes")
+    public List<LaneFlowResponse> getLaneFlows(
+            @RequestParam(defaultValue = "60") int minutes,
+            @RequestParam(defaultValue = "false") boolean local) {
+
+        return hubAnalyticsQueryService.findAllLaneFlow(minutes, local);
+    }
+
+    /**
+     * 단일 레인 윈도우 처리량/지연 조회
+     *
+     * GET /v1/hub-delivery/internal/analytics/lanes/{fromHubId}/{toHubId}?minutes=60
+     */
+    @GetMapping("/analytics/lanes/{fromHubId}/{toHubId}")
+    public List<LaneFlowResponse> getLaneFlow(
+            @PathVariable String fromHubId,
+            @PathVariable String toHubId,
+            @RequestParam(defaultValue = "60") int minutes,
+            @RequestParam(defaultValue = "false") boolean local) {
+
+        return hubAnalyticsQueryService.findLaneFlow(fromHubId, toHubId, minutes, local);
+    }
+}
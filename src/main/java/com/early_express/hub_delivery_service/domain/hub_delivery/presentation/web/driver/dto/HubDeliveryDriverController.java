@@ -2,14 +2,24 @@ package com.early_express.hub_delivery_service.domain.hub_delivery.presentation.
 
 import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.HubDeliveryCommandService;
 import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.*;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.manifest.ManifestService;
 import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.query.HubDeliveryQueryService;
 import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.query.dto.HubDeliveryQueryDto.HubDeliveryDetailResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking.SegmentTracker;
+import com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.driver.dto.request.DriverPingRequest;
+import com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.driver.dto.request.ManifestTransitionRequest;
 import com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.driver.dto.response.DriverHubDeliveryResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.driver.dto.response.DriverManifestResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.driver.dto.response.DriverPingResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.driver.dto.response.ManifestTransitionResponse;
 import com.early_express.hub_delivery_service.global.presentation.dto.ApiResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * Driver Hub Delivery Controller
  * 배송 담당자용 API
@@ -22,6 +32,8 @@ public class HubDeliveryDriverController {
 
     private final HubDeliveryCommandService commandService;
     private final HubDeliveryQueryService queryService;
+    private final ManifestService manifestService;
+    private final SegmentTracker segmentTracker;
 
     /**
      * 내 배송 상세 조회
@@ -99,4 +111,113 @@ public class HubDeliveryDriverController {
 
         return ApiResponse.success();
     }
+
+    /**
+     * 적재 목록 일괄 출발 처리
+     * PUT /v1/hub-delivery/web/drivers/manifests/depart
+     */
+    @PutMapping("/manifests/depart")
+    public ApiResponse<ManifestTransitionResponse> departManifest(
+            @Valid @RequestBody ManifestTransitionRequest request,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.info("적재 목록 일괄 출발 처리 - items: {}, driverId: {}", request.getSegments().size(), userId);
+
+        // TODO: roles 검증 (DRIVER 권한 확인)
+
+        List<ManifestItemResult> results = commandService.departManifest(request.toCommand(userId));
+
+        return ApiResponse.success(ManifestTransitionResponse.from(results));
+    }
+
+    /**
+     * 적재 목록 일괄 도착 처리
+     * PUT /v1/hub-delivery/web/drivers/manifests/arrive
+     */
+    @PutMapping("/manifests/arrive")
+    public ApiResponse<ManifestTransitionResponse> arriveManifest(
+            @Valid @RequestBody ManifestTransitionRequest request,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.info("적재 목록 일괄 도착 처리 - items: {}, driverId: {}", request.getSegments().size(), userId);
+
+        // TODO: roles 검증 (DRIVER 권한 확인)
+
+        List<ManifestItemResult> results = commandService.arriveManifest(request.toCommand(userId));
+
+        return ApiResponse.success(ManifestTransitionResponse.from(results));
+    }
+
+    /**
+     * 배정된 적재 목록 조회 (적재 구간 포함)
+     * GET /v1/hub-delivery/web/drivers/manifests/{manifestId}
+     */
+    @GetMapping("/manifests/{manifestId}")
+    public ApiResponse<DriverManifestResponse> getManifest(
+            @PathVariable String manifestId,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.info("배송 담당자 적재 목록 조회 - manifestId: {}, driverId: {}", manifestId, userId);
+
+        // TODO: roles 검증 (DRIVER 권한 확인)
+        // TODO: driverId 일치 여부 확인
+
+        return ApiResponse.success(DriverManifestResponse.from(manifestService.findById(manifestId)));
+    }
+
+    /**
+     * 적재 목록 출발 처리 (적재 구간 일괄 출발)
+     * PUT /v1/hub-delivery/web/drivers/manifests/{manifestId}/depart
+     */
+    @PutMapping("/manifests/{manifestId}/depart")
+    public ApiResponse<DriverManifestResponse> departAssignedManifest(
+            @PathVariable String manifestId,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.info("적재 목록 출발 처리 - manifestId: {}, driverId: {}", manifestId, userId);
+
+        // TODO: roles 검증 (DRIVER 권한 확인)
+        // TODO: driverId 일치 여부 확인
+
+        return ApiResponse.success(DriverManifestResponse.from(manifestService.depart(manifestId)));
+    }
+
+    /**
+     * 적재 목록 도착 처리 (적재 구간 일괄 도착)
+     * PUT /v1/hub-delivery/web/drivers/manifests/{manifestId}/arrive
+     */
+    @PutMapping("/manifests/{manifestId}/arrive")
+    public ApiResponse<DriverManifestResponse> arriveAssignedManifest(
+            @PathVariable String manifestId,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.info("적재 목록 도착 처리 - manifestId: {}, driverId: {}", manifestId, userId);
+
+        // TODO: roles 검증 (DRIVER 권한 확인)
+        // TODO: driverId 일치 여부 확인
+
+        return ApiResponse.success(DriverManifestResponse.from(manifestService.arrive(manifestId)));
+    }
+
+    /**
+     * 위치 핑 일괄 전송 (이동 중 구간의 현재 위치/이동 경로 갱신)
+     * POST /v1/hub-delivery/web/drivers/pings
+     */
+    @PostMapping("/pings")
+    public ApiResponse<DriverPingResponse> sendPings(
+            @Valid @RequestBody DriverPingRequest request,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.debug("위치 핑 수신 - pings: {}, driverId: {}", request.getPings().size(), userId);
+
+        // TODO: roles 검증 (DRIVER 권한 확인)
+
+        return ApiResponse.success(DriverPingResponse.from(segmentTracker.ingest(request.toCommands(userId))));
+    }
 }
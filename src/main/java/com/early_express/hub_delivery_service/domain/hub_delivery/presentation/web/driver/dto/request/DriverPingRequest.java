@@ -0,0 +1,59 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.driver.dto.request;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking.dto.TrackingDto.PingCommand;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 드라이버 위치 핑 일괄 전송 요청 DTO
+ * 단말에서 모아 둔 핑을 한 번에 전송 (좌표 범위 등 개별 핑 검증은 수신 측에서 건별 거절)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DriverPingRequest {
+
+    public static final int MAX_PINGS = 500;
+
+    @Valid
+    @NotEmpty(message = "핑 목록은 필수입니다.")
+    @Size(max = MAX_PINGS, message = "한 번에 전송할 수 있는 핑은 최대 " + MAX_PINGS + "건입니다.")
+    private List<Ping> pings;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Ping {
+        private String hubDeliveryId;
+        private Integer segmentIndex;
+        private Double latitude;
+        private Double longitude;
+        private LocalDateTime recordedAt;
+    }
+
+    /**
+     * Request → Command 변환
+     */
+    public List<PingCommand> toCommands(String driverId) {
+        return this.pings.stream()
+                .map(ping -> PingCommand.builder()
+                        .hubDeliveryId(ping.getHubDeliveryId())
+                        .segmentIndex(ping.getSegmentIndex())
+                        .driverId(driverId)
+                        .latitude(ping.getLatitude())
+                        .longitude(ping.getLongitude())
+                        .recordedAt(ping.getRecordedAt())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,63 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.driver.dto.request;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.ManifestCommand;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.ManifestSegment;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 적재 목록 일괄 출발/도착 요청 DTO
+ * 간선 트럭 한 대분의 (허브 배송 ID, 구간 인덱스) 목록
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManifestTransitionRequest {
+
+    public static final int MAX_SEGMENTS = 1000;
+
+    @Valid
+    @NotEmpty(message = "구간 목록은 필수입니다.")
+    @Size(max = MAX_SEGMENTS, message = "한 번에 처리할 수 있는 구간은 최대 " + MAX_SEGMENTS + "건입니다.")
+    private List<Item> segments;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotBlank(message = "허브 배송 ID는 필수입니다.")
+        private String hubDeliveryId;
+
+        @NotNull(message = "구간 인덱스는 필수입니다.")
+        @PositiveOrZero(message = "구간 인덱스는 0 이상이어야 합니다.")
+        private Integer segmentIndex;
+    }
+
+    /**
+     * Request → Command 변환
+     */
+    public ManifestCommand toCommand(String driverId) {
+        return ManifestCommand.builder()
+                .segments(this.segments.stream()
+                        .map(item -> ManifestSegment.builder()
+                                .hubDeliveryId(item.getHubDeliveryId())
+                                .segmentIndex(item.getSegmentIndex())
+                                .build())
+                        .toList())
+                .driverId(driverId)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.driver.dto.response;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.manifest.dto.ManifestDto.ManifestItemResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.manifest.dto.ManifestDto.ManifestResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 배송 담당자용 적재 목록 응답 (적재 구간 포함)
+ */
+@Getter
+@Builder
+public class DriverManifestResponse {
+
+    private String manifestId;
+    private String fromHubId;
+    private String toHubId;
+    private LocalDateTime waveStartAt;
+    private LocalDateTime departureDeadline;
+    private ManifestStatus status;
+    private Integer size;
+    private LocalDateTime departedAt;
+    private LocalDateTime arrivedAt;
+    private List<Item> items;
+
+    /** 출발/도착 시 구간별 처리 결과 (조회 시 null) */
+    private ManifestTransitionResponse results;
+
+    /**
+     * Application DTO → Presentation DTO 변환
+     */
+    public static DriverManifestResponse from(ManifestResponse manifest) {
+        return DriverManifestResponse.builder()
+                .manifestId(manifest.getManifestId())
+                .fromHubId(manifest.getFromHubId())
+                .toHubId(manifest.getToHubId())
+                .waveStartAt(manifest.getWaveStartAt())
+                .departureDeadline(manifest.getDepartureDeadline())
+                .status(manifest.getStatus())
+                .size(manifest.getSize())
+                .departedAt(manifest.getDepartedAt())
+                .arrivedAt(manifest.getArrivedAt())
+                .items(manifest.getItems().stream()
+                        .map(Item::from)
+                        .toList())
+                .results(manifest.getItemResults() != null
+                        ? ManifestTransitionResponse.from(manifest.getItemResults())
+                        : null)
+                .build();
+    }
+
+    /**
+     * 적재 구간
+     */
+    @Getter
+    @Builder
+    public static class Item {
+        private String hubDeliveryId;
+        private String orderId;
+        private Integer segmentIndex;
+
+        public static Item from(ManifestItemResponse item) {
+            return Item.builder()
+                    .hubDeliveryId(item.getHubDeliveryId())
+                    .orderId(item.getOrderId())
+                    .segmentIndex(item.getSegmentIndex())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.driver.dto.response;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking.dto.TrackingDto.PingResult;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 드라이버 위치 핑 일괄 전송 응답
+ */
+@Getter
+@Builder
+public class DriverPingResponse {
+
+    private int received;
+    private int accepted;
+    private int rejected;
+    private Map<String, Integer> rejectedBy;
+
+    /**
+     * Application DTO → Presentation DTO 변환
+     */
+    public static DriverPingResponse from(PingResult result) {
+        return DriverPingResponse.builder()
+                .received(result.getReceived())
+                .accepted(result.getAccepted())
+                .rejected(result.getRejected())
+                .rejectedBy(result.getRejectedBy())
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.driver.dto.response;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.ManifestItemResult;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 적재 목록 일괄 출발/도착 응답 (요청 항목 순서대로의 결과)
+ */
+@Getter
+@Builder
+public class ManifestTransitionResponse {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<ItemResult> items;
+
+    @Getter
+    @Builder
+    public static class ItemResult {
+        private String hubDeliveryId;
+        private Integer segmentIndex;
+        private boolean success;
+        private String segmentStatus;
+        private String message;
+    }
+
+    /**
+     * Command 결과 → Presentation DTO 변환
+     */
+    public static ManifestTransitionResponse from(List<ManifestItemResult> results) {
+        List<ItemResult> items = results.stream()
+                .map(result -> ItemResult.builder()
+                        .hubDeliveryId(result.getHubDeliveryId())
+                        .segmentIndex(result.getSegmentIndex())
+                        .success(result.isSuccess())
+                        .segmentStatus(result.getSegmentStatus())
+                        .message(result.getMessage())
+                        .build())
+                .toList();
+
+        int succeeded = (int) items.stream().filter(ItemResult::isSuccess).count();
+
+        return ManifestTransitionResponse.builder()
+                .total(items.size())
+                .succeeded(succeeded)
+                .failed(items.size() - succeeded)
+                .items(items)
+                .build();
+    }
+}
@@ -1,9 +1,20 @@
 package com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.hubmanager;
 
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch.DispatchService;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.hubload.HubLoadTracker;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.livefeed.HubLiveFeed;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.manifest.ManifestService;
 import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.query.HubDeliveryQueryService;
 import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.query.dto.HubDeliveryQueryDto.HubDeliveryResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking.SegmentTracker;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.hubmanager.dto.response.HubManagerDispatchQueueResponse;
 import com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.hubmanager.dto.response.HubManagerHubDeliveryResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.hubmanager.dto.response.HubManagerHubLoadResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.hubmanager.dto.response.HubManagerManifestResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.hubmanager.dto.response.HubManagerSegmentTrackResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.hubmanager.sse.SseLiveFeedSink;
 import com.early_express.hub_delivery_service.global.common.dto.PageInfo;
 import com.early_express.hub_delivery_service.global.presentation.dto.ApiResponse;
 import com.early_express.hub_delivery_service.global.presentation.dto.PageResponse;
@@ -14,6 +25,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -28,6 +40,11 @@ import java.util.List;
 public class HubDeliveryHubManagerController {
 
     private final HubDeliveryQueryService queryService;
+    private final DispatchService dispatchService;
+    private final HubLoadTracker hubLoadTracker;
+    private final ManifestService manifestService;
+    private final SegmentTracker segmentTracker;
+    private final HubLiveFeed hubLiveFeed;
 
     /**
      * 상태별 배송 목록 조회
@@ -55,5 +72,168 @@ public class HubDeliveryHubManagerController {
 
         return ApiResponse.success(PageResponse.of(content, PageInfo.of(queryResult)));
     }
-}
 
+    /**
+     * 허브 배정 대기열 조회 (마감 시각 순)
+     * GET /v1/hub-delivery/web/hub-manager/hubs/{hubId}/dispatch-queue
+     */
+    @GetMapping("/hubs/{hubId}/dispatch-queue")
+    public ApiResponse<List<HubManagerDispatchQueueResponse>> getDispatchQueue(
+            @PathVariable String hubId,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.info("허브 관리자 배정 대기열 조회 - hubId: {}, userId: {}", hubId, userId);
+
+        // TODO: roles 검증 (HUB_MANAGER 권한 및 담당 허브 확인)
+
+        List<HubManagerDispatchQueueResponse> content = dispatchService.findQueue(hubId, limit).stream()
+                .map(HubManagerDispatchQueueResponse::from)
+                .toList();
+
+        return ApiResponse.success(content);
+    }
+
+    /**
+     * 허브 부하 조회 (대기/유입 구간 수, 인메모리 집계)
+     * GET /v1/hub-delivery/web/hub-manager/hubs/{hubId}/load
+     */
+    @GetMapping("/hubs/{hubId}/load")
+    public ApiResponse<HubManagerHubLoadResponse> getHubLoad(
+            @PathVariable String hubId,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.debug("허브 관리자 허브 부하 조회 - hubId: {}, userId: {}", hubId, userId);
+
+        // TODO: roles 검증 (HUB_MANAGER 권한 및 담당 허브 확인)
+
+        return ApiResponse.success(HubManagerHubLoadResponse.from(hubLoadTracker.findLoad(hubId)));
+    }
+
+    /**
+     * 허브 실시간 배송 피드 구독 (SSE)
+     * GET /v1/hub-delivery/web/hub-manager/hubs/{hubId}/live
+     *
+     * 목록 API를 주기적으로 다시 조회하는 대신, 연결 후 목록을 한 번 조회하고 이 스트림의 변경을 반영합니다.
+     * (resync 이벤트를 받으면 목록을 다시 조회)
+     */
+    @GetMapping("/hubs/{hubId}/live")
+    public SseEmitter streamHubDeliveries(
+            @PathVariable String hubId,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.debug("허브 관리자 실시간 피드 구독 - hubId: {}, userId: {}", hubId, userId);
+
+        // TODO: roles 검증 (HUB_MANAGER 권한 및 담당 허브 확인)
+
+        SseEmitter emitter = new SseEmitter(hubLiveFeed.getStreamTimeout().toMillis());
+        String subscriberId = hubLiveFeed.subscribe(hubId, new SseLiveFeedSink(emitter));
+
+        emitter.onCompletion(() -> hubLiveFeed.unsubscribe(subscriberId));
+        emitter.onTimeout(() -> hubLiveFeed.unsubscribe(subscriberId));
+        emitter.onError(e -> hubLiveFeed.unsubscribe(subscriberId));
+
+        return emitter;
+    }
+
+    /**
+     * 구간 위치 추적 조회 (현재 위치, 진행률, 이동 경로)
+     * GET /v1/hub-delivery/web/hub-manager/deliveries/{hubDeliveryId}/segments/{segmentIndex}/track
+     */
+    @GetMapping("/deliveries/{hubDeliveryId}/segments/{segmentIndex}/track")
+    public ApiResponse<HubManagerSegmentTrackResponse> getSegmentTrack(
+            @PathVariable String hubDeliveryId,
+            @PathVariable Integer segmentIndex,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.debug("허브 관리자 구간 위치 조회 - hubDeliveryId: {}, segment: {}, userId: {}",
+                hubDeliveryId, segmentIndex, userId);
+
+        // TODO: roles 검증 (HUB_MANAGER 권한 및 담당 허브 확인)
+
+        return ApiResponse.success(HubManagerSegmentTrackResponse.from(
+                segmentTracker.findTrack(hubDeliveryId, segmentIndex)));
+    }
+
+    /**
+     * 허브 적재 목록 편성 (배정 대기열을 도착 허브 + 출발 웨이브별로 묶음)
+     * POST /v1/hub-delivery/web/hub-manager/hubs/{hubId}/manifests/plan
+     */
+    @PostMapping("/hubs/{hubId}/manifests/plan")
+    public ApiResponse<List<HubManagerManifestResponse>> planManifests(
+            @PathVariable String hubId,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.info("허브 관리자 적재 목록 편성 - hubId: {}, userId: {}", hubId, userId);
+
+        // TODO: roles 검증 (HUB_MANAGER 권한 및 담당 허브 확인)
+
+        List<HubManagerManifestResponse> content = manifestService.plan(hubId, userId).getManifests().stream()
+                .map(HubManagerManifestResponse::from)
+                .toList();
+
+        return ApiResponse.success(content);
+    }
+
+    /**
+     * 허브 적재 목록 조회 (출발 웨이브 순)
+     * GET /v1/hub-delivery/web/hub-manager/hubs/{hubId}/manifests
+     */
+    @GetMapping("/hubs/{hubId}/manifests")
+    public ApiResponse<List<HubManagerManifestResponse>> getManifests(
+            @PathVariable String hubId,
+            @RequestParam(required = false) ManifestStatus status,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.info("허브 관리자 적재 목록 조회 - hubId: {}, status: {}, userId: {}", hubId, status, userId);
+
+        // TODO: roles 검증 (HUB_MANAGER 권한 및 담당 허브 확인)
+
+        List<HubManagerManifestResponse> content = manifestService.findByHub(hubId, status, limit).stream()
+                .map(HubManagerManifestResponse::from)
+                .toList();
+
+        return ApiResponse.success(content);
+    }
+
+    /**
+     * 적재 목록 드라이버 배정 (드라이버 서비스 호출 1회)
+     * POST /v1/hub-delivery/web/hub-manager/manifests/{manifestId}/assign
+     */
+    @PostMapping("/manifests/{manifestId}/assign")
+    public ApiResponse<HubManagerManifestResponse> assignManifestDriver(
+            @PathVariable String manifestId,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.info("허브 관리자 적재 목록 드라이버 배정 - manifestId: {}, userId: {}", manifestId, userId);
+
+        // TODO: roles 검증 (HUB_MANAGER 권한 및 담당 허브 확인)
+
+        return ApiResponse.success(HubManagerManifestResponse.from(manifestService.assignDriver(manifestId)));
+    }
+
+    /**
+     * 적재 목록 취소 (드라이버 배정 전만 가능)
+     * PUT /v1/hub-delivery/web/hub-manager/manifests/{manifestId}/cancel
+     */
+    @PutMapping("/manifests/{manifestId}/cancel")
+    public ApiResponse<HubManagerManifestResponse> cancelManifest(
+            @PathVariable String manifestId,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.info("허브 관리자 적재 목록 취소 - manifestId: {}, userId: {}", manifestId, userId);
+
+        // TODO: roles 검증 (HUB_MANAGER 권한 및 담당 허브 확인)
+
+        return ApiResponse.success(HubManagerManifestResponse.from(manifestService.cancel(manifestId)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.hubmanager.dto.response;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch.dto.DispatchDto.DispatchQueueItemResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 허브 관리자용 배정 대기열 항목 응답
+ */
+@Getter
+@Builder
+public class HubManagerDispatchQueueResponse {
+
+    private Integer rank;
+    private String hubDeliveryId;
+    private String orderId;
+    private Integer segmentIndex;
+    private String toHubId;
+    private LocalDateTime deadline;
+    private LocalDateTime readyAt;
+    private Long slackMin;
+    private Boolean overdue;
+
+    /**
+     * Application DTO → Presentation DTO 변환
+     */
+    public static HubManagerDispatchQueueResponse from(DispatchQueueItemResponse item) {
+        return HubManagerDispatchQueueResponse.builder()
+                .rank(item.getRank())
+                .hubDeliveryId(item.getHubDeliveryId())
+                .orderId(item.getOrderId())
+                .segmentIndex(item.getSegmentIndex())
+                .toHubId(item.getToHubId())
+                .deadline(item.getDeadline())
+                .readyAt(item.getReadyAt())
+                .slackMin(item.getSlackMin())
+                .overdue(item.getOverdue())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.hubmanager.dto.response;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.hubload.dto.HubLoadDto.HubLoadResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 허브 관리자용 허브 부하 응답
+ */
+@Getter
+@Builder
+public class HubManagerHubLoadResponse {
+
+    private String hubId;
+    private Long pendingSegments;
+    private Long inboundSegments;
+    private LocalDateTime reconciledAt;
+
+    /**
+     * Application DTO → Presentation DTO 변환
+     */
+    public static HubManagerHubLoadResponse from(HubLoadResponse load) {
+        return HubManagerHubLoadResponse.builder()
+                .hubId(load.getHubId())
+                .pendingSegments(load.getPendingSegments())
+                .inboundSegments(load.getInboundSegments())
+                .reconciledAt(load.getReconciledAt())
+                .build();
+    }
+}
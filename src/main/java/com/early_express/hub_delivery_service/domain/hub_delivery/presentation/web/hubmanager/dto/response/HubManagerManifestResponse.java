@@ -0,0 +1,43 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.hubmanager.dto.response;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.manifest.dto.ManifestDto.ManifestResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 허브 관리자용 적재 목록 응답
+ */
+@Getter
+@Builder
+public class HubManagerManifestResponse {
+
+    private String manifestId;
+    private String toHubId;
+    private LocalDateTime waveStartAt;
+    private LocalDateTime departureDeadline;
+    private ManifestStatus status;
+    private String driverId;
+    private Integer size;
+    private LocalDateTime departedAt;
+    private LocalDateTime arrivedAt;
+
+    /**
+     * Application DTO → Presentation DTO 변환
+     */
+    public static HubManagerManifestResponse from(ManifestResponse manifest) {
+        return HubManagerManifestResponse.builder()
+                .manifestId(manifest.getManifestId())
+                .toHubId(manifest.getToHubId())
+                .waveStartAt(manifest.getWaveStartAt())
+                .departureDeadline(manifest.getDepartureDeadline())
+                .status(manifest.getStatus())
+                .driverId(manifest.getDriverId())
+                .size(manifest.getSize())
+                .departedAt(manifest.getDepartedAt())
+                .arrivedAt(manifest.getArrivedAt())
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.hubmanager.dto.response;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking.dto.TrackingDto.SegmentTrackResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking.dto.TrackingDto.TrackPointResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 허브 관리자용 구간 위치 추적 응답
+ */
+@Getter
+@Builder
+public class HubManagerSegmentTrackResponse {
+
+    private String hubDeliveryId;
+    private Integer segmentIndex;
+    private String driverId;
+    private Double latitude;
+    private Double longitude;
+    private LocalDateTime recordedAt;
+    private Long travelledM;
+    private Long estimatedDistanceM;
+    private Long remainingM;
+    private Double progress;
+    private Boolean finished;
+    private List<TrackPoint> breadcrumb;
+
+    @Getter
+    @Builder
+    public static class TrackPoint {
+        private Double latitude;
+        private Double longitude;
+        private LocalDateTime recordedAt;
+
+        public static TrackPoint from(TrackPointResponse point) {
+            return TrackPoint.builder()
+                    .latitude(point.getLatitude())
+                    .longitude(point.getLongitude())
+                    .recordedAt(point.getRecordedAt())
+                    .build();
+        }
+    }
+
+    /**
+     * Application DTO → Presentation DTO 변환
+     */
+    public static HubManagerSegmentTrackResponse from(SegmentTrackResponse track) {
+        return HubManagerSegmentTrackResponse.builder()
+                .hubDeliveryId(track.getHubDeliveryId())
+                .segmentIndex(track.getSegmentIndex())
+                .driverId(track.getDriverId())
+                .latitude(track.getLatitude())
+                .longitude(track.getLongitude())
+                .recordedAt(track.getRecordedAt())
+                .travelledM(track.getTravelledM())
+                .estimatedDistanceM(track.getEstimatedDistanceM())
+                .remainingM(track.getRemainingM())
+                .progress(track.getProgress())
+                .finished(track.getFinished())
+                .breadcrumb(track.getBreadcrumb().stream()
+                        .map(TrackPoint::from)
+                        .toList())
+                .build();
+    }
+}
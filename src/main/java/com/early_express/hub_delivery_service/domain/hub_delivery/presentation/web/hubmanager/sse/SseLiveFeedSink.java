@@ -0,0 +1,41 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.presentation.web.hubmanager.sse;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.livefeed.LiveFeedSink;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * SSE(Server-Sent Events) 피드 전송 채널
+ */
+public class SseLiveFeedSink implements LiveFeedSink {
+
+    private final SseEmitter emitter;
+
+    public SseLiveFeedSink(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(long eventId, String eventName, Object data) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(String.valueOf(eventId))
+                .name(eventName)
+                .data(data, MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void heartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("heartbeat"));
+    }
+
+    @Override
+    public void complete() {
+        try {
+            emitter.complete();
+        } catch (IllegalStateException ignored) {
+            // 이미 종료된 연결
+        }
+    }
+}
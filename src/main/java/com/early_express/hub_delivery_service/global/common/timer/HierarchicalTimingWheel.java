@@ -0,0 +1,244 @@
+package com.early_express.hub_delivery_service.global.common.timer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계층형 타이밍 휠
+ *
+ * 만료 시각이 있는 항목을 등록/취소하고, 시계를 진행시키며 만료된 항목을 꺼냅니다.
+ * - 등록/취소: O(1) (키 기준 교체 지원)
+ * - 진행: 틱당 O(1) + 만료/하위 레벨 이동 항목 수
+ *
+ * 최하위 레벨은 tickMs × wheelSize 구간을 다루고, 그보다 먼 항목은 상위 레벨(틱 = 하위 레벨 전체 구간)에
+ * 저장되었다가 시간이 다가오면 하위 레벨로 내려옵니다. 상위 레벨은 필요할 때 생성됩니다.
+ *
+ * 스레드 안전하며(단일 락), 만료 콜백은 호출자가 advanceClock 결과로 처리합니다.
+ *
+ * @param <K> 항목 키 (같은 키로 다시 등록하면 기존 항목을 대체)
+ * @param <V> 만료 시 반환할 값
+ */
+public class HierarchicalTimingWheel<K, V> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final Level root;
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+    private final List<V> expiredOnAdd = new ArrayList<>();
+
+    /** 최하위 레벨 기준 현재 시각 (tickMs 단위로 내림) */
+    private long currentTimeMs;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tickMs는 양수, wheelSize는 2 이상이어야 합니다.");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.currentTimeMs = startMs - (startMs % tickMs);
+        this.root = new Level(tickMs, wheelSize, currentTimeMs);
+    }
+
+    /**
+     * 항목 등록 (같은 키가 있으면 대체)
+     *
+     * 이미 만료된 시각이면 다음 advanceClock 호출 시 반환됩니다.
+     */
+    public synchronized void schedule(K key, V value, long expirationMs) {
+        removeEntry(key);
+
+        Entry<K, V> entry = new Entry<>(key, value, expirationMs);
+        entries.put(key, entry);
+        if (!root.add(entry)) {
+            entries.remove(key);
+            expiredOnAdd.add(value);
+        }
+    }
+
+    /**
+     * 항목 취소
+     *
+     * @return 취소된 항목이 있었는지 여부
+     */
+    public synchronized boolean cancel(K key) {
+        return removeEntry(key);
+    }
+
+    /**
+     * 지정 시각까지 시계를 진행하고 만료된 항목 반환
+     */
+    public synchronized List<V> advanceClock(long nowMs) {
+        List<V> expired = new ArrayList<>(expiredOnAdd);
+        expiredOnAdd.clear();
+
+        while (currentTimeMs + tickMs <= nowMs) {
+            currentTimeMs += tickMs;
+            root.advanceTo(currentTimeMs);
+            root.flushDue(currentTimeMs, expired);
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    // ===== Private Helper Methods =====
+
+    private boolean removeEntry(K key) {
+        Entry<K, V> existing = entries.remove(key);
+        if (existing == null) {
+            return false;
+        }
+        existing.unlink();
+        return true;
+    }
+
+    /**
+     * 상위 레벨 버킷에서 꺼낸 항목을 다시 배치 (만료되었으면 결과에 추가)
+     */
+    private void reinsert(Entry<K, V> entry, List<V> expired) {
+        if (!root.add(entry)) {
+            entries.remove(entry.key);
+            expired.add(entry.value);
+        }
+    }
+
+    /**
+     * 휠 레벨
+     */
+    private final class Level {
+
+        private final long levelTickMs;
+        private final long intervalMs;
+        private final Bucket<K, V>[] buckets;
+        private long levelTimeMs;
+        private Level overflow;
+
+        @SuppressWarnings("unchecked")
+        private Level(long levelTickMs, int size, long startMs) {
+            this.levelTickMs = levelTickMs;
+            this.intervalMs = levelTickMs * size;
+            this.levelTimeMs = startMs - (startMs % levelTickMs);
+            this.buckets = new Bucket[size];
+            for (int i = 0; i < size; i++) {
+                buckets[i] = new Bucket<>();
+            }
+        }
+
+        /**
+         * @return 만료 시각이 이미 지나 등록하지 않았으면 false
+         */
+        private boolean add(Entry<K, V> entry) {
+            if (entry.expirationMs < levelTimeMs + levelTickMs) {
+                return false;
+            }
+            if (entry.expirationMs < levelTimeMs + intervalMs) {
+                long virtualId = entry.expirationMs / levelTickMs;
+                buckets[(int) (virtualId % wheelSize)].add(entry);
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level(intervalMs, wheelSize, levelTimeMs);
+            }
+            return overflow.add(entry);
+        }
+
+        private void advanceTo(long timeMs) {
+            levelTimeMs = timeMs - (timeMs % levelTickMs);
+            if (overflow != null) {
+                overflow.advanceTo(timeMs);
+            }
+        }
+
+        /**
+         * 틱 경계에 도달한 버킷을 상위 레벨부터 비움
+         */
+        private void flushDue(long timeMs, List<V> expired) {
+            if (overflow != null) {
+                overflow.flushDue(timeMs, expired);
+            }
+            if (timeMs % levelTickMs != 0) {
+                return;
+            }
+
+            Bucket<K, V> bucket = buckets[(int) ((timeMs / levelTickMs) % wheelSize)];
+            for (Entry<K, V> entry : bucket.drain()) {
+                reinsert(entry, expired);
+            }
+        }
+    }
+
+    /**
+     * 버킷 (이중 연결 리스트, O(1) 삽입/삭제)
+     */
+    private static final class Bucket<K, V> {
+
+        private final Entry<K, V> head = new Entry<>(null, null, 0);
+
+        private Bucket() {
+            head.prev = head;
+            head.next = head;
+        }
+
+        private void add(Entry<K, V> entry) {
+            entry.bucket = this;
+            entry.prev = head.prev;
+            entry.next = head;
+            head.prev.next = entry;
+            head.prev = entry;
+        }
+
+        private List<Entry<K, V>> drain() {
+            List<Entry<K, V>> drained = new ArrayList<>();
+            Entry<K, V> current = head.next;
+            while (current != head) {
+                Entry<K, V> next = current.next;
+                current.prev = null;
+                current.next = null;
+                current.bucket = null;
+                drained.add(current);
+                current = next;
+            }
+            head.prev = head;
+            head.next = head;
+            return drained;
+        }
+    }
+
+    /**
+     * 휠 항목
+     */
+    private static final class Entry<K, V> {
+
+        private final K key;
+        private final V value;
+        private final long expirationMs;
+        private Object bucket;
+        private Entry<K, V> prev;
+        private Entry<K, V> next;
+
+        private Entry(K key, V value, long expirationMs) {
+            this.key = key;
+            this.value = value;
+            this.expirationMs = expirationMs;
+        }
+
+        private void unlink() {
+            if (bucket == null) {
+                return;
+            }
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+            bucket = null;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.early_express.hub_delivery_service.global.config;
 
+import com.early_express.hub_delivery_service.global.infrastructure.event.serialization.CompactEventSerializer;
+import com.early_express.hub_delivery_service.global.infrastructure.event.serialization.EventSchemaRegistry;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
@@ -17,9 +21,11 @@ import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 @Configuration
 @EnableKafka
+@EnableConfigurationProperties(KafkaProducerProperties.class)
 public class KafkaConfig {
 
     @Value("${spring.application.name}")
@@ -28,29 +34,64 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${spring.kafka.topic.hub-delivery-state}")
+    private String hubDeliveryStateTopic;
+
+    // 바이너리 인코딩으로 발행할 토픽 (비어 있으면 전체 JSON)
+    @Value("${hub-delivery.kafka.serialization.binary-topics:}")
+    private Set<String> binaryTopics;
+
     @Bean
     public RecordMessageConverter converter() {
         return new StringJsonMessageConverter();
     }
 
     @Bean
-    public ProducerFactory<String, Object> producerFactory() {
+    public ProducerFactory<String, Object> producerFactory(EventSchemaRegistry eventSchemaRegistry,
+                                                           KafkaProducerProperties producerProperties) {
+        // 값 직렬화: 토픽별 JSON / 바이너리 선택
+        CompactEventSerializer valueSerializer =
+                new CompactEventSerializer(eventSchemaRegistry, new JsonSerializer<>(), binaryTopics);
+
+        return new DefaultKafkaProducerFactory<>(
+                producerConfigs(producerProperties), new StringSerializer(), valueSerializer);
+    }
+
+    @Bean
+    public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    /**
+     * 값을 원본 바이트 그대로 전송하는 템플릿
+     * - 역직렬화에 실패한 레코드의 DLT 적재
+     * - DLT 레코드 재처리(replay)
+     */
+    @Bean
+    public KafkaTemplate<String, byte[]> byteArrayKafkaTemplate(KafkaProducerProperties producerProperties) {
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                producerConfigs(producerProperties), new StringSerializer(), new ByteArraySerializer()));
+    }
+
+    /**
+     * DLT 토픽명 ({애플리케이션명}-dlt)
+     */
+    public static String deadLetterTopic(String applicationName) {
+        return applicationName + "-dlt";
+    }
+
+    private Map<String, Object> producerConfigs(KafkaProducerProperties producerProperties) {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
 
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
         configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
         configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
 
-        return new DefaultKafkaProducerFactory<>(configProps);
-    }
-
-    @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        // 배치/압축: 프로필(LATENCY / THROUGHPUT) 기본값 + 개별 지정 항목
+        configProps.putAll(producerProperties.toProducerConfigs());
+        return configProps;
     }
 
     // 기본 토픽 생성 예제
@@ -74,10 +115,24 @@ public class KafkaConfig {
                 .build();
     }
 
-    // DLT(Dead Letter Topic) - 처리 실패한 메시지 보관
+    // 상태 스냅샷 토픽 - 배송 ID별 최신 상태만 보관 (log compaction)
+    // 소비 측이 처음부터 읽어 상태를 구성하므로 삭제 기준은 시간이 아닌 키 단위
+    @Bean
+    public NewTopic hubDeliveryStateTopic() {
+        return TopicBuilder.name(hubDeliveryStateTopic)
+                .partitions(3)
+                .replicas(3)
+                .compact()
+                .config("min.insync.replicas", "2")
+                .config("min.cleanable.dirty.ratio", "0.1")
+                .config("delete.retention.ms", "86400000")  // tombstone 보관 1일
+                .build();
+    }
+
+    // DLT(Dead Letter Topic) - 재시도 후에도 처리 실패한 메시지 보관 (KafkaConsumerConfig 에러 핸들러가 적재)
     @Bean
     public NewTopic applicationDeadLetterTopic() {
-        return TopicBuilder.name(applicationName + "-dlt")
+        return TopicBuilder.name(deadLetterTopic(applicationName))
                 .partitions(1)
                 .replicas(3)
                 .build();
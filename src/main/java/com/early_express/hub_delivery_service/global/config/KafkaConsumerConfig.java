@@ -1,41 +1,163 @@
 package com.early_express.hub_delivery_service.global.config;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.CommonErrorHandler;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.BackOff;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Kafka Consumer 설정
  * - 이벤트 구독 설정
  * - 수동 커밋
- * - 재시도 설정
+ * - 재시도 설정 (지수 백오프 후 DLT 적재)
+ * - 가상 스레드 모드 (spring.threads.virtual.enabled)
+ * - 배치 리스너 (허브 배송 생성 커맨드 등 한 번에 여러 건을 처리하는 리스너용)
+ * - 키 순서 병렬 리스너 (파티션 내 레코드를 키별로 병렬 처리하는 리스너용)
  */
 @Configuration
 public class KafkaConsumerConfig {
 
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchKafkaListenerContainerFactory";
+    public static final String PARALLEL_LISTENER_CONTAINER_FACTORY = "parallelKafkaListenerContainerFactory";
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
     @Value("${spring.kafka.consumer.group-id:product-service-group}")
     private String groupId;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${hub-delivery.kafka.batch-listener.max-poll-records:500}")
+    private int batchMaxPollRecords;
+
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    @Value("${hub-delivery.kafka.dlt.retry.max-retries:4}")
+    private int retryMaxRetries;
+
+    @Value("${hub-delivery.kafka.dlt.retry.initial-interval:500ms}")
+    private Duration retryInitialInterval;
+
+    @Value("${hub-delivery.kafka.dlt.retry.multiplier:2.0}")
+    private double retryMultiplier;
+
+    @Value("${hub-delivery.kafka.dlt.retry.max-interval:10s}")
+    private Duration retryMaxInterval;
+
     @Bean
     public ConsumerFactory<String, Object> consumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(consumerProps());
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(
+            CommonErrorHandler kafkaErrorHandler) {
+        return listenerContainerFactory(consumerFactory(), kafkaErrorHandler);
+    }
+
+    /**
+     * 배치 리스너 컨테이너 팩토리
+     * - poll 1회분(최대 max-poll-records)을 List로 전달
+     * - 수동 커밋: 배치 처리 완료 후 한 번에 커밋
+     */
+    @Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory(
+            CommonErrorHandler kafkaErrorHandler) {
+        Map<String, Object> configProps = consumerProps();
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchMaxPollRecords);
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                listenerContainerFactory(new DefaultKafkaConsumerFactory<>(configProps), kafkaErrorHandler);
+        factory.setBatchListener(true);
+        return factory;
+    }
+
+    /**
+     * 키 순서 병렬 리스너 컨테이너 팩토리
+     * - 레코드 리스너, 처리는 KeyOrderedRecordDispatcher가 키별로 병렬 실행
+     * - 비동기 확인(asyncAcks): 순서와 무관하게 확인하고, 앞선 오프셋이 모두 확인된 지점까지만 커밋
+     */
+    @Bean(PARALLEL_LISTENER_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, Object> parallelKafkaListenerContainerFactory(
+            CommonErrorHandler kafkaErrorHandler) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                listenerContainerFactory(consumerFactory(), kafkaErrorHandler);
+        factory.getContainerProperties().setAsyncAcks(true);
+        return factory;
+    }
+
+    /**
+     * 리스너 에러 핸들러
+     * - 지수 백오프로 제자리 재시도 (기본 0.5s → 1s → 2s → 4s)
+     * - 재시도 소진 또는 재시도 불가 예외(역직렬화 실패 등)는 DLT에 적재하고 다음 레코드로 진행
+     */
+    @Bean
+    public DefaultErrorHandler kafkaErrorHandler(DeadLetterPublishingRecoverer deadLetterRecoverer,
+                                                 BackOff kafkaRetryBackOff) {
+        return new DefaultErrorHandler(deadLetterRecoverer, kafkaRetryBackOff);
+    }
+
+    /**
+     * DLT 적재
+     * - 역직렬화에 실패한 레코드는 원본 바이트 그대로, 그 외는 JSON으로 적재
+     * - DLT 레코드에는 원본 토픽/파티션/오프셋/예외 정보가 헤더(kafka_dlt-*)로 남으며, DeadLetterReplayService로 재처리
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterRecoverer(KafkaTemplate<String, Object> kafkaTemplate,
+                                                             KafkaTemplate<String, byte[]> byteArrayKafkaTemplate) {
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, byteArrayKafkaTemplate);
+        templates.put(Object.class, kafkaTemplate);
+
+        String deadLetterTopic = KafkaConfig.deadLetterTopic(applicationName);
+        return new DeadLetterPublishingRecoverer(templates,
+                (record, ex) -> new TopicPartition(deadLetterTopic, -1));
+    }
+
+    /**
+     * 리스너 재시도 백오프 (에러 핸들러와 KeyOrderedRecordDispatcher가 공유)
+     */
+    @Bean
+    public BackOff kafkaRetryBackOff() {
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(retryMaxRetries);
+        backOff.setInitialInterval(retryInitialInterval.toMillis());
+        backOff.setMultiplier(retryMultiplier);
+        backOff.setMaxInterval(retryMaxInterval.toMillis());
+        return backOff;
+    }
+
+    private Map<String, Object> consumerProps() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        // 역직렬화 실패 시 poll이 반복 실패하지 않도록 레코드 단위 예외로 전달 (에러 핸들러가 DLT 적재)
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
 
         // JSON Deserializer 설정
         configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
@@ -52,15 +174,15 @@ public class KafkaConsumerConfig {
         configProps.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 30000);
         configProps.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, 300000);
 
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        return configProps;
     }
 
-    @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
+    private ConcurrentKafkaListenerContainerFactory<String, Object> listenerContainerFactory(
+            ConsumerFactory<String, Object> consumerFactory, CommonErrorHandler errorHandler) {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
 
-        factory.setConsumerFactory(consumerFactory());
+        factory.setConsumerFactory(consumerFactory);
 
         // 수동 커밋 모드
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
@@ -68,9 +190,20 @@ public class KafkaConsumerConfig {
         // 동시성 설정 (파티션 수와 동일하게)
         factory.setConcurrency(3);
 
-        // 에러 핸들러
-        factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler());
+        // 가상 스레드 모드: 리스너 컨테이너 스레드를 가상 스레드로 실행
+        if (virtualThreadsEnabled) {
+            factory.getContainerProperties().setListenerTaskExecutor(virtualThreadListenerExecutor());
+        }
+
+        // 에러 핸들러 (재시도 후 DLT)
+        factory.setCommonErrorHandler(errorHandler);
 
         return factory;
     }
+
+    private SimpleAsyncTaskExecutor virtualThreadListenerExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("kafka-listener-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
 }
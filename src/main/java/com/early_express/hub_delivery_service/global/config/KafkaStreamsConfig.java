@@ -0,0 +1,62 @@
+package com.early_express.hub_delivery_service.global.config;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.analytics.HubAnalyticsTopology;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.errors.LogAndContinueExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.KafkaStreamsConfiguration;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kafka Streams 설정 (허브 분석)
+ * - hub-delivery.analytics.streams.enabled=true일 때만 구성
+ * - application.server: interactive query 시 키 소유 인스턴스로 요청을 전달하기 위한 주소
+ * - 역직렬화 실패 레코드는 로그만 남기고 건너뜀 (스트림 스레드 중단 방지)
+ *
+ * @EnableKafkaStreams(기본 빌더)를 사용하지 않으므로 Spring Boot의 Kafka Streams 자동 구성은 적용되지 않습니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "hub-delivery.analytics.streams.enabled", havingValue = "true")
+public class KafkaStreamsConfig {
+
+    public static final String ANALYTICS_STREAMS_BUILDER = "hubAnalyticsStreamsBuilder";
+
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${hub-delivery.analytics.streams.application-server}")
+    private String applicationServer;
+
+    @Value("${hub-delivery.analytics.streams.state-dir:${java.io.tmpdir}/kafka-streams}")
+    private String stateDir;
+
+    @Value("${hub-delivery.analytics.streams.num-stream-threads:1}")
+    private int numStreamThreads;
+
+    @Bean(ANALYTICS_STREAMS_BUILDER)
+    public StreamsBuilderFactoryBean hubAnalyticsStreamsBuilder(HubAnalyticsTopology topology) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(StreamsConfig.APPLICATION_ID_CONFIG, applicationName + "-analytics");
+        configProps.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(StreamsConfig.APPLICATION_SERVER_CONFIG, applicationServer);
+        configProps.put(StreamsConfig.STATE_DIR_CONFIG, stateDir);
+        configProps.put(StreamsConfig.NUM_STREAM_THREADS_CONFIG, numStreamThreads);
+
+        // 역직렬화 실패 시 건너뜀
+        configProps.put(StreamsConfig.DEFAULT_DESERIALIZATION_EXCEPTION_HANDLER_CLASS_CONFIG,
+                LogAndContinueExceptionHandler.class);
+
+        StreamsBuilderFactoryBean factoryBean = new StreamsBuilderFactoryBean(new KafkaStreamsConfiguration(configProps));
+        factoryBean.setInfrastructureCustomizer(topology);
+        return factoryBean;
+    }
+}
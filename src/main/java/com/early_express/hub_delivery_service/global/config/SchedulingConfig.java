@@ -0,0 +1,15 @@
+package com.early_express.hub_delivery_service.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ *
+ * 주기 작업(@Scheduled)은 여러 인스턴스에서 동시에 실행되므로
+ * 작업별로 ShardLeaseManager 등을 통해 실행 노드를 조정해야 합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -21,6 +21,8 @@ public abstract class BaseEvent {
 
     /**
      * 이벤트 ID (멱등성 체크용)
+     *
+     * @see com.early_express.hub_delivery_service.global.infrastructure.event.idempotency.ProcessedEventStore
      */
     private String eventId;
 
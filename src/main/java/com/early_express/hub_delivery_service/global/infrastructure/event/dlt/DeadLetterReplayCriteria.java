@@ -0,0 +1,30 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.dlt;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * DLT 재처리 조건
+ *
+ * @param eventTypes    재처리할 이벤트 타입 (페이로드의 eventType, 비어 있으면 전체)
+ * @param from          레코드 timestamp 하한 (포함, null이면 처음부터)
+ * @param to            레코드 timestamp 상한 (미포함, null이면 작업 시작 시점의 끝까지)
+ * @param ratePerSecond 초당 최대 재발행 건수
+ * @param batchSize     poll 1회 / 전송 확인 단위
+ */
+public record DeadLetterReplayCriteria(
+        Set<String> eventTypes,
+        LocalDateTime from,
+        LocalDateTime to,
+        int ratePerSecond,
+        int batchSize
+) {
+
+    public DeadLetterReplayCriteria {
+        eventTypes = eventTypes == null ? Set.of() : Set.copyOf(eventTypes);
+    }
+
+    public boolean matchesEventType(String eventType) {
+        return eventTypes.isEmpty() || eventTypes.contains(eventType);
+    }
+}
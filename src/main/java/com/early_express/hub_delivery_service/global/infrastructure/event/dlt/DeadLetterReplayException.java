@@ -0,0 +1,14 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.dlt;
+
+import com.early_express.hub_delivery_service.global.presentation.exception.GlobalErrorCode;
+import com.early_express.hub_delivery_service.global.presentation.exception.GlobalException;
+
+/**
+ * DLT 재처리 요청 예외
+ */
+public class DeadLetterReplayException extends GlobalException {
+
+    public DeadLetterReplayException(GlobalErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+}
@@ -0,0 +1,62 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.dlt;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DLT 재처리 작업 진행 상태
+ *
+ * 작업을 실행하는 인스턴스의 메모리에만 보관합니다.
+ */
+@Getter
+public class DeadLetterReplayJob {
+
+    public enum Status {
+        RUNNING, COMPLETED, CANCELLED, FAILED,
+        // 리스를 잃어 중단 (다른 인스턴스가 이어받았을 수 있음)
+        ABORTED
+    }
+
+    private final String jobId;
+    private final DeadLetterReplayCriteria criteria;
+    private final LocalDateTime startedAt;
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile boolean cancelRequested;
+    private volatile LocalDateTime finishedAt;
+    private volatile String errorMessage;
+
+    DeadLetterReplayJob(DeadLetterReplayCriteria criteria) {
+        this.jobId = UUID.randomUUID().toString();
+        this.criteria = criteria;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public void requestCancel() {
+        this.cancelRequested = true;
+    }
+
+    void complete() {
+        finish(cancelRequested ? Status.CANCELLED : Status.COMPLETED, null);
+    }
+
+    void fail(String errorMessage) {
+        finish(Status.FAILED, errorMessage);
+    }
+
+    void abort(String errorMessage) {
+        finish(Status.ABORTED, errorMessage);
+    }
+
+    private void finish(Status status, String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+}
@@ -0,0 +1,380 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.dlt;
+
+import com.early_express.hub_delivery_service.global.config.KafkaConfig;
+import com.early_express.hub_delivery_service.global.infrastructure.event.serialization.EventSchemaRegistry;
+import com.early_express.hub_delivery_service.global.infrastructure.lease.ShardLeaseManager;
+import com.early_express.hub_delivery_service.global.presentation.exception.GlobalErrorCode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * DLT 재처리 (replay)
+ *
+ * 운영자가 요청하면 DLT 레코드를 읽어 원본 토픽(kafka_dlt-original-topic 헤더)으로 다시 발행합니다.
+ * - 이벤트 타입(페이로드의 eventType)과 레코드 timestamp 범위로 대상을 거름
+ * - 초당 발행 건수를 제한하고, batch-size 단위로 전송 확인 후 다음 배치를 읽음
+ * - 작업 시작 시점의 DLT 끝 오프셋까지만 읽으므로, 재처리 중 다시 실패해 적재된 레코드는 같은 작업에서 다시 읽지 않음
+ * - 값은 원본 바이트 그대로 발행하며, 구독 측은 eventId로 중복을 걸러냄 (at-least-once)
+ * - 리스로 클러스터 전체에서 한 번에 하나의 작업만 실행 (배치마다 연장, 연장에 실패하면 ABORTED로 중단)
+ *   배치 하나(조회 + 전송 확인 + 속도 제한 대기)가 리스 유지 시간 안에 끝나지 않는 조건은 시작 시 거부
+ *
+ * 컨슈머 그룹 없이 파티션을 직접 할당하므로 DLT 오프셋은 커밋하지 않습니다.
+ */
+@Slf4j
+@Component
+public class DeadLetterReplayService {
+
+    public static final String REPLAY_JOB_HEADER = "hub-delivery-dlt-replay-job";
+    public static final String DLT_REPLAYED = "hub_delivery.kafka.dlt.replayed";
+
+    static final String LEASE_KEY = "dlt-replay";
+    private static final String DLT_HEADER_PREFIX = "kafka_dlt-";
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_RETAINED_JOBS = 20;
+
+    private final KafkaTemplate<String, byte[]> byteArrayKafkaTemplate;
+    private final ShardLeaseManager shardLeaseManager;
+    private final EventSchemaRegistry eventSchemaRegistry;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final IntFunction<Consumer<String, byte[]>> consumerFactory;
+    private final String deadLetterTopic;
+    private final Duration pollTimeout;
+    private final Duration sendTimeout;
+    private final Duration leaseTtl;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dlt-replay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 최근 작업 (오래된 작업부터 제거)
+    private final Map<String, DeadLetterReplayJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, DeadLetterReplayJob> eldest) {
+            return size() > MAX_RETAINED_JOBS;
+        }
+    });
+
+    @Autowired
+    public DeadLetterReplayService(
+            KafkaTemplate<String, byte[]> byteArrayKafkaTemplate,
+            ShardLeaseManager shardLeaseManager,
+            EventSchemaRegistry eventSchemaRegistry,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers,
+            @Value("${spring.application.name}") String applicationName,
+            @Value("${hub-delivery.kafka.dlt.replay.poll-timeout:1s}") Duration pollTimeout,
+            @Value("${hub-delivery.kafka.dlt.replay.send-timeout:30s}") Duration sendTimeout,
+            @Value("${hub-delivery.kafka.dlt.replay.lease-ttl:5m}") Duration leaseTtl) {
+        this(byteArrayKafkaTemplate, shardLeaseManager, eventSchemaRegistry, objectMapper, meterRegistry,
+                batchSize -> createConsumer(bootstrapServers, batchSize),
+                KafkaConfig.deadLetterTopic(applicationName), pollTimeout, sendTimeout, leaseTtl);
+    }
+
+    DeadLetterReplayService(
+            KafkaTemplate<String, byte[]> byteArrayKafkaTemplate,
+            ShardLeaseManager shardLeaseManager,
+            EventSchemaRegistry eventSchemaRegistry,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            IntFunction<Consumer<String, byte[]>> consumerFactory,
+            String deadLetterTopic,
+            Duration pollTimeout,
+            Duration sendTimeout,
+            Duration leaseTtl) {
+        if (pollTimeout.plus(sendTimeout).compareTo(leaseTtl) >= 0) {
+            throw new IllegalArgumentException(
+                    "hub-delivery.kafka.dlt.replay.poll-timeout + send-timeout은 lease-ttl보다 짧아야 합니다.");
+        }
+        this.byteArrayKafkaTemplate = byteArrayKafkaTemplate;
+        this.shardLeaseManager = shardLeaseManager;
+        this.eventSchemaRegistry = eventSchemaRegistry;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.consumerFactory = consumerFactory;
+        this.deadLetterTopic = deadLetterTopic;
+        this.pollTimeout = pollTimeout;
+        this.sendTimeout = sendTimeout;
+        this.leaseTtl = leaseTtl;
+    }
+
+    /**
+     * 재처리 작업 시작 (비동기)
+     *
+     * @throws DeadLetterReplayException 조건이 잘못되었거나 다른 작업이 실행 중인 경우
+     */
+    public synchronized DeadLetterReplayJob start(DeadLetterReplayCriteria criteria) {
+        validate(criteria);
+        // 리스는 같은 인스턴스가 다시 획득할 수 있으므로 로컬 실행 여부를 먼저 확인
+        if (hasRunningJob() || !shardLeaseManager.tryAcquire(LEASE_KEY, leaseTtl)) {
+            throw new DeadLetterReplayException(GlobalErrorCode.CONFLICT, "이미 실행 중인 DLT 재처리 작업이 있습니다.");
+        }
+
+        DeadLetterReplayJob job = new DeadLetterReplayJob(criteria);
+        jobs.put(job.getJobId(), job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RuntimeException e) {
+            shardLeaseManager.release(LEASE_KEY);
+            job.fail(e.getMessage());
+            throw e;
+        }
+
+        log.info("DLT 재처리 시작 - jobId: {}, topic: {}, criteria: {}", job.getJobId(), deadLetterTopic, criteria);
+        return job;
+    }
+
+    public DeadLetterReplayJob getJob(String jobId) {
+        DeadLetterReplayJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new DeadLetterReplayException(GlobalErrorCode.RESOURCE_NOT_FOUND,
+                    "DLT 재처리 작업을 찾을 수 없습니다. jobId: " + jobId);
+        }
+        return job;
+    }
+
+    /**
+     * 작업 취소 (진행 중인 배치의 전송 확인 후 중단)
+     */
+    public DeadLetterReplayJob cancel(String jobId) {
+        DeadLetterReplayJob job = getJob(jobId);
+        job.requestCancel();
+        return job;
+    }
+
+    private boolean hasRunningJob() {
+        synchronized (jobs) {
+            return jobs.values().stream().anyMatch(job -> job.getStatus() == DeadLetterReplayJob.Status.RUNNING);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        synchronized (jobs) {
+            jobs.values().forEach(DeadLetterReplayJob::requestCancel);
+        }
+        executor.shutdown();
+    }
+
+    // ===== 재처리 =====
+
+    void run(DeadLetterReplayJob job) {
+        DeadLetterReplayCriteria criteria = job.getCriteria();
+        try (Consumer<String, byte[]> consumer = consumerFactory.apply(criteria.batchSize())) {
+            List<TopicPartition> partitions = consumer.partitionsFor(deadLetterTopic).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+            consumer.assign(partitions);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            seekToStart(consumer, partitions, endOffsets, criteria.from());
+
+            long startedAt = System.nanoTime();
+            while (!job.isCancelRequested() && !reachedEnd(consumer, endOffsets)) {
+                if (!shardLeaseManager.renew(LEASE_KEY, leaseTtl)) {
+                    log.warn("DLT 재처리 리스 연장 실패, 작업 중단 - jobId: {}, replayed: {}",
+                            job.getJobId(), job.getReplayed());
+                    job.abort("리스 연장에 실패하여 중단되었습니다.");
+                    return;
+                }
+
+                List<CompletableFuture<?>> sends = new ArrayList<>();
+                for (ConsumerRecord<String, byte[]> record : consumer.poll(pollTimeout)) {
+                    TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    if (record.offset() >= endOffsets.get(partition)) {
+                        continue;
+                    }
+                    job.getScanned().incrementAndGet();
+
+                    String originalTopic = header(record, KafkaHeaders.DLT_ORIGINAL_TOPIC);
+                    if (originalTopic == null || record.value() == null || !matches(criteria, record)) {
+                        job.getSkipped().incrementAndGet();
+                        continue;
+                    }
+                    sends.add(byteArrayKafkaTemplate.send(toReplayRecord(job, originalTopic, record))
+                            .thenRun(() -> countReplayed(originalTopic)));
+                }
+
+                CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                        .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                job.getReplayed().addAndGet(sends.size());
+                throttle(startedAt, job.getReplayed().get(), criteria.ratePerSecond());
+            }
+
+            job.complete();
+            log.info("DLT 재처리 종료 - jobId: {}, status: {}, scanned: {}, replayed: {}, skipped: {}",
+                    job.getJobId(), job.getStatus(), job.getScanned(), job.getReplayed(), job.getSkipped());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("중단됨");
+        } catch (Exception e) {
+            log.error("DLT 재처리 실패 - jobId: {}, replayed: {}", job.getJobId(), job.getReplayed(), e);
+            job.fail(e.getMessage());
+        } finally {
+            shardLeaseManager.release(LEASE_KEY);
+        }
+    }
+
+    private void seekToStart(Consumer<String, byte[]> consumer, List<TopicPartition> partitions,
+                             Map<TopicPartition, Long> endOffsets, LocalDateTime from) {
+        if (from == null) {
+            consumer.seekToBeginning(partitions);
+            return;
+        }
+
+        Map<TopicPartition, Long> timestamps = new HashMap<>();
+        partitions.forEach(partition -> timestamps.put(partition, toEpochMillis(from)));
+        Map<TopicPartition, OffsetAndTimestamp> offsets = consumer.offsetsForTimes(timestamps);
+        for (TopicPartition partition : partitions) {
+            OffsetAndTimestamp offset = offsets.get(partition);
+            consumer.seek(partition, offset != null ? offset.offset() : endOffsets.get(partition));
+        }
+    }
+
+    private boolean reachedEnd(Consumer<String, byte[]> consumer, Map<TopicPartition, Long> endOffsets) {
+        return endOffsets.entrySet().stream()
+                .allMatch(entry -> consumer.position(entry.getKey()) >= entry.getValue());
+    }
+
+    private boolean matches(DeadLetterReplayCriteria criteria, ConsumerRecord<String, byte[]> record) {
+        if (criteria.from() != null && record.timestamp() < toEpochMillis(criteria.from())) {
+            return false;
+        }
+        if (criteria.to() != null && record.timestamp() >= toEpochMillis(criteria.to())) {
+            return false;
+        }
+        return criteria.eventTypes().isEmpty() || criteria.matchesEventType(resolveEventType(record.value()));
+    }
+
+    /**
+     * 페이로드의 eventType (JSON / 바이너리, 읽을 수 없으면 null)
+     */
+    String resolveEventType(byte[] value) {
+        try {
+            JsonNode payload = EventSchemaRegistry.isBinary(value)
+                    ? objectMapper.valueToTree(eventSchemaRegistry.decode(value))
+                    : objectMapper.readTree(value);
+            return Optional.ofNullable(payload.get("eventType"))
+                    .filter(JsonNode::isTextual)
+                    .map(JsonNode::asText)
+                    .orElse(null);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 원본 토픽 레코드 (DLT/역직렬화 예외 헤더 제거, 작업 ID 헤더 추가, 파티션은 키로 결정)
+     */
+    private ProducerRecord<String, byte[]> toReplayRecord(DeadLetterReplayJob job, String originalTopic,
+                                                         ConsumerRecord<String, byte[]> record) {
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            if (!header.key().startsWith(DLT_HEADER_PREFIX)
+                    && !header.key().equals(SerializationUtils.KEY_DESERIALIZER_EXCEPTION_HEADER)
+                    && !header.key().equals(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER)) {
+                headers.add(header);
+            }
+        }
+        headers.add(REPLAY_JOB_HEADER, job.getJobId().getBytes(StandardCharsets.UTF_8));
+        return new ProducerRecord<>(originalTopic, null, record.key(), record.value(), headers);
+    }
+
+    private void throttle(long startedAt, long replayed, int ratePerSecond) throws InterruptedException {
+        long expectedNanos = TimeUnit.SECONDS.toNanos(replayed) / ratePerSecond;
+        long aheadNanos = expectedNanos - (System.nanoTime() - startedAt);
+        if (aheadNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(aheadNanos);
+        }
+    }
+
+    private void validate(DeadLetterReplayCriteria criteria) {
+        if (criteria.from() != null && criteria.to() != null && !criteria.from().isBefore(criteria.to())) {
+            throw new DeadLetterReplayException(GlobalErrorCode.INVALID_INPUT_VALUE, "from은 to보다 이전이어야 합니다.");
+        }
+        if (criteria.ratePerSecond() <= 0) {
+            throw new DeadLetterReplayException(GlobalErrorCode.INVALID_INPUT_VALUE, "ratePerSecond는 1 이상이어야 합니다.");
+        }
+        if (criteria.batchSize() <= 0 || criteria.batchSize() > MAX_BATCH_SIZE) {
+            throw new DeadLetterReplayException(GlobalErrorCode.INVALID_INPUT_VALUE,
+                    "batchSize는 1 ~ " + MAX_BATCH_SIZE + " 사이여야 합니다.");
+        }
+        // 리스는 배치마다 연장하므로 배치 하나의 최대 소요 시간이 리스 유지 시간보다 짧아야 함
+        Duration maxBatchDuration = Duration.ofMillis(
+                        TimeUnit.SECONDS.toMillis(criteria.batchSize()) / criteria.ratePerSecond())
+                .plus(pollTimeout)
+                .plus(sendTimeout);
+        if (maxBatchDuration.compareTo(leaseTtl) >= 0) {
+            throw new DeadLetterReplayException(GlobalErrorCode.INVALID_INPUT_VALUE,
+                    String.format("batchSize / ratePerSecond가 너무 큽니다. 배치 하나의 최대 소요 시간(%ds)이 "
+                                    + "리스 유지 시간(%ds)보다 짧아야 합니다.",
+                            maxBatchDuration.toSeconds(), leaseTtl.toSeconds()));
+        }
+    }
+
+    private void countReplayed(String topic) {
+        Counter.builder(DLT_REPLAYED)
+                .description("DLT에서 원본 토픽으로 재발행한 레코드 수")
+                .tag("topic", topic)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String header(ConsumerRecord<String, byte[]> record, String key) {
+        Header header = record.headers().lastHeader(key);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static Consumer<String, byte[]> createConsumer(String bootstrapServers, int batchSize) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.CLIENT_ID_CONFIG, "dlt-replay");
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchSize);
+        return new KafkaConsumer<>(configProps, new StringDeserializer(), new ByteArrayDeserializer());
+    }
+}
@@ -0,0 +1,47 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 처리 완료 이벤트 일괄 기록 Repository
+ *
+ * 한 번의 JDBC 배치로 INSERT하며, 이미 있는 (consumer, event_id)는
+ * ON CONFLICT DO NOTHING으로 건너뛰어 인스턴스 간 경쟁 시에도 PK 위반 예외가 나지 않습니다.
+ * 호출 측 트랜잭션(같은 DataSource 커넥션)에 참여합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessedEventBatchRepository {
+
+    private static final String INSERT_IGNORE_SQL =
+            "insert into p_processed_event (consumer, event_id, processed_at) values (?, ?, ?) " +
+            "on conflict do nothing";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 처리 완료 일괄 기록 (이미 있으면 무시)
+     *
+     * @return 새로 기록한 건수
+     */
+    public int insertIgnoringDuplicates(String consumer, List<String> eventIds, LocalDateTime processedAt) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        Timestamp timestamp = Timestamp.valueOf(processedAt);
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, eventIds, eventIds.size(), (ps, eventId) -> {
+            ps.setString(1, consumer);
+            ps.setString(2, eventId);
+            ps.setTimestamp(3, timestamp);
+        });
+        // 드라이버가 건수를 알려주지 않으면(SUCCESS_NO_INFO, 음수) 0으로 집계
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).map(count -> Math.max(count, 0)).sum();
+    }
+}
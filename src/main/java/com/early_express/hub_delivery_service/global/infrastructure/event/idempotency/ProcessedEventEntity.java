@@ -0,0 +1,40 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리 완료 이벤트 Entity
+ *
+ * 소비자별 이벤트 ID(BaseEvent.eventId) 기준 멱등성 체크용 기록입니다.
+ * processed_at 기준으로 TTL이 지나면 주기적으로 삭제됩니다.
+ */
+@Entity
+@Table(name = "p_processed_event", indexes = {
+        @Index(name = "idx_processed_event_processed_at", columnList = "processed_at")
+})
+@IdClass(ProcessedEventId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProcessedEventEntity {
+
+    @Id
+    @Column(name = "consumer", length = 100)
+    private String consumer;
+
+    @Id
+    @Column(name = "event_id", length = 100)
+    private String eventId;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+}
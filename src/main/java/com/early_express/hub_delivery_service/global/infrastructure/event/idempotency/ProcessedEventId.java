@@ -0,0 +1,24 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.idempotency;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 처리 완료 이벤트 복합 키 (소비자, 이벤트 ID)
+ *
+ * 같은 이벤트라도 소비자(컨슈머 그룹)마다 따로 처리 여부를 기록합니다.
+ */
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ProcessedEventId implements Serializable {
+
+    private String consumer;
+    private String eventId;
+}
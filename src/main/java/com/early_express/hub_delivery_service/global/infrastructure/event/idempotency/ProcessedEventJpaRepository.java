@@ -0,0 +1,37 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 처리 완료 이벤트 JPA Repository
+ *
+ * 기록은 ProcessedEventBatchRepository(ON CONFLICT DO NOTHING 일괄 INSERT)로 처리합니다.
+ */
+public interface ProcessedEventJpaRepository extends JpaRepository<ProcessedEventEntity, ProcessedEventId> {
+
+    /**
+     * 주어진 ID 중 해당 소비자가 처리 완료한 이벤트 ID 조회
+     */
+    @Query("select e.eventId from ProcessedEventEntity e " +
+            "where e.consumer = :consumer and e.eventId in :eventIds")
+    List<String> findProcessedIds(@Param("consumer") String consumer,
+                                  @Param("eventIds") Collection<String> eventIds);
+
+    /**
+     * 보관 기간이 지난 기록 삭제
+     *
+     * @return 삭제 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from ProcessedEventEntity e where e.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,229 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.idempotency;
+
+import com.early_express.hub_delivery_service.global.infrastructure.lease.ShardLeaseManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 처리 완료 이벤트 저장소 (소비자별 eventId 기준 멱등성 체크)
+ *
+ * 리밸런스 등으로 재전달된 이벤트를 건너뛰기 위해 소비자별로 처리 완료한 eventId를 기록합니다.
+ * - 메모리: 최근 처리한 (소비자, eventId) LRU (재전달은 대부분 직전 배치이므로 DB 조회 없이 판정)
+ * - DB(p_processed_event, PK: consumer + event_id): 인스턴스 간 공유, ttl 이후 주기적으로 삭제
+ *
+ * 조회는 메모리에 없는 ID만 모아 한 번의 IN 쿼리로 처리하고,
+ * 기록은 ON CONFLICT DO NOTHING 일괄 INSERT 한 번으로 처리합니다. (다른 인스턴스가 먼저 기록해도 예외 없음)
+ * 호출 측 트랜잭션 안에서 기록하면 롤백 시 기록도 함께 취소되며, 메모리에는 커밋 후에만 반영됩니다.
+ *
+ * eventId가 없는 이벤트(이전 버전 발행자)는 추적하지 않고 항상 처리 대상으로 봅니다.
+ */
+@Slf4j
+@Component
+public class ProcessedEventStore {
+
+    public static final String EVENT_CONSUMED = "hub_delivery.event.consumed";
+    public static final String DEDUP_CACHE_SIZE = "hub_delivery.event.dedup.cache.size";
+
+    public static final String RESULT_NEW = "new";
+    public static final String RESULT_DUPLICATE = "duplicate";
+    public static final String RESULT_UNTRACKED = "untracked";
+
+    private static final String PURGE_LEASE_KEY = "processed-event-purge";
+
+    private final ProcessedEventJpaRepository processedEventJpaRepository;
+    private final ProcessedEventBatchRepository processedEventBatchRepository;
+    private final ShardLeaseManager shardLeaseManager;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final Duration purgeLeaseTtl;
+    private final boolean purgeEnabled;
+
+    // access-order LinkedHashMap: 가장 오래 조회되지 않은 항목부터 제거
+    private final Map<ProcessedEventId, Boolean> recentEventIds;
+
+    public ProcessedEventStore(
+            ProcessedEventJpaRepository processedEventJpaRepository,
+            ProcessedEventBatchRepository processedEventBatchRepository,
+            ShardLeaseManager shardLeaseManager,
+            MeterRegistry meterRegistry,
+            @Value("${hub-delivery.idempotency.cache-size:10000}") int cacheSize,
+            @Value("${hub-delivery.idempotency.ttl:7d}") Duration ttl,
+            @Value("${hub-delivery.idempotency.purge.lease-ttl:10m}") Duration purgeLeaseTtl,
+            @Value("${hub-delivery.idempotency.purge.enabled:true}") boolean purgeEnabled) {
+        this.processedEventJpaRepository = processedEventJpaRepository;
+        this.processedEventBatchRepository = processedEventBatchRepository;
+        this.shardLeaseManager = shardLeaseManager;
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        this.purgeLeaseTtl = purgeLeaseTtl;
+        this.purgeEnabled = purgeEnabled;
+        this.recentEventIds = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ProcessedEventId, Boolean> eldest) {
+                return size() > cacheSize;
+            }
+        });
+
+        Gauge.builder(DEDUP_CACHE_SIZE, recentEventIds, Map::size)
+                .description("멱등성 체크 메모리 캐시 (소비자, eventId) 수")
+                .register(meterRegistry);
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 처리 완료 여부 조회 (메모리 → DB)
+     *
+     * @param consumer 소비자명 (기록 구분, 메트릭 태그)
+     */
+    public boolean isProcessed(String consumer, String eventId) {
+        if (eventId == null) {
+            recordConsumed(consumer, RESULT_UNTRACKED, 1);
+            return false;
+        }
+        return findProcessed(consumer, List.of(eventId)).contains(eventId);
+    }
+
+    /**
+     * 처리 완료된 eventId 일괄 조회
+     *
+     * 메모리에 없는 ID만 한 번의 IN 쿼리로 조회합니다.
+     *
+     * @param consumer 소비자명 (기록 구분, 메트릭 태그)
+     * @return 해당 소비자가 이미 처리한 eventId
+     */
+    public Set<String> findProcessed(String consumer, Collection<String> eventIds) {
+        Set<String> processed = new HashSet<>();
+        List<String> unknown = new ArrayList<>(eventIds.size());
+        int untracked = 0;
+
+        for (String eventId : eventIds) {
+            if (eventId == null) {
+                untracked++;
+            } else if (recentEventIds.containsKey(new ProcessedEventId(consumer, eventId))) {
+                processed.add(eventId);
+            } else {
+                unknown.add(eventId);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            for (String eventId : processedEventJpaRepository.findProcessedIds(consumer, unknown)) {
+                processed.add(eventId);
+                recentEventIds.put(new ProcessedEventId(consumer, eventId), Boolean.TRUE);
+            }
+        }
+
+        recordConsumed(consumer, RESULT_DUPLICATE, processed.size());
+        recordConsumed(consumer, RESULT_NEW, eventIds.size() - processed.size() - untracked);
+        recordConsumed(consumer, RESULT_UNTRACKED, untracked);
+        return processed;
+    }
+
+    // ===== 기록 =====
+
+    /**
+     * 처리 완료 기록 (처리 후 한 번의 배치 INSERT, 이미 있는 ID는 무시)
+     *
+     * 호출 측 트랜잭션에 참여하므로 처리와 같은 트랜잭션에서 호출하면 롤백 시 기록도 남지 않습니다.
+     */
+    @Transactional
+    public void markProcessed(String consumer, Collection<String> eventIds) {
+        List<ProcessedEventId> marked = new ArrayList<>(eventIds.size());
+        Set<String> pending = new LinkedHashSet<>();
+
+        for (String eventId : eventIds) {
+            if (eventId == null) {
+                continue;
+            }
+            ProcessedEventId id = new ProcessedEventId(consumer, eventId);
+            if (!recentEventIds.containsKey(id) && pending.add(eventId)) {
+                marked.add(id);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        processedEventBatchRepository.insertIgnoringDuplicates(consumer, List.copyOf(pending), LocalDateTime.now());
+        rememberAfterCommit(marked);
+    }
+
+    // ===== 정리 =====
+
+    /**
+     * 보관 기간(ttl)이 지난 기록 삭제
+     *
+     * 리스를 획득한 인스턴스 하나만 실행합니다.
+     */
+    @Scheduled(
+            initialDelayString = "${hub-delivery.idempotency.purge.initial-delay:PT5M}",
+            fixedDelayString = "${hub-delivery.idempotency.purge.interval:PT1H}")
+    public void purgeExpired() {
+        if (!purgeEnabled || !shardLeaseManager.tryAcquire(PURGE_LEASE_KEY, purgeLeaseTtl)) {
+            return;
+        }
+        try {
+            int deleted = processedEventJpaRepository.deleteProcessedBefore(LocalDateTime.now().minus(ttl));
+            log.info("처리 완료 이벤트 기록 정리 - deleted: {}, ttl: {}", deleted, ttl);
+        } catch (Exception e) {
+            log.error("처리 완료 이벤트 기록 정리 실패", e);
+        } finally {
+            shardLeaseManager.release(PURGE_LEASE_KEY);
+        }
+    }
+
+    public int getCacheSize() {
+        return recentEventIds.size();
+    }
+
+    // ===== Private Helper Methods =====
+
+    /**
+     * 메모리 캐시 반영 (트랜잭션이 있으면 커밋 후)
+     */
+    private void rememberAfterCommit(List<ProcessedEventId> ids) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.forEach(id -> recentEventIds.put(id, Boolean.TRUE));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(id -> recentEventIds.put(id, Boolean.TRUE));
+            }
+        });
+    }
+
+    private void recordConsumed(String consumer, String result, int count) {
+        if (count <= 0) {
+            return;
+        }
+        Counter.builder(EVENT_CONSUMED)
+                .description("소비 이벤트 수 (new: 처리, duplicate: 중복으로 건너뜀, untracked: eventId 없음)")
+                .tag("consumer", consumer)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(count);
+    }
+}
@@ -0,0 +1,60 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 아웃박스 Entity
+ *
+ * 발행 큐가 가득 차거나 종료 시 전송하지 못한 이벤트를 보관합니다.
+ * 릴레이가 id 순서로 재발행한 뒤 삭제합니다.
+ */
+@Entity
+@Table(name = "p_event_outbox", indexes = {
+        @Index(name = "idx_event_outbox_topic_key", columnList = "topic, message_key")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "topic", nullable = false, length = 200)
+    private String topic;
+
+    @Column(name = "message_key", length = 200)
+    private String messageKey;
+
+    /** 이벤트 클래스 (재발행 시 원래 타입으로 복원, tombstone이면 null) */
+    @Column(name = "event_type", length = 300)
+    private String eventType;
+
+    /** 이벤트 JSON (null이면 tombstone) */
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static EventOutboxEntity of(String topic, String messageKey, String eventType, String payload) {
+        EventOutboxEntity entity = new EventOutboxEntity();
+        entity.topic = topic;
+        entity.messageKey = messageKey;
+        entity.eventType = eventType;
+        entity.payload = payload;
+        entity.createdAt = LocalDateTime.now();
+        return entity;
+    }
+}
@@ -0,0 +1,27 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+/**
+ * 이벤트 아웃박스 JPA Repository
+ */
+public interface EventOutboxJpaRepository extends JpaRepository<EventOutboxEntity, Long> {
+
+    /**
+     * 오래된 순 조회 (재발행 순서 유지)
+     */
+    List<EventOutboxEntity> findByOrderByIdAsc(Pageable pageable);
+
+    boolean existsByTopicAndMessageKey(String topic, String messageKey);
+
+    /**
+     * 보관 이벤트가 남아 있는 토픽/키 (키가 없는 이벤트 제외)
+     */
+    @Query("select distinct new com.early_express.hub_delivery_service.global.infrastructure.event.outbox.OutboxKey(e.topic, e.messageKey) "
+            + "from EventOutboxEntity e where e.messageKey is not null")
+    List<OutboxKey> findPendingKeys();
+}
@@ -0,0 +1,179 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.outbox;
+
+import com.early_express.hub_delivery_service.global.infrastructure.lease.ShardLeaseManager;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 아웃박스
+ *
+ * 발행 큐에 넣지 못했거나(backpressure=BLOCK 대기 초과/SPILL) 종료 시 전송하지 못한 이벤트를 DB에 보관하고,
+ * 리스를 획득한 인스턴스 하나가 주기적으로 오래된 순서대로 재발행합니다.
+ * 리스는 건마다 연장하며, 연장에 실패하면(만료 후 다른 인스턴스가 이어받음) 그 자리에서 중단합니다.
+ *
+ * 재발행은 전송 확인 후 삭제하므로 at-least-once이며, 구독 측은 eventId로 중복을 걸러야 합니다.
+ * 보관 시 JSON과 이벤트 클래스를 함께 저장하고, 재발행 시 원래 타입으로 복원해 보냅니다.
+ * (타입 헤더/바이너리 인코딩이 직접 발행과 같음)
+ *
+ * 같은 토픽/키의 이벤트 순서는 AsyncEventPublisher가 보관 이벤트가 남아 있는 키의 새 이벤트를
+ * 아웃박스로 보내 유지합니다. (hasPending, 보관한 인스턴스 안에서만 유지)
+ */
+@Slf4j
+@Component
+public class EventOutboxStore {
+
+    public static final String OUTBOX_RELAYED = "hub_delivery.kafka.outbox.relayed";
+
+    private static final String RELAY_LEASE_KEY = "event-outbox-relay";
+
+    private final EventOutboxJpaRepository eventOutboxJpaRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final ShardLeaseManager shardLeaseManager;
+    private final Counter relayedCounter;
+    private final boolean relayEnabled;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Duration leaseTtl;
+
+    public EventOutboxStore(
+            EventOutboxJpaRepository eventOutboxJpaRepository,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            ObjectMapper objectMapper,
+            ShardLeaseManager shardLeaseManager,
+            MeterRegistry meterRegistry,
+            @Value("${hub-delivery.kafka.outbox.relay.enabled:true}") boolean relayEnabled,
+            @Value("${hub-delivery.kafka.outbox.relay.batch-size:200}") int batchSize,
+            @Value("${hub-delivery.kafka.outbox.relay.send-timeout:10s}") Duration sendTimeout,
+            @Value("${hub-delivery.kafka.outbox.relay.lease-ttl:1m}") Duration leaseTtl) {
+        this.eventOutboxJpaRepository = eventOutboxJpaRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.shardLeaseManager = shardLeaseManager;
+        this.relayEnabled = relayEnabled;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.leaseTtl = leaseTtl;
+        if (sendTimeout.compareTo(leaseTtl) >= 0) {
+            throw new IllegalArgumentException(
+                    "아웃박스 재발행 send-timeout은 lease-ttl보다 짧아야 합니다. sendTimeout: " + sendTimeout + ", leaseTtl: " + leaseTtl);
+        }
+        this.relayedCounter = Counter.builder(OUTBOX_RELAYED)
+                .description("아웃박스에서 재발행한 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 보관 (호출 측 트랜잭션과 분리, 커밋 이후 단계에서도 호출 가능)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void save(String topic, String key, Object event) {
+        String eventType = event != null ? event.getClass().getName() : null;
+        eventOutboxJpaRepository.save(EventOutboxEntity.of(topic, key, eventType, toJson(event)));
+    }
+
+    /**
+     * 해당 토픽/키의 보관 이벤트가 남아 있는지
+     */
+    @Transactional(readOnly = true)
+    public boolean hasPending(String topic, String key) {
+        return eventOutboxJpaRepository.existsByTopicAndMessageKey(topic, key);
+    }
+
+    /**
+     * 보관 이벤트가 남아 있는 토픽/키 (기동 시 키 순서 유지 대상 복원)
+     */
+    @Transactional(readOnly = true)
+    public List<OutboxKey> findPendingKeys() {
+        return eventOutboxJpaRepository.findPendingKeys();
+    }
+
+    /**
+     * 보관 이벤트 재발행
+     *
+     * 전송 실패 시 해당 이벤트부터 다음 주기에 다시 시도합니다. (순서 유지)
+ * 한 건의 전송 대기(send-timeout)가 리스 유지 시간 안에 끝나도록 건마다 리스를 연장합니다.
+     */
+    @Scheduled(
+            initialDelayString = "${hub-delivery.kafka.outbox.relay.initial-delay:PT30S}",
+            fixedDelayString = "${hub-delivery.kafka.outbox.relay.interval:PT10S}")
+    public void relay() {
+        if (!relayEnabled || eventOutboxJpaRepository.findByOrderByIdAsc(PageRequest.of(0, 1)).isEmpty()) {
+            return;
+        }
+        if (!shardLeaseManager.tryAcquire(RELAY_LEASE_KEY, leaseTtl)) {
+            return;
+        }
+
+        int relayed = 0;
+        try {
+            List<EventOutboxEntity> batch = eventOutboxJpaRepository.findByOrderByIdAsc(PageRequest.of(0, batchSize));
+            for (EventOutboxEntity entry : batch) {
+                // 건마다 리스 연장 (전송 대기가 길어져 다른 인스턴스가 이어받았으면 중복 전송하지 않고 중단)
+                if (!shardLeaseManager.renew(RELAY_LEASE_KEY, leaseTtl)) {
+                    log.warn("아웃박스 재발행 리스 연장 실패, 중단 - relayed: {}", relayed);
+                    return;
+                }
+                Object payload = toEvent(entry);
+                kafkaTemplate.send(entry.getTopic(), entry.getMessageKey(), payload)
+                        .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                eventOutboxJpaRepository.deleteById(entry.getId());
+                relayedCounter.increment();
+                relayed++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("아웃박스 재발행 중단 - relayed: {}", relayed, e);
+        } finally {
+            shardLeaseManager.release(RELAY_LEASE_KEY);
+        }
+
+        if (relayed > 0) {
+            log.info("아웃박스 재발행 - relayed: {}", relayed);
+        }
+    }
+
+    /**
+     * 보관한 JSON을 원래 이벤트 타입으로 복원 (타입 정보가 없거나 클래스가 사라졌으면 JSON 트리)
+     */
+    private Object toEvent(EventOutboxEntity entry) throws JsonProcessingException {
+        if (entry.getPayload() == null) {
+            return null;
+        }
+        if (entry.getEventType() != null) {
+            try {
+                return objectMapper.readValue(entry.getPayload(), Class.forName(entry.getEventType()));
+            } catch (ClassNotFoundException e) {
+                log.warn("아웃박스 이벤트 타입을 찾을 수 없어 JSON으로 재발행 - id: {}, type: {}",
+                        entry.getId(), entry.getEventType());
+            }
+        }
+        return objectMapper.readTree(entry.getPayload());
+    }
+
+    private String toJson(Object event) {
+        if (event == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 직렬화 실패 - type: " + event.getClass().getName(), e);
+        }
+    }
+}
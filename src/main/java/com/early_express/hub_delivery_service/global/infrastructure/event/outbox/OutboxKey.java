@@ -0,0 +1,7 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.outbox;
+
+/**
+ * 아웃박스 보관 이벤트의 토픽/키 (키 순서 유지 판단 단위)
+ */
+public record OutboxKey(String topic, String key) {
+}
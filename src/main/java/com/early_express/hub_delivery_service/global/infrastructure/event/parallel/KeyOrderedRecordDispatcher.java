@@ -0,0 +1,207 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.parallel;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.BackOffExecution;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 순서 보장 병렬 레코드 처리
+ *
+ * 같은 키(orderId / hubDeliveryId)의 레코드는 도착 순서대로 하나씩, 다른 키의 레코드는 동시에 처리합니다.
+ * 파티션 하나의 레코드도 키별로 병렬 처리되므로 처리량이 파티션 수에 묶이지 않습니다.
+ *
+ * 레코드마다 처리가 끝나면 Acknowledgment를 호출하며, 컨테이너(asyncAcks)는 앞선 오프셋이 모두 확인된
+ * 지점까지만 커밋합니다. 재시작/리밸런스 시에는 커밋 이후 레코드가 재전달되므로 처리는 멱등해야 합니다.
+ *
+ * - 동시 처리 건수가 max-in-flight에 도달하면 리스너 스레드(poll 루프)가 대기 (backpressure)
+ * - 실패 시 같은 키의 다음 레코드를 막은 채 백오프 재시도, 소진되면 DLT 적재 후 확인
+ *   (DLT 적재도 실패하면 확인하지 않아 해당 오프셋부터 재전달)
+ * - 역직렬화에 실패한 레코드는 재시도 없이 DLT 적재 후 확인
+ * - 키가 없는 레코드는 순서 없이 바로 처리
+ * - 처리 중 예상하지 못한 예외(Error 포함)가 나도 허용량은 반환하고 같은 키의 다음 레코드는 계속 처리
+ *   (해당 레코드는 확인하지 않아 재시작/리밸런스 시 재전달)
+ *
+ * @see com.early_express.hub_delivery_service.global.config.KafkaConsumerConfig#PARALLEL_LISTENER_CONTAINER_FACTORY
+ */
+@Slf4j
+@Component
+public class KeyOrderedRecordDispatcher {
+
+    public static final String IN_FLIGHT = "hub_delivery.kafka.parallel.in_flight";
+    public static final String ACTIVE_KEYS = "hub_delivery.kafka.parallel.active_keys";
+
+    private static final LogAccessor LOG_ACCESSOR = new LogAccessor(KeyOrderedRecordDispatcher.class);
+
+    private final ConsumerRecordRecoverer deadLetterRecoverer;
+    private final BackOff retryBackOff;
+    private final int maxInFlight;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 키별 마지막 작업 (같은 키의 다음 작업은 이 작업 완료 후 실행)
+    private final Map<String, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    public KeyOrderedRecordDispatcher(
+            ConsumerRecordRecoverer deadLetterRecoverer,
+            BackOff kafkaRetryBackOff,
+            MeterRegistry meterRegistry,
+            @Value("${hub-delivery.kafka.parallel.max-in-flight:256}") int maxInFlight) {
+        this.deadLetterRecoverer = deadLetterRecoverer;
+        this.retryBackOff = kafkaRetryBackOff;
+        this.maxInFlight = maxInFlight;
+        this.permits = new Semaphore(maxInFlight);
+
+        Gauge.builder(IN_FLIGHT, this, KeyOrderedRecordDispatcher::getInFlight)
+                .description("처리 중이거나 키 순서를 기다리는 레코드 수")
+                .register(meterRegistry);
+        Gauge.builder(ACTIVE_KEYS, tails, Map::size)
+                .description("처리 중인 레코드가 있는 키 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 레코드 처리 예약 (리스너 스레드에서 호출)
+     *
+     * @param handler 레코드 처리 (예외 시 재시도 후 DLT)
+     */
+    public <V> void dispatch(ConsumerRecord<String, V> record, Acknowledgment acknowledgment,
+                             RecordHandler<V> handler) throws InterruptedException {
+        permits.acquire();
+
+        Runnable task = () -> {
+            try {
+                if (process(record, handler)) {
+                    acknowledgment.acknowledge();
+                }
+            } catch (Throwable t) {
+                log.error("레코드 처리 중 예상하지 못한 오류, 오프셋 미확인 - topic: {}, partition: {}, offset: {}, key: {}",
+                        record.topic(), record.partition(), record.offset(), record.key(), t);
+            } finally {
+                permits.release();
+            }
+        };
+
+        String key = record.key();
+        if (key == null) {
+            submit(record, task);
+            return;
+        }
+
+        // 앞선 작업의 결과와 관계없이 다음 작업 실행 (예외로 끝난 단계가 뒤 작업을 건너뛰지 않도록)
+        CompletableFuture<Void> next = tails.compute(key, (k, tail) -> tail == null
+                ? submit(record, task)
+                : tail.handle((result, ex) -> null).thenCompose(ignored -> submit(record, task)));
+        next.whenComplete((result, ex) -> tails.remove(key, next));
+    }
+
+    public int getInFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("키 순서 병렬 처리 종료 대기 초과 - inFlight: {}", getInFlight());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ===== Private Helper Methods =====
+
+    /**
+     * 작업 실행 예약 (종료 중이라 거부되면 처리/확인 없이 허용량만 반환, 재시작 후 재전달)
+     */
+    private CompletableFuture<Void> submit(ConsumerRecord<?, ?> record, Runnable task) {
+        try {
+            return CompletableFuture.runAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            log.warn("종료 중이라 레코드 처리 생략, 오프셋 미확인 - topic: {}, partition: {}, offset: {}",
+                    record.topic(), record.partition(), record.offset());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * @return 확인(커밋) 가능 여부 (처리 성공 또는 DLT 적재 성공)
+     */
+    private <V> boolean process(ConsumerRecord<String, V> record, RecordHandler<V> handler) {
+        // 역직렬화 실패는 재시도해도 같으므로 바로 DLT (원본 바이트 그대로 적재)
+        DeserializationException deserializationFailure = SerializationUtils.getExceptionFromHeader(
+                record, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+        if (deserializationFailure != null) {
+            return recover(record, deserializationFailure);
+        }
+
+        BackOffExecution backOff = retryBackOff.start();
+        while (true) {
+            try {
+                handler.handle(record);
+                return true;
+            } catch (Exception e) {
+                long waitMillis = backOff.nextBackOff();
+                if (waitMillis == BackOffExecution.STOP || !sleep(waitMillis)) {
+                    return recover(record, e);
+                }
+                log.warn("레코드 처리 실패, 재시도 - topic: {}, key: {}, offset: {}, wait: {}ms",
+                        record.topic(), record.key(), record.offset(), waitMillis);
+            }
+        }
+    }
+
+    private boolean recover(ConsumerRecord<?, ?> record, Exception cause) {
+        try {
+            deadLetterRecoverer.accept(record, cause);
+            log.error("레코드 처리 재시도 소진, DLT 적재 - topic: {}, key: {}, offset: {}",
+                    record.topic(), record.key(), record.offset(), cause);
+            return true;
+        } catch (Exception e) {
+            // 확인하지 않으면 이 오프셋 이후는 커밋되지 않으므로 재시작/리밸런스 시 재전달됨
+            log.error("DLT 적재 실패, 오프셋 미확인 - topic: {}, partition: {}, offset: {}, key: {}",
+                    record.topic(), record.partition(), record.offset(), record.key(), e);
+            return false;
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 레코드 처리
+     */
+    @FunctionalInterface
+    public interface RecordHandler<V> {
+        void handle(ConsumerRecord<String, V> record) throws Exception;
+    }
+}
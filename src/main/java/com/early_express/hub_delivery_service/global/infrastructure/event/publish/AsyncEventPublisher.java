@@ -0,0 +1,321 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.publish;
+
+import com.early_express.hub_delivery_service.global.infrastructure.event.outbox.EventOutboxStore;
+import com.early_express.hub_delivery_service.global.infrastructure.event.outbox.OutboxKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * 비동기 이벤트 발행기
+ *
+ * 호출 스레드는 제한된 크기의 큐에 이벤트를 넣고 바로 반환하며, 전용 스레드가 KafkaTemplate으로 전송합니다.
+ * 메타데이터 조회 지연 등으로 send가 막혀도 요청 스레드는 막히지 않고 큐만 찹니다.
+ * 큐가 가득 차면 backpressure 정책(BLOCK / SHED / SPILL)에 따라 처리합니다.
+ * (BLOCK은 block-timeout 동안 기다린 뒤에도 자리가 없으면 아웃박스에 보관)
+ *
+ * 콜백은 전송 완료(성공/실패) 또는 큐 거부 시 한 번 호출됩니다. 아웃박스에 보관된 이벤트는 호출되지 않습니다.
+ *
+ * 종료 시(graceful shutdown 이후 단계) 새 이벤트는 호출 스레드에서 바로 전송하고,
+ * 큐에 남은 이벤트는 drain-timeout 동안 전송한 뒤 남은 것은 아웃박스에 보관합니다.
+ *
+ * 키 순서 유지: 아웃박스에 보관한 이벤트가 남아 있는 토픽/키의 새 이벤트는 바로 보내지 않고
+ * 아웃박스 뒤에 이어 보관합니다. (릴레이가 id 순으로 보내므로 압축 토픽에서도 최신 값이 마지막)
+ * 보관 이벤트가 모두 재발행되면 다시 바로 전송하며, 기동 시 남아 있는 키를 복원합니다.
+ * 보관 키는 인스턴스 메모리에만 있으므로, 이 순서는 보관한 인스턴스에서 발행한 이벤트끼리만 유지됩니다.
+ * (다른 인스턴스는 재기동 전까지 보관 키를 모르고 바로 전송)
+ */
+@Slf4j
+@Component
+public class AsyncEventPublisher implements SmartLifecycle {
+
+    public static final String QUEUE_SIZE = "hub_delivery.kafka.publish.queue.size";
+    public static final String PUBLISH_OVERFLOW = "hub_delivery.kafka.publish.overflow";
+
+    static final String ACTION_TIMEOUT = "timeout";  // BLOCK 대기 시간 초과로 아웃박스 보관
+    static final String ACTION_SHED = "shed";
+    static final String ACTION_SPILLED = "spilled";
+    static final String ACTION_KEY_ORDER = "key_order";  // 앞선 이벤트가 아웃박스에 있어 뒤에 이어 보관
+
+    // 보관 키의 아웃박스 잔여 여부 재확인 간격 (그 사이 이벤트는 조회 없이 아웃박스로)
+    private static final long SPILLED_KEY_RECHECK_MS = 1000;
+    // 웹 서버 graceful shutdown / Kafka 리스너 종료 이후에 종료 (phase가 낮을수록 나중에 종료)
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final EventOutboxStore eventOutboxStore;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<PendingEvent> queue;
+    private final int queueCapacity;
+    private final BackpressurePolicy backpressure;
+    private final Duration blockTimeout;
+    private final Duration drainTimeout;
+
+    // 아웃박스에 보관 이벤트가 남아 있는 토픽/키 → 다음 재확인 시각
+    private final Map<OutboxKey, Long> spilledKeys = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    public AsyncEventPublisher(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            EventOutboxStore eventOutboxStore,
+            MeterRegistry meterRegistry,
+            @Value("${hub-delivery.kafka.async-publisher.queue-capacity:10000}") int queueCapacity,
+            @Value("${hub-delivery.kafka.async-publisher.backpressure:BLOCK}") BackpressurePolicy backpressure,
+            @Value("${hub-delivery.kafka.async-publisher.block-timeout:50ms}") Duration blockTimeout,
+            @Value("${hub-delivery.kafka.async-publisher.drain-timeout:20s}") Duration drainTimeout) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.eventOutboxStore = eventOutboxStore;
+        this.meterRegistry = meterRegistry;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.queueCapacity = queueCapacity;
+        this.backpressure = backpressure;
+        this.blockTimeout = blockTimeout;
+        this.drainTimeout = drainTimeout;
+
+        Gauge.builder(QUEUE_SIZE, queue, BlockingQueue::size)
+                .description("전송 대기 중인 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 발행
+     *
+     * @param callback 전송 결과 콜백 (성공 시 예외 null, Kafka 프로듀서 I/O 스레드 또는 호출 스레드에서 실행)
+     */
+    public void publish(String topic, String key, Object event,
+                        BiConsumer<SendResult<String, Object>, Throwable> callback) {
+        PendingEvent pending = new PendingEvent(topic, key, event, callback);
+
+        // 앞선 이벤트가 아웃박스에 남아 있으면 순서 유지를 위해 뒤에 이어 보관
+        if (followsSpilled(pending)) {
+            spill(pending, ACTION_KEY_ORDER);
+            return;
+        }
+
+        // 시작 전/종료 후에는 큐를 거치지 않고 바로 전송
+        if (!running) {
+            dispatch(pending);
+            return;
+        }
+
+        if (!offer(pending)) {
+            overflow(pending);
+        } else if (!running && queue.remove(pending)) {
+            // 큐에 넣는 사이 종료가 시작되어 drain에서 빠졌을 수 있으므로 직접 전송
+            dispatch(pending);
+        }
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    // ===== 수명 주기 =====
+
+    @Override
+    public void start() {
+        restoreSpilledKeys();
+
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "event-publisher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+
+        log.info("비동기 이벤트 발행 시작 - capacity: {}, backpressure: {}, blockTimeout: {}",
+                queueCapacity, backpressure, blockTimeout);
+    }
+
+    /**
+     * 큐에 남은 이벤트 전송 후 종료 (drain-timeout 초과분은 아웃박스 보관)
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (dispatcher == null) {
+            return;
+        }
+
+        int pending = queue.size();
+        try {
+            dispatcher.join(drainTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 큐를 먼저 비운 뒤 중단해야 전송 스레드가 남은 이벤트를 다시 꺼내지 않음
+        List<PendingEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (dispatcher.isAlive()) {
+            dispatcher.interrupt();
+        }
+        remaining.forEach(pending -> spill(pending, ACTION_SPILLED));
+
+        // 프로듀서 버퍼에 남은 레코드 전송
+        kafkaTemplate.flush();
+
+        log.info("비동기 이벤트 발행 종료 - drained: {}, spilled: {}", pending - remaining.size(), remaining.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    // ===== Private Helper Methods =====
+
+    private boolean offer(PendingEvent pending) {
+        if (backpressure != BackpressurePolicy.BLOCK) {
+            return queue.offer(pending);
+        }
+        try {
+            return queue.offer(pending, blockTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void overflow(PendingEvent pending) {
+        if (backpressure == BackpressurePolicy.SPILL) {
+            spill(pending, ACTION_SPILLED);
+            return;
+        }
+        if (backpressure == BackpressurePolicy.BLOCK) {
+            // 기다려도 자리가 없으면 버리지 않고 아웃박스에 보관
+            spill(pending, ACTION_TIMEOUT);
+            return;
+        }
+
+        countOverflow(pending.topic(), ACTION_SHED);
+        complete(pending, null, new RejectedExecutionException(
+                "이벤트 발행 큐가 가득 찼습니다. topic: " + pending.topic() + ", capacity: " + queueCapacity));
+    }
+
+    /**
+     * 아웃박스 보관 (보관도 실패하면 실패 콜백)
+     */
+    private void spill(PendingEvent pending, String action) {
+        try {
+            eventOutboxStore.save(pending.topic(), pending.key(), pending.event());
+            if (pending.key() != null) {
+                spilledKeys.put(new OutboxKey(pending.topic(), pending.key()),
+                        System.currentTimeMillis() + SPILLED_KEY_RECHECK_MS);
+            }
+            countOverflow(pending.topic(), action);
+        } catch (Exception e) {
+            log.error("이벤트 아웃박스 보관 실패 - topic: {}, key: {}", pending.topic(), pending.key(), e);
+            complete(pending, null, e);
+        }
+    }
+
+    /**
+     * 같은 토픽/키의 보관 이벤트가 아웃박스에 남아 있는지 (재확인 간격마다 조회, 조회 실패 시 남은 것으로 간주)
+     */
+    private boolean followsSpilled(PendingEvent pending) {
+        if (pending.key() == null || spilledKeys.isEmpty()) {
+            return false;
+        }
+
+        OutboxKey outboxKey = new OutboxKey(pending.topic(), pending.key());
+        Long recheckAt = spilledKeys.get(outboxKey);
+        if (recheckAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() < recheckAt) {
+            return true;
+        }
+
+        try {
+            if (eventOutboxStore.hasPending(pending.topic(), pending.key())) {
+                spilledKeys.put(outboxKey, System.currentTimeMillis() + SPILLED_KEY_RECHECK_MS);
+                return true;
+            }
+        } catch (Exception e) {
+            log.warn("아웃박스 잔여 이벤트 확인 실패, 아웃박스로 보관 - topic: {}, key: {}",
+                    pending.topic(), pending.key(), e);
+            return true;
+        }
+
+        spilledKeys.remove(outboxKey, recheckAt);
+        return false;
+    }
+
+    private void restoreSpilledKeys() {
+        try {
+            long now = System.currentTimeMillis();
+            eventOutboxStore.findPendingKeys().forEach(outboxKey -> spilledKeys.put(outboxKey, now));
+        } catch (Exception e) {
+            log.warn("아웃박스 잔여 키 복원 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running || !queue.isEmpty()) {
+            PendingEvent pending;
+            try {
+                pending = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (pending != null) {
+                dispatch(pending);
+            }
+        }
+    }
+
+    private void dispatch(PendingEvent pending) {
+        try {
+            kafkaTemplate.send(pending.topic(), pending.key(), pending.event())
+                    .whenComplete((result, ex) -> complete(pending, result, ex));
+        } catch (Exception e) {
+            // 메타데이터 조회 시간 초과(max.block.ms), 직렬화 실패 등 send 호출 자체의 예외
+            complete(pending, null, e);
+        }
+    }
+
+    private void complete(PendingEvent pending, SendResult<String, Object> result, Throwable ex) {
+        try {
+            pending.callback().accept(result, ex);
+        } catch (Exception e) {
+            log.warn("이벤트 발행 콜백 실패 - topic: {}", pending.topic(), e);
+        }
+    }
+
+    private void countOverflow(String topic, String action) {
+        Counter.builder(PUBLISH_OVERFLOW)
+                .description("바로 전송하지 못한 이벤트 수 (shed: 실패, timeout/spilled: 아웃박스 보관, key_order: 앞선 이벤트를 따라 아웃박스 보관)")
+                .tag("topic", topic)
+                .tag("action", action)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record PendingEvent(String topic, String key, Object event,
+                                BiConsumer<SendResult<String, Object>, Throwable> callback) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.publish;
+
+/**
+ * 발행 큐가 가득 찼을 때의 처리 방식
+ */
+public enum BackpressurePolicy {
+
+    /** block-timeout 동안 빈 자리를 기다린 뒤, 그래도 없으면 아웃박스(DB)에 보관 */
+    BLOCK,
+
+    /** 기다리지 않고 즉시 실패 처리 (이벤트 유실) */
+    SHED,
+
+    /** 기다리지 않고 아웃박스(DB)에 보관하여 릴레이가 나중에 재발행 */
+    SPILL
+}
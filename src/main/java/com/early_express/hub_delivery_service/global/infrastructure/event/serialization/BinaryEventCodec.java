@@ -0,0 +1,32 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.serialization;
+
+/**
+ * 이벤트 바이너리 코덱
+ *
+ * 이벤트 타입 하나의 필드 순서/인코딩을 정의합니다. 필드명은 인코딩하지 않으므로
+ * 필드를 추가/변경할 때는 version을 올리고, 이전 version도 계속 읽을 수 있어야 합니다.
+ *
+ * @param <T> 이벤트 타입
+ * @see EventSchemaRegistry
+ */
+public interface BinaryEventCodec<T> {
+
+    /**
+     * 스키마 ID (이벤트 타입별 고유, 1 ~ 65535, 한 번 배정한 ID는 재사용하지 않음)
+     */
+    int schemaId();
+
+    /**
+     * 현재 쓰기 버전 (1 ~ 255)
+     */
+    int version();
+
+    Class<T> eventType();
+
+    void write(T event, BinaryEventWriter writer);
+
+    /**
+     * @param version 레코드에 기록된 버전 (현재 버전 이하)
+     */
+    T read(int version, BinaryEventReader reader);
+}
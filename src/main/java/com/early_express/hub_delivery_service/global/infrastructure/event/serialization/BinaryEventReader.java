@@ -0,0 +1,114 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.serialization;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * 이벤트 바이너리 읽기 (BinaryEventWriter의 역순)
+ *
+ * 잘린 레코드 등 형식 오류는 SerializationException으로 변환합니다.
+ */
+public final class BinaryEventReader {
+
+    private final byte[] data;
+    private int position;
+
+    public BinaryEventReader(byte[] data, int offset) {
+        this.data = data;
+        this.position = offset;
+    }
+
+    public int readByte() {
+        require(1);
+        return data[position++] & 0xFF;
+    }
+
+    public long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new SerializationException("잘못된 varint 인코딩입니다. position: " + position);
+    }
+
+    public String readString() {
+        long lengthPlusOne = readVarLong();
+        if (lengthPlusOne == 0) {
+            return null;
+        }
+        long length = lengthPlusOne - 1;
+        if (length > data.length - position) {
+            throw truncated();
+        }
+        String value = new String(data, position, (int) length, StandardCharsets.UTF_8);
+        position += (int) length;
+        return value;
+    }
+
+    public String readId() {
+        int tag = readByte();
+        return switch (tag) {
+            case BinaryEventWriter.ID_NULL -> null;
+            case BinaryEventWriter.ID_UUID -> new UUID(readFixedLong(), readFixedLong()).toString();
+            case BinaryEventWriter.ID_TEXT -> readString();
+            default -> throw new SerializationException("알 수 없는 ID 태그입니다. tag: " + tag);
+        };
+    }
+
+    public String readDefaulted(String defaultValue) {
+        int tag = readByte();
+        return switch (tag) {
+            case BinaryEventWriter.VALUE_NULL -> null;
+            case BinaryEventWriter.VALUE_DEFAULT -> defaultValue;
+            case BinaryEventWriter.VALUE_TEXT -> readString();
+            default -> throw new SerializationException("알 수 없는 값 태그입니다. tag: " + tag);
+        };
+    }
+
+    public Long readLong() {
+        if (readByte() == BinaryEventWriter.ABSENT) {
+            return null;
+        }
+        long zigzag = readVarLong();
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    public Integer readInteger() {
+        Long value = readLong();
+        return value != null ? value.intValue() : null;
+    }
+
+    public LocalDateTime readDateTime() {
+        Long epochSecond = readLong();
+        return epochSecond != null ? LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC) : null;
+    }
+
+    // ===== Private Helper Methods =====
+
+    private long readFixedLong() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (data[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    private void require(int bytes) {
+        if (position + bytes > data.length) {
+            throw truncated();
+        }
+    }
+
+    private SerializationException truncated() {
+        return new SerializationException("바이너리 이벤트가 잘렸습니다. length: " + data.length + ", position: " + position);
+    }
+}
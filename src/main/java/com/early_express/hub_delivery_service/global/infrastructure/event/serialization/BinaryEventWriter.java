@@ -0,0 +1,182 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.serialization;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 이벤트 바이너리 쓰기 버퍼
+ *
+ * - 정수: zigzag varint (작은 값은 1바이트)
+ * - 문자열: (UTF-8 길이 + 1) varint + 본문, 0은 null
+ * - ID: 정규 UUID 문자열(소문자 36자)은 16바이트, 그 외는 문자열
+ * - 시각: epoch 초 (JSON 이벤트의 yyyy-MM-dd'T'HH:mm:ss와 같은 초 단위)
+ * - nullable 숫자/시각: 존재 여부 1바이트 + 값
+ *
+ * 스레드 안전하지 않으며, 레코드 하나를 인코딩할 때마다 새로 생성합니다.
+ */
+public final class BinaryEventWriter {
+
+    static final int ABSENT = 0;
+    static final int PRESENT = 1;
+
+    static final int ID_NULL = 0;
+    static final int ID_UUID = 1;
+    static final int ID_TEXT = 2;
+
+    static final int VALUE_NULL = 0;
+    static final int VALUE_DEFAULT = 1;
+    static final int VALUE_TEXT = 2;
+
+    static final int UUID_LENGTH = 36;
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryEventWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    /**
+     * 부호 없는 varint (7비트 단위)
+     */
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /**
+     * ID 쓰기 (UUID 형식이면 16바이트)
+     */
+    public void writeId(String value) {
+        if (value == null) {
+            writeByte(ID_NULL);
+        } else if (isCanonicalUuid(value)) {
+            writeByte(ID_UUID);
+            writeUuid(value);
+        } else {
+            writeByte(ID_TEXT);
+            writeString(value);
+        }
+    }
+
+    /**
+     * 대부분 같은 값인 문자열 쓰기 (eventType, source 등, 기본값과 같으면 1바이트)
+     */
+    public void writeDefaulted(String value, String defaultValue) {
+        if (value == null) {
+            writeByte(VALUE_NULL);
+        } else if (value.equals(defaultValue)) {
+            writeByte(VALUE_DEFAULT);
+        } else {
+            writeByte(VALUE_TEXT);
+            writeString(value);
+        }
+    }
+
+    public void writeLong(Long value) {
+        if (value == null) {
+            writeByte(ABSENT);
+            return;
+        }
+        writeByte(PRESENT);
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeInteger(Integer value) {
+        writeLong(value != null ? value.longValue() : null);
+    }
+
+    public void writeDateTime(LocalDateTime value) {
+        writeLong(value != null ? value.toEpochSecond(ZoneOffset.UTC) : null);
+    }
+
+    public int size() {
+        return position;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    // ===== Private Helper Methods =====
+
+    private void writeUuid(String value) {
+        long most = 0;
+        long least = 0;
+        int digits = 0;
+
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = value.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            long nibble = Character.digit(c, 16);
+            if (digits < 16) {
+                most = (most << 4) | nibble;
+            } else {
+                least = (least << 4) | nibble;
+            }
+            digits++;
+        }
+        writeFixedLong(most);
+        writeFixedLong(least);
+    }
+
+    private void writeFixedLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    /**
+     * UUID.toString() 결과와 같은 형식인지 (소문자 16진수, 하이픈 위치 고정)
+     *
+     * 대문자 등 다른 표기는 디코딩 시 원래 문자열로 복원되지 않으므로 문자열로 씁니다.
+     */
+    static boolean isCanonicalUuid(String value) {
+        if (value.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
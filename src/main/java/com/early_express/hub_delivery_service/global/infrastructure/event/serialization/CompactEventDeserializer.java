@@ -0,0 +1,49 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.serialization;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.util.Map;
+
+/**
+ * JSON / 바이너리 겸용 Deserializer
+ *
+ * 첫 바이트가 매직 바이트면 스키마 레지스트리로, 그 외는 JSON Deserializer로 읽습니다.
+ * 바이너리 전환 중인 토픽(JSON/바이너리 레코드 혼재)을 구독할 때 사용합니다.
+ */
+public class CompactEventDeserializer implements Deserializer<Object> {
+
+    private final EventSchemaRegistry eventSchemaRegistry;
+    private final Deserializer<Object> jsonDeserializer;
+
+    public CompactEventDeserializer(EventSchemaRegistry eventSchemaRegistry, Deserializer<Object> jsonDeserializer) {
+        this.eventSchemaRegistry = eventSchemaRegistry;
+        this.jsonDeserializer = jsonDeserializer;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        if (EventSchemaRegistry.isBinary(data)) {
+            return eventSchemaRegistry.decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (EventSchemaRegistry.isBinary(data)) {
+            return eventSchemaRegistry.decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
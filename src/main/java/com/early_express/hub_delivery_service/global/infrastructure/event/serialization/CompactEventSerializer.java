@@ -0,0 +1,59 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.serialization;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 토픽별 인코딩 선택 Serializer
+ *
+ * binaryTopics에 포함된 토픽이고 스키마가 등록된 이벤트면 바이너리로, 그 외는 JSON으로 직렬화합니다.
+ * 구독 측을 CompactEventDeserializer(JSON/바이너리 모두 읽음)로 먼저 전환한 뒤 토픽을 추가하면
+ * 전환 중에도 기존 JSON 레코드와 함께 소비할 수 있습니다.
+ */
+public class CompactEventSerializer implements Serializer<Object> {
+
+    private final EventSchemaRegistry eventSchemaRegistry;
+    private final Serializer<Object> jsonSerializer;
+    private final Set<String> binaryTopics;
+
+    public CompactEventSerializer(EventSchemaRegistry eventSchemaRegistry,
+                                  Serializer<Object> jsonSerializer,
+                                  Set<String> binaryTopics) {
+        this.eventSchemaRegistry = eventSchemaRegistry;
+        this.jsonSerializer = jsonSerializer;
+        this.binaryTopics = Set.copyOf(binaryTopics);
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonSerializer.configure(configs, isKey);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (encodesBinary(topic, data)) {
+            return eventSchemaRegistry.encode(data);
+        }
+        return jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (encodesBinary(topic, data)) {
+            return eventSchemaRegistry.encode(data);
+        }
+        return jsonSerializer.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+
+    private boolean encodesBinary(String topic, Object data) {
+        return data != null && binaryTopics.contains(topic) && eventSchemaRegistry.supports(data.getClass());
+    }
+}
@@ -0,0 +1,107 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.serialization;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트 스키마 레지스트리 (로컬)
+ *
+ * 외부 스키마 레지스트리 대신 코드에 등록된 BinaryEventCodec으로 스키마 ID ↔ 이벤트 타입을 매핑합니다.
+ * 발행/구독 측이 같은 코덱을 공유해야 하며, 스키마 ID와 버전은 Kafka 레코드 헤더가 아니라
+ * 페이로드 앞 4바이트(HEADER_SIZE) 접두부에 기록합니다.
+ *
+ * 페이로드 형식: [0x00 매직 바이트][스키마 ID 2바이트][버전 1바이트][본문]
+ * JSON 레코드는 0x00으로 시작하지 않으므로 첫 바이트로 인코딩을 구분합니다.
+ */
+@Slf4j
+@Component
+public class EventSchemaRegistry {
+
+    public static final byte MAGIC_BYTE = 0x00;
+    public static final int HEADER_SIZE = 4;
+
+    private static final int MAX_SCHEMA_ID = 0xFFFF;
+    private static final int MAX_VERSION = 0xFF;
+    private static final int INITIAL_BUFFER_SIZE = 128;
+
+    private final Map<Integer, BinaryEventCodec<?>> codecsBySchemaId = new HashMap<>();
+    private final Map<Class<?>, BinaryEventCodec<?>> codecsByType = new HashMap<>();
+
+    public EventSchemaRegistry(List<BinaryEventCodec<?>> codecs) {
+        for (BinaryEventCodec<?> codec : codecs) {
+            register(codec);
+        }
+        log.info("이벤트 바이너리 스키마 등록 - {}", codecsByType.keySet().stream().map(Class::getSimpleName).toList());
+    }
+
+    /**
+     * 바이너리 인코딩 가능 여부
+     */
+    public boolean supports(Class<?> eventType) {
+        return codecsByType.containsKey(eventType);
+    }
+
+    /**
+     * 바이너리 인코딩 레코드 여부 (매직 바이트로 판정)
+     */
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length >= HEADER_SIZE && data[0] == MAGIC_BYTE;
+    }
+
+    @SuppressWarnings("unchecked")
+    public byte[] encode(Object event) {
+        BinaryEventCodec<Object> codec = (BinaryEventCodec<Object>) codecsByType.get(event.getClass());
+        if (codec == null) {
+            throw new SerializationException("바이너리 스키마가 등록되지 않은 이벤트입니다. type: " + event.getClass().getName());
+        }
+
+        BinaryEventWriter writer = new BinaryEventWriter(INITIAL_BUFFER_SIZE);
+        writer.writeByte(MAGIC_BYTE);
+        writer.writeByte(codec.schemaId() >>> 8);
+        writer.writeByte(codec.schemaId());
+        writer.writeByte(codec.version());
+        codec.write(event, writer);
+        return writer.toByteArray();
+    }
+
+    public Object decode(byte[] data) {
+        if (!isBinary(data)) {
+            throw new SerializationException("바이너리 인코딩 레코드가 아닙니다.");
+        }
+        int schemaId = ((data[1] & 0xFF) << 8) | (data[2] & 0xFF);
+        int version = data[3] & 0xFF;
+
+        BinaryEventCodec<?> codec = codecsBySchemaId.get(schemaId);
+        if (codec == null) {
+            throw new SerializationException("등록되지 않은 스키마 ID입니다. schemaId: " + schemaId);
+        }
+        if (version < 1 || version > codec.version()) {
+            throw new SerializationException("지원하지 않는 스키마 버전입니다. schemaId: " + schemaId
+                    + ", version: " + version + ", supported: " + codec.version());
+        }
+        return codec.read(version, new BinaryEventReader(data, HEADER_SIZE));
+    }
+
+    // ===== Private Helper Methods =====
+
+    private void register(BinaryEventCodec<?> codec) {
+        int schemaId = codec.schemaId();
+        if (schemaId < 1 || schemaId > MAX_SCHEMA_ID) {
+            throw new IllegalStateException("스키마 ID 범위를 벗어났습니다. schemaId: " + schemaId);
+        }
+        if (codec.version() < 1 || codec.version() > MAX_VERSION) {
+            throw new IllegalStateException("스키마 버전 범위를 벗어났습니다. version: " + codec.version());
+        }
+        if (codecsBySchemaId.putIfAbsent(schemaId, codec) != null) {
+            throw new IllegalStateException("중복된 스키마 ID입니다. schemaId: " + schemaId);
+        }
+        if (codecsByType.putIfAbsent(codec.eventType(), codec) != null) {
+            throw new IllegalStateException("이벤트 타입에 스키마가 중복 등록되었습니다. type: " + codec.eventType().getName());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.early_express.hub_delivery_service.global.infrastructure.lease;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 샤드 리스 Entity
+ *
+ * 인스턴스 간 주기 작업 분담을 위한 시간 제한 잠금입니다.
+ * lease_until이 지나면 다른 인스턴스가 가져갈 수 있습니다.
+ */
+@Entity
+@Table(name = "p_shard_lease")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ShardLeaseEntity {
+
+    @Id
+    @Column(name = "lease_key", length = 100)
+    private String leaseKey;
+
+    @Column(name = "owner", nullable = false, length = 100)
+    private String owner;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+}
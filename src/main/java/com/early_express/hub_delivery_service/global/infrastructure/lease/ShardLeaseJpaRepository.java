@@ -0,0 +1,71 @@
+package com.early_express.hub_delivery_service.global.infrastructure.lease;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 샤드 리스 JPA Repository
+ *
+ * 모든 변경은 조건부 단일 UPDATE/INSERT로 처리하여 인스턴스 간 경쟁 시 한 쪽만 성공합니다.
+ */
+public interface ShardLeaseJpaRepository extends JpaRepository<ShardLeaseEntity, String> {
+
+    /**
+     * 만료되었거나 본인이 보유한 리스 획득/연장
+     *
+     * @return 획득 시 1
+     */
+    @Transactional
+    @Modifying
+    @Query("update ShardLeaseEntity l set l.owner = :owner, l.leaseUntil = :until " +
+            "where l.leaseKey = :leaseKey and (l.leaseUntil < :now or l.owner = :owner)")
+    int acquire(@Param("leaseKey") String leaseKey,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now,
+                @Param("until") LocalDateTime until);
+
+    /**
+     * 본인이 보유 중인(만료 전) 리스 연장
+     *
+     * @return 연장 시 1
+     */
+    @Transactional
+    @Modifying
+    @Query("update ShardLeaseEntity l set l.leaseUntil = :until " +
+            "where l.leaseKey = :leaseKey and l.owner = :owner and l.leaseUntil >= :now")
+    int renew(@Param("leaseKey") String leaseKey,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("until") LocalDateTime until);
+
+    /**
+     * 리스 행이 없을 때 생성하며 획득
+     *
+     * @return 생성 시 1
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "insert into p_shard_lease (lease_key, owner, lease_until) " +
+            "select :leaseKey, :owner, :until " +
+            "where not exists (select 1 from p_shard_lease where lease_key = :leaseKey)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("leaseKey") String leaseKey,
+                       @Param("owner") String owner,
+                       @Param("until") LocalDateTime until);
+
+    /**
+     * 본인이 보유한 리스 반납 (즉시 만료)
+     */
+    @Transactional
+    @Modifying
+    @Query("update ShardLeaseEntity l set l.leaseUntil = :now " +
+            "where l.leaseKey = :leaseKey and l.owner = :owner")
+    int release(@Param("leaseKey") String leaseKey,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now);
+}
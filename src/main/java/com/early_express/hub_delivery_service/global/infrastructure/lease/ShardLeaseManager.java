@@ -0,0 +1,84 @@
+package com.early_express.hub_delivery_service.global.infrastructure.lease;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 샤드 리스 관리
+ *
+ * 주기 작업을 샤드 단위로 나누어 인스턴스 간 중복 실행을 막습니다.
+ * 리스는 TTL 이후 자동 만료되므로 노드가 비정상 종료되어도 다른 노드가 이어받습니다.
+ */
+@Slf4j
+@Component
+public class ShardLeaseManager {
+
+    private final ShardLeaseJpaRepository shardLeaseJpaRepository;
+    private final String owner;
+
+    public ShardLeaseManager(ShardLeaseJpaRepository shardLeaseJpaRepository) {
+        this.shardLeaseJpaRepository = shardLeaseJpaRepository;
+        this.owner = resolveHostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 리스 획득 시도
+     *
+     * @param leaseKey 리스 키 (작업명:샤드)
+     * @param ttl 리스 유지 시간 (작업 최대 소요 시간보다 길게)
+     * @return 획득 성공 여부
+     */
+    public boolean tryAcquire(String leaseKey, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(ttl);
+
+        try {
+            if (shardLeaseJpaRepository.acquire(leaseKey, owner, now, until) == 1) {
+                return true;
+            }
+            return shardLeaseJpaRepository.insertIfAbsent(leaseKey, owner, until) == 1;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 동시에 행을 생성한 경우
+            log.debug("리스 생성 경합 - leaseKey: {}", leaseKey);
+            return false;
+        }
+    }
+
+    /**
+     * 리스 연장 (긴 작업은 배치마다 호출)
+     *
+     * 이미 만료되었거나 다른 인스턴스가 이어받은 리스는 연장하지 않으므로,
+     * 실패하면 작업을 중단해야 합니다.
+     *
+     * @return 연장 성공 여부
+     */
+    public boolean renew(String leaseKey, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        return shardLeaseJpaRepository.renew(leaseKey, owner, now, now.plus(ttl)) == 1;
+    }
+
+    /**
+     * 리스 반납
+     */
+    public void release(String leaseKey) {
+        shardLeaseJpaRepository.release(leaseKey, owner, LocalDateTime.now());
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
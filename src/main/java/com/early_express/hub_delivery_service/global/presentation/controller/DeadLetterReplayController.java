@@ -0,0 +1,70 @@
+package com.early_express.hub_delivery_service.global.presentation.controller;
+
+import com.early_express.hub_delivery_service.global.infrastructure.event.dlt.DeadLetterReplayService;
+import com.early_express.hub_delivery_service.global.presentation.dto.dlt.DeadLetterReplayRequest;
+import com.early_express.hub_delivery_service.global.presentation.dto.dlt.DeadLetterReplayResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * DLT 재처리 Controller (운영용 내부 API)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/v1/hub-delivery/internal/dlt/replays")
+@RequiredArgsConstructor
+public class DeadLetterReplayController {
+
+    private final DeadLetterReplayService deadLetterReplayService;
+
+    @Value("${hub-delivery.kafka.dlt.replay.rate-per-second:100}")
+    private int defaultRatePerSecond;
+
+    @Value("${hub-delivery.kafka.dlt.replay.batch-size:100}")
+    private int defaultBatchSize;
+
+    /**
+     * 재처리 작업 시작
+     *
+     * 이미 실행 중인 작업이 있으면 409를 반환합니다.
+     *
+     * POST /v1/hub-delivery/internal/dlt/replays
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public DeadLetterReplayResponse startReplay(
+            @RequestBody(required = false) DeadLetterReplayRequest request,
+            @RequestHeader(value = "X-User-Id", required = false) String userId) {
+
+        DeadLetterReplayRequest replayRequest = request != null ? request : new DeadLetterReplayRequest();
+        log.info("[Internal] DLT 재처리 요청 - userId: {}, eventTypes: {}, from: {}, to: {}",
+                userId, replayRequest.getEventTypes(), replayRequest.getFrom(), replayRequest.getTo());
+
+        return DeadLetterReplayResponse.from(deadLetterReplayService.start(
+                replayRequest.toCriteria(defaultRatePerSecond, defaultBatchSize)));
+    }
+
+    /**
+     * 재처리 작업 진행 상태 조회 (작업을 시작한 인스턴스에서 조회)
+     *
+     * GET /v1/hub-delivery/internal/dlt/replays/{jobId}
+     */
+    @GetMapping("/{jobId}")
+    public DeadLetterReplayResponse getReplay(@PathVariable String jobId) {
+        return DeadLetterReplayResponse.from(deadLetterReplayService.getJob(jobId));
+    }
+
+    /**
+     * 재처리 작업 취소
+     *
+     * DELETE /v1/hub-delivery/internal/dlt/replays/{jobId}
+     */
+    @DeleteMapping("/{jobId}")
+    public DeadLetterReplayResponse cancelReplay(@PathVariable String jobId) {
+        log.info("[Internal] DLT 재처리 취소 요청 - jobId: {}", jobId);
+        return DeadLetterReplayResponse.from(deadLetterReplayService.cancel(jobId));
+    }
+}
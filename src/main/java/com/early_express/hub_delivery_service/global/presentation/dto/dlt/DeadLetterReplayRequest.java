@@ -0,0 +1,40 @@
+package com.early_express.hub_delivery_service.global.presentation.dto.dlt;
+
+import com.early_express.hub_delivery_service.global.infrastructure.event.dlt.DeadLetterReplayCriteria;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * DLT 재처리 요청 DTO
+ * 생략한 항목은 전체 / 설정 기본값을 사용합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterReplayRequest {
+
+    private Set<String> eventTypes;
+
+    private LocalDateTime from;
+
+    private LocalDateTime to;
+
+    private Integer ratePerSecond;
+
+    private Integer batchSize;
+
+    public DeadLetterReplayCriteria toCriteria(int defaultRatePerSecond, int defaultBatchSize) {
+        return new DeadLetterReplayCriteria(
+                eventTypes,
+                from,
+                to,
+                ratePerSecond != null ? ratePerSecond : defaultRatePerSecond,
+                batchSize != null ? batchSize : defaultBatchSize);
+    }
+}
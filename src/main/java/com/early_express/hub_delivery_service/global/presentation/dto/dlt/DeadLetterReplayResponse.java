@@ -0,0 +1,48 @@
+package com.early_express.hub_delivery_service.global.presentation.dto.dlt;
+
+import com.early_express.hub_delivery_service.global.infrastructure.event.dlt.DeadLetterReplayJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * DLT 재처리 작업 응답 DTO
+ */
+@Getter
+@Builder
+public class DeadLetterReplayResponse {
+
+    private String jobId;
+    private String status;
+    private Set<String> eventTypes;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private int ratePerSecond;
+    private int batchSize;
+    private long scanned;
+    private long replayed;
+    private long skipped;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String errorMessage;
+
+    public static DeadLetterReplayResponse from(DeadLetterReplayJob job) {
+        return DeadLetterReplayResponse.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus().name())
+                .eventTypes(job.getCriteria().eventTypes())
+                .from(job.getCriteria().from())
+                .to(job.getCriteria().to())
+                .ratePerSecond(job.getCriteria().ratePerSecond())
+                .batchSize(job.getCriteria().batchSize())
+                .scanned(job.getScanned().get())
+                .replayed(job.getReplayed().get())
+                .skipped(job.getSkipped().get())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .errorMessage(job.getErrorMessage())
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubDeliveryEventPublisher;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.*;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryId;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver.HubDriverClient;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver.dto.DriverAssignResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * HubDeliveryCommandService 동시 변경 통합 테스트
+ *
+ * 트랜잭션이 실제로 커밋되어야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class HubDeliveryCommandServiceConcurrencyTest {
+
+    @Autowired
+    private HubDeliveryCommandService commandService;
+
+    @Autowired
+    private HubDeliveryRepository hubDeliveryRepository;
+
+    @MockBean
+    private HubDeliveryEventPublisher eventPublisher;
+
+    @MockBean
+    private HubDriverClient hubDriverClient;
+
+    @Test
+    @DisplayName("Track 배정이 구간을 읽은 뒤 선배정이 먼저 커밋되면 Track 배정은 롤백되고 확보한 드라이버를 해제")
+    void assignDriverForSegment_whenPreAssignCommitsFirst_shouldRollBackAndReleaseDriver() {
+        // given
+        String hubDeliveryId = commandService.create(CreateCommand.builder()
+                .orderId("order-race-" + System.nanoTime())
+                .originHubId("hub-1")
+                .destinationHubId("hub-3")
+                .routeHubs(List.of("hub-1", "hub-2", "hub-3"))
+                .createdBy("system")
+                .build()).getHubDeliveryId();
+
+        // Track 트랜잭션이 구간을 PENDING으로 읽고 드라이버를 확보하는 사이, 선배정이 별도 트랜잭션으로 커밋
+        when(hubDriverClient.assignDriver(any())).thenAnswer(invocation -> {
+            boolean reserved = CompletableFuture.supplyAsync(() -> commandService.reserveDriverForSegment(
+                    hubDeliveryId, 0, "driver-pre", LocalDateTime.now().plusMinutes(15))).join();
+            assertThat(reserved).isTrue();
+            return DriverAssignResponse.builder().driverId("driver-track").build();
+        });
+
+        // when & then
+        assertThatThrownBy(() -> commandService.assignDriverForSegment(AssignDriverForSegmentCommand.builder()
+                .hubDeliveryId(hubDeliveryId)
+                .segmentIndex(0)
+                .requestedBy("track-service")
+                .build()))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        HubSegment segment = hubDeliveryRepository.findById(HubDeliveryId.of(hubDeliveryId))
+                .orElseThrow()
+                .getSegment(0);
+        assertThat(segment.isReserved()).isTrue();
+        assertThat(segment.getDriverId()).isEqualTo("driver-pre");
+
+        verify(hubDriverClient).cancelDelivery("driver-track");
+        verify(hubDriverClient, never()).cancelDelivery("driver-pre");
+    }
+
+    @Test
+    @DisplayName("Track 배정이 먼저 커밋된 구간에는 선배정하지 않고 Track 드라이버를 유지")
+    void reserveDriverForSegment_afterTrackCommitted_shouldNotReserve() {
+        // given
+        String hubDeliveryId = commandService.create(CreateCommand.builder()
+                .orderId("order-race-" + System.nanoTime())
+                .originHubId("hub-1")
+                .destinationHubId("hub-3")
+                .routeHubs(List.of("hub-1", "hub-2", "hub-3"))
+                .createdBy("system")
+                .build()).getHubDeliveryId();
+        when(hubDriverClient.assignDriver(any()))
+                .thenReturn(DriverAssignResponse.builder().driverId("driver-track").build());
+
+        // when - Track 배정 완료 후 선배정 시도 (구간이 이미 출발)
+        AssignDriverResult trackResult = commandService.assignDriverForSegment(
+                AssignDriverForSegmentCommand.builder()
+                        .hubDeliveryId(hubDeliveryId)
+                        .segmentIndex(0)
+                        .requestedBy("track-service")
+                        .build());
+        boolean reserved = commandService.reserveDriverForSegment(
+                hubDeliveryId, 0, "driver-pre", LocalDateTime.now().plusMinutes(15));
+
+        // then
+        assertThat(trackResult.isSuccess()).isTrue();
+        assertThat(reserved).isFalse();
+
+        HubSegment segment = hubDeliveryRepository.findById(HubDeliveryId.of(hubDeliveryId))
+                .orElseThrow()
+                .getSegment(0);
+        assertThat(segment.isInTransit()).isTrue();
+        assertThat(segment.getDriverId()).isEqualTo("driver-track");
+        verify(hubDriverClient, never()).cancelDelivery(any());
+    }
+}
@@ -6,19 +6,26 @@ import com.early_express.hub_delivery_service.domain.hub_delivery.domain.excepti
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryId;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver.HubDriverClient;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver.dto.DriverAssignResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -39,6 +46,9 @@ class HubDeliveryCommandServiceTest {
     @MockBean
     private HubDeliveryEventPublisher eventPublisher;
 
+    @MockBean
+    private HubDriverClient hubDriverClient;
+
     @Test
     @DisplayName("허브 배송 생성 성공")
     void create_shouldCreateHubDelivery() {
@@ -183,4 +193,340 @@ class HubDeliveryCommandServiceTest {
                 .orElseThrow();
         assertThat(hubDelivery.getStatus()).isEqualTo(HubDeliveryStatus.FAILED);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("선배정된 구간은 드라이버 검색 없이 선배정 드라이버로 출발")
+    void assignDriverForSegment_reservedSegment_shouldDepartWithoutDriverSearch() {
+        // given
+        CreateResult createResult = commandService.create(CreateCommand.builder()
+                .orderId("order-reserve-" + System.currentTimeMillis())
+                .originHubId("hub-1")
+                .destinationHubId("hub-3")
+                .routeHubs(List.of("hub-1", "hub-2", "hub-3"))
+                .createdBy("system")
+                .build());
+        String hubDeliveryId = createResult.getHubDeliveryId();
+
+        boolean reserved = commandService.reserveDriverForSegment(
+                hubDeliveryId, 0, "driver-reserved", LocalDateTime.now().plusMinutes(15));
+
+        // when
+        AssignDriverResult result = commandService.assignDriverForSegment(AssignDriverForSegmentCommand.builder()
+                .hubDeliveryId(hubDeliveryId)
+                .segmentIndex(0)
+                .requestedBy("track-service")
+                .build());
+
+        // then
+        assertThat(reserved).isTrue();
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getDriverId()).isEqualTo("driver-reserved");
+
+        HubSegment segment = hubDeliveryRepository.findById(HubDeliveryId.of(hubDeliveryId))
+                .orElseThrow()
+                .getSegment(0);
+        assertThat(segment.isInTransit()).isTrue();
+        assertThat(segment.getDriverId()).isEqualTo("driver-reserved");
+        assertThat(segment.getReservedUntil()).isNull();
+
+        verify(hubDriverClient, never()).assignDriver(any());
+        verify(eventPublisher, times(1)).publishSegmentDeparted(any(), any());
+    }
+
+    @Test
+    @DisplayName("대기열 배정은 드라이버만 배정하고 출발하지 않음")
+    void assignDriverOnlyForSegment_shouldAssignWithoutDeparture() {
+        // given
+        String hubDeliveryId = commandService.create(CreateCommand.builder()
+                .orderId("order-dispatch-" + System.currentTimeMillis())
+                .originHubId("hub-1")
+                .destinationHubId("hub-3")
+                .routeHubs(List.of("hub-1", "hub-2", "hub-3"))
+                .createdBy("system")
+                .build()).getHubDeliveryId();
+        when(hubDriverClient.assignDriver(any()))
+                .thenReturn(DriverAssignResponse.builder().driverId("driver-dispatch").build());
+
+        // when
+        AssignDriverResult result = commandService.assignDriverOnlyForSegment(AssignDriverForSegmentCommand.builder()
+                .hubDeliveryId(hubDeliveryId)
+                .segmentIndex(0)
+                .requestedBy("system-dispatcher")
+                .build());
+        AssignDriverResult notDispatchable = commandService.assignDriverOnlyForSegment(
+                AssignDriverForSegmentCommand.builder()
+                        .hubDeliveryId(hubDeliveryId)
+                        .segmentIndex(1)
+                        .requestedBy("system-dispatcher")
+                        .build());
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(notDispatchable.isSuccess()).isFalse();
+
+        HubSegment segment = hubDeliveryRepository.findById(HubDeliveryId.of(hubDeliveryId))
+                .orElseThrow()
+                .getSegment(0);
+        assertThat(segment.getStatus()).isEqualTo(HubSegmentStatus.ASSIGNED);
+        assertThat(segment.getDriverId()).isEqualTo("driver-dispatch");
+        assertThat(segment.isReserved()).isFalse();
+
+        verify(hubDriverClient, times(1)).assignDriver(any());
+        verify(eventPublisher, never()).publishSegmentDeparted(any(), any());
+    }
+
+    @Test
+    @DisplayName("적재 목록 배정 해제는 해당 드라이버로 배정된 구간만 PENDING으로 되돌림")
+    void releaseManifestSegments_shouldReleaseOnlySegmentsAssignedToDriver() {
+        // given
+        String suffix = String.valueOf(System.currentTimeMillis());
+        CreateResult mine = commandService.create(batchCommand("order-manifest-release-1-" + suffix));
+        CreateResult other = commandService.create(batchCommand("order-manifest-release-2-" + suffix));
+        commandService.assignManifest(ManifestCommand.builder()
+                .manifestId("manifest-1")
+                .driverId("driver-truck-1")
+                .segments(List.of(manifestSegment(mine.getHubDeliveryId(), 0)))
+                .build());
+        commandService.assignManifest(ManifestCommand.builder()
+                .manifestId("manifest-2")
+                .driverId("driver-truck-2")
+                .segments(List.of(manifestSegment(other.getHubDeliveryId(), 0)))
+                .build());
+
+        // when
+        int released = commandService.releaseManifestSegments(ManifestCommand.builder()
+                .manifestId("manifest-1")
+                .driverId("driver-truck-1")
+                .segments(List.of(
+                        manifestSegment(mine.getHubDeliveryId(), 0),
+                        manifestSegment(other.getHubDeliveryId(), 0)))
+                .build());
+
+        // then
+        assertThat(released).isEqualTo(1);
+        assertThat(hubDeliveryRepository.findById(HubDeliveryId.of(mine.getHubDeliveryId()))
+                .orElseThrow().getSegment(0).isPending()).isTrue();
+        assertThat(hubDeliveryRepository.findById(HubDeliveryId.of(other.getHubDeliveryId()))
+                .orElseThrow().getSegment(0).getDriverId()).isEqualTo("driver-truck-2");
+    }
+
+    @Test
+    @DisplayName("만료된 선배정 해제 시 구간이 PENDING으로 복귀")
+    void releaseSegmentReservation_shouldReturnSegmentToPending() {
+        // given
+        CreateResult createResult = commandService.create(CreateCommand.builder()
+                .orderId("order-release-" + System.currentTimeMillis())
+                .originHubId("hub-1")
+                .destinationHubId("hub-3")
+                .routeHubs(List.of("hub-1", "hub-2", "hub-3"))
+                .createdBy("system")
+                .build());
+        String hubDeliveryId = createResult.getHubDeliveryId();
+        commandService.reserveDriverForSegment(hubDeliveryId, 1, "driver-reserved", LocalDateTime.now());
+
+        // when
+        boolean otherDriverReleased = commandService.releaseSegmentReservation(hubDeliveryId, 1, "driver-other");
+        boolean released = commandService.releaseSegmentReservation(hubDeliveryId, 1, "driver-reserved");
+
+        // then
+        assertThat(otherDriverReleased).isFalse();
+        assertThat(released).isTrue();
+
+        HubSegment segment = hubDeliveryRepository.findById(HubDeliveryId.of(hubDeliveryId))
+                .orElseThrow()
+                .getSegment(1);
+        assertThat(segment.isPending()).isTrue();
+        assertThat(segment.hasDriver()).isFalse();
+    }
+
+    @Test
+    @DisplayName("일괄 생성 시 주문 ID 기준으로 중복 제거하고 실패 항목만 건너뜀")
+    void createBatch_shouldDeduplicateByOrderIdAndSkipInvalid() {
+        // given
+        String suffix = String.valueOf(System.currentTimeMillis());
+        CreateResult existing = commandService.create(batchCommand("order-batch-existing-" + suffix));
+
+        List<CreateCommand> commands = List.of(
+                batchCommand("order-batch-1-" + suffix),
+                batchCommand("order-batch-existing-" + suffix),
+                batchCommand("order-batch-1-" + suffix),
+                CreateCommand.builder()
+                        .orderId("order-batch-invalid-" + suffix)
+                        .originHubId("hub-1")
+                        .destinationHubId("hub-3")
+                        .routeHubs(List.of("hub-1"))
+                        .createdBy("system")
+                        .build()
+        );
+
+        // when
+        List<CreateResult> results = commandService.createBatch(commands);
+
+        // then
+        assertThat(results).extracting(CreateResult::getOutcome).containsExactly(
+                CreateOutcome.CREATED, CreateOutcome.DUPLICATE, CreateOutcome.DUPLICATE, CreateOutcome.FAILED);
+        assertThat(results.get(1).getHubDeliveryId()).isEqualTo(existing.getHubDeliveryId());
+        assertThat(results.get(2).getHubDeliveryId()).isEqualTo(results.get(0).getHubDeliveryId());
+        assertThat(results.get(3).getHubDeliveryId()).isNull();
+
+        assertThat(hubDeliveryRepository.findByOrderId("order-batch-1-" + suffix)).isPresent();
+        assertThat(hubDeliveryRepository.existsByOrderId("order-batch-invalid-" + suffix)).isFalse();
+    }
+
+    @Test
+    @DisplayName("적재 목록 일괄 출발 시 출발 가능한 구간만 출발하고 항목별 결과 반환")
+    void departManifest_shouldDepartValidItemsAndReportFailures() {
+        // given
+        String suffix = String.valueOf(System.currentTimeMillis());
+        CreateResult first = commandService.create(batchCommand("order-manifest-1-" + suffix));
+        CreateResult second = commandService.create(batchCommand("order-manifest-2-" + suffix));
+
+        ManifestCommand command = ManifestCommand.builder()
+                .driverId("driver-truck-1")
+                .segments(List.of(
+                        manifestSegment(first.getHubDeliveryId(), 0),
+                        manifestSegment(second.getHubDeliveryId(), 0),
+                        manifestSegment(second.getHubDeliveryId(), 1),
+                        manifestSegment("unknown-hub-delivery", 0)))
+                .build();
+
+        // when
+        List<ManifestItemResult> results = commandService.departManifest(command);
+
+        // then
+        assertThat(results).extracting(ManifestItemResult::isSuccess).containsExactly(true, true, false, false);
+        assertThat(results.get(0).getSegmentStatus()).isEqualTo("IN_TRANSIT");
+        assertThat(results.get(3).getMessage()).contains("unknown-hub-delivery");
+
+        HubDelivery departed = hubDeliveryRepository.findById(HubDeliveryId.of(second.getHubDeliveryId()))
+                .orElseThrow();
+        assertThat(departed.getStatus()).isEqualTo(HubDeliveryStatus.IN_PROGRESS);
+        assertThat(departed.getSegment(0).getDriverId()).isEqualTo("driver-truck-1");
+        assertThat(departed.getSegment(1).isPending()).isTrue();
+        assertThat(departed.getSegment(1).hasDriver()).isFalse();
+
+        verify(eventPublisher, times(2)).publishSegmentDeparted(any(), any());
+    }
+
+    @Test
+    @DisplayName("적재 목록 일괄 도착 시 마지막 구간이면 배송 완료 이벤트 발행, 드라이버 완료 통지는 커밋 후 드라이버당 한 번")
+    void arriveManifest_shouldArriveSegmentsAndCompleteDeliveries() {
+        // given
+        String suffix = String.valueOf(System.currentTimeMillis());
+        CreateResult singleLeg = commandService.create(CreateCommand.builder()
+                .orderId("order-manifest-single-" + suffix)
+                .originHubId("hub-1")
+                .destinationHubId("hub-2")
+                .routeHubs(List.of("hub-1", "hub-2"))
+                .createdBy("system")
+                .build());
+        CreateResult multiLeg = commandService.create(batchCommand("order-manifest-multi-" + suffix));
+
+        commandService.departManifest(ManifestCommand.builder()
+                .driverId("driver-truck-1")
+                .segments(List.of(
+                        manifestSegment(singleLeg.getHubDeliveryId(), 0),
+                        manifestSegment(multiLeg.getHubDeliveryId(), 0)))
+                .build());
+
+        // when
+        List<ManifestItemResult> results = commandService.arriveManifest(ManifestCommand.builder()
+                .driverId("driver-truck-1")
+                .segments(List.of(
+                        manifestSegment(singleLeg.getHubDeliveryId(), 0),
+                        manifestSegment(multiLeg.getHubDeliveryId(), 0),
+                        manifestSegment(multiLeg.getHubDeliveryId(), 0)))
+                .build());
+
+        // then
+        assertThat(results).extracting(ManifestItemResult::isSuccess).containsExactly(true, true, false);
+
+        assertThat(hubDeliveryRepository.findById(HubDeliveryId.of(singleLeg.getHubDeliveryId()))
+                .orElseThrow().getStatus()).isEqualTo(HubDeliveryStatus.COMPLETED);
+        assertThat(hubDeliveryRepository.findById(HubDeliveryId.of(multiLeg.getHubDeliveryId()))
+                .orElseThrow().getCompletedSegments()).isEqualTo(1);
+
+        verify(eventPublisher, times(2)).publishSegmentArrived(any(), any());
+        verify(eventPublisher, times(1)).publishHubDeliveryCompleted(any());
+        verify(hubDriverClient, never()).completeDelivery(any(), any());
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        verify(hubDriverClient, times(1)).completeDelivery(eq("driver-truck-1"), any());
+    }
+
+    @Test
+    @DisplayName("적재 목록 일괄 배정은 배정 가능한 구간에만 드라이버를 배정하고 출발하지 않음")
+    void assignManifest_shouldAssignDispatchableSegmentsOnly() {
+        // given
+        String suffix = String.valueOf(System.currentTimeMillis());
+        CreateResult created = commandService.create(batchCommand("order-manifest-assign-" + suffix));
+
+        ManifestCommand command = ManifestCommand.builder()
+                .manifestId("manifest-1")
+                .driverId("driver-truck-1")
+                .segments(List.of(
+                        manifestSegment(created.getHubDeliveryId(), 0),
+                        manifestSegment(created.getHubDeliveryId(), 1)))
+                .build();
+
+        // when
+        List<ManifestItemResult> results = commandService.assignManifest(command);
+
+        // then
+        assertThat(results).extracting(ManifestItemResult::isSuccess).containsExactly(true, false);
+        assertThat(results.get(0).getSegmentStatus()).isEqualTo("ASSIGNED");
+
+        HubDelivery assigned = hubDeliveryRepository.findById(HubDeliveryId.of(created.getHubDeliveryId()))
+                .orElseThrow();
+        assertThat(assigned.getSegment(0).getStatus()).isEqualTo(HubSegmentStatus.ASSIGNED);
+        assertThat(assigned.getSegment(0).getDriverId()).isEqualTo("driver-truck-1");
+        assertThat(assigned.getSegment(1).hasDriver()).isFalse();
+
+        verify(eventPublisher, never()).publishSegmentDeparted(any(), any());
+    }
+
+    @Test
+    @DisplayName("적재 목록 단위 도착이면 구간별 드라이버 완료 통지를 생략")
+    void arriveManifest_withManifestId_shouldSkipPerSegmentDriverNotification() {
+        // given
+        String suffix = String.valueOf(System.currentTimeMillis());
+        CreateResult created = commandService.create(batchCommand("order-manifest-notify-" + suffix));
+        List<ManifestSegment> segments = List.of(manifestSegment(created.getHubDeliveryId(), 0));
+
+        commandService.departManifest(ManifestCommand.builder()
+                .manifestId("manifest-1")
+                .driverId("driver-truck-1")
+                .segments(segments)
+                .build());
+
+        // when
+        List<ManifestItemResult> results = commandService.arriveManifest(ManifestCommand.builder()
+                .manifestId("manifest-1")
+                .driverId("driver-truck-1")
+                .segments(segments)
+                .build());
+
+        // then
+        assertThat(results).extracting(ManifestItemResult::isSuccess).containsExactly(true);
+        verify(eventPublisher, times(1)).publishSegmentArrived(any(), any());
+        verify(hubDriverClient, never()).completeDelivery(any(), any());
+    }
+
+    private ManifestSegment manifestSegment(String hubDeliveryId, int segmentIndex) {
+        return ManifestSegment.builder()
+                .hubDeliveryId(hubDeliveryId)
+                .segmentIndex(segmentIndex)
+                .build();
+    }
+
+    private CreateCommand batchCommand(String orderId) {
+        return CreateCommand.builder()
+                .orderId(orderId)
+                .originHubId("hub-1")
+                .destinationHubId("hub-3")
+                .routeHubs(List.of("hub-1", "hub-2", "hub-3"))
+                .createdBy("system")
+                .build();
+    }
+}
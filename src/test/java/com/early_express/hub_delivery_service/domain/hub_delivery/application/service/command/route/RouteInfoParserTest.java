@@ -0,0 +1,83 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.route;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryErrorCode;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RouteInfoParser 단위 테스트
+ */
+class RouteInfoParserTest {
+
+    private final RouteInfoParser parser = new RouteInfoParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("구간별 거리/소요 시간 파싱 성공")
+    void parse_shouldReadDistanceAndDuration() {
+        // given
+        String json = "[{\"distanceM\": 150000, \"durationMin\": 120}, {\"durationMin\": 75.9, \"distanceM\": 90000}]";
+
+        // when
+        List<RouteLeg> legs = parser.parse(json, 2);
+
+        // then
+        assertThat(legs).containsExactly(
+                new RouteLeg(150000L, 120L),
+                new RouteLeg(90000L, 75L)
+        );
+    }
+
+    @Test
+    @DisplayName("알 수 없는 필드와 누락된 값은 건너뜀")
+    void parse_unknownAndMissingFields_shouldBeSkipped() {
+        // given
+        String json = "[{\"fromHubId\": \"hub-1\", \"meta\": {\"a\": [1, 2]}, \"distanceM\": null}]";
+
+        // when
+        List<RouteLeg> legs = parser.parse(json, 1);
+
+        // then
+        assertThat(legs).hasSize(1);
+        assertThat(legs.get(0).distanceMOrNull()).isNull();
+        assertThat(legs.get(0).durationMinOrNull()).isNull();
+    }
+
+    @Test
+    @DisplayName("경로 정보가 없으면 빈 목록 반환")
+    void parse_blank_shouldReturnEmpty() {
+        assertThat(parser.parse(null, 2)).isEmpty();
+        assertThat(parser.parse("  ", 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구간 수가 경유 허브와 다르면 예외 발생")
+    void parse_legCountMismatch_shouldThrowException() {
+        // given
+        String json = "[{\"distanceM\": 150000, \"durationMin\": 120}]";
+
+        // when & then
+        assertThatThrownBy(() -> parser.parse(json, 2))
+                .isInstanceOf(HubDeliveryException.class)
+                .extracting("errorCode")
+                .isEqualTo(HubDeliveryErrorCode.INVALID_ROUTING_DATA);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 JSON은 예외 발생")
+    void parse_malformed_shouldThrowException() {
+        assertThatThrownBy(() -> parser.parse("[{\"distanceM\": 1", 1))
+                .isInstanceOf(HubDeliveryException.class);
+        assertThatThrownBy(() -> parser.parse("{\"distanceM\": 1}", 1))
+                .isInstanceOf(HubDeliveryException.class);
+        assertThatThrownBy(() -> parser.parse("[{\"distanceM\": \"far\"}]", 1))
+                .isInstanceOf(HubDeliveryException.class);
+        assertThatThrownBy(() -> parser.parse("[{\"durationMin\": -5}]", 1))
+                .isInstanceOf(HubDeliveryException.class);
+    }
+}
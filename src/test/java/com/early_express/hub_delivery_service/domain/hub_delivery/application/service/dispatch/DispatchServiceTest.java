@@ -0,0 +1,207 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.HubDeliveryCommandService;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.AssignDriverForSegmentCommand;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.AssignDriverResult;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch.dto.DispatchDto.DispatchQueueItemResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch.dto.DispatchDto.DispatchResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryId;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryCursor;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import com.early_express.hub_delivery_service.global.infrastructure.lease.ShardLeaseManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DispatchService 단위 테스트
+ */
+class DispatchServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private HubDeliveryRepository hubDeliveryRepository;
+    private HubDeliveryCommandService commandService;
+    private DispatchQueue dispatchQueue;
+    private DispatchService dispatchService;
+
+    @BeforeEach
+    void setUp() {
+        hubDeliveryRepository = mock(HubDeliveryRepository.class);
+        commandService = mock(HubDeliveryCommandService.class);
+        HubDeliveryMetrics metrics = new HubDeliveryMetrics(new SimpleMeterRegistry());
+
+        dispatchQueue = new DispatchQueue(hubDeliveryRepository, metrics, 100, Duration.ofMinutes(1));
+        dispatchService = new DispatchService(dispatchQueue, commandService, hubDeliveryRepository,
+                mock(ShardLeaseManager.class), metrics, false, 20, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("허브 대기열은 마감 시각 순, 마감 없는 구간은 마지막")
+    void findQueue_shouldOrderByDeadline() {
+        // given
+        dispatchQueue.offer(entry("hd-none", (LocalDateTime) null, BASE));
+        dispatchQueue.offer(entry("hd-late", BASE.plusHours(2), BASE));
+        dispatchQueue.offer(entry("hd-urgent", BASE.plusMinutes(30), BASE.plusMinutes(10)));
+        dispatchQueue.offer(entryFrom("hd-other-hub", "hub-9", BASE));
+
+        // when
+        List<DispatchQueueItemResponse> queue = dispatchService.findQueue("hub-1", 10);
+
+        // then
+        assertThat(queue).extracting(DispatchQueueItemResponse::getHubDeliveryId)
+                .containsExactly("hd-urgent", "hd-late", "hd-none");
+        assertThat(queue).extracting(DispatchQueueItemResponse::getRank)
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("같은 구간을 다시 추가하면 기존 항목을 대체")
+    void offer_sameSegment_shouldReplace() {
+        // given
+        dispatchQueue.offer(entry("hd-1", BASE.plusHours(2), BASE));
+
+        // when
+        dispatchQueue.offer(entry("hd-1", BASE.plusMinutes(10), BASE));
+
+        // then
+        assertThat(dispatchQueue.size("hub-1")).isEqualTo(1);
+        assertThat(dispatchQueue.peek("hub-1", 10).get(0).deadline()).isEqualTo(BASE.plusMinutes(10));
+    }
+
+    @Test
+    @DisplayName("가장 급한 구간부터 배정하고 가용 드라이버가 없으면 중단")
+    void dispatch_shouldAssignInDeadlineOrderAndStopWhenNoDriver() {
+        // given
+        dispatchQueue.offer(entry("hd-1", BASE.plusMinutes(10), BASE));
+        dispatchQueue.offer(entry("hd-2", BASE.plusMinutes(20), BASE));
+        dispatchQueue.offer(entry("hd-3", BASE.plusMinutes(30), BASE));
+
+        when(commandService.assignDriverOnlyForSegment(any()))
+                .thenReturn(AssignDriverResult.success("hd-1", 0, "driver-1", "드라이버"))
+                .thenReturn(AssignDriverResult.failed("hd-2", 0, "가용 드라이버가 없습니다."));
+        when(hubDeliveryRepository.findById(HubDeliveryId.of("hd-2")))
+                .thenReturn(Optional.of(pendingDelivery("hd-2")));
+
+        // when
+        DispatchResponse response = dispatchService.dispatch("hub-1", 10);
+
+        // then
+        ArgumentCaptor<AssignDriverForSegmentCommand> captor =
+                ArgumentCaptor.forClass(AssignDriverForSegmentCommand.class);
+        verify(commandService, times(2)).assignDriverOnlyForSegment(captor.capture());
+        assertThat(captor.getAllValues()).extracting(AssignDriverForSegmentCommand::getHubDeliveryId)
+                .containsExactly("hd-1", "hd-2");
+
+        assertThat(response.getAssignedCount()).isEqualTo(1);
+        assertThat(response.getDriverExhausted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 배정된 항목은 대기열에서 제거하고 다음 구간 배정")
+    void dispatch_staleEntry_shouldSkipAndContinue() {
+        // given
+        dispatchQueue.offer(entry("hd-1", BASE.plusMinutes(10), BASE));
+        dispatchQueue.offer(entry("hd-2", BASE.plusMinutes(20), BASE));
+
+        when(commandService.assignDriverOnlyForSegment(any()))
+                .thenReturn(AssignDriverResult.failed("hd-1", 0, "이미 드라이버가 배정된 구간입니다."))
+                .thenReturn(AssignDriverResult.success("hd-2", 0, "driver-2", "드라이버"));
+        when(hubDeliveryRepository.findById(HubDeliveryId.of("hd-1")))
+                .thenReturn(Optional.empty());
+
+        // when
+        DispatchResponse response = dispatchService.dispatch("hub-1", 10);
+
+        // then
+        assertThat(response.getAssignedCount()).isEqualTo(1);
+        assertThat(response.getDriverExhausted()).isFalse();
+        assertThat(dispatchQueue.peek("hub-1", 10)).extracting(DispatchEntry::hubDeliveryId)
+                .doesNotContain("hd-1");
+    }
+
+    @Test
+    @DisplayName("배정 중 다른 경로의 변경과 충돌하면 해당 항목만 건너뛰고 다음 구간 배정")
+    void dispatch_whenOptimisticLockFails_shouldSkipAndContinue() {
+        // given
+        dispatchQueue.offer(entry("hd-1", BASE.plusMinutes(10), BASE));
+        dispatchQueue.offer(entry("hd-2", BASE.plusMinutes(20), BASE));
+
+        when(commandService.assignDriverOnlyForSegment(any()))
+                .thenThrow(new OptimisticLockingFailureException("version conflict"))
+                .thenReturn(AssignDriverResult.success("hd-2", 0, "driver-2", "드라이버"));
+        when(hubDeliveryRepository.findById(HubDeliveryId.of("hd-1")))
+                .thenReturn(Optional.empty());
+
+        // when
+        DispatchResponse response = dispatchService.dispatch("hub-1", 10);
+
+        // then
+        assertThat(response.getAssignedCount()).isEqualTo(1);
+        assertThat(response.getDriverExhausted()).isFalse();
+        verify(commandService, never()).assignDriverForSegment(any());
+    }
+
+    @Test
+    @DisplayName("주기 보정은 직전 보정 이후 변경된 배송을 DB에서 다시 읽어 다른 인스턴스의 변경을 반영")
+    void reconcile_shouldApplyChangesFromOtherInstances() {
+        // given - 기동 후 다른 인스턴스에서 hd-new 생성, hd-stale 실패 처리
+        dispatchQueue.offer(entry("hd-stale", BASE.plusMinutes(10), BASE));
+        dispatchQueue.rebuild();
+
+        when(hubDeliveryRepository.findCursorsUpdatedSince(eq(HubDeliveryStatus.CREATED), notNull(), any(), anyInt()))
+                .thenReturn(List.of(new HubDeliveryCursor("hd-new", HubDeliveryStatus.CREATED, BASE)));
+        when(hubDeliveryRepository.findCursorsUpdatedSince(eq(HubDeliveryStatus.FAILED), notNull(), any(), anyInt()))
+                .thenReturn(List.of(new HubDeliveryCursor("hd-stale", HubDeliveryStatus.FAILED, BASE)));
+        when(hubDeliveryRepository.findAllByIds(List.of("hd-new")))
+                .thenReturn(List.of(pendingDelivery("hd-new")));
+        when(hubDeliveryRepository.findAllByIds(List.of("hd-stale")))
+                .thenReturn(List.of(delivery("hd-stale", HubDeliveryStatus.FAILED)));
+
+        // when
+        dispatchQueue.reconcile();
+
+        // then
+        assertThat(dispatchQueue.peek("hub-1", 10)).extracting(DispatchEntry::hubDeliveryId)
+                .containsExactly("hd-new");
+        verify(hubDeliveryRepository, never()).findStaleCursors(any(), any(), any(), any(), any(), anyInt());
+    }
+
+    // ===== Helper Methods =====
+
+    private DispatchEntry entry(String hubDeliveryId, LocalDateTime deadline, LocalDateTime readyAt) {
+        return new DispatchEntry(hubDeliveryId, "order-" + hubDeliveryId, 0, "hub-1", "hub-2", deadline, readyAt);
+    }
+
+    private DispatchEntry entryFrom(String hubDeliveryId, String fromHubId, LocalDateTime readyAt) {
+        return new DispatchEntry(hubDeliveryId, "order-" + hubDeliveryId, 0, fromHubId, "hub-2", null, readyAt);
+    }
+
+    private HubDelivery pendingDelivery(String id) {
+        return delivery(id, HubDeliveryStatus.CREATED);
+    }
+
+    private HubDelivery delivery(String id, HubDeliveryStatus status) {
+        return HubDelivery.reconstitute(
+                HubDeliveryId.of(id), "order-" + id, "hub-1", "hub-2",
+                List.of(HubSegment.create(0, "hub-1", "hub-2", 10000L, 30L)),
+                status, null, 0, null, null, 30L, null,
+                null, BASE.plusMinutes(20), 0L, BASE, "system", BASE, "system", null, null, false);
+    }
+}
@@ -0,0 +1,151 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.eta;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubLane;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * EtaEngine 단위 테스트
+ */
+class EtaEngineTest {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private HubDeliveryRepository hubDeliveryRepository;
+    private EtaEngine etaEngine;
+
+    @BeforeEach
+    void setUp() {
+        hubDeliveryRepository = mock(HubDeliveryRepository.class);
+        etaEngine = new EtaEngine(hubDeliveryRepository, 0.5, 3, 100, 30, 1000);
+    }
+
+    @Test
+    @DisplayName("표본이 부족하면 학습값을 사용하지 않음")
+    void predict_withInsufficientSamples_shouldReturnNull() {
+        // given
+        etaEngine.learn(arrivedSegment("hub-1", "hub-2", MORNING, 60L));
+        etaEngine.learn(arrivedSegment("hub-1", "hub-2", MORNING, 60L));
+
+        // when & then
+        assertThat(etaEngine.predict(HubLane.of("hub-1", "hub-2"), 9)).isNull();
+    }
+
+    @Test
+    @DisplayName("시간대별 지수이동평균으로 예측하고, 시간대 표본 부족 시 레인 전체 값 사용")
+    void predict_shouldUseHourlyThenLaneAverage() {
+        // given - 09시 40, 60, 80분 (alpha 0.5 → 40 → 50 → 65)
+        etaEngine.learn(arrivedSegment("hub-1", "hub-2", MORNING, 40L));
+        etaEngine.learn(arrivedSegment("hub-1", "hub-2", MORNING, 60L));
+        etaEngine.learn(arrivedSegment("hub-1", "hub-2", MORNING, 80L));
+
+        // when & then
+        HubLane lane = HubLane.of("hub-1", "hub-2");
+        assertThat(etaEngine.predict(lane, 9)).isEqualTo(65.0);
+        assertThat(etaEngine.predict(lane, 18)).isEqualTo(65.0);
+    }
+
+    @Test
+    @DisplayName("이동 중 구간은 경과 시간을 차감하고 미학습 구간은 정적 예상치 사용")
+    void estimate_inTransitDelivery_shouldCombineLearnedAndStatic() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            etaEngine.learn(arrivedSegment("hub-1", "hub-2", MORNING, 60L));
+        }
+
+        HubDelivery hubDelivery = HubDelivery.create(
+                "order-1",
+                "hub-1",
+                "hub-3",
+                List.of(
+                        HubSegment.create(0, "hub-1", "hub-2", 10000L, 30L),
+                        HubSegment.create(1, "hub-2", "hub-3", 15000L, 45L)
+                ),
+                "system"
+        );
+        hubDelivery.assignDriverToSegment(0, "driver-1");
+        hubDelivery.departSegment(0);
+
+        LocalDateTime now = hubDelivery.getSegment(0).getDepartedAt().plusMinutes(20);
+
+        // when
+        DeliveryEta eta = etaEngine.estimate(hubDelivery, now);
+
+        // then - 구간0: 60 - 20 = 40 (학습), 구간1: 45 (정적)
+        assertThat(eta.getRemainingMin()).isEqualTo(85L);
+        assertThat(eta.getEstimatedArrivalAt()).isEqualTo(now.plusMinutes(85));
+        assertThat(eta.getStaticRemainingMin()).isEqualTo(55L);
+        assertThat(eta.getRemainingSegments()).isEqualTo(2);
+        assertThat(eta.getLearnedSegments()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기동 시 최근 도착 구간으로 모델 초기화")
+    void warmUp_shouldLearnFromArrivedSegments() {
+        // given
+        when(hubDeliveryRepository.findArrivedSegmentsSince(any(), anyInt()))
+                .thenReturn(List.of(
+                        arrivedSegment("hub-1", "hub-2", MORNING, 30L),
+                        arrivedSegment("hub-1", "hub-2", MORNING, 30L),
+                        arrivedSegment("hub-1", "hub-2", MORNING, 30L)
+                ));
+
+        // when
+        etaEngine.warmUp();
+
+        // then
+        assertThat(etaEngine.getLaneCount()).isEqualTo(1);
+        assertThat(etaEngine.predict(HubLane.of("hub-1", "hub-2"), 9)).isEqualTo(30.0);
+        verify(hubDeliveryRepository).findArrivedSegmentsSince(any(), eq(1000));
+    }
+
+    @Test
+    @DisplayName("기동 시 초기화에 실패해도 예외를 던지지 않고 정적 예상치로 계산")
+    void warmUp_whenQueryFails_shouldFallBackToStaticEstimate() {
+        // given
+        when(hubDeliveryRepository.findArrivedSegmentsSince(any(), anyInt()))
+                .thenThrow(new IllegalStateException("DB 연결 실패"));
+
+        HubDelivery hubDelivery = HubDelivery.create(
+                "order-1",
+                "hub-1",
+                "hub-2",
+                List.of(HubSegment.create(0, "hub-1", "hub-2", 10000L, 30L)),
+                "system"
+        );
+
+        // when
+        assertThatCode(() -> etaEngine.warmUp()).doesNotThrowAnyException();
+        DeliveryEta eta = etaEngine.estimate(hubDelivery, MORNING);
+
+        // then
+        assertThat(etaEngine.getLaneCount()).isZero();
+        assertThat(eta.getRemainingMin()).isEqualTo(30L);
+        assertThat(eta.getLearnedSegments()).isZero();
+    }
+
+    private HubSegment arrivedSegment(String fromHubId, String toHubId,
+                                      LocalDateTime departedAt, Long actualDurationMin) {
+        return HubSegment.builder()
+                .sequence(0)
+                .fromHubId(fromHubId)
+                .toHubId(toHubId)
+                .status(HubSegmentStatus.ARRIVED)
+                .departedAt(departedAt)
+                .arrivedAt(departedAt.plusMinutes(actualDurationMin))
+                .actualDurationMin(actualDurationMin)
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.hubload;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubSegmentChangedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * HubLoadTracker 단위 테스트
+ */
+class HubLoadTrackerTest {
+
+    private HubDeliveryRepository hubDeliveryRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private HubLoadTracker hubLoadTracker;
+
+    @BeforeEach
+    void setUp() {
+        hubDeliveryRepository = mock(HubDeliveryRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        hubLoadTracker = new HubLoadTracker(hubDeliveryRepository, new HubDeliveryMetrics(meterRegistry), true);
+    }
+
+    @Test
+    @DisplayName("기동 시 허브별 집계 결과로 초기화하고 게이지 등록")
+    void rebuild_shouldInitializeFromGroupBy() {
+        // given
+        when(hubDeliveryRepository.countSegmentsByFromHub(HubSegmentStatus.PENDING))
+                .thenReturn(Map.of("hub-1", 3L, "hub-2", 1L));
+        when(hubDeliveryRepository.countSegmentsByToHub(HubSegmentStatus.IN_TRANSIT))
+                .thenReturn(Map.of("hub-2", 2L));
+
+        // when
+        hubLoadTracker.rebuild();
+
+        // then
+        assertThat(hubLoadTracker.getLoad("hub-1").getPendingSegments()).isEqualTo(3);
+        assertThat(hubLoadTracker.getLoad("hub-2").getInboundSegments()).isEqualTo(2);
+        assertThat(hubLoadTracker.getReconciledAt()).isNotNull();
+        assertThat(meterRegistry.get(HubDeliveryMetrics.HUB_PENDING_SEGMENTS)
+                .tag("hub_id", "hub-1").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("구간 전이마다 출발 허브 대기 수와 도착 허브 유입 수를 증감")
+    void onSegmentChanged_shouldAdjustCounters() {
+        // given - hub-1 → hub-2 → hub-3
+        HubDelivery hubDelivery = createTestHubDelivery();
+        hubLoadTracker.onSegmentChanged(HubSegmentChangedEvent.of(hubDelivery, 0, null));
+        hubLoadTracker.onSegmentChanged(HubSegmentChangedEvent.of(hubDelivery, 1, null));
+
+        assertThat(hubLoadTracker.getLoad("hub-1").getPendingSegments()).isEqualTo(1);
+        assertThat(hubLoadTracker.getLoad("hub-2").getPendingSegments()).isEqualTo(1);
+
+        // when - 첫 구간 배정 → 출발
+        hubDelivery.assignDriverToSegment(0, "driver-1");
+        hubLoadTracker.onSegmentChanged(HubSegmentChangedEvent.of(hubDelivery, 0, HubSegmentStatus.PENDING));
+        hubDelivery.departSegment(0);
+        hubLoadTracker.onSegmentChanged(HubSegmentChangedEvent.of(hubDelivery, 0, HubSegmentStatus.ASSIGNED));
+
+        // then
+        assertThat(hubLoadTracker.getLoad("hub-1").getPendingSegments()).isZero();
+        assertThat(hubLoadTracker.getLoad("hub-2").getInboundSegments()).isEqualTo(1);
+
+        // when - 도착
+        hubDelivery.arriveSegment(0);
+        hubLoadTracker.onSegmentChanged(HubSegmentChangedEvent.of(hubDelivery, 0, HubSegmentStatus.IN_TRANSIT));
+
+        // then
+        assertThat(hubLoadTracker.getLoad("hub-2").getInboundSegments()).isZero();
+        assertThat(hubLoadTracker.getLoad("hub-2").getPendingSegments()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("집계 전 감소 이벤트로 음수가 되면 0으로 조회하고 재집계로 정정")
+    void getLoad_negativeCounter_shouldClampToZero() {
+        // given
+        HubDelivery hubDelivery = createTestHubDelivery();
+        hubDelivery.assignDriverToSegment(0, "driver-1");
+        hubLoadTracker.onSegmentChanged(HubSegmentChangedEvent.of(hubDelivery, 0, HubSegmentStatus.PENDING));
+
+        assertThat(hubLoadTracker.getLoad("hub-1").getPendingSegments()).isZero();
+
+        // when
+        when(hubDeliveryRepository.countSegmentsByFromHub(HubSegmentStatus.PENDING))
+                .thenReturn(Map.of("hub-1", 2L));
+        when(hubDeliveryRepository.countSegmentsByToHub(HubSegmentStatus.IN_TRANSIT))
+                .thenReturn(Map.of());
+        hubLoadTracker.rebuild();
+
+        // then
+        assertThat(hubLoadTracker.getLoad("hub-1").getPendingSegments()).isEqualTo(2);
+    }
+
+    // ===== Helper Methods =====
+
+    private HubDelivery createTestHubDelivery() {
+        return HubDelivery.create("order-1", "hub-1", "hub-3", List.of(
+                HubSegment.create(0, "hub-1", "hub-2", 10000L, 30L),
+                HubSegment.create(1, "hub-2", "hub-3", 15000L, 45L)
+        ), "system");
+    }
+}
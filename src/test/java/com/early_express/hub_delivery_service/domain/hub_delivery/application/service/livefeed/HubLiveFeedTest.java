@@ -0,0 +1,211 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.livefeed;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubSegmentChangedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.livefeed.dto.LiveFeedDto.DeliveryChange;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.livefeed.dto.LiveFeedDto.Resync;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.livefeed.dto.LiveFeedDto.SegmentChange;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * HubLiveFeed 단위 테스트
+ *
+ * start()를 호출하지 않으면 tick()이 호출 스레드에서 바로 전송합니다.
+ */
+class HubLiveFeedTest {
+
+    @Test
+    @DisplayName("전송 주기 안에 같은 배송의 변경은 구간별 마지막 상태 하나로 합쳐 전송")
+    void tick_shouldCoalesceChangesPerDelivery() {
+        // given
+        HubLiveFeed feed = feed(256, Duration.ofMinutes(1), 10);
+        RecordingSink sink = new RecordingSink();
+        feed.subscribe("hub-1", sink);
+
+        HubSegment pending = HubSegment.create(0, "hub-1", "hub-2", 10000L, 30L);
+        HubSegment assigned = pending.assignDriver("driver-1");
+        feed.onSegmentChanged(event("hd-1", assigned, HubSegmentStatus.PENDING, HubDeliveryStatus.CREATED));
+        feed.onSegmentChanged(event("hd-1", assigned.depart(), HubSegmentStatus.ASSIGNED, HubDeliveryStatus.IN_PROGRESS));
+        feed.onSegmentChanged(event("hd-2", pending, null, HubDeliveryStatus.CREATED));
+
+        // when
+        feed.tick();
+
+        // then
+        assertThat(sink.eventNames()).containsExactly(HubLiveFeed.EVENT_CONNECTED,
+                HubLiveFeed.EVENT_DELIVERY, HubLiveFeed.EVENT_DELIVERY);
+
+        DeliveryChange change = (DeliveryChange) sink.events.get(1).data();
+        assertThat(change.getHubDeliveryId()).isEqualTo("hd-1");
+        assertThat(change.getCoalesced()).isEqualTo(2);
+        assertThat(change.getDeliveryStatus()).isEqualTo(HubDeliveryStatus.IN_PROGRESS);
+
+        SegmentChange segment = change.getSegments().get(0);
+        assertThat(segment.getDirection()).isEqualTo(LiveFeedSubscriber.OUTBOUND);
+        assertThat(segment.getPreviousStatus()).isEqualTo(HubSegmentStatus.PENDING);
+        assertThat(segment.getStatus()).isEqualTo(HubSegmentStatus.IN_TRANSIT);
+    }
+
+    @Test
+    @DisplayName("구간의 출발/도착 허브 구독자에게만 전달")
+    void onSegmentChanged_shouldRouteToFromAndToHubs() {
+        // given
+        HubLiveFeed feed = feed(256, Duration.ofMinutes(1), 10);
+        RecordingSink toHub = new RecordingSink();
+        RecordingSink otherHub = new RecordingSink();
+        feed.subscribe("hub-2", toHub);
+        feed.subscribe("hub-3", otherHub);
+
+        // when
+        feed.onSegmentChanged(event("hd-1", HubSegment.create(0, "hub-1", "hub-2", 10000L, 30L),
+                null, HubDeliveryStatus.CREATED));
+        feed.tick();
+
+        // then
+        assertThat(toHub.eventNames()).containsExactly(HubLiveFeed.EVENT_CONNECTED, HubLiveFeed.EVENT_DELIVERY);
+        assertThat(((DeliveryChange) toHub.events.get(1).data()).getSegments().get(0).getDirection())
+                .isEqualTo(LiveFeedSubscriber.INBOUND);
+        assertThat(otherHub.eventNames()).containsExactly(HubLiveFeed.EVENT_CONNECTED);
+    }
+
+    @Test
+    @DisplayName("버퍼가 넘치면 변경을 버리고 resync 전송 후 다시 정상 전달")
+    void offer_overBufferSize_shouldRequestResync() {
+        // given
+        HubLiveFeed feed = feed(2, Duration.ofMinutes(1), 10);
+        RecordingSink sink = new RecordingSink();
+        feed.subscribe("hub-1", sink);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            feed.onSegmentChanged(event("hd-" + i, HubSegment.create(0, "hub-1", "hub-2", 10000L, 30L),
+                    null, HubDeliveryStatus.CREATED));
+        }
+        feed.tick();
+        feed.onSegmentChanged(event("hd-9", HubSegment.create(0, "hub-1", "hub-2", 10000L, 30L),
+                null, HubDeliveryStatus.CREATED));
+        feed.tick();
+
+        // then
+        assertThat(sink.eventNames()).containsExactly(HubLiveFeed.EVENT_CONNECTED,
+                HubLiveFeed.EVENT_RESYNC, HubLiveFeed.EVENT_DELIVERY);
+        assertThat(((Resync) sink.events.get(1).data()).getDroppedChanges()).isEqualTo(3);
+        assertThat(((DeliveryChange) sink.events.get(2).data()).getHubDeliveryId()).isEqualTo("hd-9");
+    }
+
+    @Test
+    @DisplayName("보낼 변경이 없으면 하트비트만 전송")
+    void tick_withoutChanges_shouldSendHeartbeat() {
+        // given
+        HubLiveFeed feed = feed(256, Duration.ZERO, 10);
+        RecordingSink sink = new RecordingSink();
+        feed.subscribe("hub-1", sink);
+
+        // when
+        feed.tick();
+
+        // then
+        assertThat(sink.heartbeats).isEqualTo(1);
+        assertThat(sink.eventNames()).containsExactly(HubLiveFeed.EVENT_CONNECTED);
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 구독자는 해제")
+    void tick_onSendFailure_shouldUnsubscribe() {
+        // given
+        HubLiveFeed feed = feed(256, Duration.ofMinutes(1), 10);
+        RecordingSink sink = new RecordingSink();
+        feed.subscribe("hub-1", sink);
+        sink.failing = true;
+
+        // when
+        feed.onSegmentChanged(event("hd-1", HubSegment.create(0, "hub-1", "hub-2", 10000L, 30L),
+                null, HubDeliveryStatus.CREATED));
+        feed.tick();
+
+        // then
+        assertThat(feed.getSubscriberCount()).isZero();
+        assertThat(sink.completed).isTrue();
+    }
+
+    @Test
+    @DisplayName("구독자 수가 한도에 도달하면 구독 시 예외 발생")
+    void subscribe_overMaxSubscribers_shouldThrowException() {
+        // given
+        HubLiveFeed feed = feed(256, Duration.ofMinutes(1), 1);
+        feed.subscribe("hub-1", new RecordingSink());
+
+        // when & then
+        assertThatThrownBy(() -> feed.subscribe("hub-1", new RecordingSink()))
+                .isInstanceOf(HubDeliveryException.class);
+    }
+
+    // ===== Helper Methods =====
+
+    private HubLiveFeed feed(int bufferSize, Duration heartbeatInterval, int maxSubscribers) {
+        return new HubLiveFeed(new HubDeliveryMetrics(new SimpleMeterRegistry()), true, bufferSize,
+                Duration.ofMillis(500), heartbeatInterval, Duration.ofMinutes(30), maxSubscribers);
+    }
+
+    private HubSegmentChangedEvent event(String hubDeliveryId, HubSegment segment,
+                                         HubSegmentStatus previousStatus, HubDeliveryStatus deliveryStatus) {
+        return HubSegmentChangedEvent.builder()
+                .hubDeliveryId(hubDeliveryId)
+                .orderId("order-" + hubDeliveryId)
+                .deliveryStatus(deliveryStatus)
+                .segment(segment)
+                .previousStatus(previousStatus)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static class RecordingSink implements LiveFeedSink {
+
+        private final List<SentEvent> events = new ArrayList<>();
+        private int heartbeats;
+        private boolean failing;
+        private boolean completed;
+
+        @Override
+        public void send(long eventId, String eventName, Object data) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            events.add(new SentEvent(eventId, eventName, data));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            heartbeats++;
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        private List<String> eventNames() {
+            return events.stream().map(SentEvent::name).toList();
+        }
+    }
+
+    private record SentEvent(long id, String name, Object data) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.manifest;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch.DispatchEntry;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch.DispatchQueue;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ConsolidationPlanner 단위 테스트
+ */
+class ConsolidationPlannerTest {
+
+    // 현재 웨이브보다 뒤인 날짜 (웨이브 2시간 단위: 08:00, 10:00, ...)
+    private static final LocalDateTime TOMORROW = LocalDate.now().plusDays(1).atTime(LocalTime.MIDNIGHT);
+
+    private SimpleMeterRegistry meterRegistry;
+    private HubDeliveryRepository hubDeliveryRepository;
+    private DispatchQueue dispatchQueue;
+    private ConsolidationPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        HubDeliveryMetrics metrics = new HubDeliveryMetrics(meterRegistry);
+
+        hubDeliveryRepository = mock(HubDeliveryRepository.class);
+        dispatchQueue = new DispatchQueue(hubDeliveryRepository, metrics, 100, Duration.ofMinutes(1));
+        // 웨이브 2시간, 편성 구간 4시간, 트럭 용량 3, 레인별 조회 10
+        planner = new ConsolidationPlanner(dispatchQueue, metrics, Duration.ofHours(2), Duration.ofHours(4), 3, 10);
+    }
+
+    @Test
+    @DisplayName("편성 구간 안의 마감은 첫 구간 웨이브에 함께 싣고, 용량/구간을 넘으면 다음 적재로, 마감 없는 구간은 빈 자리에 채움")
+    void propose_shouldConsolidateWithinWindowAndCapacity() {
+        // given
+        dispatchQueue.offer(entry("hd-1", "hub-2", TOMORROW.plusHours(8).plusMinutes(10)));
+        dispatchQueue.offer(entry("hd-2", "hub-2", TOMORROW.plusHours(9).plusMinutes(30)));
+        dispatchQueue.offer(entry("hd-3", "hub-2", TOMORROW.plusHours(11)));
+        dispatchQueue.offer(entry("hd-4", "hub-2", TOMORROW.plusHours(12).plusMinutes(10)));
+        dispatchQueue.offer(entry("hd-5", "hub-2", null));
+
+        // when
+        List<ConsolidatedLoad> loads = planner.propose("hub-1", Set.of());
+
+        // then
+        assertThat(loads).hasSize(2);
+        assertThat(loads.get(0).waveStartAt()).isEqualTo(TOMORROW.plusHours(8));
+        assertThat(loads.get(0).entries()).extracting(DispatchEntry::hubDeliveryId)
+                .containsExactly("hd-1", "hd-2", "hd-3");
+        assertThat(loads.get(1).waveStartAt()).isEqualTo(TOMORROW.plusHours(12));
+        assertThat(loads.get(1).entries()).extracting(DispatchEntry::hubDeliveryId)
+                .containsExactly("hd-4", "hd-5");
+        assertThat(loads.get(1).departureDeadline()).isEqualTo(TOMORROW.plusHours(12).plusMinutes(10));
+    }
+
+    @Test
+    @DisplayName("변경이 없는 레인은 이전 편성 결과를 재사용하고, 구간이 추가된 레인만 다시 편성")
+    void propose_shouldReplanChangedLanesOnly() {
+        // given
+        dispatchQueue.offer(entry("hd-1", "hub-2", TOMORROW.plusHours(8)));
+        dispatchQueue.offer(entry("hd-2", "hub-3", TOMORROW.plusHours(8)));
+        planner.propose("hub-1", Set.of());
+
+        // when
+        planner.propose("hub-1", Set.of());
+        dispatchQueue.offer(entry("hd-3", "hub-2", TOMORROW.plusHours(9)));
+        List<ConsolidatedLoad> loads = planner.propose("hub-1", Set.of());
+
+        // then
+        assertThat(laneCount("replanned")).isEqualTo(3.0);  // 최초 2 + 추가된 레인 1
+        assertThat(laneCount("reused")).isEqualTo(3.0);     // 변경 없음 2 + 변경 없는 레인 1
+        assertThat(loads).extracting(load -> load.lane().getToHubId(), ConsolidatedLoad::size)
+                .containsExactly(tuple("hub-2", 2), tuple("hub-3", 1));
+    }
+
+    @Test
+    @DisplayName("이미 편성된 구간이 바뀌면 해당 레인을 다시 편성하고, 대기 구간이 없어진 레인은 제안하지 않음")
+    void propose_shouldReplanWhenExcludedKeysChange() {
+        // given
+        dispatchQueue.offer(entry("hd-1", "hub-2", TOMORROW.plusHours(8)));
+        dispatchQueue.offer(entry("hd-2", "hub-2", TOMORROW.plusHours(9)));
+        dispatchQueue.offer(entry("hd-3", "hub-3", TOMORROW.plusHours(8)));
+        planner.propose("hub-1", Set.of());
+
+        // when
+        dispatchQueue.remove("hd-3", 0);
+        List<ConsolidatedLoad> loads = planner.propose("hub-1", Set.of("hd-1:0", "unknown:0"));
+
+        // then
+        assertThat(loads).hasSize(1);
+        assertThat(loads.get(0).entries()).extracting(DispatchEntry::hubDeliveryId).containsExactly("hd-2");
+        assertThat(laneCount("replanned")).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("레인마다 scan-limit개까지만 읽어 편성 (이미 편성된 구간은 한도에서 제외)")
+    void propose_shouldReadUpToScanLimitPerLane() {
+        // given
+        ConsolidationPlanner limited = new ConsolidationPlanner(dispatchQueue,
+                new HubDeliveryMetrics(meterRegistry), Duration.ofHours(2), Duration.ofHours(4), 3, 2);
+        dispatchQueue.offer(entry("hd-1", "hub-2", TOMORROW.plusHours(8)));
+        dispatchQueue.offer(entry("hd-2", "hub-2", TOMORROW.plusHours(8).plusMinutes(10)));
+        dispatchQueue.offer(entry("hd-3", "hub-2", TOMORROW.plusHours(8).plusMinutes(20)));
+        dispatchQueue.offer(entry("hd-4", "hub-2", TOMORROW.plusHours(8).plusMinutes(30)));
+
+        // when
+        List<ConsolidatedLoad> loads = limited.propose("hub-1", Set.of("hd-1:0"));
+
+        // then
+        assertThat(loads).singleElement()
+                .satisfies(load -> assertThat(load.entries()).extracting(DispatchEntry::hubDeliveryId)
+                        .containsExactly("hd-2", "hd-3"));
+    }
+
+    @Test
+    @DisplayName("편성 전 대기열을 DB 기준으로 보정하고, 보정으로 같은 항목이 다시 들어와도 레인을 다시 편성하지 않음")
+    void propose_shouldReconcileQueueBeforePlanning() {
+        // given
+        dispatchQueue.rebuild();
+        DispatchEntry entry = entry("hd-1", "hub-2", TOMORROW.plusHours(8));
+        dispatchQueue.offer(entry);
+        planner.propose("hub-1", Set.of());
+
+        // when
+        dispatchQueue.offer(entry);
+        planner.propose("hub-1", Set.of());
+
+        // then
+        verify(hubDeliveryRepository, atLeastOnce()).findCursorsUpdatedSince(any(), notNull(), any(), anyInt());
+        assertThat(laneCount("replanned")).isEqualTo(1.0);
+        assertThat(laneCount("reused")).isEqualTo(1.0);
+    }
+
+    private double laneCount(String result) {
+        return meterRegistry.get(HubDeliveryMetrics.CONSOLIDATION_LANES).tag("result", result).counter().count();
+    }
+
+    private DispatchEntry entry(String hubDeliveryId, String toHubId, LocalDateTime deadline) {
+        return new DispatchEntry(hubDeliveryId, "order-" + hubDeliveryId, 0, "hub-1", toHubId,
+                deadline, TOMORROW.minusDays(1));
+    }
+}
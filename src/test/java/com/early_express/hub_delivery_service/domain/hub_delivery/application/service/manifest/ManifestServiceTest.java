@@ -0,0 +1,308 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.manifest;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.HubDeliveryCommandService;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.ManifestCommand;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.ManifestItemResult;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch.DispatchEntry;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.dispatch.DispatchQueue;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.manifest.dto.ManifestDto.ManifestItemResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.manifest.dto.ManifestDto.ManifestPlanResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.manifest.dto.ManifestDto.ManifestResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryErrorCode;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.Manifest;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestId;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestItem;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.ManifestRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver.HubDriverClient;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver.dto.DriverAssignRequest;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver.dto.DriverAssignResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import com.early_express.hub_delivery_service.global.infrastructure.lease.ShardLeaseManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ManifestService 단위 테스트
+ */
+class ManifestServiceTest {
+
+    // 현재 웨이브보다 뒤인 날짜 (웨이브 2시간 단위: 08:00, 10:00, ...)
+    private static final LocalDateTime TOMORROW = LocalDate.now().plusDays(1).atTime(LocalTime.MIDNIGHT);
+
+    private ManifestRepository manifestRepository;
+    private HubDeliveryCommandService commandService;
+    private HubDriverClient hubDriverClient;
+    private DispatchQueue dispatchQueue;
+    private ShardLeaseManager shardLeaseManager;
+    private ManifestService manifestService;
+
+    @BeforeEach
+    void setUp() {
+        manifestRepository = mock(ManifestRepository.class);
+        commandService = mock(HubDeliveryCommandService.class);
+        hubDriverClient = mock(HubDriverClient.class);
+        HubDeliveryMetrics metrics = new HubDeliveryMetrics(new SimpleMeterRegistry());
+
+        dispatchQueue = new DispatchQueue(mock(HubDeliveryRepository.class), metrics, 100, Duration.ofMinutes(1));
+        ConsolidationPlanner planner = new ConsolidationPlanner(dispatchQueue, metrics,
+                Duration.ofHours(2), Duration.ofHours(2), 2, 100);
+        shardLeaseManager = mock(ShardLeaseManager.class);
+        manifestService = new ManifestService(manifestRepository, planner, commandService, hubDriverClient, metrics,
+                shardLeaseManager, mock(PlatformTransactionManager.class), Duration.ofMinutes(1));
+
+        when(manifestRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(shardLeaseManager.tryAcquire(anyString(), any())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("레인과 출발 웨이브별로 묶고 최대 구간 수를 넘으면 나누며, 이미 편성된 구간은 제외")
+    void plan_shouldGroupByLaneAndWave() {
+        // given
+        dispatchQueue.offer(entry("hd-1", "hub-2", TOMORROW.plusHours(8).plusMinutes(10)));
+        dispatchQueue.offer(entry("hd-2", "hub-2", TOMORROW.plusHours(9).plusMinutes(50)));
+        dispatchQueue.offer(entry("hd-3", "hub-2", TOMORROW.plusHours(9)));
+        dispatchQueue.offer(entry("hd-4", "hub-2", TOMORROW.plusHours(10).plusMinutes(30)));
+        dispatchQueue.offer(entry("hd-5", "hub-3", TOMORROW.plusHours(8).plusMinutes(30)));
+        dispatchQueue.offer(entry("hd-planned", "hub-3", TOMORROW.plusHours(8)));
+        when(manifestRepository.findOpenItemKeys("hub-1")).thenReturn(Set.of("hd-planned:0"));
+
+        // when
+        ManifestPlanResponse response = manifestService.plan("hub-1", "hub-manager-1");
+
+        // then
+        List<ManifestResponse> manifests = response.getManifests();
+        assertThat(response.getPlannedSegments()).isEqualTo(5);
+        assertThat(manifests).extracting(ManifestResponse::getToHubId)
+                .containsExactly("hub-2", "hub-3", "hub-2", "hub-2");
+        assertThat(manifests).extracting(ManifestResponse::getWaveStartAt)
+                .containsExactly(TOMORROW.plusHours(8), TOMORROW.plusHours(8),
+                        TOMORROW.plusHours(8), TOMORROW.plusHours(10));
+        assertThat(manifests.get(0).getItems()).extracting(ManifestItemResponse::getHubDeliveryId)
+                .containsExactly("hd-1", "hd-3");
+        assertThat(manifests.get(0).getDepartureDeadline()).isEqualTo(TOMORROW.plusHours(8).plusMinutes(10));
+        assertThat(manifests).allMatch(manifest -> manifest.getStatus() == ManifestStatus.PLANNED);
+        verify(shardLeaseManager).release("manifest-plan:hub-1");
+    }
+
+    @Test
+    @DisplayName("다른 요청이 같은 허브를 편성 중이면 조회/저장 없이 예외 발생")
+    void plan_whileAnotherPlanHoldsLease_shouldThrowException() {
+        // given
+        dispatchQueue.offer(entry("hd-1", "hub-2", TOMORROW.plusHours(8).plusMinutes(10)));
+        when(shardLeaseManager.tryAcquire(eq("manifest-plan:hub-1"), any())).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> manifestService.plan("hub-1", "hub-manager-1"))
+                .isInstanceOf(HubDeliveryException.class)
+                .extracting("errorCode")
+                .isEqualTo(HubDeliveryErrorCode.MANIFEST_PLAN_IN_PROGRESS);
+        verify(manifestRepository, never()).findOpenItemKeys(any());
+        verify(manifestRepository, never()).save(any());
+        verify(shardLeaseManager, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("드라이버 서비스는 적재 목록당 한 번 호출하고, 배정되지 않은 구간은 목록에서 제외")
+    void assignDriver_shouldCallDriverServiceOnceAndDropUnassignedItems() {
+        // given
+        Manifest manifest = plannedManifest("hd-1", "hd-2", "hd-3");
+        when(manifestRepository.findById(ManifestId.of("manifest-1"))).thenReturn(Optional.of(manifest));
+        when(hubDriverClient.assignDriver(any())).thenReturn(driver("driver-truck-1"));
+        when(commandService.assignManifest(any())).thenReturn(List.of(
+                ManifestItemResult.success("hd-1", 0, "ASSIGNED"),
+                ManifestItemResult.failed("hd-2", 0, "드라이버를 배정할 수 없는 구간입니다."),
+                ManifestItemResult.success("hd-3", 0, "ASSIGNED")));
+
+        // when
+        ManifestResponse response = manifestService.assignDriver("manifest-1");
+
+        // then
+        ArgumentCaptor<DriverAssignRequest> request = ArgumentCaptor.forClass(DriverAssignRequest.class);
+        verify(hubDriverClient, times(1)).assignDriver(request.capture());
+        assertThat(request.getValue().getManifestId()).isEqualTo("manifest-1");
+        assertThat(request.getValue().getDeliveryCount()).isEqualTo(3);
+
+        ArgumentCaptor<ManifestCommand> command = ArgumentCaptor.forClass(ManifestCommand.class);
+        verify(commandService).assignManifest(command.capture());
+        assertThat(command.getValue().getDriverId()).isEqualTo("driver-truck-1");
+        assertThat(command.getValue().getSegments()).hasSize(3);
+
+        assertThat(response.getStatus()).isEqualTo(ManifestStatus.ASSIGNED);
+        assertThat(response.getDriverId()).isEqualTo("driver-truck-1");
+        assertThat(response.getItems()).extracting(ManifestItemResponse::getHubDeliveryId)
+                .containsExactly("hd-1", "hd-3");
+    }
+
+    @Test
+    @DisplayName("배정할 구간이 없으면 드라이버를 반환하고 적재 목록을 취소")
+    void assignDriver_withNoAssignableItems_shouldCancelManifest() {
+        // given
+        Manifest manifest = plannedManifest("hd-1");
+        when(manifestRepository.findById(ManifestId.of("manifest-1"))).thenReturn(Optional.of(manifest));
+        when(hubDriverClient.assignDriver(any())).thenReturn(driver("driver-truck-1"));
+        when(commandService.assignManifest(any())).thenReturn(List.of(
+                ManifestItemResult.failed("hd-1", 0, "드라이버를 배정할 수 없는 구간입니다.")));
+
+        // when
+        ManifestResponse response = manifestService.assignDriver("manifest-1");
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(ManifestStatus.CANCELLED);
+        verify(hubDriverClient).cancelDelivery("driver-truck-1");
+    }
+
+    @Test
+    @DisplayName("가용 드라이버가 없으면 구간을 변경하지 않고 예외 발생")
+    void assignDriver_withoutDriver_shouldThrowException() {
+        // given
+        Manifest manifest = plannedManifest("hd-1");
+        when(manifestRepository.findById(ManifestId.of("manifest-1"))).thenReturn(Optional.of(manifest));
+        when(hubDriverClient.assignDriver(any())).thenReturn(driver(null));
+
+        // when & then
+        assertThatThrownBy(() -> manifestService.assignDriver("manifest-1"))
+                .isInstanceOf(HubDeliveryException.class);
+        verifyNoInteractions(commandService);
+        verify(manifestRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("도착 시 구간별 통지 없이 드라이버 완료 통지는 한 번만 전송")
+    void arrive_shouldNotifyDriverOncePerManifest() {
+        // given
+        Manifest manifest = plannedManifest("hd-1", "hd-2");
+        manifest.assignDriver("driver-truck-1", manifest.getItems());
+        manifest.depart(manifest.getItems());
+        when(manifestRepository.findById(ManifestId.of("manifest-1"))).thenReturn(Optional.of(manifest));
+        when(commandService.arriveManifest(any())).thenReturn(List.of(
+                ManifestItemResult.success("hd-1", 0, "ARRIVED"),
+                ManifestItemResult.success("hd-2", 0, "ARRIVED")));
+
+        // when
+        ManifestResponse response = manifestService.arrive("manifest-1");
+
+        // then
+        ArgumentCaptor<ManifestCommand> command = ArgumentCaptor.forClass(ManifestCommand.class);
+        verify(commandService).arriveManifest(command.capture());
+        assertThat(command.getValue().getManifestId()).isEqualTo("manifest-1");
+        assertThat(command.getValue().getSegments()).hasSize(2);
+
+        assertThat(response.getStatus()).isEqualTo(ManifestStatus.ARRIVED);
+        verify(hubDriverClient, times(1)).completeDelivery(eq("driver-truck-1"), any());
+        assertThat(response.getItemResults()).extracting(ManifestItemResult::getHubDeliveryId)
+                .containsExactly("hd-1", "hd-2");
+    }
+
+    @Test
+    @DisplayName("출발하지 못한 구간은 목록에서 제외하고 같은 트랜잭션에서 배정 해제")
+    void depart_shouldReleaseDroppedItems() {
+        // given
+        Manifest manifest = plannedManifest("hd-1", "hd-2", "hd-3");
+        manifest.assignDriver("driver-truck-1", manifest.getItems());
+        when(manifestRepository.findById(ManifestId.of("manifest-1"))).thenReturn(Optional.of(manifest));
+        when(commandService.departManifest(any())).thenReturn(List.of(
+                ManifestItemResult.success("hd-1", 0, "IN_TRANSIT"),
+                ManifestItemResult.failed("hd-2", 0, "이전 구간이 완료되지 않았습니다."),
+                ManifestItemResult.success("hd-3", 0, "IN_TRANSIT")));
+
+        // when
+        ManifestResponse response = manifestService.depart("manifest-1");
+
+        // then
+        ArgumentCaptor<ManifestCommand> command = ArgumentCaptor.forClass(ManifestCommand.class);
+        verify(commandService).releaseManifestSegments(command.capture());
+        assertThat(command.getValue().getManifestId()).isEqualTo("manifest-1");
+        assertThat(command.getValue().getDriverId()).isEqualTo("driver-truck-1");
+        assertThat(command.getValue().getSegments()).extracting(segment -> segment.getHubDeliveryId())
+                .containsExactly("hd-2");
+
+        assertThat(response.getStatus()).isEqualTo(ManifestStatus.IN_TRANSIT);
+        assertThat(response.getItems()).extracting(ManifestItemResponse::getHubDeliveryId)
+                .containsExactly("hd-1", "hd-3");
+    }
+
+    @Test
+    @DisplayName("모든 구간이 출발하면 배정 해제를 요청하지 않음")
+    void depart_withAllItemsDeparted_shouldNotRelease() {
+        // given
+        Manifest manifest = plannedManifest("hd-1");
+        manifest.assignDriver("driver-truck-1", manifest.getItems());
+        when(manifestRepository.findById(ManifestId.of("manifest-1"))).thenReturn(Optional.of(manifest));
+        when(commandService.departManifest(any())).thenReturn(List.of(
+                ManifestItemResult.success("hd-1", 0, "IN_TRANSIT")));
+
+        // when
+        manifestService.depart("manifest-1");
+
+        // then
+        verify(commandService, never()).releaseManifestSegments(any());
+    }
+
+    @Test
+    @DisplayName("드라이버 확보 이후 트랜잭션이 롤백되면 드라이버를 반환")
+    void assignDriver_whenRolledBack_shouldCancelDriver() {
+        // given
+        Manifest manifest = plannedManifest("hd-1");
+        when(manifestRepository.findById(ManifestId.of("manifest-1"))).thenReturn(Optional.of(manifest));
+        when(hubDriverClient.assignDriver(any())).thenReturn(driver("driver-truck-1"));
+        when(commandService.assignManifest(any())).thenReturn(List.of(
+                ManifestItemResult.success("hd-1", 0, "ASSIGNED")));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            manifestService.assignDriver("manifest-1");
+            verify(hubDriverClient, never()).cancelDelivery(any());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        verify(hubDriverClient).cancelDelivery("driver-truck-1");
+    }
+
+    private Manifest plannedManifest(String... hubDeliveryIds) {
+        List<ManifestItem> items = Arrays.stream(hubDeliveryIds)
+                .map(id -> ManifestItem.of(id, 0, "order-" + id, TOMORROW.plusHours(9)))
+                .toList();
+        return Manifest.reconstitute(ManifestId.of("manifest-1"), "hub-1", "hub-2", TOMORROW.plusHours(8),
+                TOMORROW.plusHours(9), items, ManifestStatus.PLANNED, null, null, null, null,
+                LocalDateTime.now(), "system", null, null);
+    }
+
+    private DriverAssignResponse driver(String driverId) {
+        return DriverAssignResponse.builder()
+                .driverId(driverId)
+                .driverName("트럭 기사")
+                .build();
+    }
+
+    private DispatchEntry entry(String hubDeliveryId, String toHubId, LocalDateTime deadline) {
+        return new DispatchEntry(hubDeliveryId, "order-" + hubDeliveryId, 0, "hub-1", toHubId,
+                deadline, TOMORROW.minusDays(1));
+    }
+}
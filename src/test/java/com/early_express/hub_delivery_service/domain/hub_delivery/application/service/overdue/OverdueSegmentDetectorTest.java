@@ -0,0 +1,163 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.overdue;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubDeliveryEventPublisher;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubSegmentChangedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.eta.EtaEngine;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentSnapshot;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OverdueSegmentDetector 단위 테스트
+ */
+class OverdueSegmentDetectorTest {
+
+    private HubDeliveryRepository hubDeliveryRepository;
+    private HubDeliveryEventPublisher eventPublisher;
+    private SimpleMeterRegistry meterRegistry;
+    private OverdueSegmentDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        hubDeliveryRepository = mock(HubDeliveryRepository.class);
+        eventPublisher = mock(HubDeliveryEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        detector = new OverdueSegmentDetector(hubDeliveryRepository, eventPublisher, mock(EtaEngine.class),
+                new HubDeliveryMetrics(meterRegistry), true,
+                Duration.ofSeconds(1), 60, Duration.ofMinutes(10), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        detector.stop();
+    }
+
+    @Test
+    @DisplayName("기동 시 이동 중 구간을 배치 단위로 이어서 조회하여 감시 등록")
+    void start_shouldLoadInTransitSegmentsInBatches() {
+        // given - 배치 크기 2, 이동 중 구간 3건
+        LocalDateTime now = LocalDateTime.now();
+        HubSegmentSnapshot first = snapshot("hd-1", inTransit(0, now));
+        HubSegmentSnapshot second = snapshot("hd-2", inTransit(0, now));
+        HubSegmentSnapshot third = snapshot("hd-3", inTransit(0, now));
+        when(hubDeliveryRepository.findSegmentsByStatus(HubSegmentStatus.IN_TRANSIT, null, 2))
+                .thenReturn(List.of(first, second));
+        when(hubDeliveryRepository.findSegmentsByStatus(HubSegmentStatus.IN_TRANSIT, second, 2))
+                .thenReturn(List.of(third));
+
+        // when
+        detector.start();
+
+        // then
+        assertThat(detector.getWatchedCount()).isEqualTo(3);
+        verify(hubDeliveryRepository, times(2)).findSegmentsByStatus(eq(HubSegmentStatus.IN_TRANSIT), any(), eq(2));
+    }
+
+    @Test
+    @DisplayName("예상 도착 시각 + 유예 시간이 지나도 이동 중이면 지연 이벤트 발행")
+    void advance_whenOverdue_shouldPublishDelayed() {
+        // given - 60분 전 출발, 예상 30분 + 유예 10분 초과
+        LocalDateTime departedAt = LocalDateTime.now().minusMinutes(60);
+        HubSegment segment = inTransit(0, departedAt);
+        detector.onSegmentChanged(event("hd-1", segment));
+
+        HubDelivery hubDelivery = mock(HubDelivery.class);
+        when(hubDelivery.getSegment(0)).thenReturn(segment);
+        when(hubDeliveryRepository.findById(any())).thenReturn(Optional.of(hubDelivery));
+
+        // when
+        detector.advance();
+
+        // then
+        verify(eventPublisher).publishSegmentDelayed(hubDelivery, segment, departedAt.plusMinutes(30));
+        assertThat(detector.getWatchedCount()).isZero();
+        assertThat(overdueCount(OverdueSegmentDetector.OUTCOME_PUBLISHED)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("만료 시 다른 인스턴스에서 이미 도착 처리된 구간은 발행하지 않음")
+    void advance_whenArrivedElsewhere_shouldSkip() {
+        // given
+        HubSegment segment = inTransit(0, LocalDateTime.now().minusMinutes(60));
+        detector.onSegmentChanged(event("hd-1", segment));
+
+        HubDelivery hubDelivery = mock(HubDelivery.class);
+        when(hubDelivery.getSegment(0)).thenReturn(segment.arrive());
+        when(hubDeliveryRepository.findById(any())).thenReturn(Optional.of(hubDelivery));
+
+        // when
+        detector.advance();
+
+        // then
+        verifyNoInteractions(eventPublisher);
+        assertThat(overdueCount(OverdueSegmentDetector.OUTCOME_STALE)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("도착 이벤트를 받으면 감시를 해제하여 만료되어도 조회/발행하지 않음")
+    void onSegmentChanged_whenArrived_shouldClearWatch() {
+        // given
+        HubSegment segment = inTransit(0, LocalDateTime.now().minusMinutes(60));
+        detector.onSegmentChanged(event("hd-1", segment));
+        assertThat(detector.getWatchedCount()).isEqualTo(1);
+
+        // when
+        detector.onSegmentChanged(event("hd-1", segment.arrive()));
+        detector.advance();
+
+        // then
+        assertThat(detector.getWatchedCount()).isZero();
+        verify(hubDeliveryRepository, never()).findById(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    // ===== Helper Methods =====
+
+    private HubSegment inTransit(int sequence, LocalDateTime departedAt) {
+        return HubSegment.builder()
+                .sequence(sequence)
+                .fromHubId("hub-1")
+                .toHubId("hub-2")
+                .estimatedDurationMin(30L)
+                .driverId("driver-1")
+                .status(HubSegmentStatus.IN_TRANSIT)
+                .departedAt(departedAt)
+                .build();
+    }
+
+    private HubSegmentSnapshot snapshot(String hubDeliveryId, HubSegment segment) {
+        return HubSegmentSnapshot.of(hubDeliveryId, "order-" + hubDeliveryId, segment);
+    }
+
+    private HubSegmentChangedEvent event(String hubDeliveryId, HubSegment segment) {
+        return HubSegmentChangedEvent.builder()
+                .hubDeliveryId(hubDeliveryId)
+                .orderId("order-" + hubDeliveryId)
+                .segment(segment)
+                .build();
+    }
+
+    private double overdueCount(String outcome) {
+        return meterRegistry.get(HubDeliveryMetrics.SEGMENT_OVERDUE)
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,157 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubSegmentChangedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * HubDwellStatistics 단위 테스트
+ */
+class HubDwellStatisticsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private HubDwellStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        statistics = new HubDwellStatistics(new HubDeliveryMetrics(meterRegistry),
+                3, Duration.ofHours(1), 3, 0.01);
+    }
+
+    @Test
+    @DisplayName("체류 시간 분위수를 상대 오차 이내로 근사")
+    void record_shouldApproximateQuantilesWithinRelativeAccuracy() {
+        // given - 1분 ~ 100분
+        LocalDateTime now = LocalDateTime.now();
+        for (int minutes = 1; minutes <= 100; minutes++) {
+            statistics.record("hub-2", Duration.ofMinutes(minutes), now, false);
+        }
+
+        // when
+        QuantileSketch sketch = statistics.findHub("hub-2").orElseThrow().window(now.minusHours(1));
+
+        // then
+        assertThat(sketch.getCount()).isEqualTo(100);
+        assertThat(sketch.getMean()).isCloseTo(50.5 * 60, within(0.01));
+        assertThat(sketch.quantile(0.5)).isCloseTo(50 * 60.0, withinPercentage(1));
+        assertThat(sketch.quantile(0.9)).isCloseTo(90 * 60.0, withinPercentage(1));
+        assertThat(sketch.quantile(1.0)).isCloseTo(100 * 60.0, withinPercentage(1));
+    }
+
+    @Test
+    @DisplayName("출발 시각 기준 시간 버킷별로 나누어 집계하고 보관 범위 밖 버킷은 제거")
+    void record_shouldSplitByTimeBucketAndEvictOldBuckets() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2025, 1, 20, 9, 30);
+        statistics.record("hub-2", Duration.ofMinutes(10), base, false);
+        statistics.record("hub-2", Duration.ofMinutes(20), base.plusHours(1), false);
+        statistics.record("hub-2", Duration.ofMinutes(30), base.plusHours(2), false);
+
+        // when - 보관 버킷 3개 초과
+        statistics.record("hub-2", Duration.ofMinutes(40), base.plusHours(3), false);
+
+        // then
+        HubDwell hub = statistics.findHub("hub-2").orElseThrow();
+        assertThat(hub.getBuckets(base.minusDays(1)))
+                .extracting(HubDwell.TimeBucket::start)
+                .containsExactly(
+                        LocalDateTime.of(2025, 1, 20, 10, 0),
+                        LocalDateTime.of(2025, 1, 20, 11, 0),
+                        LocalDateTime.of(2025, 1, 20, 12, 0));
+        assertThat(hub.window(base.plusHours(2)).getCount()).isEqualTo(2);
+        assertThat(hub.getDepartures()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("허브 수 상한 초과 시 OVERFLOW 허브에 합산")
+    void record_overMaxHubs_shouldUseOverflowHub() {
+        // given - 최대 3개 (OVERFLOW 허브 제외)
+        LocalDateTime now = LocalDateTime.now();
+        statistics.record("hub-1", Duration.ofMinutes(10), now, false);
+        statistics.record("hub-2", Duration.ofMinutes(10), now, false);
+        statistics.record("hub-3", Duration.ofMinutes(10), now, false);
+
+        // when
+        statistics.record("hub-4", Duration.ofMinutes(10), now, false);
+
+        // then
+        assertThat(statistics.getHubCount()).isEqualTo(3);
+        assertThat(statistics.getHubs()).extracting(HubDwell::getHubId)
+                .containsExactlyInAnyOrder("hub-1", "hub-2", "hub-3");
+        assertThat(statistics.findHub("hub-4")).isEmpty();
+        assertThat(statistics.findHub(HubDwellStatistics.OVERFLOW_HUB_ID).orElseThrow()
+                .getDepartures()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("IN_TRANSIT 전환 이벤트의 체류 시간만 출발 허브에 집계")
+    void onSegmentChanged_shouldRecordOnlyDepartures() {
+        // given
+        LocalDateTime departedAt = LocalDateTime.now();
+        HubSegment departed = departedSegment("hub-2", "hub-3", departedAt);
+
+        // when
+        statistics.onSegmentChanged(event(departed, HubSegmentStatus.ASSIGNED, Duration.ofMinutes(25)));
+        statistics.onSegmentChanged(event(departed, HubSegmentStatus.IN_TRANSIT, Duration.ofMinutes(25)));
+        statistics.onSegmentChanged(event(departedSegment("hub-1", "hub-2", departedAt),
+                HubSegmentStatus.ASSIGNED, null));
+
+        // then
+        assertThat(statistics.findHub("hub-2").orElseThrow().getDepartures()).isEqualTo(1);
+        assertThat(statistics.findHub("hub-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("체류 시간을 허브/선배정 여부 태그의 단일 히스토그램으로 기록")
+    void record_shouldRecordHubDwellHistogram() {
+        // when
+        statistics.record("hub-2", Duration.ofMinutes(15), LocalDateTime.now(), true);
+
+        // then
+        Timer timer = meterRegistry.get(HubDeliveryMetrics.HUB_DWELL)
+                .tag("hub_id", "hub-2")
+                .tag("pre_assigned", "true")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.SECONDS)).isEqualTo(900.0);
+        assertThat(timer.getId().getTags()).extracting(tag -> tag.getKey())
+                .containsExactlyInAnyOrder("hub_id", "pre_assigned");
+        assertThat(meterRegistry.find(HubDeliveryMetrics.HUB_DWELL).timers()).hasSize(1);
+    }
+
+    private HubSegment departedSegment(String fromHubId, String toHubId, LocalDateTime departedAt) {
+        return HubSegment.builder()
+                .sequence(1)
+                .fromHubId(fromHubId)
+                .toHubId(toHubId)
+                .estimatedDurationMin(60L)
+                .driverId("driver-1")
+                .status(HubSegmentStatus.IN_TRANSIT)
+                .departedAt(departedAt)
+                .build();
+    }
+
+    private HubSegmentChangedEvent event(HubSegment segment, HubSegmentStatus previousStatus, Duration hubDwell) {
+        return HubSegmentChangedEvent.builder()
+                .hubDeliveryId("hub-delivery-1")
+                .orderId("order-1")
+                .segment(segment)
+                .previousStatus(previousStatus)
+                .hubDwell(hubDwell)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
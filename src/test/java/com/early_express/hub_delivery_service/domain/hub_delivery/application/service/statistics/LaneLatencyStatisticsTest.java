@@ -0,0 +1,148 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.statistics;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubSegmentChangedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubLane;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LaneLatencyStatistics 단위 테스트
+ */
+class LaneLatencyStatisticsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LaneLatencyStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        statistics = new LaneLatencyStatistics(new HubDeliveryMetrics(meterRegistry), 3);
+    }
+
+    @Test
+    @DisplayName("도착 구간의 실제 소요 시간과 지연 시간을 레인별로 집계")
+    void record_shouldAggregatePerLane() {
+        // given
+        statistics.record(arrivedSegment("hub-1", "hub-2", 30L, 25L));
+        statistics.record(arrivedSegment("hub-1", "hub-2", 30L, 40L));
+        statistics.record(arrivedSegment("hub-1", "hub-2", 30L, 90L));
+
+        // when
+        LaneLatency lane = statistics.findLane(HubLane.of("hub-1", "hub-2")).orElseThrow();
+
+        // then
+        assertThat(lane.getActualDuration().getCount()).isEqualTo(3);
+        assertThat(lane.getActualDuration().getMean()).isCloseTo(51.67, within(0.01));
+        assertThat(lane.getDelay().quantile(0.5)).isEqualTo(15L);
+        assertThat(lane.getDelay().quantile(1.0)).isEqualTo(60L);
+        assertThat(lane.lateRatio(5)).isCloseTo(2.0 / 3, within(0.001));
+    }
+
+    @Test
+    @DisplayName("예상 소요 시간이 없으면 실제 소요 시간만 집계")
+    void record_withoutEstimate_shouldSkipDelay() {
+        // when
+        statistics.record(arrivedSegment("hub-1", "hub-2", null, 25L));
+
+        // then
+        LaneLatency lane = statistics.findLane(HubLane.of("hub-1", "hub-2")).orElseThrow();
+        assertThat(lane.getActualDuration().getCount()).isEqualTo(1);
+        assertThat(lane.getDelay().getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("레인 수 상한 초과 시 OVERFLOW 레인에 합산")
+    void record_overMaxLanes_shouldUseOverflowLane() {
+        // given - 최대 3개 (OVERFLOW 레인 제외)
+        statistics.record(arrivedSegment("hub-1", "hub-2", 30L, 30L));
+        statistics.record(arrivedSegment("hub-2", "hub-3", 30L, 30L));
+        statistics.record(arrivedSegment("hub-3", "hub-4", 30L, 30L));
+
+        // when
+        statistics.record(arrivedSegment("hub-4", "hub-5", 30L, 30L));
+
+        // then
+        assertThat(statistics.getLaneCount()).isEqualTo(3);
+        assertThat(statistics.getLanes(Comparator.comparing(l -> l.getLane().toString()), 10))
+                .noneMatch(l -> l.getLane().isOverflow());
+        assertThat(statistics.findLane(HubLane.of("hub-4", "hub-5"))).isEmpty();
+        assertThat(statistics.findLane(HubLane.OVERFLOW).orElseThrow()
+                .getActualDuration().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ARRIVED 전환 이벤트만 집계")
+    void onSegmentChanged_shouldRecordOnlyArrivals() {
+        // given
+        HubSegment arrived = arrivedSegment("hub-1", "hub-2", 30L, 35L);
+
+        // when
+        statistics.onSegmentChanged(event(arrived, HubSegmentStatus.IN_TRANSIT));
+        statistics.onSegmentChanged(event(arrived, HubSegmentStatus.ARRIVED));
+
+        // then
+        assertThat(statistics.getLanes(Comparator.comparing(l -> l.getLane().toString()), 10))
+                .singleElement()
+                .satisfies(l -> assertThat(l.getActualDuration().getCount()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("레인별 소요 시간/지연 시간 히스토그램과 지연 도착 수 기록")
+    void record_shouldRecordLaneMetrics() {
+        // when
+        statistics.record(arrivedSegment("hub-1", "hub-2", 30L, 45L));
+        statistics.record(arrivedSegment("hub-1", "hub-2", 30L, 20L));
+
+        // then
+        assertThat(meterRegistry.get(HubDeliveryMetrics.LANE_DURATION)
+                .tag("from_hub", "hub-1")
+                .tag("to_hub", "hub-2")
+                .timer()
+                .count()).isEqualTo(2);
+        assertThat(meterRegistry.get(HubDeliveryMetrics.LANE_DELAY)
+                .tag("from_hub", "hub-1")
+                .tag("to_hub", "hub-2")
+                .summary()
+                .totalAmount()).isEqualTo(15.0);
+        assertThat(meterRegistry.get(HubDeliveryMetrics.LANE_LATE)
+                .tag("from_hub", "hub-1")
+                .tag("to_hub", "hub-2")
+                .counter()
+                .count()).isEqualTo(1.0);
+    }
+
+    private HubSegment arrivedSegment(String fromHubId, String toHubId,
+                                      Long estimatedDurationMin, Long actualDurationMin) {
+        LocalDateTime arrivedAt = LocalDateTime.now();
+        return HubSegment.builder()
+                .sequence(0)
+                .fromHubId(fromHubId)
+                .toHubId(toHubId)
+                .estimatedDurationMin(estimatedDurationMin)
+                .status(HubSegmentStatus.ARRIVED)
+                .departedAt(arrivedAt.minusMinutes(actualDurationMin))
+                .arrivedAt(arrivedAt)
+                .actualDurationMin(actualDurationMin)
+                .build();
+    }
+
+    private HubSegmentChangedEvent event(HubSegment segment, HubSegmentStatus previousStatus) {
+        return HubSegmentChangedEvent.builder()
+                .hubDeliveryId("hub-delivery-1")
+                .orderId("order-1")
+                .segment(segment)
+                .previousStatus(previousStatus)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,277 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.sweeper;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.HubDeliveryCommandService;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.AssignDriverForSegmentCommand;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.AssignDriverResult;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryId;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryCursor;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import com.early_express.hub_delivery_service.global.infrastructure.lease.ShardLeaseManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * StuckDeliverySweeper 단위 테스트
+ */
+class StuckDeliverySweeperTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 2, 12, 0);
+    private static final LocalDateTime FAIL_BEFORE = NOW.minusHours(24);
+    private static final LocalDateTime STALE_BEFORE = NOW.minusMinutes(30);
+    private static final LocalDateTime RETRY_BEFORE = NOW.minusMinutes(30);
+
+    private HubDeliveryRepository hubDeliveryRepository;
+    private HubDeliveryCommandService commandService;
+    private ShardLeaseManager shardLeaseManager;
+    private SimpleMeterRegistry meterRegistry;
+    private StuckDeliverySweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        hubDeliveryRepository = mock(HubDeliveryRepository.class);
+        commandService = mock(HubDeliveryCommandService.class);
+        shardLeaseManager = mock(ShardLeaseManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        sweeper = new StuckDeliverySweeper(
+                hubDeliveryRepository,
+                commandService,
+                shardLeaseManager,
+                new HubDeliveryMetrics(meterRegistry),
+                true,
+                Duration.ofMinutes(30),
+                Duration.ofHours(24),
+                2,
+                10,
+                Duration.ofMinutes(4),
+                Duration.ofMinutes(30),
+                2
+        );
+
+        when(hubDeliveryRepository.findStaleCursors(any(), any(), any(), anyString(), any(), anyInt()))
+                .thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("리스를 획득하지 못한 샤드는 조회하지 않음")
+    void sweep_withoutLease_shouldSkipShard() {
+        // given
+        when(shardLeaseManager.tryAcquire(anyString(), any())).thenReturn(false);
+
+        // when
+        sweeper.sweep(NOW);
+
+        // then
+        verifyNoInteractions(hubDeliveryRepository, commandService);
+        verify(shardLeaseManager, never()).release(anyString());
+        assertThat(meterRegistry.get(HubDeliveryMetrics.SWEEPER_SHARDS)
+                .tag("result", StuckDeliverySweeper.SHARD_SKIPPED).counter().count()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("실패 기준을 넘긴 배송은 키셋 배치로 나누어 실패 처리")
+    void sweep_withExpiredDeliveries_shouldFailInKeysetBatches() {
+        // given
+        acquireOnly("a");
+        HubDeliveryCursor first = cursor("a1", FAIL_BEFORE.minusHours(3));
+        HubDeliveryCursor second = cursor("a2", FAIL_BEFORE.minusHours(2));
+        HubDeliveryCursor third = cursor("a3", FAIL_BEFORE.minusHours(1));
+
+        when(hubDeliveryRepository.findStaleCursors(
+                eq(HubDeliveryStatus.CREATED), eq(FAIL_BEFORE), isNull(), eq("a"), isNull(), eq(2)))
+                .thenReturn(List.of(first, second));
+        when(hubDeliveryRepository.findStaleCursors(
+                eq(HubDeliveryStatus.CREATED), eq(FAIL_BEFORE), isNull(), eq("a"), eq(second), eq(2)))
+                .thenReturn(List.of(third));
+        when(commandService.failStale(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // when
+        sweeper.sweep(NOW);
+
+        // then
+        verify(commandService).failStale(List.of("a1", "a2"));
+        verify(commandService).failStale(List.of("a3"));
+        verify(shardLeaseManager).release(StuckDeliverySweeper.LEASE_KEY_PREFIX + "a");
+        assertThat(meterRegistry.get(HubDeliveryMetrics.SWEEPER_DELIVERIES)
+                .tag("action", StuckDeliverySweeper.ACTION_FAILED).counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("배치마다 리스를 연장하고, 연장에 실패하면 샤드 처리를 중단")
+    void sweep_whenLeaseRenewalFails_shouldStopShard() {
+        // given
+        acquireOnly("a");
+        HubDeliveryCursor first = cursor("a1", FAIL_BEFORE.minusHours(3));
+        HubDeliveryCursor second = cursor("a2", FAIL_BEFORE.minusHours(2));
+
+        when(hubDeliveryRepository.findStaleCursors(
+                eq(HubDeliveryStatus.CREATED), eq(FAIL_BEFORE), isNull(), eq("a"), isNull(), eq(2)))
+                .thenReturn(List.of(first, second));
+        when(hubDeliveryRepository.findStaleCursors(
+                eq(HubDeliveryStatus.CREATED), eq(FAIL_BEFORE), isNull(), eq("a"), eq(second), eq(2)))
+                .thenReturn(List.of(cursor("a3", FAIL_BEFORE.minusHours(1))));
+        when(shardLeaseManager.renew(eq(StuckDeliverySweeper.LEASE_KEY_PREFIX + "a"), any()))
+                .thenReturn(true, false);
+        when(commandService.failStale(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // when
+        sweeper.sweep(NOW);
+
+        // then
+        verify(commandService).failStale(List.of("a1", "a2"));
+        verify(commandService, never()).failStale(List.of("a3"));
+        verify(commandService, never()).assignDriverForSegment(any());
+        assertThat(meterRegistry.get(HubDeliveryMetrics.SWEEPER_SHARDS)
+                .tag("result", StuckDeliverySweeper.SHARD_LOST).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재배정 기준을 넘긴 배송은 대기 구간 드라이버 배정 재요청")
+    void sweep_withStaleDeliveries_shouldReassignNextPendingSegment() {
+        // given
+        acquireOnly("b");
+        when(hubDeliveryRepository.findStaleCursors(
+                eq(HubDeliveryStatus.CREATED), eq(STALE_BEFORE), eq(RETRY_BEFORE), eq("b"), isNull(), eq(2)))
+                .thenReturn(List.of(cursor("b1", STALE_BEFORE.minusMinutes(5))));
+        when(hubDeliveryRepository.findAllByIds(List.of("b1")))
+                .thenReturn(List.of(createdDelivery("b1")));
+        when(commandService.assignDriverForSegment(any()))
+                .thenReturn(AssignDriverResult.failed("b1", 0, "가용 드라이버가 없습니다."));
+
+        // when
+        sweeper.sweep(NOW);
+
+        // then
+        ArgumentCaptor<AssignDriverForSegmentCommand> captor =
+                ArgumentCaptor.forClass(AssignDriverForSegmentCommand.class);
+        verify(commandService).assignDriverForSegment(captor.capture());
+        assertThat(captor.getValue().getHubDeliveryId()).isEqualTo("b1");
+        assertThat(captor.getValue().getSegmentIndex()).isEqualTo(0);
+        assertThat(captor.getValue().getRequestedBy()).isEqualTo(StuckDeliverySweeper.REQUESTED_BY);
+        verify(commandService, never()).failStale(anyList());
+        assertThat(meterRegistry.get(HubDeliveryMetrics.SWEEPER_DELIVERIES)
+                .tag("action", StuckDeliverySweeper.ACTION_REASSIGN_FAILED).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배정 재요청 전에 시도 시각을 기록하고, 배치당 호출 상한을 넘는 배송은 다음 실행으로 미룸")
+    void sweep_withManyStaleDeliveries_shouldMarkAttemptsAndBoundCallsPerBatch() {
+        // given - 배치 크기 2, 배치당 호출 상한 2, 배정 불가 배송 1건 포함
+        acquireOnly("c");
+        HubDeliveryCursor second = cursor("c2", STALE_BEFORE.minusMinutes(4));
+        when(hubDeliveryRepository.findStaleCursors(
+                eq(HubDeliveryStatus.CREATED), eq(STALE_BEFORE), eq(RETRY_BEFORE), eq("c"), isNull(), eq(2)))
+                .thenReturn(List.of(cursor("c1", STALE_BEFORE.minusMinutes(5)), second));
+        when(hubDeliveryRepository.findStaleCursors(
+                eq(HubDeliveryStatus.CREATED), eq(STALE_BEFORE), eq(RETRY_BEFORE), eq("c"), eq(second), eq(2)))
+                .thenReturn(List.of(cursor("c3", STALE_BEFORE.minusMinutes(3))));
+        HubDelivery failed = createdDelivery("c1");
+        failed.fail();
+        when(hubDeliveryRepository.findAllByIds(List.of("c1", "c2")))
+                .thenReturn(List.of(failed, createdDelivery("c2")));
+        when(hubDeliveryRepository.findAllByIds(List.of("c3")))
+                .thenReturn(List.of(createdDelivery("c3")));
+        when(commandService.assignDriverForSegment(any()))
+                .thenAnswer(invocation -> AssignDriverResult.failed(
+                        invocation.<AssignDriverForSegmentCommand>getArgument(0).getHubDeliveryId(), 0, "가용 드라이버가 없습니다."));
+
+        // when
+        sweeper.sweep(NOW);
+
+        // then - 배정 불가 배송은 기록/호출하지 않고, 기록이 호출보다 먼저
+        InOrder inOrder = inOrder(hubDeliveryRepository, commandService);
+        inOrder.verify(hubDeliveryRepository).markReassignAttempted(List.of("c2"), NOW);
+        inOrder.verify(commandService).assignDriverForSegment(argThat(command -> command.getHubDeliveryId().equals("c2")));
+        inOrder.verify(hubDeliveryRepository).markReassignAttempted(List.of("c3"), NOW);
+        inOrder.verify(commandService).assignDriverForSegment(argThat(command -> command.getHubDeliveryId().equals("c3")));
+        verify(commandService, times(2)).assignDriverForSegment(any());
+    }
+
+    @Test
+    @DisplayName("배치 안의 배정 가능 배송이 호출 상한을 넘으면 상한만큼만 기록하고 요청")
+    void sweep_whenCandidatesExceedLimit_shouldRequestOnlyUpToLimit() {
+        // given - 배치 크기 2 안에서 상한 1로 생성
+        sweeper = new StuckDeliverySweeper(hubDeliveryRepository, commandService, shardLeaseManager,
+                new HubDeliveryMetrics(meterRegistry), true, Duration.ofMinutes(30), Duration.ofHours(24),
+                2, 10, Duration.ofMinutes(4), Duration.ofMinutes(30), 1);
+        acquireOnly("d");
+        when(hubDeliveryRepository.findStaleCursors(
+                eq(HubDeliveryStatus.CREATED), eq(STALE_BEFORE), eq(RETRY_BEFORE), eq("d"), isNull(), eq(2)))
+                .thenReturn(List.of(cursor("d1", STALE_BEFORE.minusMinutes(5))));
+        when(hubDeliveryRepository.findAllByIds(List.of("d1")))
+                .thenReturn(List.of(createdDelivery("d1"), createdDelivery("d2")));
+        when(commandService.assignDriverForSegment(any()))
+                .thenReturn(AssignDriverResult.failed("d1", 0, "가용 드라이버가 없습니다."));
+
+        // when
+        sweeper.sweep(NOW);
+
+        // then
+        verify(hubDeliveryRepository).markReassignAttempted(List.of("d1"), NOW);
+        verify(commandService, times(1)).assignDriverForSegment(any());
+    }
+
+    @Test
+    @DisplayName("fail-after가 stale-after보다 짧으면 생성 실패")
+    void constructor_withInvalidThresholds_shouldThrow() {
+        assertThatThrownBy(() -> new StuckDeliverySweeper(
+                hubDeliveryRepository, commandService, shardLeaseManager,
+                new HubDeliveryMetrics(meterRegistry), true,
+                Duration.ofHours(1), Duration.ofMinutes(30), 2, 10, Duration.ofMinutes(4),
+                Duration.ofMinutes(30), 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ===== Helper Methods =====
+
+    private void acquireOnly(String shard) {
+        when(shardLeaseManager.tryAcquire(anyString(), any())).thenReturn(false);
+        when(shardLeaseManager.tryAcquire(eq(StuckDeliverySweeper.LEASE_KEY_PREFIX + shard), any()))
+                .thenReturn(true);
+        when(shardLeaseManager.renew(eq(StuckDeliverySweeper.LEASE_KEY_PREFIX + shard), any()))
+                .thenReturn(true);
+    }
+
+    private HubDeliveryCursor cursor(String id, LocalDateTime updatedAt) {
+        return new HubDeliveryCursor(id, HubDeliveryStatus.CREATED, updatedAt);
+    }
+
+    /**
+     * 드라이버 배정 요청 없이 방치된 배송
+     */
+    private HubDelivery createdDelivery(String id) {
+        HubDelivery created = HubDelivery.create(
+                "order-" + id,
+                "hub-1",
+                "hub-3",
+                List.of(
+                        HubSegment.create(0, "hub-1", "hub-2", 10000L, 30L),
+                        HubSegment.create(1, "hub-2", "hub-3", 15000L, 45L)
+                ),
+                "system"
+        );
+
+        return HubDelivery.reconstitute(
+                HubDeliveryId.of(id), created.getOrderId(), created.getOriginHubId(),
+                created.getDestinationHubId(), created.getSegments(),
+                created.getStatus(), null, created.getCurrentSegmentIndex(), null,
+                null, created.getTotalEstimatedDurationMin(), null, null, null, 0L, created.getCreatedAt(),
+                "system", STALE_BEFORE.minusMinutes(5), "system", null, null, false);
+    }
+}
@@ -0,0 +1,71 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * BreadcrumbTrail 단위 테스트
+ */
+class BreadcrumbTrailTest {
+
+    @Test
+    @DisplayName("압축 후 복원하면 1e-5도 정밀도로 같은 지점과 시각")
+    void toBytes_shouldRoundTrip() {
+        // given
+        BreadcrumbTrail trail = new BreadcrumbTrail(100);
+        trail.append(37.56650, 126.97800, 1_736_900_000L);
+        trail.append(37.52101, 127.01203, 1_736_900_030L);
+        trail.append(-33.86882, 151.20930, 1_736_900_090L);
+
+        // when
+        List<BreadcrumbTrail.Point> points = BreadcrumbTrail.decode(trail.toBytes());
+
+        // then
+        assertThat(points).hasSize(3);
+        assertThat(points.get(1).latitude()).isCloseTo(37.52101, within(1e-5));
+        assertThat(points.get(1).longitude()).isCloseTo(127.01203, within(1e-5));
+        assertThat(points.get(2).latitude()).isCloseTo(-33.86882, within(1e-5));
+        assertThat(points).extracting(BreadcrumbTrail.Point::epochSecond)
+                .containsExactly(1_736_900_000L, 1_736_900_030L, 1_736_900_090L);
+    }
+
+    @Test
+    @DisplayName("최대 지점 수를 넘으면 첫 지점과 마지막 지점을 유지하며 솎아냄")
+    void append_overMaxPoints_shouldDecimate() {
+        // given
+        BreadcrumbTrail trail = new BreadcrumbTrail(10);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            trail.append(37.0 + i * 0.001, 127.0, 1_736_900_000L + i * 30L);
+        }
+
+        // then
+        List<BreadcrumbTrail.Point> points = BreadcrumbTrail.decode(trail.toBytes());
+        assertThat(points.size()).isLessThanOrEqualTo(10).isEqualTo(trail.size());
+        assertThat(points.get(0).epochSecond()).isEqualTo(1_736_900_000L);
+        assertThat(points.get(points.size() - 1).epochSecond()).isEqualTo(1_736_900_000L + 99 * 30L);
+        assertThat(points).extracting(BreadcrumbTrail.Point::epochSecond).isSorted();
+    }
+
+    @Test
+    @DisplayName("저장된 경로를 복원해 이어서 기록")
+    void restore_shouldContinueAppending() {
+        // given
+        BreadcrumbTrail trail = new BreadcrumbTrail(100);
+        trail.append(37.5, 127.0, 1_736_900_000L);
+
+        // when
+        BreadcrumbTrail restored = BreadcrumbTrail.restore(trail.toBytes(), 100);
+        restored.append(37.6, 127.1, 1_736_900_060L);
+
+        // then
+        assertThat(BreadcrumbTrail.decode(restored.toBytes()))
+                .extracting(BreadcrumbTrail.Point::epochSecond)
+                .containsExactly(1_736_900_000L, 1_736_900_060L);
+    }
+}
@@ -0,0 +1,275 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.event.HubSegmentChangedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking.dto.TrackingDto.PingCommand;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking.dto.TrackingDto.PingResult;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.tracking.dto.TrackingDto.SegmentTrackResponse;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentSnapshot;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegmentStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.SegmentTrack;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.HubDeliveryRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.repository.SegmentTrackRepository;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SegmentTracker 단위 테스트
+ */
+class SegmentTrackerTest {
+
+    private static final LocalDateTime DEPARTED_AT = LocalDateTime.now().minusMinutes(30);
+
+    private HubDeliveryRepository hubDeliveryRepository;
+    private SegmentTrackRepository segmentTrackRepository;
+    private SegmentTracker segmentTracker;
+
+    @BeforeEach
+    void setUp() {
+        hubDeliveryRepository = mock(HubDeliveryRepository.class);
+        segmentTrackRepository = mock(SegmentTrackRepository.class);
+        segmentTracker = new SegmentTracker(hubDeliveryRepository, segmentTrackRepository,
+                new HubDeliveryMetrics(new SimpleMeterRegistry()), true,
+                Duration.ofSeconds(30), 200, 15, 200, 500,
+                Duration.ofMinutes(30), Duration.ofMinutes(1), 500);
+    }
+
+    @Test
+    @DisplayName("출발한 구간의 핑을 반영하고 누적 이동 거리로 진행률 계산")
+    void ingest_shouldTrackProgress() {
+        // given - 예상 거리 10km
+        depart("hd-1", 0, "driver-1", 10_000L);
+
+        // when - 경도 0.1도(약 8.8km) 이동
+        PingResult result = segmentTracker.ingest(List.of(
+                ping("hd-1", 0, "driver-1", 37.5, 127.00, DEPARTED_AT.plusMinutes(1)),
+                ping("hd-1", 0, "driver-1", 37.5, 127.05, DEPARTED_AT.plusMinutes(5)),
+                ping("hd-1", 0, "driver-1", 37.5, 127.10, DEPARTED_AT.plusMinutes(9))));
+
+        // then
+        assertThat(result.getAccepted()).isEqualTo(3);
+        SegmentTrackResponse track = segmentTracker.findTrack("hd-1", 0);
+        assertThat(track.getTravelledM()).isBetween(8_700L, 8_900L);
+        assertThat(track.getProgress()).isBetween(0.87, 0.89);
+        assertThat(track.getBreadcrumb()).hasSize(3);
+        verifyNoInteractions(segmentTrackRepository);
+    }
+
+    @Test
+    @DisplayName("오래된/순간 이동/다른 드라이버/잘못된 좌표 핑은 사유별로 거절")
+    void ingest_shouldRejectByReason() {
+        // given
+        depart("hd-1", 0, "driver-1", 10_000L);
+        segmentTracker.ingest(List.of(ping("hd-1", 0, "driver-1", 37.5, 127.0, DEPARTED_AT.plusMinutes(5))));
+
+        // when
+        PingResult result = segmentTracker.ingest(List.of(
+                ping("hd-1", 0, "driver-1", 37.5, 127.01, DEPARTED_AT.plusMinutes(4)),
+                ping("hd-1", 0, "driver-1", 35.1, 129.0, DEPARTED_AT.plusMinutes(6)),
+                ping("hd-1", 0, "driver-2", 37.5, 127.01, DEPARTED_AT.plusMinutes(6)),
+                ping("hd-1", 0, "driver-1", 95.0, 127.01, DEPARTED_AT.plusMinutes(6))));
+
+        // then
+        assertThat(result.getAccepted()).isZero();
+        assertThat(result.getRejectedBy())
+                .containsEntry(SegmentTracker.RESULT_STALE, 2)
+                .containsEntry(SegmentTracker.RESULT_DRIVER_MISMATCH, 1)
+                .containsEntry(SegmentTracker.RESULT_INVALID, 1);
+    }
+
+    @Test
+    @DisplayName("이동 중이 아닌 구간의 핑은 한 번만 조회하고 이후에는 조회 없이 거절")
+    void ingest_unknownSegment_shouldBeNegativelyCached() {
+        // given
+        when(hubDeliveryRepository.findAllByIds(any())).thenReturn(List.of());
+
+        // when
+        PingResult first = segmentTracker.ingest(List.of(
+                ping("hd-9", 0, "driver-1", 37.5, 127.0, null),
+                ping("hd-9", 0, "driver-1", 37.5, 127.0, null)));
+        PingResult second = segmentTracker.ingest(List.of(ping("hd-9", 0, "driver-1", 37.5, 127.0, null)));
+
+        // then
+        assertThat(first.getRejectedBy()).containsEntry(SegmentTracker.RESULT_UNKNOWN_SEGMENT, 2);
+        assertThat(second.getRejectedBy()).containsEntry(SegmentTracker.RESULT_UNKNOWN_SEGMENT, 1);
+        verify(hubDeliveryRepository, times(1)).findAllByIds(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("변경된 구간만 일괄 저장하고, 도착한 구간은 종료 표시 후 메모리에서 제거")
+    void flush_shouldSaveDirtyTracksOnly() {
+        // given
+        HubSegment first = depart("hd-1", 0, "driver-1", 10_000L);
+        depart("hd-2", 0, "driver-2", 10_000L);
+        segmentTracker.ingest(List.of(ping("hd-1", 0, "driver-1", 37.5, 127.0, DEPARTED_AT.plusMinutes(1))));
+        segmentTracker.onSegmentChanged(HubSegmentChangedEvent.builder()
+                .hubDeliveryId("hd-1")
+                .segment(first.arrive())
+                .previousStatus(HubSegmentStatus.IN_TRANSIT)
+                .build());
+
+        // when
+        segmentTracker.flush();
+        segmentTracker.flush();
+
+        // then
+        ArgumentCaptor<Collection<SegmentTrack>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(segmentTrackRepository, times(1)).saveAll(saved.capture());
+        assertThat(saved.getValue()).singleElement()
+                .satisfies(track -> {
+                    assertThat(track.getHubDeliveryId()).isEqualTo("hd-1");
+                    assertThat(track.isFinished()).isTrue();
+                });
+        assertThat(segmentTracker.getTrackedCount()).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("저장 실패 시 다음 주기에 다시 저장")
+    void flush_onFailure_shouldRetryNextCycle() {
+        // given
+        depart("hd-1", 0, "driver-1", 10_000L);
+        segmentTracker.ingest(List.of(ping("hd-1", 0, "driver-1", 37.5, 127.0, DEPARTED_AT.plusMinutes(1))));
+        when(segmentTrackRepository.saveAll(any())).thenThrow(new IllegalStateException("db down")).thenReturn(1);
+
+        // when
+        segmentTracker.flush();
+        segmentTracker.flush();
+        segmentTracker.flush();
+
+        // then
+        verify(segmentTrackRepository, times(2)).saveAll(any(Collection.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("다른 인스턴스에서 도착한 구간은 저장 시 종료 표시하고 이후 핑은 조회 없이 거절")
+    void flush_withSegmentEndedElsewhere_shouldFinishTrack() {
+        // given
+        HubSegment segment = depart("hd-1", 0, "driver-1", 10_000L);
+        segmentTracker.ingest(List.of(ping("hd-1", 0, "driver-1", 37.5, 127.0, DEPARTED_AT.plusMinutes(1))));
+
+        HubDelivery arrived = mock(HubDelivery.class);
+        when(arrived.getIdValue()).thenReturn("hd-1");
+        when(arrived.getTotalSegments()).thenReturn(1);
+        when(arrived.getSegment(0)).thenReturn(segment.arrive());
+        when(hubDeliveryRepository.findAllByIds(any())).thenReturn(List.of(arrived));
+
+        // when
+        segmentTracker.flush();
+        PingResult result = segmentTracker.ingest(List.of(
+                ping("hd-1", 0, "driver-1", 37.5, 127.01, DEPARTED_AT.plusMinutes(2))));
+
+        // then
+        ArgumentCaptor<Collection<SegmentTrack>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(segmentTrackRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).singleElement()
+                .satisfies(track -> assertThat(track.isFinished()).isTrue());
+        assertThat(segmentTracker.getTrackedCount()).isZero();
+        assertThat(result.getRejectedBy()).containsEntry(SegmentTracker.RESULT_UNKNOWN_SEGMENT, 1);
+        verify(hubDeliveryRepository, times(1)).findAllByIds(any());
+    }
+
+    @Test
+    @DisplayName("종료된 구간의 핑은 반영하지 않음")
+    void accept_afterFinish_shouldReject() {
+        // given
+        LiveSegmentTrack track = new LiveSegmentTrack("hd-1", 0, "driver-1", 10_000L,
+                new LiveSegmentTrack.Policy(30_000, 200, 15, 55, 500));
+        track.accept(37.5, 127.0, 1_000_000L);
+        track.finish();
+
+        // when
+        boolean accepted = track.accept(37.5, 127.01, 1_060_000L);
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(track.snapshot(true).getPingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("추적 중이 아니고 저장된 기록도 없으면 조회 시 예외 발생")
+    void findTrack_withoutTrack_shouldThrowException() {
+        // given
+        when(segmentTrackRepository.find("hd-1", 0)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> segmentTracker.findTrack("hd-1", 0))
+                .isInstanceOf(HubDeliveryException.class);
+    }
+
+    @Test
+    @DisplayName("기동 시 이동 중 구간을 배치 단위로 이어서 조회하여 추적 등록")
+    void start_shouldLoadInTransitSegmentsInBatches() {
+        // given - 배치 크기 2, 이동 중 구간 3건
+        SegmentTracker tracker = new SegmentTracker(hubDeliveryRepository, segmentTrackRepository,
+                new HubDeliveryMetrics(new SimpleMeterRegistry()), true,
+                Duration.ofSeconds(30), 200, 15, 200, 500,
+                Duration.ofMinutes(30), Duration.ofMinutes(1), 2);
+        HubSegmentSnapshot first = inTransitSnapshot("hd-1");
+        HubSegmentSnapshot second = inTransitSnapshot("hd-2");
+        HubSegmentSnapshot third = inTransitSnapshot("hd-3");
+        when(hubDeliveryRepository.findSegmentsByStatus(HubSegmentStatus.IN_TRANSIT, null, 2))
+                .thenReturn(List.of(first, second));
+        when(hubDeliveryRepository.findSegmentsByStatus(HubSegmentStatus.IN_TRANSIT, second, 2))
+                .thenReturn(List.of(third));
+
+        // when
+        tracker.start();
+
+        // then
+        assertThat(tracker.getTrackedCount()).isEqualTo(3);
+        verify(hubDeliveryRepository, times(2)).findSegmentsByStatus(eq(HubSegmentStatus.IN_TRANSIT), any(), eq(2));
+        verify(segmentTrackRepository, times(2)).findAllByKeys(any());
+    }
+
+    // ===== Helper Methods =====
+
+    private HubSegmentSnapshot inTransitSnapshot(String hubDeliveryId) {
+        HubSegment segment = HubSegment.create(0, "hub-1", "hub-2", 10_000L, 30L)
+                .assignDriver("driver-1")
+                .depart();
+        return HubSegmentSnapshot.of(hubDeliveryId, "order-" + hubDeliveryId, segment);
+    }
+
+    private HubSegment depart(String hubDeliveryId, int segmentIndex, String driverId, Long estimatedDistanceM) {
+        HubSegment segment = HubSegment.create(segmentIndex, "hub-1", "hub-2", estimatedDistanceM, 30L)
+                .assignDriver(driverId)
+                .depart();
+        segmentTracker.onSegmentChanged(HubSegmentChangedEvent.builder()
+                .hubDeliveryId(hubDeliveryId)
+                .segment(segment)
+                .previousStatus(HubSegmentStatus.ASSIGNED)
+                .build());
+        return segment;
+    }
+
+    private PingCommand ping(String hubDeliveryId, int segmentIndex, String driverId,
+                             double latitude, double longitude, LocalDateTime recordedAt) {
+        return PingCommand.builder()
+                .hubDeliveryId(hubDeliveryId)
+                .segmentIndex(segmentIndex)
+                .driverId(driverId)
+                .latitude(latitude)
+                .longitude(longitude)
+                .recordedAt(recordedAt)
+                .build();
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -202,6 +203,68 @@ class HubDeliveryTest {
         }
     }
 
+    @Nested
+    @DisplayName("구간 마감 시각 테스트")
+    class DeadlineTests {
+
+        private final LocalDateTime departureDeadline = LocalDateTime.of(2025, 1, 1, 9, 0);
+        private final LocalDateTime estimatedArrivalTime = LocalDateTime.of(2025, 1, 1, 11, 0);
+
+        @Test
+        @DisplayName("도착 예정 시각에서 남은 구간 예상 소요 시간을 뺀 값이 구간 마감 시각")
+        void getSegmentDeadline_shouldSubtractRemainingDurations() {
+            // given - 구간 소요 30분, 45분
+            HubDelivery hubDelivery = HubDelivery.create(
+                    "order-1", "hub-1", "hub-3", testSegments,
+                    null, estimatedArrivalTime, "system");
+
+            // when & then
+            assertThat(hubDelivery.getSegmentDeadline(0)).isEqualTo(estimatedArrivalTime.minusMinutes(75));
+            assertThat(hubDelivery.getSegmentDeadline(1)).isEqualTo(estimatedArrivalTime.minusMinutes(45));
+        }
+
+        @Test
+        @DisplayName("첫 구간은 출발 마감 시각이 더 이르면 출발 마감 시각 사용")
+        void getSegmentDeadline_firstSegment_shouldUseEarlierDepartureDeadline() {
+            // given
+            HubDelivery hubDelivery = HubDelivery.create(
+                    "order-1", "hub-1", "hub-3", testSegments,
+                    departureDeadline, estimatedArrivalTime, "system");
+
+            // when & then
+            assertThat(hubDelivery.getSegmentDeadline(0)).isEqualTo(departureDeadline);
+            assertThat(hubDelivery.getSegmentDeadline(1)).isEqualTo(estimatedArrivalTime.minusMinutes(45));
+        }
+
+        @Test
+        @DisplayName("마감 정보가 없으면 null")
+        void getSegmentDeadline_withoutDeadlines_shouldReturnNull() {
+            // given
+            HubDelivery hubDelivery = createTestHubDelivery();
+
+            // when & then
+            assertThat(hubDelivery.getSegmentDeadline(0)).isNull();
+        }
+
+        @Test
+        @DisplayName("앞 구간 도착 후에만 다음 구간 배정 가능")
+        void isSegmentDispatchable_shouldRequirePreviousArrival() {
+            // given
+            HubDelivery hubDelivery = createTestHubDelivery();
+
+            // when & then
+            assertThat(hubDelivery.isSegmentDispatchable(0)).isTrue();
+            assertThat(hubDelivery.isSegmentDispatchable(1)).isFalse();
+
+            hubDelivery.assignDriverToSegment(0, "driver-1");
+            hubDelivery.departSegment(0);
+            hubDelivery.arriveSegment(0);
+
+            assertThat(hubDelivery.isSegmentDispatchable(0)).isFalse();
+            assertThat(hubDelivery.isSegmentDispatchable(1)).isTrue();
+        }
+    }
+
     private HubDelivery createTestHubDelivery() {
         return HubDelivery.create(
                 "order-1",
@@ -0,0 +1,87 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.domain.model;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestItem;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.ManifestStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Manifest Aggregate Root 테스트
+ */
+class ManifestTest {
+
+    private static final LocalDateTime WAVE = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+    private final List<ManifestItem> items = List.of(
+            ManifestItem.of("hd-1", 0, "order-1", WAVE.plusMinutes(50)),
+            ManifestItem.of("hd-2", 1, "order-2", WAVE.plusMinutes(20)),
+            ManifestItem.of("hd-3", 0, "order-3", null)
+    );
+
+    @Test
+    @DisplayName("생성 시 PLANNED 상태이며 출발 마감은 항목 중 가장 이른 마감")
+    void create_shouldUseEarliestItemDeadline() {
+        // when
+        Manifest manifest = Manifest.create("hub-1", "hub-2", WAVE, items, "system");
+
+        // then
+        assertThat(manifest.getStatus()).isEqualTo(ManifestStatus.PLANNED);
+        assertThat(manifest.getSize()).isEqualTo(3);
+        assertThat(manifest.getDepartureDeadline()).isEqualTo(WAVE.plusMinutes(20));
+    }
+
+    @Test
+    @DisplayName("빈 항목으로 생성 시 예외 발생")
+    void create_withEmptyItems_shouldThrowException() {
+        // when & then
+        assertThatThrownBy(() -> Manifest.create("hub-1", "hub-2", WAVE, List.of(), "system"))
+                .isInstanceOf(HubDeliveryException.class);
+    }
+
+    @Test
+    @DisplayName("배정/출발 시 처리되지 않은 구간은 목록에서 제외")
+    void assignAndDepart_shouldRetainProcessedItemsOnly() {
+        // given
+        Manifest manifest = Manifest.create("hub-1", "hub-2", WAVE, items, "system");
+
+        // when
+        manifest.assignDriver("driver-1", List.of(items.get(0), items.get(1)));
+        manifest.depart(List.of(ManifestItem.of("hd-1", 0, null, null)));
+
+        // then
+        assertThat(manifest.getStatus()).isEqualTo(ManifestStatus.IN_TRANSIT);
+        assertThat(manifest.getDriverId()).isEqualTo("driver-1");
+        assertThat(manifest.getItems()).extracting(ManifestItem::getHubDeliveryId).containsExactly("hd-1");
+        assertThat(manifest.getDepartedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("배정된 구간이 없으면 배정 시 예외 발생")
+    void assignDriver_withNoAssignedItems_shouldThrowException() {
+        // given
+        Manifest manifest = Manifest.create("hub-1", "hub-2", WAVE, items, "system");
+
+        // when & then
+        assertThatThrownBy(() -> manifest.assignDriver("driver-1", List.of()))
+                .isInstanceOf(HubDeliveryException.class);
+        assertThat(manifest.getStatus()).isEqualTo(ManifestStatus.PLANNED);
+    }
+
+    @Test
+    @DisplayName("배정 후에는 취소 불가, 출발 전에는 도착 불가")
+    void invalidTransitions_shouldThrowException() {
+        // given
+        Manifest manifest = Manifest.create("hub-1", "hub-2", WAVE, items, "system");
+        manifest.assignDriver("driver-1", items);
+
+        // when & then
+        assertThatThrownBy(manifest::cancel).isInstanceOf(HubDeliveryException.class);
+        assertThatThrownBy(manifest::arrive).isInstanceOf(HubDeliveryException.class);
+    }
+}
@@ -4,6 +4,8 @@ import com.early_express.hub_delivery_service.domain.hub_delivery.domain.excepti
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
+
 import static org.assertj.core.api.Assertions.*;
 
 /**
@@ -101,4 +103,69 @@ class HubSegmentTest {
         // then
         assertThat(failedSegment.getStatus()).isEqualTo(HubSegmentStatus.FAILED);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("선배정 후 출발하면 선배정 만료 시각이 제거됨")
+    void reserveDriver_thenDepart_shouldClearReservation() {
+        // given
+        HubSegment segment = HubSegment.create(1, "hub-2", "hub-3", 15000L, 45L);
+        LocalDateTime reservedUntil = LocalDateTime.now().plusMinutes(15);
+
+        // when
+        HubSegment reservedSegment = segment.reserveDriver("driver-1", reservedUntil);
+        HubSegment departedSegment = reservedSegment.depart();
+
+        // then
+        assertThat(reservedSegment.isReserved()).isTrue();
+        assertThat(reservedSegment.getStatus()).isEqualTo(HubSegmentStatus.ASSIGNED);
+        assertThat(reservedSegment.getReservedUntil()).isEqualTo(reservedUntil);
+        assertThat(departedSegment.isReserved()).isFalse();
+        assertThat(departedSegment.getReservedUntil()).isNull();
+        assertThat(departedSegment.getDriverId()).isEqualTo("driver-1");
+    }
+
+    @Test
+    @DisplayName("선배정 해제 시 드라이버 없이 PENDING으로 복귀")
+    void releaseReservation_shouldReturnToPending() {
+        // given
+        HubSegment reservedSegment = HubSegment.create(1, "hub-2", "hub-3", 15000L, 45L)
+                .reserveDriver("driver-1", LocalDateTime.now().plusMinutes(15));
+
+        // when
+        HubSegment releasedSegment = reservedSegment.releaseReservation();
+
+        // then
+        assertThat(releasedSegment.isPending()).isTrue();
+        assertThat(releasedSegment.hasDriver()).isFalse();
+        assertThat(releasedSegment.getReservedUntil()).isNull();
+    }
+
+    @Test
+    @DisplayName("일반 배정 구간은 선배정 해제 불가")
+    void releaseReservation_notReserved_shouldThrowException() {
+        // given
+        HubSegment assignedSegment = HubSegment.create(1, "hub-2", "hub-3", 15000L, 45L)
+                .assignDriver("driver-1");
+
+        // when & then
+        assertThatThrownBy(assignedSegment::releaseReservation)
+                .isInstanceOf(HubDeliveryException.class);
+    }
+
+    @Test
+    @DisplayName("배정 해제 시 일반 배정 구간도 드라이버 없이 PENDING으로 복귀, 출발한 구간은 해제 불가")
+    void releaseDriver_shouldReturnAssignedSegmentToPending() {
+        // given
+        HubSegment assignedSegment = HubSegment.create(1, "hub-2", "hub-3", 15000L, 45L)
+                .assignDriver("driver-1");
+
+        // when
+        HubSegment releasedSegment = assignedSegment.releaseDriver();
+
+        // then
+        assertThat(releasedSegment.isPending()).isTrue();
+        assertThat(releasedSegment.hasDriver()).isFalse();
+        assertThatThrownBy(() -> assignedSegment.depart().releaseDriver())
+                .isInstanceOf(HubDeliveryException.class);
+    }
+}
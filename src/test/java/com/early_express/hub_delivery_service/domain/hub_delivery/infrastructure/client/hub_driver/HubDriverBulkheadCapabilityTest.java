@@ -0,0 +1,87 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryErrorCode;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * HubDriverBulkheadCapability 단위 테스트
+ */
+class HubDriverBulkheadCapabilityTest {
+
+    private static final Request REQUEST = Request.create(Request.HttpMethod.POST,
+            "http://hub-driver-service/v1/hub-driver/internal/drivers/assign",
+            Map.of(), new byte[0], StandardCharsets.UTF_8, null);
+
+    @Test
+    @DisplayName("호출 슬롯이 모두 사용 중이면 대기 후 503(HUB_DELIVERY_603)으로 실패")
+    void execute_whenFull_shouldFailWithServiceBusy() throws Exception {
+        // given - 슬롯 1개를 점유한 채 대기하는 호출
+        HubDriverBulkheadCapability bulkhead = new HubDriverBulkheadCapability(1, Duration.ofMillis(50));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Client client = bulkhead.enrich((request, options) -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ok(request);
+        });
+        CompletableFuture<Response> holding = CompletableFuture.supplyAsync(() -> {
+            try {
+                return client.execute(REQUEST, new Request.Options());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> client.execute(REQUEST, new Request.Options()))
+                .isInstanceOf(HubDeliveryException.class)
+                .extracting("errorCode")
+                .isEqualTo(HubDeliveryErrorCode.DRIVER_SERVICE_BUSY);
+        assertThat(HubDeliveryErrorCode.DRIVER_SERVICE_BUSY.getStatus()).isEqualTo(503);
+
+        release.countDown();
+        assertThat(holding.get(1, TimeUnit.SECONDS).status()).isEqualTo(200);
+        assertThat(bulkhead.getInFlightCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 호출 상한이 DB 커넥션 풀 크기 이상이면 설정 거부")
+    void config_whenLimitNotBelowPoolSize_shouldThrow() {
+        // given
+        HubDriverClientConfig config = new HubDriverClientConfig();
+
+        // when & then
+        assertThatThrownBy(() -> config.hubDriverBulkheadCapability(20, Duration.ofSeconds(2), 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("커넥션 풀");
+        assertThat(config.hubDriverBulkheadCapability(19, Duration.ofSeconds(2), 20)).isNotNull();
+    }
+
+    private static Response ok(Request request) {
+        return Response.builder()
+                .request(request)
+                .status(200)
+                .headers(Map.of())
+                .body(new byte[0])
+                .build();
+    }
+}
@@ -0,0 +1,170 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.client.hub_driver;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryErrorCode;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.exception.HubDeliveryException;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.Headers;
+import feign.Request;
+import feign.RequestLine;
+import feign.Retryer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * HubDriver 호출 부하 테스트 (플랫폼 스레드 vs 가상 스레드)
+ *
+ * 고지연 HubDriver Service 스텁에 대해 Tomcat 기본 스레드 풀(200)과 동일한 플랫폼 스레드 풀,
+ * 가상 스레드 + Bulkhead 조합의 처리량과 스텁에서 관측된 최대 동시 호출 수를 비교하고,
+ * 서비스 설정(HubDriverClientConfig 기본값)의 Bulkhead가 넘치는 호출을 503으로 끊는지 확인합니다.
+ *
+ * 실행: ./gradlew performanceTest
+ */
+@Tag("performance")
+class HubDriverVirtualThreadLoadTest {
+
+    private static final int REQUESTS = 2_000;
+    private static final int PLATFORM_THREADS = 200;
+    private static final int BULKHEAD_LIMIT = 500;
+    private static final long STUB_LATENCY_MS = 500;
+
+    // application.yaml virtual-threads 프로파일 값 (client.hub-driver-service.*, hikari.maximum-pool-size)
+    private static final int SERVICE_MAX_CONCURRENT_CALLS = 16;
+    private static final Duration SERVICE_ACQUIRE_TIMEOUT = Duration.ofSeconds(2);
+    private static final int SERVICE_DB_POOL_SIZE = 20;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private HttpServer stub;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4_096);
+        stub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stub.createContext("/v1/hub-driver/internal/drivers/assign", exchange -> {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try (exchange) {
+                Thread.sleep(STUB_LATENCY_MS);
+                byte[] body = "{\"driverId\":\"driver-1\",\"driverName\":\"stub\"}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+        stub.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        stub.stop(0);
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드는 Bulkhead 한도 내에서 플랫폼 스레드보다 높은 처리량을 낸다")
+    void virtualThreads_shouldOutperformPlatformThreads_underHighLatency() {
+        // given
+        HubDriverBulkheadCapability bulkhead = new HubDriverBulkheadCapability(BULKHEAD_LIMIT, Duration.ofSeconds(30));
+
+        // when
+        LoadResult platform = runLoad(Executors.newFixedThreadPool(PLATFORM_THREADS), bulkhead);
+        LoadResult virtual = runLoad(Executors.newVirtualThreadPerTaskExecutor(), bulkhead);
+
+        // then
+        assertThat(platform.succeeded()).isEqualTo(REQUESTS);
+        assertThat(virtual.succeeded()).isEqualTo(REQUESTS);
+        assertThat(platform.peakConcurrency()).isLessThanOrEqualTo(PLATFORM_THREADS);
+        assertThat(virtual.peakConcurrency()).isLessThanOrEqualTo(BULKHEAD_LIMIT);
+        assertThat(virtual.peakConcurrency()).isGreaterThan(platform.peakConcurrency());
+        assertThat(virtual.throughputPerSec()).isGreaterThan(platform.throughputPerSec());
+    }
+
+    @Test
+    @DisplayName("서비스 설정의 Bulkhead는 한도 이상 동시 호출을 막고 넘치는 호출은 503으로 실패시킨다")
+    void serviceBulkhead_shouldCapConcurrency_andRejectWithServiceUnavailable() {
+        // given
+        HubDriverBulkheadCapability bulkhead = new HubDriverClientConfig()
+                .hubDriverBulkheadCapability(SERVICE_MAX_CONCURRENT_CALLS, SERVICE_ACQUIRE_TIMEOUT, SERVICE_DB_POOL_SIZE);
+
+        // when
+        LoadResult result = runLoad(Executors.newVirtualThreadPerTaskExecutor(), bulkhead);
+
+        // then - 대기 시간 동안 처리 가능한 호출만 성공하고 나머지는 모두 한도 초과로 실패
+        assertThat(result.peakConcurrency()).isLessThanOrEqualTo(SERVICE_MAX_CONCURRENT_CALLS);
+        assertThat(result.succeeded()).isGreaterThanOrEqualTo(SERVICE_MAX_CONCURRENT_CALLS);
+        assertThat(result.rejected()).isPositive();
+        assertThat(result.succeeded() + result.rejected()).isEqualTo(REQUESTS);
+        assertThat(result.otherFailures()).isZero();
+        assertThat(bulkhead.getInFlightCalls()).isZero();
+    }
+
+    private LoadResult runLoad(ExecutorService executor, HubDriverBulkheadCapability bulkhead) {
+        peakInFlight.set(0);
+
+        DriverStubClient client = Feign.builder()
+                .addCapability(bulkhead)
+                .options(new Request.Options(10, TimeUnit.SECONDS, 30, TimeUnit.SECONDS, true))
+                .retryer(Retryer.NEVER_RETRY)
+                .target(DriverStubClient.class, "http://127.0.0.1:" + stub.getAddress().getPort());
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger otherFailures = new AtomicInteger();
+        long startedAt = System.nanoTime();
+
+        try (executor) {
+            for (int i = 0; i < REQUESTS; i++) {
+                String body = "{\"hubDeliveryId\":\"hub-delivery-" + i + "\"}";
+                executor.submit(() -> {
+                    try {
+                        client.assign(body);
+                        succeeded.incrementAndGet();
+                    } catch (HubDeliveryException e) {
+                        if (e.getErrorCode() == HubDeliveryErrorCode.DRIVER_SERVICE_BUSY) {
+                            rejected.incrementAndGet();
+                        } else {
+                            otherFailures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        otherFailures.incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return new LoadResult(succeeded.get() * 1_000.0 / elapsedMs, peakInFlight.get(),
+                succeeded.get(), rejected.get(), otherFailures.get());
+    }
+
+    interface DriverStubClient {
+
+        @RequestLine("POST /v1/hub-driver/internal/drivers/assign")
+        @Headers("Content-Type: application/json")
+        String assign(String body);
+    }
+
+    record LoadResult(double throughputPerSec, int peakConcurrency, int succeeded, int rejected, int otherFailures) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.order.producer.OrderEventProducer;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.state.producer.DeliveryStateProducer;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.track.producer.TrackEventProducer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * HubDeliveryEventPublisherImpl 단위 테스트
+ */
+class HubDeliveryEventPublisherImplTest {
+
+    private TrackEventProducer trackEventProducer;
+    private OrderEventProducer orderEventProducer;
+    private HubDeliveryEventPublisherImpl eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        trackEventProducer = mock(TrackEventProducer.class);
+        orderEventProducer = mock(OrderEventProducer.class);
+        eventPublisher = new HubDeliveryEventPublisherImpl(trackEventProducer, orderEventProducer,
+                mock(DeliveryStateProducer.class));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 발행하면 커밋 이후에 전송")
+    void publish_inTransaction_shouldSendAfterCommit() {
+        // given
+        HubDelivery hubDelivery = mock(HubDelivery.class);
+        HubSegment segment = HubSegment.create(0, "hub-1", "hub-2", 10000L, 30L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            eventPublisher.publishSegmentDeparted(hubDelivery, segment);
+            eventPublisher.publishHubDeliveryCompleted(hubDelivery);
+            verifyNoInteractions(trackEventProducer, orderEventProducer);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        verify(trackEventProducer).publishSegmentDeparted(hubDelivery, segment);
+        verify(orderEventProducer).publishHubDeliveryCompleted(hubDelivery);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 전송하지 않음")
+    void publish_whenRolledBack_shouldNotSend() {
+        // given
+        HubDelivery hubDelivery = mock(HubDelivery.class);
+        HubSegment segment = HubSegment.create(0, "hub-1", "hub-2", 10000L, 30L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            eventPublisher.publishSegmentArrived(hubDelivery, segment);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        verifyNoInteractions(trackEventProducer, orderEventProducer);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 발행하면 바로 전송")
+    void publish_withoutTransaction_shouldSendImmediately() {
+        // given
+        HubDelivery hubDelivery = mock(HubDelivery.class);
+        HubSegment segment = HubSegment.create(0, "hub-1", "hub-2", 10000L, 30L);
+
+        // when
+        eventPublisher.publishSegmentArrived(hubDelivery, segment);
+
+        // then
+        verify(trackEventProducer).publishSegmentArrived(hubDelivery, segment);
+    }
+}
@@ -0,0 +1,199 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.analytics;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.codec.HubSegmentArrivedEventCodec;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.codec.HubSegmentDepartedEventCodec;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.track.event.HubSegmentArrivedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.track.event.HubSegmentDepartedEvent;
+import com.early_express.hub_delivery_service.global.infrastructure.event.serialization.EventSchemaRegistry;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.state.WindowStore;
+import org.apache.kafka.streams.state.WindowStoreIterator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * HubAnalyticsTopology 단위 테스트 (TopologyTestDriver)
+ */
+class HubAnalyticsTopologyTest {
+
+    private static final Instant START = Instant.parse("2025-01-20T09:00:00Z");
+
+    @TempDir
+    Path stateDir;
+
+    private final EventSchemaRegistry eventSchemaRegistry = new EventSchemaRegistry(
+            List.of(new HubSegmentDepartedEventCodec(), new HubSegmentArrivedEventCodec()));
+
+    private TopologyTestDriver driver;
+    private TestInputTopic<String, Object> departedTopic;
+    private TestInputTopic<String, Object> arrivedTopic;
+
+    @BeforeEach
+    void setUp() {
+        HubAnalyticsTopology topology = new HubAnalyticsTopology("hub-segment-departed", "hub-segment-arrived",
+                Duration.ofMinutes(15), Duration.ofMinutes(5), Duration.ofHours(24), eventSchemaRegistry);
+        StreamsBuilder builder = new StreamsBuilder();
+        topology.configureBuilder(builder);
+
+        Properties props = new Properties();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, "hub-analytics-test");
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:9092");
+        props.put(StreamsConfig.STATE_DIR_CONFIG, stateDir.toString());
+
+        driver = new TopologyTestDriver(builder.build(), props, START);
+
+        // 발행 측과 동일하게 타입 헤더를 포함한 JSON으로 입력
+        departedTopic = driver.createInputTopic("hub-segment-departed",
+                new StringSerializer(), new JsonSerializer<>(), START, Duration.ZERO);
+        arrivedTopic = driver.createInputTopic("hub-segment-arrived",
+                new StringSerializer(), new JsonSerializer<>(), START, Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        driver.close();
+    }
+
+    @Test
+    @DisplayName("출발은 출발 허브, 도착은 도착 허브 기준으로 윈도우 처리량 집계")
+    void hubThroughput_shouldCountDeparturesAndArrivalsPerHub() {
+        // given
+        departedTopic.pipeInput("order-1", departed("hub-1", "hub-2"));
+        departedTopic.pipeInput("order-2", departed("hub-1", "hub-3"));
+        arrivedTopic.pipeInput("order-1", arrived("hub-1", "hub-2", 30L, 45L));
+
+        // when
+        WindowStore<String, HubThroughput> store = driver.getWindowStore(HubAnalyticsTopology.HUB_THROUGHPUT_STORE);
+
+        // then
+        assertThat(fetch(store, "hub-1")).containsExactly(new HubThroughput(2, 0));
+        assertThat(fetch(store, "hub-2")).containsExactly(new HubThroughput(0, 1));
+    }
+
+    @Test
+    @DisplayName("레인별 출발/도착 수와 지연 시간 집계")
+    void laneFlow_shouldAggregateDelayPerLane() {
+        // given
+        departedTopic.pipeInput("order-1", departed("hub-1", "hub-2"));
+        departedTopic.pipeInput("order-2", departed("hub-1", "hub-2"));
+        arrivedTopic.pipeInput("order-1", arrived("hub-1", "hub-2", 30L, 45L));
+        arrivedTopic.pipeInput("order-2", arrived("hub-1", "hub-2", 30L, 28L));
+
+        // when
+        WindowStore<String, LaneFlow> store = driver.getWindowStore(HubAnalyticsTopology.LANE_FLOW_STORE);
+
+        // then
+        assertThat(fetch(store, "hub-1->hub-2")).singleElement().satisfies(flow -> {
+            assertThat(flow.departures()).isEqualTo(2);
+            assertThat(flow.arrivals()).isEqualTo(2);
+            assertThat(flow.durationSumMin()).isEqualTo(73);
+            assertThat(flow.delaySamples()).isEqualTo(2);
+            assertThat(flow.delaySumMin()).isEqualTo(13);
+            assertThat(flow.lateArrivals()).isEqualTo(1);
+            assertThat(flow.maxDelayMin()).isEqualTo(15L);
+        });
+    }
+
+    @Test
+    @DisplayName("출발 허브가 없는 이전 버전 도착 이벤트는 허브 처리량에만 집계")
+    void legacyArrival_shouldSkipLaneFlow() {
+        // given
+        arrivedTopic.pipeInput("order-1", HubSegmentArrivedEvent.builder()
+                .eventType("HUB_SEGMENT_ARRIVED")
+                .hubId("hub-2")
+                .build());
+
+        // when & then
+        WindowStore<String, HubThroughput> hubStore = driver.getWindowStore(HubAnalyticsTopology.HUB_THROUGHPUT_STORE);
+        WindowStore<String, LaneFlow> laneStore = driver.getWindowStore(HubAnalyticsTopology.LANE_FLOW_STORE);
+
+        assertThat(fetch(hubStore, "hub-2")).containsExactly(new HubThroughput(0, 1));
+        assertThat(laneStore.all()).toIterable().isEmpty();
+    }
+
+    @Test
+    @DisplayName("바이너리 인코딩 레코드도 JSON 레코드와 함께 집계")
+    void binaryRecords_shouldBeAggregatedWithJsonRecords() {
+        // given
+        Serializer<Object> binarySerializer = (topic, event) -> eventSchemaRegistry.encode(event);
+        TestInputTopic<String, Object> binaryDeparted = driver.createInputTopic("hub-segment-departed",
+                new StringSerializer(), binarySerializer, START, Duration.ZERO);
+        TestInputTopic<String, Object> binaryArrived = driver.createInputTopic("hub-segment-arrived",
+                new StringSerializer(), binarySerializer, START, Duration.ZERO);
+
+        departedTopic.pipeInput("order-1", departed("hub-1", "hub-2"));
+        binaryDeparted.pipeInput("order-2", departed("hub-1", "hub-2"));
+        binaryArrived.pipeInput("order-2", arrived("hub-1", "hub-2", 30L, 40L));
+
+        // when
+        WindowStore<String, LaneFlow> store = driver.getWindowStore(HubAnalyticsTopology.LANE_FLOW_STORE);
+
+        // then
+        assertThat(fetch(store, "hub-1->hub-2")).singleElement().satisfies(flow -> {
+            assertThat(flow.departures()).isEqualTo(2);
+            assertThat(flow.arrivals()).isEqualTo(1);
+            assertThat(flow.delaySumMin()).isEqualTo(10);
+        });
+    }
+
+    @Test
+    @DisplayName("윈도우 크기 단위로 분리하여 집계")
+    void hubThroughput_shouldSplitByWindow() {
+        // given
+        departedTopic.pipeInput("order-1", departed("hub-1", "hub-2"), START);
+        departedTopic.pipeInput("order-2", departed("hub-1", "hub-2"), START.plus(Duration.ofMinutes(20)));
+
+        // when
+        WindowStore<String, HubThroughput> store = driver.getWindowStore(HubAnalyticsTopology.HUB_THROUGHPUT_STORE);
+
+        // then
+        assertThat(fetch(store, "hub-1"))
+                .containsExactly(new HubThroughput(1, 0), new HubThroughput(1, 0));
+    }
+
+    private <V> List<V> fetch(WindowStore<String, V> store, String key) {
+        List<V> values = new ArrayList<>();
+        try (WindowStoreIterator<V> iterator = store.fetch(key, START.minus(Duration.ofHours(1)), START.plus(Duration.ofHours(1)))) {
+            iterator.forEachRemaining((KeyValue<Long, V> entry) -> values.add(entry.value));
+        }
+        return values;
+    }
+
+    private HubSegmentDepartedEvent departed(String fromHubId, String toHubId) {
+        return HubSegmentDepartedEvent.builder()
+                .eventType("HUB_SEGMENT_DEPARTED")
+                .fromHubId(fromHubId)
+                .toHubId(toHubId)
+                .build();
+    }
+
+    private HubSegmentArrivedEvent arrived(String fromHubId, String toHubId,
+                                           Long estimatedDurationMin, Long actualDurationMin) {
+        return HubSegmentArrivedEvent.builder()
+                .eventType("HUB_SEGMENT_ARRIVED")
+                .hubId(toHubId)
+                .fromHubId(fromHubId)
+                .estimatedDurationMin(estimatedDurationMin)
+                .actualDurationMin(actualDurationMin)
+                .build();
+    }
+}
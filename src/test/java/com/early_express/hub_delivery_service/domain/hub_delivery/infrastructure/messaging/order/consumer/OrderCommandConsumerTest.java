@@ -0,0 +1,111 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.order.consumer;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.HubDeliveryCommandService;
+import com.early_express.hub_delivery_service.domain.hub_delivery.application.service.command.dto.HubDeliveryCommandDto.CreateResult;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.order.producer.OrderEventProducer;
+import com.early_express.hub_delivery_service.global.infrastructure.event.idempotency.ProcessedEventStore;
+import com.early_express.hub_delivery_service.global.infrastructure.event.parallel.KeyOrderedRecordDispatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OrderCommandConsumer 단위 테스트
+ */
+class OrderCommandConsumerTest {
+
+    private HubDeliveryCommandService hubDeliveryCommandService;
+    private OrderEventProducer orderEventProducer;
+    private ProcessedEventStore processedEventStore;
+    private Acknowledgment acknowledgment;
+    private OrderCommandConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        hubDeliveryCommandService = mock(HubDeliveryCommandService.class);
+        orderEventProducer = mock(OrderEventProducer.class);
+        processedEventStore = mock(ProcessedEventStore.class);
+        acknowledgment = mock(Acknowledgment.class);
+        consumer = new OrderCommandConsumer(hubDeliveryCommandService, orderEventProducer, processedEventStore,
+                new ObjectMapper(), mock(KeyOrderedRecordDispatcher.class));
+        ReflectionTestUtils.setField(consumer, "replyTimeout", Duration.ofSeconds(1));
+
+        when(processedEventStore.findProcessed(anyString(), any())).thenReturn(Set.of());
+        when(hubDeliveryCommandService.createBatch(any())).thenReturn(List.of(
+                CreateResult.success("hd-1", "order-1", "PENDING"),
+                CreateResult.success("hd-2", "order-2", "PENDING")));
+    }
+
+    @Test
+    @DisplayName("응답 전송이 확인된 뒤에 처리 완료 기록 후 오프셋 커밋")
+    void onCreateCommands_shouldMarkProcessedAndAckAfterRepliesSent() {
+        // given
+        when(orderEventProducer.publishHubDeliveryCreateReply(anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        consumer.onCreateCommands(List.of(record(0, "event-1", "order-1"), record(1, "event-2", "order-2")),
+                acknowledgment);
+
+        // then
+        InOrder inOrder = inOrder(orderEventProducer, processedEventStore, acknowledgment);
+        inOrder.verify(orderEventProducer, times(2)).publishHubDeliveryCreateReply(anyString(), any());
+        inOrder.verify(processedEventStore).markProcessed(anyString(), eq(List.of("event-1", "event-2")));
+        inOrder.verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("응답 전송이 하나라도 실패하면 처리 완료 기록/오프셋 커밋 없이 예외로 재전달")
+    void onCreateCommands_whenReplyFails_shouldThrowWithoutMarkingProcessed() {
+        // given
+        when(orderEventProducer.publishHubDeliveryCreateReply(eq("event-1"), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(orderEventProducer.publishHubDeliveryCreateReply(eq("event-2"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // when & then
+        assertThatThrownBy(() -> consumer.onCreateCommands(
+                List.of(record(0, "event-1", "order-1"), record(1, "event-2", "order-2")), acknowledgment))
+                .isInstanceOf(KafkaException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+        verify(processedEventStore, never()).markProcessed(anyString(), any());
+        verifyNoInteractions(acknowledgment);
+    }
+
+    @Test
+    @DisplayName("응답 전송 확인이 시간 내에 오지 않으면 처리 완료 기록/오프셋 커밋 없이 예외로 재전달")
+    void onCreateCommands_whenReplyTimesOut_shouldThrowWithoutMarkingProcessed() {
+        // given
+        ReflectionTestUtils.setField(consumer, "replyTimeout", Duration.ofMillis(50));
+        when(orderEventProducer.publishHubDeliveryCreateReply(anyString(), any()))
+                .thenReturn(new CompletableFuture<>());
+
+        // when & then
+        assertThatThrownBy(() -> consumer.onCreateCommands(
+                List.of(record(0, "event-1", "order-1"), record(1, "event-2", "order-2")), acknowledgment))
+                .isInstanceOf(KafkaException.class);
+        verify(processedEventStore, never()).markProcessed(anyString(), any());
+        verifyNoInteractions(acknowledgment);
+    }
+
+    private ConsumerRecord<String, Object> record(long offset, String eventId, String orderId) {
+        return new ConsumerRecord<>("hub-delivery-create-command", 0, offset, orderId,
+                Map.of("eventId", eventId, "orderId", orderId));
+    }
+}
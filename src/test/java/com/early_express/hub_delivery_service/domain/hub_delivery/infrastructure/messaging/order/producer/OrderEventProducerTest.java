@@ -2,18 +2,26 @@ package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructur
 
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import com.early_express.hub_delivery_service.global.infrastructure.event.outbox.EventOutboxStore;
+import com.early_express.hub_delivery_service.global.infrastructure.event.publish.AsyncEventPublisher;
+import com.early_express.hub_delivery_service.global.infrastructure.event.publish.BackpressurePolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -28,16 +36,27 @@ class OrderEventProducerTest {
     @Mock
     private KafkaTemplate<String, Object> kafkaTemplate;
 
-    @InjectMocks
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private HubDeliveryMetrics metrics = new HubDeliveryMetrics(meterRegistry);
+
     private OrderEventProducer orderEventProducer;
 
     @Captor
     private ArgumentCaptor<Object> eventCaptor;
 
+    @BeforeEach
+    void setUp() {
+        orderEventProducer = new OrderEventProducer(kafkaTemplate, directPublisher(), metrics);
+    }
+
     @Test
     @DisplayName("허브 배송 완료 이벤트 발행 성공")
     void publishHubDeliveryCompleted_shouldSendEvent() {
         // given
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
         ReflectionTestUtils.setField(orderEventProducer, "hubDeliveryCompletedTopic", "hub-delivery-completed");
 
         HubDelivery hubDelivery = createCompletedHubDelivery();
@@ -56,6 +75,35 @@ class OrderEventProducerTest {
         assertThat(capturedEvent).isNotNull();
     }
 
+    @Test
+    @DisplayName("Kafka 전송 실패 시 실패 메트릭 기록")
+    void publishHubDeliveryCompleted_whenSendFails_shouldRecordFailure() {
+        // given
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        ReflectionTestUtils.setField(orderEventProducer, "hubDeliveryCompletedTopic", "hub-delivery-completed");
+
+        HubDelivery hubDelivery = createCompletedHubDelivery();
+
+        // when
+        orderEventProducer.publishHubDeliveryCompleted(hubDelivery);
+
+        // then
+        assertThat(meterRegistry.get(HubDeliveryMetrics.KAFKA_SEND_FAILURES)
+                .tag("topic", "hub-delivery-completed")
+                .tag("exception", "IllegalStateException")
+                .counter()
+                .count()).isEqualTo(1.0);
+    }
+
+    /**
+     * 시작하지 않은 발행기 (큐를 거치지 않고 호출 스레드에서 바로 전송)
+     */
+    private AsyncEventPublisher directPublisher() {
+        return new AsyncEventPublisher(kafkaTemplate, mock(EventOutboxStore.class), new SimpleMeterRegistry(),
+                100, BackpressurePolicy.BLOCK, Duration.ofMillis(10), Duration.ofSeconds(1));
+    }
+
     private HubDelivery createCompletedHubDelivery() {
         List<HubSegment> segments = List.of(
                 HubSegment.create(0, "hub-1", "hub-2", 10000L, 30L)
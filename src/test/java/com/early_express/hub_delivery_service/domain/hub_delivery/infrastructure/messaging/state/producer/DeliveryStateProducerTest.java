@@ -0,0 +1,174 @@
+package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.state.producer;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryId;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubDeliveryStatus;
+import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.state.event.HubDeliveryStateEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import com.early_express.hub_delivery_service.global.infrastructure.event.outbox.EventOutboxStore;
+import com.early_express.hub_delivery_service.global.infrastructure.event.publish.AsyncEventPublisher;
+import com.early_express.hub_delivery_service.global.infrastructure.event.publish.BackpressurePolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DeliveryStateProducer 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class DeliveryStateProducerTest {
+
+    private static final String TOPIC = "hub-delivery-state";
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Spy
+    private HubDeliveryMetrics metrics = new HubDeliveryMetrics(new SimpleMeterRegistry());
+
+    private DeliveryStateProducer producer;
+
+    @BeforeEach
+    void setUp() {
+        producer = new DeliveryStateProducer(directPublisher(), metrics);
+        ReflectionTestUtils.setField(producer, "hubDeliveryStateTopic", TOPIC);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(producer);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 배송 ID를 키로 즉시 발행")
+    void publishSnapshot_withoutTransaction_shouldSendImmediately() {
+        // given
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        HubDelivery hubDelivery = delivery("hd-1");
+
+        // when
+        producer.publishSnapshot(hubDelivery);
+
+        // then
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate).send(eq(TOPIC), eq("hd-1"), captor.capture());
+
+        HubDeliveryStateEvent snapshot = (HubDeliveryStateEvent) captor.getValue();
+        assertThat(snapshot.getStatus()).isEqualTo("CREATED");
+        assertThat(snapshot.getVersion()).isEqualTo(3L);
+        assertThat(snapshot.getSegments()).hasSize(2);
+        assertThat(snapshot.getSegments().get(1).getFromHubId()).isEqualTo("hub-2");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후 배송별 마지막 스냅샷만 발행")
+    void publishSnapshot_inTransaction_shouldSendLatestAfterCommit() {
+        // given
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        TransactionSynchronizationManager.initSynchronization();
+
+        HubDelivery hubDelivery = delivery("hd-1");
+        producer.publishSnapshot(hubDelivery);
+        hubDelivery.assignDriverToSegment(0, "driver-1");
+        hubDelivery.departSegment(0);
+        producer.publishSnapshot(hubDelivery);
+        producer.publishSnapshot(delivery("hd-2"));
+
+        verifyNoInteractions(kafkaTemplate);
+
+        // when
+        commit();
+
+        // then
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate).send(eq(TOPIC), eq("hd-1"), captor.capture());
+        verify(kafkaTemplate).send(eq(TOPIC), eq("hd-2"), any());
+
+        HubDeliveryStateEvent snapshot = (HubDeliveryStateEvent) captor.getValue();
+        assertThat(snapshot.getStatus()).isEqualTo(HubDeliveryStatus.IN_PROGRESS.name());
+        assertThat(snapshot.getSegments().get(0).getDriverId()).isEqualTo("driver-1");
+    }
+
+    @Test
+    @DisplayName("롤백되면 발행하지 않음")
+    void publishSnapshot_rolledBack_shouldNotSend() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        producer.publishSnapshot(delivery("hd-1"));
+
+        // when
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        // then
+        verifyNoInteractions(kafkaTemplate);
+        assertThat(TransactionSynchronizationManager.hasResource(producer)).isFalse();
+    }
+
+    @Test
+    @DisplayName("삭제된 배송은 tombstone(null 값)으로 발행")
+    void publishSnapshot_deleted_shouldSendTombstone() {
+        // given
+        when(kafkaTemplate.send(anyString(), anyString(), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        HubDelivery hubDelivery = delivery("hd-1");
+        hubDelivery.delete("admin");
+
+        // when
+        producer.publishSnapshot(hubDelivery);
+
+        // then
+        verify(kafkaTemplate).send(eq(TOPIC), eq("hd-1"), isNull());
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    /**
+     * 시작하지 않은 발행기 (큐를 거치지 않고 호출 스레드에서 바로 전송)
+     */
+    private AsyncEventPublisher directPublisher() {
+        return new AsyncEventPublisher(kafkaTemplate, mock(EventOutboxStore.class), new SimpleMeterRegistry(),
+                100, BackpressurePolicy.BLOCK, Duration.ofMillis(10), Duration.ofSeconds(1));
+    }
+
+    private HubDelivery delivery(String id) {
+        LocalDateTime now = LocalDateTime.now();
+        return HubDelivery.reconstitute(
+                HubDeliveryId.of(id), "order-" + id, "hub-1", "hub-3",
+                List.of(HubSegment.create(0, "hub-1", "hub-2", 10000L, 30L),
+                        HubSegment.create(1, "hub-2", "hub-3", 20000L, 40L)),
+                HubDeliveryStatus.CREATED, null, 0, null, null, 70L, null,
+                null, null, 3L, now, "system", now, "system", null, null, false);
+    }
+}
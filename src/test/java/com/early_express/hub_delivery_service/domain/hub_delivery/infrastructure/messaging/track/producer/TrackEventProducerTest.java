@@ -2,19 +2,26 @@ package com.early_express.hub_delivery_service.domain.hub_delivery.infrastructur
 
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.HubDelivery;
 import com.early_express.hub_delivery_service.domain.hub_delivery.domain.model.vo.HubSegment;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.metrics.HubDeliveryMetrics;
+import com.early_express.hub_delivery_service.global.infrastructure.event.outbox.EventOutboxStore;
+import com.early_express.hub_delivery_service.global.infrastructure.event.publish.AsyncEventPublisher;
+import com.early_express.hub_delivery_service.global.infrastructure.event.publish.BackpressurePolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,7 +36,9 @@ class TrackEventProducerTest {
     @Mock
     private KafkaTemplate<String, Object> kafkaTemplate;
 
-    @InjectMocks
+    @Spy
+    private HubDeliveryMetrics metrics = new HubDeliveryMetrics(new SimpleMeterRegistry());
+
     private TrackEventProducer trackEventProducer;
 
     @Captor
@@ -37,6 +46,7 @@ class TrackEventProducerTest {
 
     @BeforeEach
     void setUp() {
+        trackEventProducer = new TrackEventProducer(directPublisher(), metrics);
         ReflectionTestUtils.setField(trackEventProducer, "hubSegmentDepartedTopic", "hub-segment-departed");
         ReflectionTestUtils.setField(trackEventProducer, "hubSegmentArrivedTopic", "hub-segment-arrived");
     }
@@ -45,6 +55,8 @@ class TrackEventProducerTest {
     @DisplayName("허브 구간 출발 이벤트 발행 성공")
     void publishSegmentDeparted_shouldSendEvent() {
         // given
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
         HubDelivery hubDelivery = createHubDeliveryWithDepartedSegment();
         HubSegment segment = hubDelivery.getSegments().get(0);
 
@@ -66,6 +78,8 @@ class TrackEventProducerTest {
     @DisplayName("허브 구간 도착 이벤트 발행 성공")
     void publishSegmentArrived_shouldSendEvent() {
         // given
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
         HubDelivery hubDelivery = createHubDeliveryWithArrivedSegment();
         HubSegment segment = hubDelivery.getSegments().get(0);
 
@@ -83,6 +97,14 @@ class TrackEventProducerTest {
         assertThat(capturedEvent).isNotNull();
     }
 
+    /**
+     * 시작하지 않은 발행기 (큐를 거치지 않고 호출 스레드에서 바로 전송)
+     */
+    private AsyncEventPublisher directPublisher() {
+        return new AsyncEventPublisher(kafkaTemplate, mock(EventOutboxStore.class), new SimpleMeterRegistry(),
+                100, BackpressurePolicy.BLOCK, Duration.ofMillis(10), Duration.ofSeconds(1));
+    }
+
     private HubDelivery createHubDeliveryWithDepartedSegment() {
         List<HubSegment> segments = List.of(
                 HubSegment.create(0, "hub-1", "hub-2", 10000L, 30L),
@@ -15,6 +15,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -158,4 +159,44 @@ class HubDeliveryRepositoryImplTest {
         assertThat(updatedHubDelivery.getDriverId()).isEqualTo("driver-1");
         assertThat(updatedHubDelivery.getStatus()).isEqualTo(HubDeliveryStatus.WAITING_DRIVER);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("저장할 때마다 증가된 애그리거트 버전을 반환")
+    void save_shouldReturnIncrementedVersion() {
+        // given
+        HubDelivery savedHubDelivery = hubDeliveryRepository.save(testHubDelivery);
+        Long createdVersion = savedHubDelivery.getVersion();
+        savedHubDelivery.assignDriver("driver-1");
+
+        // when
+        HubDelivery updatedHubDelivery = hubDeliveryRepository.save(savedHubDelivery);
+
+        // then
+        assertThat(createdVersion).isNotNull();
+        assertThat(updatedHubDelivery.getVersion()).isGreaterThan(createdVersion);
+    }
+
+    @Test
+    @DisplayName("배정 재요청을 기록한 배송은 재요청 간격 안에서는 방치 배송 조회에서 제외")
+    void findStaleCursors_afterMarkReassignAttempted_shouldSkipRecentlyAttempted() {
+        // given
+        HubDelivery savedHubDelivery = hubDeliveryRepository.save(testHubDelivery);
+        String id = savedHubDelivery.getIdValue();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime updatedBefore = now.plusMinutes(1);
+
+        // when
+        hubDeliveryRepository.markReassignAttempted(List.of(id), now);
+
+        // then
+        assertThat(hubDeliveryRepository.findStaleCursors(HubDeliveryStatus.CREATED, updatedBefore,
+                now.minusMinutes(30), id.substring(0, 1), null, 100))
+                .noneMatch(cursor -> cursor.id().equals(id));
+        assertThat(hubDeliveryRepository.findStaleCursors(HubDeliveryStatus.CREATED, updatedBefore,
+                now.plusMinutes(30), id.substring(0, 1), null, 100))
+                .anyMatch(cursor -> cursor.id().equals(id));
+        assertThat(hubDeliveryRepository.findStaleCursors(HubDeliveryStatus.CREATED, updatedBefore,
+                null, id.substring(0, 1), null, 100))
+                .anyMatch(cursor -> cursor.id().equals(id));
+    }
+}
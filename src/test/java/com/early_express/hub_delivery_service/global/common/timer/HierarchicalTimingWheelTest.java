@@ -0,0 +1,102 @@
+package com.early_express.hub_delivery_service.global.common.timer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * HierarchicalTimingWheel 단위 테스트
+ */
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    // 틱 10ms, 레벨당 8버킷 → 레벨0: 80ms, 레벨1: 640ms, 레벨2: 5120ms
+    private HierarchicalTimingWheel<String, String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HierarchicalTimingWheel<>(10, 8, START);
+    }
+
+    @Test
+    @DisplayName("만료 시각 이전에는 반환하지 않고 이후 틱에서 반환")
+    void advanceClock_shouldReturnOnlyExpiredEntries() {
+        // given
+        wheel.schedule("a", "a", START + 50);
+
+        // when & then
+        assertThat(wheel.advanceClock(START + 40)).isEmpty();
+        assertThat(wheel.advanceClock(START + 50)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상위 레벨에 저장된 먼 항목도 하위 레벨로 내려와 정확한 틱에 만료")
+    void advanceClock_shouldCascadeFromOverflowLevels() {
+        // given
+        wheel.schedule("far", "far", START + 3_000);
+        wheel.schedule("near", "near", START + 20);
+
+        // when
+        List<String> expired = new ArrayList<>();
+        long expiredAt = -1;
+        for (long now = START; now <= START + 4_000 && expired.size() < 2; now += 10) {
+            List<String> batch = wheel.advanceClock(now);
+            if (batch.contains("far")) {
+                expiredAt = now;
+            }
+            expired.addAll(batch);
+        }
+
+        // then
+        assertThat(expired).containsExactly("near", "far");
+        assertThat(expiredAt).isBetween(START + 2_990, START + 3_000);
+    }
+
+    @Test
+    @DisplayName("취소된 항목은 만료되지 않음")
+    void cancel_shouldRemoveEntry() {
+        // given
+        wheel.schedule("a", "a", START + 500);
+
+        // when
+        boolean cancelled = wheel.cancel("a");
+
+        // then
+        assertThat(cancelled).isTrue();
+        assertThat(wheel.advanceClock(START + 1_000)).isEmpty();
+        assertThat(wheel.cancel("a")).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 등록하면 기존 항목을 대체")
+    void schedule_sameKey_shouldReplace() {
+        // given
+        wheel.schedule("a", "first", START + 30);
+
+        // when
+        wheel.schedule("a", "second", START + 200);
+
+        // then
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advanceClock(START + 100)).isEmpty();
+        assertThat(wheel.advanceClock(START + 200)).containsExactly("second");
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각으로 등록하면 다음 진행 시 즉시 반환")
+    void schedule_pastExpiration_shouldExpireOnNextAdvance() {
+        // when
+        wheel.schedule("late", "late", START - 1_000);
+
+        // then
+        assertThat(wheel.contains("late")).isFalse();
+        assertThat(wheel.advanceClock(START)).containsExactly("late");
+    }
+}
@@ -0,0 +1,237 @@
+package com.early_express.hub_delivery_service.global.config;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.codec.HubDeliveryCompletedEventCodec;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.codec.HubSegmentArrivedEventCodec;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.codec.HubSegmentDepartedEventCodec;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.order.event.HubDeliveryCompletedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.track.event.HubSegmentArrivedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.track.event.HubSegmentDepartedEvent;
+import com.early_express.hub_delivery_service.global.infrastructure.event.serialization.CompactEventSerializer;
+import com.early_express.hub_delivery_service.global.infrastructure.event.serialization.EventSchemaRegistry;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Kafka 프로듀서 프로필 부하 테스트 (배치 설정 x 압축 코덱)
+ *
+ * 임베디드 Kafka(KRaft)에 허브 배송 이벤트 3종을 연속 발행하면서
+ * 배치 설정(LATENCY / THROUGHPUT 프로필)과 압축 코덱 조합별 초당 처리량과 p99 발행 지연(send ~ ack)을 측정합니다.
+ * 운영과 같이 acks=all, 멱등성 프로듀서, JSON 값 직렬화로 발행합니다.
+ *
+ * 실행: ./gradlew performanceTest
+ */
+@Tag("performance")
+class KafkaProducerProfileLoadTest {
+
+    private static final String TOPIC = "hub-delivery-producer-profile";
+    private static final int PARTITIONS = 3;
+    private static final int WARMUP_EVENTS = 2_000;
+    private static final int EVENTS = 20_000;
+    private static final List<String> COMPRESSION_TYPES = List.of("none", "gzip", "snappy", "lz4", "zstd");
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 15, 9, 0, 0);
+
+    private static EmbeddedKafkaKraftBroker broker;
+    private static CompactEventSerializer valueSerializer;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC);
+        broker.afterPropertiesSet();
+
+        EventSchemaRegistry registry = new EventSchemaRegistry(List.of(
+                new HubSegmentDepartedEventCodec(),
+                new HubSegmentArrivedEventCodec(),
+                new HubDeliveryCompletedEventCodec()));
+        valueSerializer = new CompactEventSerializer(registry, new JsonSerializer<>(), Set.of());
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    @DisplayName("프로필 배치 설정과 압축 코덱 조합별 이벤트 처리량과 p99 발행 지연 측정")
+    void measureProducerProfiles() throws Exception {
+        // given
+        Map<String, Supplier<Object>> eventTypes = Map.of(
+                "DEPARTED", KafkaProducerProfileLoadTest::departedEvent,
+                "ARRIVED", KafkaProducerProfileLoadTest::arrivedEvent,
+                "COMPLETED", KafkaProducerProfileLoadTest::completedEvent);
+        List<RunResult> results = new ArrayList<>();
+
+        // when
+        for (String eventType : List.of("DEPARTED", "ARRIVED", "COMPLETED")) {
+            for (KafkaProducerProperties.Profile profile : KafkaProducerProperties.Profile.values()) {
+                for (String compressionType : COMPRESSION_TYPES) {
+                    KafkaProducerProperties properties = new KafkaProducerProperties(profile, null, null, compressionType);
+                    results.add(run(eventType, properties, eventTypes.get(eventType)));
+                }
+            }
+        }
+
+        System.out.printf("%n[프로듀서 프로필 부하 테스트] events=%d/run, partitions=%d, acks=all%n", EVENTS, PARTITIONS);
+        System.out.printf("  %-9s %-10s %-6s %6s %7s %12s %9s %9s%n",
+                "event", "profile", "codec", "linger", "batch", "events/s", "p50(ms)", "p99(ms)");
+        results.forEach(System.out::println);
+
+        // then
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.failures()).isZero();
+            assertThat(result.eventsPerSec()).isPositive();
+        });
+    }
+
+    private RunResult run(String eventType, KafkaProducerProperties properties, Supplier<Object> eventFactory)
+            throws InterruptedException {
+        try (KafkaProducer<String, Object> producer =
+                     new KafkaProducer<>(producerConfigs(properties), new StringSerializer(), valueSerializer)) {
+            send(producer, eventFactory, WARMUP_EVENTS, new long[WARMUP_EVENTS], new AtomicInteger());
+
+            long[] latencies = new long[EVENTS];
+            AtomicInteger failures = new AtomicInteger();
+            long startedAt = System.nanoTime();
+            send(producer, eventFactory, EVENTS, latencies, failures);
+            long elapsedNanos = System.nanoTime() - startedAt;
+
+            Arrays.sort(latencies);
+            return new RunResult(
+                    eventType,
+                    properties.profile().name(),
+                    properties.resolvedCompressionType(),
+                    properties.resolvedLinger(),
+                    properties.resolvedBatchSize(),
+                    EVENTS * 1_000_000_000.0 / elapsedNanos,
+                    percentileMillis(latencies, 0.50),
+                    percentileMillis(latencies, 0.99),
+                    failures.get());
+        }
+    }
+
+    /**
+     * 이벤트를 연속 발행하고 모든 ack를 기다림 (지연 = send 호출 ~ ack 콜백)
+     */
+    private void send(KafkaProducer<String, Object> producer, Supplier<Object> eventFactory, int count,
+                      long[] latencies, AtomicInteger failures) throws InterruptedException {
+        List<Object> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(eventFactory.get());
+        }
+
+        CountDownLatch acked = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            long sentAt = System.nanoTime();
+            producer.send(new ProducerRecord<>(TOPIC, UUID.randomUUID().toString(), events.get(i)), (metadata, ex) -> {
+                latencies[index] = System.nanoTime() - sentAt;
+                if (ex != null) {
+                    failures.incrementAndGet();
+                }
+                acked.countDown();
+            });
+        }
+        assertThat(acked.await(60, TimeUnit.SECONDS)).isTrue();
+    }
+
+    /**
+     * KafkaConfig.producerFactory와 같은 신뢰성 설정 + 프로필 배치/압축 설정
+     */
+    private Map<String, Object> producerConfigs(KafkaProducerProperties properties) {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        configs.put(ProducerConfig.ACKS_CONFIG, "all");
+        configs.put(ProducerConfig.RETRIES_CONFIG, 3);
+        configs.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configs.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        configs.putAll(properties.toProducerConfigs());
+        return configs;
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        int index = Math.min(sortedNanos.length - 1, (int) Math.ceil(percentile * sortedNanos.length) - 1);
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static Object departedEvent() {
+        return HubSegmentDepartedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType("HUB_SEGMENT_DEPARTED")
+                .source("hub-delivery-service")
+                .timestamp(BASE)
+                .orderId(UUID.randomUUID().toString())
+                .hubDeliveryId(UUID.randomUUID().toString())
+                .segmentIndex(0)
+                .fromHubId(UUID.randomUUID().toString())
+                .toHubId(UUID.randomUUID().toString())
+                .departedAt(BASE)
+                .build();
+    }
+
+    private static Object arrivedEvent() {
+        return HubSegmentArrivedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType("HUB_SEGMENT_ARRIVED")
+                .source("hub-delivery-service")
+                .timestamp(BASE.plusMinutes(95))
+                .orderId(UUID.randomUUID().toString())
+                .hubDeliveryId(UUID.randomUUID().toString())
+                .segmentIndex(0)
+                .hubId(UUID.randomUUID().toString())
+                .arrivedAt(BASE.plusMinutes(95))
+                .fromHubId(UUID.randomUUID().toString())
+                .departedAt(BASE)
+                .estimatedDurationMin(90L)
+                .actualDurationMin(95L)
+                .build();
+    }
+
+    private static Object completedEvent() {
+        return HubDeliveryCompletedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType("HUB_DELIVERY_COMPLETED")
+                .source("hub-delivery-service")
+                .timestamp(BASE.plusMinutes(300))
+                .orderId(UUID.randomUUID().toString())
+                .hubDeliveryId(UUID.randomUUID().toString())
+                .completedAt(BASE.plusMinutes(300))
+                .totalActualDurationMin(300L)
+                .build();
+    }
+
+    record RunResult(String eventType, String profile, String compressionType, Duration linger, DataSize batchSize,
+                     double eventsPerSec, double p50Millis, double p99Millis, int failures) {
+
+        @Override
+        public String toString() {
+            return String.format("  %-9s %-10s %-6s %4dms %5dKB %12.0f %9.2f %9.2f%s",
+                    eventType, profile, compressionType, linger.toMillis(), batchSize.toKilobytes(),
+                    eventsPerSec, p50Millis, p99Millis, failures > 0 ? " failures=" + failures : "");
+        }
+    }
+}
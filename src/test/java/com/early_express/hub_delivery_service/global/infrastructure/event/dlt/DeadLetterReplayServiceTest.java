@@ -0,0 +1,273 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.dlt;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.codec.HubDeliveryCompletedEventCodec;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.codec.HubSegmentArrivedEventCodec;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.codec.HubSegmentDepartedEventCodec;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.track.event.HubSegmentArrivedEvent;
+import com.early_express.hub_delivery_service.global.infrastructure.event.serialization.EventSchemaRegistry;
+import com.early_express.hub_delivery_service.global.infrastructure.lease.ShardLeaseManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DeadLetterReplayService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class DeadLetterReplayServiceTest {
+
+    private static final String DLT = "hub-delivery-service-dlt";
+    private static final String COMMAND_TOPIC = "hub-delivery-create-command";
+    private static final String ARRIVED_TOPIC = "hub-segment-arrived";
+    private static final TopicPartition PARTITION = new TopicPartition(DLT, 0);
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 15, 9, 0, 0);
+
+    @Mock
+    private KafkaTemplate<String, byte[]> byteArrayKafkaTemplate;
+
+    @Mock
+    private ShardLeaseManager shardLeaseManager;
+
+    private final MockConsumer<String, byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+
+    private EventSchemaRegistry registry;
+    private DeadLetterReplayService service;
+
+    @BeforeEach
+    void setUp() {
+        registry = new EventSchemaRegistry(List.of(
+                new HubSegmentDepartedEventCodec(),
+                new HubSegmentArrivedEventCodec(),
+                new HubDeliveryCompletedEventCodec()));
+        service = new DeadLetterReplayService(byteArrayKafkaTemplate, shardLeaseManager, registry,
+                new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(),
+                batchSize -> consumer, DLT, Duration.ofMillis(10), Duration.ofSeconds(1), Duration.ofMinutes(1));
+
+        consumer.updatePartitions(DLT, List.of(new PartitionInfo(DLT, 0, Node.noNode(), new Node[0], new Node[0])));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        lenient().when(shardLeaseManager.renew(eq(DeadLetterReplayService.LEASE_KEY), any())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("이벤트 타입이 일치하는 레코드만 원본 토픽으로 재발행하고 DLT 헤더는 제거")
+    void run_shouldReplayMatchingRecordsToOriginalTopic() {
+        // given
+        HubSegmentArrivedEvent arrived = arrivedEvent();
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                dltRecord(0, COMMAND_TOPIC, "order-1", json("HUB_DELIVERY_CREATE_COMMAND"), BASE),
+                dltRecord(1, ARRIVED_TOPIC, "order-2", registry.encode(arrived), BASE),
+                dltRecord(2, COMMAND_TOPIC, "order-3", json("OTHER_EVENT"), BASE),
+                dltRecord(3, null, "order-4", json("HUB_DELIVERY_CREATE_COMMAND"), BASE));
+        givenDeadLetters(records);
+        stubSend();
+
+        DeadLetterReplayJob job = new DeadLetterReplayJob(
+                criteria(Set.of("HUB_DELIVERY_CREATE_COMMAND", "HUB_SEGMENT_ARRIVED"), null));
+
+        // when
+        service.run(job);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(byteArrayKafkaTemplate, times(2)).send(captor.capture());
+
+        List<ProducerRecord<String, byte[]>> sent = captor.getAllValues();
+        assertThat(sent).extracting(ProducerRecord::topic).containsExactly(COMMAND_TOPIC, ARRIVED_TOPIC);
+        assertThat(sent).extracting(ProducerRecord::key).containsExactly("order-1", "order-2");
+        assertThat(sent.get(1).value()).isEqualTo(records.get(1).value());
+        assertThat(sent.get(0).partition()).isNull();
+        assertThat(sent.get(0).headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC)).isNull();
+        assertThat(new String(sent.get(0).headers().lastHeader(DeadLetterReplayService.REPLAY_JOB_HEADER).value(),
+                StandardCharsets.UTF_8)).isEqualTo(job.getJobId());
+
+        assertThat(job.getStatus()).isEqualTo(DeadLetterReplayJob.Status.COMPLETED);
+        assertThat(job.getScanned()).hasValue(4);
+        assertThat(job.getReplayed()).hasValue(2);
+        assertThat(job.getSkipped()).hasValue(2);
+        verify(shardLeaseManager).release(DeadLetterReplayService.LEASE_KEY);
+    }
+
+    @Test
+    @DisplayName("to 이후 timestamp의 레코드는 재발행하지 않음")
+    void run_shouldSkipRecordsOutsideTimeRange() {
+        // given
+        givenDeadLetters(List.of(
+                dltRecord(0, COMMAND_TOPIC, "order-1", json("HUB_DELIVERY_CREATE_COMMAND"), BASE),
+                dltRecord(1, COMMAND_TOPIC, "order-2", json("HUB_DELIVERY_CREATE_COMMAND"), BASE.plusHours(2))));
+        stubSend();
+
+        DeadLetterReplayJob job = new DeadLetterReplayJob(criteria(Set.of(), BASE.plusHours(1)));
+
+        // when
+        service.run(job);
+
+        // then
+        verify(byteArrayKafkaTemplate, times(1)).send(any(ProducerRecord.class));
+        assertThat(job.getReplayed()).hasValue(1);
+        assertThat(job.getSkipped()).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("전송 실패 시 작업은 FAILED로 끝나고 리스를 반납")
+    void run_shouldFailJobWhenSendFails() {
+        // given
+        givenDeadLetters(List.of(
+                dltRecord(0, COMMAND_TOPIC, "order-1", json("HUB_DELIVERY_CREATE_COMMAND"), BASE)));
+        when(byteArrayKafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        DeadLetterReplayJob job = new DeadLetterReplayJob(criteria(Set.of(), null));
+
+        // when
+        service.run(job);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(DeadLetterReplayJob.Status.FAILED);
+        assertThat(job.getReplayed()).hasValue(0);
+        verify(shardLeaseManager).release(DeadLetterReplayService.LEASE_KEY);
+    }
+
+    @Test
+    @DisplayName("리스 연장에 실패하면 재발행 없이 ABORTED로 중단")
+    void run_shouldAbortJobWhenLeaseRenewalFails() {
+        // given
+        givenDeadLetters(List.of(
+                dltRecord(0, COMMAND_TOPIC, "order-1", json("HUB_DELIVERY_CREATE_COMMAND"), BASE)));
+        when(shardLeaseManager.renew(eq(DeadLetterReplayService.LEASE_KEY), any())).thenReturn(false);
+
+        DeadLetterReplayJob job = new DeadLetterReplayJob(criteria(Set.of(), null));
+
+        // when
+        service.run(job);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(DeadLetterReplayJob.Status.ABORTED);
+        assertThat(job.getFinishedAt()).isNotNull();
+        verifyNoInteractions(byteArrayKafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 리스를 가지고 있으면 CONFLICT")
+    void start_shouldRejectWhenLeaseIsHeld() {
+        // given
+        when(shardLeaseManager.tryAcquire(eq(DeadLetterReplayService.LEASE_KEY), any())).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> service.start(criteria(Set.of(), null)))
+                .isInstanceOf(DeadLetterReplayException.class)
+                .hasMessageContaining("실행 중");
+    }
+
+    @Test
+    @DisplayName("from이 to 이후이거나 batchSize가 범위를 벗어나면 INVALID_INPUT_VALUE")
+    void start_shouldValidateCriteria() {
+        assertThatThrownBy(() -> service.start(new DeadLetterReplayCriteria(Set.of(), BASE, BASE, 10, 10)))
+                .isInstanceOf(DeadLetterReplayException.class);
+        assertThatThrownBy(() -> service.start(new DeadLetterReplayCriteria(Set.of(), null, null, 10, 0)))
+                .isInstanceOf(DeadLetterReplayException.class);
+        verifyNoInteractions(shardLeaseManager);
+    }
+
+    @Test
+    @DisplayName("배치 하나의 속도 제한 대기가 리스 유지 시간을 넘는 조건은 INVALID_INPUT_VALUE")
+    void start_whenBatchOutlastsLease_shouldReject() {
+        // given - 리스 1분, 초당 1건 x 배치 100건 = 배치당 약 100초 대기
+        DeadLetterReplayCriteria slowCriteria = new DeadLetterReplayCriteria(Set.of(), null, null, 1, 100);
+
+        // when & then
+        assertThatThrownBy(() -> service.start(slowCriteria))
+                .isInstanceOf(DeadLetterReplayException.class)
+                .hasMessageContaining("리스 유지 시간");
+        verifyNoInteractions(shardLeaseManager);
+    }
+
+    @Test
+    @DisplayName("조회/전송 대기 시간이 리스 유지 시간보다 길면 생성 실패")
+    void constructor_withTimeoutsLongerThanLease_shouldThrow() {
+        assertThatThrownBy(() -> new DeadLetterReplayService(byteArrayKafkaTemplate, shardLeaseManager, registry,
+                new ObjectMapper(), new SimpleMeterRegistry(), batchSize -> consumer, DLT,
+                Duration.ofMillis(10), Duration.ofMinutes(1), Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void givenDeadLetters(List<ConsumerRecord<String, byte[]>> records) {
+        consumer.updateEndOffsets(Map.of(PARTITION, (long) records.size()));
+        consumer.schedulePollTask(() -> records.forEach(consumer::addRecord));
+    }
+
+    private void stubSend() {
+        when(byteArrayKafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    private DeadLetterReplayCriteria criteria(Set<String> eventTypes, LocalDateTime to) {
+        return new DeadLetterReplayCriteria(eventTypes, null, to, 10_000, 100);
+    }
+
+    private ConsumerRecord<String, byte[]> dltRecord(long offset, String originalTopic, String key, byte[] value,
+                                                     LocalDateTime timestamp) {
+        RecordHeaders headers = new RecordHeaders();
+        if (originalTopic != null) {
+            headers.add(KafkaHeaders.DLT_ORIGINAL_TOPIC, originalTopic.getBytes(StandardCharsets.UTF_8));
+            headers.add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, "boom".getBytes(StandardCharsets.UTF_8));
+        }
+        long epochMillis = timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new ConsumerRecord<>(DLT, 0, offset, epochMillis, TimestampType.CREATE_TIME,
+                -1, -1, key, value, headers, Optional.empty());
+    }
+
+    private byte[] json(String eventType) {
+        return ("{\"eventId\":\"" + UUID.randomUUID() + "\",\"eventType\":\"" + eventType + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private HubSegmentArrivedEvent arrivedEvent() {
+        return HubSegmentArrivedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType("HUB_SEGMENT_ARRIVED")
+                .source("hub-delivery-service")
+                .timestamp(BASE)
+                .orderId(UUID.randomUUID().toString())
+                .hubDeliveryId(UUID.randomUUID().toString())
+                .segmentIndex(0)
+                .hubId("hub-2")
+                .arrivedAt(BASE)
+                .fromHubId("hub-1")
+                .departedAt(BASE.minusMinutes(45))
+                .estimatedDurationMin(30L)
+                .actualDurationMin(45L)
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.idempotency;
+
+import com.early_express.hub_delivery_service.global.infrastructure.lease.ShardLeaseManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ProcessedEventStore 단위 테스트
+ */
+class ProcessedEventStoreTest {
+
+    private static final String CONSUMER = "test-consumer";
+
+    private ProcessedEventJpaRepository repository;
+    private ProcessedEventBatchRepository batchRepository;
+    private ShardLeaseManager shardLeaseManager;
+    private SimpleMeterRegistry meterRegistry;
+    private ProcessedEventStore store;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ProcessedEventJpaRepository.class);
+        batchRepository = mock(ProcessedEventBatchRepository.class);
+        shardLeaseManager = mock(ShardLeaseManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        store = new ProcessedEventStore(repository, batchRepository, shardLeaseManager, meterRegistry,
+                2, Duration.ofDays(7), Duration.ofMinutes(10), true);
+    }
+
+    @Test
+    @DisplayName("메모리에 없는 eventId만 한 번의 쿼리로 조회")
+    void findProcessed_shouldQueryOnlyUnknownIdsOnce() {
+        // given
+        store.markProcessed(CONSUMER, List.of("evt-1"));
+        when(repository.findProcessedIds(eq(CONSUMER), anyCollection())).thenReturn(List.of("evt-2"));
+
+        // when
+        var processed = store.findProcessed(CONSUMER, List.of("evt-1", "evt-2", "evt-3"));
+
+        // then
+        assertThat(processed).containsExactlyInAnyOrder("evt-1", "evt-2");
+        verify(repository, times(1)).findProcessedIds(CONSUMER, List.of("evt-2", "evt-3"));
+        assertThat(counter("duplicate")).isEqualTo(2.0);
+        assertThat(counter("new")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("DB에서 확인된 eventId는 메모리에 올려 다음 조회 시 쿼리 생략")
+    void findProcessed_shouldCacheDbHits() {
+        // given
+        when(repository.findProcessedIds(eq(CONSUMER), anyCollection())).thenReturn(List.of("evt-1"));
+        store.findProcessed(CONSUMER, List.of("evt-1"));
+
+        // when
+        boolean processed = store.isProcessed(CONSUMER, "evt-1");
+
+        // then
+        assertThat(processed).isTrue();
+        verify(repository, times(1)).findProcessedIds(eq(CONSUMER), anyCollection());
+    }
+
+    @Test
+    @DisplayName("다른 소비자가 처리한 eventId는 처리 완료로 보지 않음")
+    void findProcessed_shouldBeConsumerAware() {
+        // given
+        store.markProcessed("other-consumer", List.of("evt-1"));
+        when(repository.findProcessedIds(eq(CONSUMER), anyCollection())).thenReturn(List.of());
+
+        // when
+        boolean processed = store.isProcessed(CONSUMER, "evt-1");
+
+        // then
+        assertThat(processed).isFalse();
+        verify(repository).findProcessedIds(CONSUMER, List.of("evt-1"));
+    }
+
+    @Test
+    @DisplayName("처리 완료 기록은 캐시에 없는 ID만 중복 제거하여 한 번의 배치 INSERT로 처리")
+    void markProcessed_shouldInsertOnceAsBatch() {
+        // given
+        store.markProcessed(CONSUMER, List.of("evt-1"));
+
+        // when
+        store.markProcessed(CONSUMER, Arrays.asList("evt-1", "evt-2", "evt-2", null, "evt-3"));
+
+        // then
+        verify(batchRepository).insertIgnoringDuplicates(eq(CONSUMER), eq(List.of("evt-1")), any());
+        verify(batchRepository).insertIgnoringDuplicates(eq(CONSUMER), eq(List.of("evt-2", "evt-3")), any());
+        verifyNoMoreInteractions(batchRepository);
+    }
+
+    @Test
+    @DisplayName("eventId가 없는 이벤트는 추적하지 않고 항상 처리")
+    void nullEventId_shouldAlwaysBeProcessed() {
+        // when
+        boolean processedOne = store.isProcessed(CONSUMER, null);
+        var processed = store.findProcessed(CONSUMER, Arrays.asList(null, null));
+        store.markProcessed(CONSUMER, Arrays.asList(null, null));
+
+        // then
+        assertThat(processedOne).isFalse();
+        assertThat(processed).isEmpty();
+        verifyNoInteractions(repository, batchRepository);
+        assertThat(counter("untracked")).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("메모리 캐시는 크기 상한을 넘으면 오래된 항목부터 제거")
+    void cache_shouldEvictLeastRecentlyUsed() {
+        // when
+        store.markProcessed(CONSUMER, List.of("evt-1", "evt-2", "evt-3"));
+
+        // then
+        assertThat(store.getCacheSize()).isEqualTo(2);
+        assertThat(meterRegistry.get(ProcessedEventStore.DEDUP_CACHE_SIZE).gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("리스를 획득하지 못하면 만료 기록을 삭제하지 않음")
+    void purgeExpired_withoutLease_shouldSkip() {
+        // given
+        when(shardLeaseManager.tryAcquire(anyString(), any())).thenReturn(false);
+
+        // when
+        store.purgeExpired();
+
+        // then
+        verify(repository, never()).deleteProcessedBefore(any());
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get(ProcessedEventStore.EVENT_CONSUMED)
+                .tag("consumer", CONSUMER)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,78 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.outbox;
+
+import com.early_express.hub_delivery_service.global.infrastructure.lease.ShardLeaseManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * EventOutboxStore 단위 테스트
+ */
+class EventOutboxStoreTest {
+
+    private static final String TOPIC = "hub-segment-arrived";
+
+    private EventOutboxJpaRepository eventOutboxJpaRepository;
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private ShardLeaseManager shardLeaseManager;
+    private EventOutboxStore eventOutboxStore;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        eventOutboxJpaRepository = mock(EventOutboxJpaRepository.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        shardLeaseManager = mock(ShardLeaseManager.class);
+        eventOutboxStore = new EventOutboxStore(eventOutboxJpaRepository, kafkaTemplate, new ObjectMapper(),
+                shardLeaseManager, new SimpleMeterRegistry(), true, 200, Duration.ofSeconds(1), Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("건마다 리스를 연장하고, 연장에 실패하면 남은 이벤트는 보내지 않고 중단")
+    void relay_whenLeaseRenewalFails_shouldStop() {
+        // given
+        EventOutboxEntity first = entry(1L, "order-1");
+        EventOutboxEntity second = entry(2L, "order-2");
+        when(eventOutboxJpaRepository.findByOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(first, second));
+        when(shardLeaseManager.tryAcquire(anyString(), any())).thenReturn(true);
+        when(shardLeaseManager.renew(anyString(), any())).thenReturn(true, false);
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        eventOutboxStore.relay();
+
+        // then
+        verify(kafkaTemplate).send(eq(TOPIC), eq("order-1"), any());
+        verify(kafkaTemplate, never()).send(eq(TOPIC), eq("order-2"), any());
+        verify(eventOutboxJpaRepository).deleteById(1L);
+        verify(eventOutboxJpaRepository, never()).deleteById(2L);
+        verify(shardLeaseManager).release(anyString());
+    }
+
+    @Test
+    @DisplayName("전송 대기 시간이 리스 유지 시간 이상이면 생성 시 예외")
+    void constructor_whenSendTimeoutExceedsLeaseTtl_shouldThrow() {
+        assertThatThrownBy(() -> new EventOutboxStore(eventOutboxJpaRepository, kafkaTemplate, new ObjectMapper(),
+                shardLeaseManager, new SimpleMeterRegistry(), true, 200, Duration.ofMinutes(1), Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private EventOutboxEntity entry(Long id, String key) {
+        EventOutboxEntity entity = EventOutboxEntity.of(TOPIC, key, null, "{\"orderId\":\"" + key + "\"}");
+        ReflectionTestUtils.setField(entity, "id", id);
+        return entity;
+    }
+}
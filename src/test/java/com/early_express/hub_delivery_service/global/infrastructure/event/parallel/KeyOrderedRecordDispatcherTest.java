@@ -0,0 +1,212 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.parallel;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * KeyOrderedRecordDispatcher 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class KeyOrderedRecordDispatcherTest {
+
+    private static final String TOPIC = "hub-delivery-create-command";
+
+    @Mock
+    private ConsumerRecordRecoverer deadLetterRecoverer;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private KeyOrderedRecordDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        // 재시도 2회, 대기 없음
+        dispatcher = new KeyOrderedRecordDispatcher(deadLetterRecoverer, new FixedBackOff(0, 2), meterRegistry, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    @Test
+    @DisplayName("같은 키는 도착 순서대로 하나씩, 다른 키는 앞 키가 막혀 있어도 먼저 처리")
+    void dispatch_shouldKeepOrderPerKeyAndRunOtherKeysConcurrently() throws Exception {
+        // given
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch otherKeyDone = new CountDownLatch(1);
+        List<Long> processed = new CopyOnWriteArrayList<>();
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        KeyOrderedRecordDispatcher.RecordHandler<String> handler = record -> {
+            if (record.offset() == 0) {
+                blocker.await(5, TimeUnit.SECONDS);
+            }
+            processed.add(record.offset());
+            if ("order-2".equals(record.key())) {
+                otherKeyDone.countDown();
+            }
+        };
+
+        // when
+        dispatcher.dispatch(record(0, "order-1"), acknowledgment, handler);
+        dispatcher.dispatch(record(1, "order-1"), acknowledgment, handler);
+        dispatcher.dispatch(record(2, "order-2"), acknowledgment, handler);
+
+        // then
+        assertThat(otherKeyDone.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(processed).containsExactly(2L);
+
+        blocker.countDown();
+        verify(acknowledgment, timeout(5000).times(3)).acknowledge();
+        assertThat(processed).containsExactly(2L, 0L, 1L);
+    }
+
+    @Test
+    @DisplayName("처리가 계속 실패하면 재시도 소진 후 DLT로 보내고 확인하며, 같은 키의 다음 레코드는 이후에 처리")
+    void dispatch_shouldRecoverAfterRetriesAndContinueWithNextRecord() throws Exception {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        List<Long> processed = new CopyOnWriteArrayList<>();
+        Acknowledgment failedAck = mock(Acknowledgment.class);
+        Acknowledgment nextAck = mock(Acknowledgment.class);
+
+        KeyOrderedRecordDispatcher.RecordHandler<String> handler = record -> {
+            if (record.offset() == 0) {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("boom");
+            }
+            processed.add(record.offset());
+        };
+
+        // when
+        dispatcher.dispatch(record(0, "order-1"), failedAck, handler);
+        dispatcher.dispatch(record(1, "order-1"), nextAck, handler);
+
+        // then
+        verify(nextAck, timeout(5000)).acknowledge();
+        verify(failedAck).acknowledge();
+        verify(deadLetterRecoverer).accept(argThat(r -> r.offset() == 0), isA(IllegalStateException.class));
+        assertThat(attempts).hasValue(3);
+        assertThat(processed).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("DLT 적재까지 실패하면 확인하지 않아 해당 오프셋부터 재전달")
+    void dispatch_shouldNotAcknowledgeWhenRecoveryFails() throws Exception {
+        // given
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        CountDownLatch recovered = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            recovered.countDown();
+            throw new IllegalStateException("dlt down");
+        }).when(deadLetterRecoverer).accept(any(), any());
+
+        // when
+        dispatcher.dispatch(record(0, "order-1"), acknowledgment, record -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // then
+        assertThat(recovered.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatcher.stop();
+        verify(acknowledgment, never()).acknowledge();
+        assertThat(dispatcher.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("처리 중 Error가 나도 허용량을 반환하고 같은 키의 다음 레코드는 처리")
+    void dispatch_shouldContinueWithNextRecordAfterUnexpectedError() throws Exception {
+        // given
+        Acknowledgment failedAck = mock(Acknowledgment.class);
+        Acknowledgment nextAck = mock(Acknowledgment.class);
+
+        KeyOrderedRecordDispatcher.RecordHandler<String> handler = record -> {
+            if (record.offset() == 0) {
+                throw new AssertionError("unexpected");
+            }
+        };
+
+        // when
+        dispatcher.dispatch(record(0, "order-1"), failedAck, handler);
+        dispatcher.dispatch(record(1, "order-1"), nextAck, handler);
+
+        // then
+        verify(nextAck, timeout(5000)).acknowledge();
+        dispatcher.stop();
+        verify(failedAck, never()).acknowledge();
+        verifyNoInteractions(deadLetterRecoverer);
+        assertThat(dispatcher.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 후 예약된 레코드는 처리하지 않고 허용량만 반환")
+    void dispatch_afterStop_shouldReleasePermitWithoutAcknowledging() throws Exception {
+        // given
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        AtomicInteger attempts = new AtomicInteger();
+        dispatcher.stop();
+
+        // when
+        dispatcher.dispatch(record(0, "order-1"), acknowledgment, record -> attempts.incrementAndGet());
+        dispatcher.dispatch(record(1, null), acknowledgment, record -> attempts.incrementAndGet());
+
+        // then
+        assertThat(attempts).hasValue(0);
+        verify(acknowledgment, never()).acknowledge();
+        assertThat(dispatcher.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("역직렬화에 실패한 레코드는 처리하지 않고 바로 DLT로 보냄")
+    void dispatch_shouldSendDeserializationFailureToDeadLetterWithoutRetry() throws Exception {
+        // given
+        byte[] data = "not-json".getBytes(StandardCharsets.UTF_8);
+        RecordHeaders headers = new RecordHeaders();
+        SerializationUtils.deserializationException(headers, data,
+                new DeserializationException("bad payload", data, false, new IllegalArgumentException()), false);
+        ConsumerRecord<String, String> poisoned = new ConsumerRecord<>(TOPIC, 0, 0, 0L, TimestampType.CREATE_TIME,
+                -1, -1, "order-1", null, headers, Optional.empty());
+
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        dispatcher.dispatch(poisoned, acknowledgment, record -> attempts.incrementAndGet());
+
+        // then
+        verify(acknowledgment, timeout(5000)).acknowledge();
+        verify(deadLetterRecoverer).accept(same(poisoned), isA(DeserializationException.class));
+        assertThat(attempts).hasValue(0);
+    }
+
+    private ConsumerRecord<String, String> record(long offset, String key) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, key, "{\"orderId\":\"" + key + "\"}");
+    }
+}
@@ -0,0 +1,245 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.publish;
+
+import com.early_express.hub_delivery_service.global.infrastructure.event.outbox.EventOutboxStore;
+import com.early_express.hub_delivery_service.global.infrastructure.event.outbox.OutboxKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AsyncEventPublisher 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class AsyncEventPublisherTest {
+
+    private static final String TOPIC = "hub-segment-arrived";
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private EventOutboxStore eventOutboxStore;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Throwable> failures = new CopyOnWriteArrayList<>();
+    private final CountDownLatch sendBlocker = new CountDownLatch(1);
+
+    private AsyncEventPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        sendBlocker.countDown();
+        if (publisher != null && publisher.isRunning()) {
+            publisher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("시작 후에는 send가 막혀도 호출 스레드는 바로 반환하고, 전송 완료 시 콜백 호출")
+    void publish_shouldNotBlockCallerWhileSendIsStuck() throws Exception {
+        // given
+        publisher = publisher(10, BackpressurePolicy.BLOCK);
+        blockFirstSend();
+        CountDownLatch completed = new CountDownLatch(3);
+        publisher.start();
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            publisher.publish(TOPIC, "order-" + i, "event-" + i, (result, ex) -> completed.countDown());
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        sendBlocker.countDown();
+
+        // then
+        assertThat(elapsedMs).isLessThan(500);
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(kafkaTemplate, times(3)).send(eq(TOPIC), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("SHED - 큐가 가득 차면 즉시 RejectedExecutionException 콜백과 overflow 카운터 증가")
+    void shed_shouldRejectWhenQueueIsFull() throws Exception {
+        // given
+        publisher = publisher(1, BackpressurePolicy.SHED);
+        CountDownLatch sending = blockFirstSend();
+        publisher.start();
+        publisher.publish(TOPIC, "order-0", "event-0", recordFailure());
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        publisher.publish(TOPIC, "order-1", "event-1", recordFailure());
+
+        // when
+        publisher.publish(TOPIC, "order-2", "event-2", recordFailure());
+
+        // then
+        assertThat(failures).singleElement().isInstanceOf(RejectedExecutionException.class);
+        assertThat(overflowCount(AsyncEventPublisher.ACTION_SHED)).isEqualTo(1.0);
+        verify(eventOutboxStore, never()).save(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("SPILL - 큐가 가득 차면 아웃박스에 보관하고 실패 콜백은 호출하지 않음")
+    void spill_shouldSaveToOutboxWhenQueueIsFull() throws Exception {
+        // given
+        publisher = publisher(1, BackpressurePolicy.SPILL);
+        CountDownLatch sending = blockFirstSend();
+        publisher.start();
+        publisher.publish(TOPIC, "order-0", "event-0", recordFailure());
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        publisher.publish(TOPIC, "order-1", "event-1", recordFailure());
+
+        // when
+        publisher.publish(TOPIC, "order-2", "event-2", recordFailure());
+
+        // then
+        verify(eventOutboxStore).save(TOPIC, "order-2", "event-2");
+        assertThat(overflowCount(AsyncEventPublisher.ACTION_SPILLED)).isEqualTo(1.0);
+        assertThat(failures).isEmpty();
+    }
+
+    @Test
+    @DisplayName("BLOCK - block-timeout 동안 기다려도 자리가 없으면 버리지 않고 아웃박스에 보관")
+    void block_shouldSpillToOutboxAfterTimeout() throws Exception {
+        // given
+        publisher = publisher(1, BackpressurePolicy.BLOCK);
+        CountDownLatch sending = blockFirstSend();
+        publisher.start();
+        publisher.publish(TOPIC, "order-0", "event-0", recordFailure());
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        publisher.publish(TOPIC, "order-1", "event-1", recordFailure());
+
+        // when
+        publisher.publish(TOPIC, "order-2", "event-2", recordFailure());
+
+        // then
+        verify(eventOutboxStore).save(TOPIC, "order-2", "event-2");
+        assertThat(overflowCount(AsyncEventPublisher.ACTION_TIMEOUT)).isEqualTo(1.0);
+        assertThat(failures).isEmpty();
+    }
+
+    @Test
+    @DisplayName("종료 시 drain-timeout 안에 전송하지 못한 이벤트는 아웃박스에 보관")
+    void stop_shouldSpillEventsLeftAfterDrainTimeout() throws Exception {
+        // given
+        publisher = publisher(10, BackpressurePolicy.BLOCK);
+        CountDownLatch sending = blockFirstSend();
+        publisher.start();
+        publisher.publish(TOPIC, "order-0", "event-0", recordFailure());
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        publisher.publish(TOPIC, "order-1", "event-1", recordFailure());
+        publisher.publish(TOPIC, "order-2", "event-2", recordFailure());
+
+        // when
+        publisher.stop();
+
+        // then
+        verify(eventOutboxStore).save(TOPIC, "order-1", "event-1");
+        verify(eventOutboxStore).save(TOPIC, "order-2", "event-2");
+        verify(kafkaTemplate).flush();
+        assertThat(publisher.getQueueSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("아웃박스에 보관 이벤트가 남은 키의 새 이벤트는 바로 보내지 않고 아웃박스 뒤에 보관, 비워지면 다시 바로 전송")
+    void publish_afterSpill_shouldKeepKeyOrderThroughOutbox() throws Exception {
+        // given - 종료 시 보관된 키가 남은 채로 재기동
+        publisher = publisher(10, BackpressurePolicy.BLOCK);
+        when(eventOutboxStore.findPendingKeys()).thenReturn(List.of(new OutboxKey(TOPIC, "order-1")));
+        when(eventOutboxStore.hasPending(TOPIC, "order-1")).thenReturn(true, false);
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        publisher.start();
+
+        // when - 첫 이벤트는 재확인 결과 잔여 있음, 다음 재확인 전 이벤트는 조회 없이 보관
+        publisher.publish(TOPIC, "order-1", "event-1", recordFailure());
+        publisher.publish(TOPIC, "order-1", "event-2", recordFailure());
+        publisher.publish(TOPIC, "order-2", "event-3", recordFailure());
+
+        // then
+        verify(eventOutboxStore).save(TOPIC, "order-1", "event-1");
+        verify(eventOutboxStore).save(TOPIC, "order-1", "event-2");
+        verify(eventOutboxStore, never()).save(TOPIC, "order-2", "event-3");
+        verify(eventOutboxStore, times(1)).hasPending(TOPIC, "order-1");
+        assertThat(overflowCount(AsyncEventPublisher.ACTION_KEY_ORDER)).isEqualTo(2.0);
+
+        // when - 재확인 간격 후 아웃박스가 비었으면 바로 전송
+        Thread.sleep(1100);
+        publisher.publish(TOPIC, "order-1", "event-4", recordFailure());
+
+        // then
+        verify(kafkaTemplate, timeout(2000)).send(TOPIC, "order-1", "event-4");
+        verify(eventOutboxStore, never()).save(TOPIC, "order-1", "event-4");
+    }
+
+    @Test
+    @DisplayName("시작 전에는 호출 스레드에서 바로 전송하고, send 자체의 예외도 콜백으로 전달")
+    void publish_beforeStart_shouldSendDirectly() {
+        // given
+        publisher = publisher(10, BackpressurePolicy.BLOCK);
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any()))
+                .thenThrow(new IllegalStateException("max.block.ms 초과"));
+
+        // when
+        publisher.publish(TOPIC, "order-0", "event-0", recordFailure());
+
+        // then
+        assertThat(failures).singleElement().isInstanceOf(IllegalStateException.class);
+        verify(kafkaTemplate).send(TOPIC, "order-0", "event-0");
+    }
+
+    private AsyncEventPublisher publisher(int capacity, BackpressurePolicy policy) {
+        return new AsyncEventPublisher(kafkaTemplate, eventOutboxStore, meterRegistry,
+                capacity, policy, Duration.ofMillis(10), Duration.ofMillis(200));
+    }
+
+    /**
+     * 첫 send 호출은 sendBlocker가 풀릴 때까지 막히고, 이후 호출은 바로 성공
+     *
+     * @return 첫 send 호출이 시작되면 열리는 래치
+     */
+    private CountDownLatch blockFirstSend() {
+        CountDownLatch sending = new CountDownLatch(1);
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any()))
+                .thenAnswer(invocation -> {
+                    sending.countDown();
+                    sendBlocker.await(5, TimeUnit.SECONDS);
+                    return CompletableFuture.completedFuture(null);
+                })
+                .thenReturn(CompletableFuture.completedFuture(null));
+        return sending;
+    }
+
+    private BiConsumer<SendResult<String, Object>, Throwable> recordFailure() {
+        return (result, ex) -> {
+            if (ex != null) {
+                failures.add(ex);
+            }
+        };
+    }
+
+    private double overflowCount(String action) {
+        return meterRegistry.get(AsyncEventPublisher.PUBLISH_OVERFLOW)
+                .tag("topic", TOPIC)
+                .tag("action", action)
+                .counter()
+                .count();
+    }
+}
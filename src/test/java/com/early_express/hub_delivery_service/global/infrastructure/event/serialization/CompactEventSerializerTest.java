@@ -0,0 +1,152 @@
+package com.early_express.hub_delivery_service.global.infrastructure.event.serialization;
+
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.codec.HubDeliveryCompletedEventCodec;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.codec.HubSegmentArrivedEventCodec;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.codec.HubSegmentDepartedEventCodec;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.order.event.HubDeliveryCompletedEvent;
+import com.early_express.hub_delivery_service.domain.hub_delivery.infrastructure.messaging.track.event.HubSegmentArrivedEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CompactEventSerializer / CompactEventDeserializer 단위 테스트
+ */
+class CompactEventSerializerTest {
+
+    private static final String BINARY_TOPIC = "hub-segment-arrived";
+    private static final String JSON_TOPIC = "hub-delivery-completed";
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 15, 9, 0, 0);
+
+    private EventSchemaRegistry registry;
+    private CompactEventSerializer serializer;
+    private CompactEventDeserializer deserializer;
+
+    @BeforeEach
+    void setUp() {
+        registry = new EventSchemaRegistry(List.of(
+                new HubSegmentDepartedEventCodec(),
+                new HubSegmentArrivedEventCodec(),
+                new HubDeliveryCompletedEventCodec()));
+        serializer = new CompactEventSerializer(registry, new JsonSerializer<>(), Set.of(BINARY_TOPIC));
+        deserializer = new CompactEventDeserializer(registry, new JsonDeserializer<>(Object.class, false));
+    }
+
+    @Test
+    @DisplayName("바이너리 토픽의 이벤트는 JSON보다 작게 인코딩되고 모든 필드가 복원됨")
+    void binaryTopic_shouldRoundTripAndShrink() {
+        // given
+        HubSegmentArrivedEvent event = arrivedEvent();
+
+        // when
+        byte[] binary = serializer.serialize(BINARY_TOPIC, event);
+        byte[] json = new JsonSerializer<>().serialize(BINARY_TOPIC, event);
+        Object decoded = deserializer.deserialize(BINARY_TOPIC, binary);
+
+        // then
+        assertThat(EventSchemaRegistry.isBinary(binary)).isTrue();
+        assertThat(binary.length).isLessThan(json.length / 2);
+        assertThat(decoded).isInstanceOf(HubSegmentArrivedEvent.class)
+                .usingRecursiveComparison()
+                .isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("UUID가 아닌 ID, 기본값과 다른 source, null 필드도 그대로 복원")
+    void binaryEncoding_shouldPreserveNonDefaultValues() {
+        // given
+        HubDeliveryCompletedEvent event = HubDeliveryCompletedEvent.builder()
+                .eventId("EVT-" + UUID.randomUUID().toString().toUpperCase())
+                .eventType("HUB_DELIVERY_COMPLETED")
+                .source("replay-tool")
+                .timestamp(BASE)
+                .orderId("order-1")
+                .hubDeliveryId(UUID.randomUUID().toString())
+                .completedAt(null)
+                .totalActualDurationMin(-5L)
+                .build();
+
+        // when
+        Object decoded = registry.decode(registry.encode(event));
+
+        // then
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("바이너리 대상이 아닌 토픽과 스키마 미등록 이벤트는 JSON으로 직렬화")
+    void nonBinaryTopicOrType_shouldFallBackToJson() {
+        // when
+        byte[] jsonTopic = serializer.serialize(JSON_TOPIC, arrivedEvent());
+        byte[] unknownType = serializer.serialize(BINARY_TOPIC, Map.of("orderId", "order-1"));
+
+        // then
+        assertThat(jsonTopic[0]).isEqualTo((byte) '{');
+        assertThat(unknownType[0]).isEqualTo((byte) '{');
+        assertThat(deserializer.deserialize(JSON_TOPIC, jsonTopic))
+                .isInstanceOf(Map.class)
+                .extracting(value -> ((Map<?, ?>) value).get("hubId"))
+                .isEqualTo("hub-2");
+    }
+
+    @Test
+    @DisplayName("tombstone(null)은 null로 직렬화/역직렬화")
+    void tombstone_shouldStayNull() {
+        assertThat(serializer.serialize(BINARY_TOPIC, null)).isNull();
+        assertThat(deserializer.deserialize(BINARY_TOPIC, null)).isNull();
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 스키마 ID나 상위 버전 레코드는 SerializationException")
+    void unknownSchemaOrVersion_shouldThrow() {
+        // given
+        byte[] unknownSchema = {EventSchemaRegistry.MAGIC_BYTE, 0x7F, 0x00, 0x01, 0x00};
+        byte[] futureVersion = registry.encode(arrivedEvent());
+        futureVersion[3] = 0x02;
+
+        // when & then
+        assertThatThrownBy(() -> registry.decode(unknownSchema))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("스키마 ID");
+        assertThatThrownBy(() -> registry.decode(futureVersion))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("버전");
+    }
+
+    @Test
+    @DisplayName("같은 스키마 ID를 중복 등록하면 예외")
+    void duplicateSchemaId_shouldFail() {
+        assertThatThrownBy(() -> new EventSchemaRegistry(List.of(
+                new HubSegmentArrivedEventCodec(), new HubSegmentArrivedEventCodec())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private HubSegmentArrivedEvent arrivedEvent() {
+        return HubSegmentArrivedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType("HUB_SEGMENT_ARRIVED")
+                .source("hub-delivery-service")
+                .timestamp(BASE.plusMinutes(45))
+                .orderId(UUID.randomUUID().toString())
+                .hubDeliveryId(UUID.randomUUID().toString())
+                .segmentIndex(1)
+                .hubId("hub-2")
+                .arrivedAt(BASE.plusMinutes(45))
+                .fromHubId("hub-1")
+                .departedAt(BASE)
+                .estimatedDurationMin(30L)
+                .actualDurationMin(45L)
+                .build();
+    }
+}